@@ -23,8 +23,6 @@ import org.apache.flink.types.NormalizableKey;
 import org.bson.types.ObjectId;
 import org.gradoop.common.model.api.entities.EPGMIdentifiable;
 
-import edu.umd.cs.findbugs.annotations.SuppressWarnings;
-
 import java.io.IOException;
 
 /**
@@ -34,6 +32,12 @@ import java.io.IOException;
  * methods, e.g. {@link GradoopId#equals(Object)} and {@link GradoopId#hashCode()} contain code
  * copied from {@link ObjectId} to avoid unnecessary object instantiations.
  *
+ * The 12 bytes of the id are stored in two primitive fields: the first 8 bytes (timestamp,
+ * machine identifier and the high byte of the process identifier) in a {@code long} and the last
+ * 4 bytes (low byte of the process identifier and counter) in an {@code int}, both in big-endian
+ * order. Comparing both fields unsigned is equal to a byte-wise comparison of the byte
+ * representation.
+ *
  * @see EPGMIdentifiable
  */
 public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<GradoopId> {
@@ -69,15 +73,19 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
       '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
 
   /**
-   * Internal byte representation
+   * Bytes 0 to 7 of the id (big-endian).
+   */
+  private long head;
+
+  /**
+   * Bytes 8 to 11 of the id (big-endian).
    */
-  private byte[] bytes;
+  private int tail;
 
   /**
    * Required default constructor for instantiation by serialization logic.
    */
   public GradoopId() {
-    bytes = new byte[ID_SIZE];
   }
 
   /**
@@ -86,16 +94,22 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @param objectId ObjectId
    */
   GradoopId(ObjectId objectId) {
-    this.bytes = objectId.toByteArray();
+    short processIdentifier = objectId.getProcessIdentifier();
+    this.head = ((long) objectId.getTimestamp() << 32) |
+      ((long) (objectId.getMachineIdentifier() & 0xffffff) << 8) |
+      ((processIdentifier >> 8) & 0xff);
+    this.tail = ((processIdentifier & 0xff) << 24) | (objectId.getCounter() & 0xffffff);
   }
 
   /**
-   * Creates a GradoopId from a given byte representation
+   * Creates a GradoopId from the given primitive representation.
    *
-   * @param bytes the GradoopId represented by the byte array
+   * @param head bytes 0 to 7
+   * @param tail bytes 8 to 11
    */
-  private GradoopId(byte[] bytes) {
-    this.bytes = bytes;
+  GradoopId(long head, int tail) {
+    this.head = head;
+    this.tail = tail;
   }
 
   /**
@@ -122,11 +136,9 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         "invalid hexadecimal representation of a GradoopId: [" + string + "]");
     }
 
-    byte[] b = new byte[12];
-    for (int i = 0; i < b.length; i++) {
-      b[i] = (byte) Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16);
-    }
-    return new GradoopId(b);
+    return new GradoopId(
+      Long.parseUnsignedLong(string.substring(0, 16), 16),
+      Integer.parseUnsignedInt(string.substring(16, 24), 16));
   }
 
   /**
@@ -136,7 +148,19 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return Gradoop ID
    */
   public static GradoopId fromByteArray(byte[] bytes) {
-    return new GradoopId(bytes);
+    return fromByteArray(bytes, 0);
+  }
+
+  /**
+   * Returns the Gradoop ID represented by the {@link #ID_SIZE} bytes starting at the given
+   * offset of a byte array.
+   *
+   * @param bytes byte array containing the byte representation
+   * @param offset start index of the id in the array
+   * @return Gradoop ID
+   */
+  public static GradoopId fromByteArray(byte[] bytes, int offset) {
+    return new GradoopId(getHead(bytes, offset), getTail(bytes, offset));
   }
 
   /**
@@ -144,11 +168,22 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    *
    * @return Byte representation
    */
-  @SuppressWarnings(value = "EI_EXPOSE_REP", justification = "never mutated")
   public byte[] toByteArray() {
+    byte[] bytes = new byte[ID_SIZE];
+    writeBytes(bytes, 0);
     return bytes;
   }
 
+  /**
+   * Writes the byte representation of the GradoopId to the given array.
+   *
+   * @param target target array
+   * @param offset start index in the target array
+   */
+  public void writeBytes(byte[] target, int offset) {
+    writeBytes(head, tail, target, offset);
+  }
+
   /**
    * Checks if the specified object is equal to the current id.
    *
@@ -164,7 +199,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
       return false;
     }
 
-    return equals(bytes, ((GradoopId) o).bytes, 0, 0);
+    GradoopId that = (GradoopId) o;
+    return head == that.head && tail == that.tail;
   }
 
   /**
@@ -176,15 +212,12 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int hashCode() {
-    int result = getTimeStamp();
-    result = 31 * result + getMachineIdentifier();
-    result = 31 * result + (int) getProcessIdentifier();
-    result = 31 * result + getCounter();
-    return result;
+    return hashCode(head, tail);
   }
 
   /**
-   * Performs a byte-wise comparison of this and the specified GradoopId.
+   * Compares this and the specified GradoopId. The result is equal to a byte-wise comparison
+   * of their byte representations.
    *
    * @param o the object to be compared.
    * @return  a negative integer, zero, or a positive integer as this object
@@ -192,7 +225,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int compareTo(GradoopId o) {
-    return compare(this.bytes, o.bytes);
+    return compare(this.head, this.tail, o.head, o.tail);
   }
 
   /**
@@ -204,11 +237,12 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public String toString() {
-    char[] chars = new char[24];
-    int i = 0;
-    for (byte b : bytes) {
-      chars[i++] = HEX_CHARS[b >> 4 & 0xF];
-      chars[i++] = HEX_CHARS[b & 0xF];
+    char[] chars = new char[ID_SIZE * 2];
+    for (int i = 0; i < 16; i++) {
+      chars[i] = HEX_CHARS[(int) (head >>> (60 - i * 4)) & 0xF];
+    }
+    for (int i = 0; i < 8; i++) {
+      chars[16 + i] = HEX_CHARS[(tail >>> (28 - i * 4)) & 0xF];
     }
     return new String(chars);
   }
@@ -224,17 +258,26 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyNormalizedKey(MemorySegment target, int offset, int len) {
-    target.put(offset, bytes, 0, len);
+    if (len >= ID_SIZE) {
+      target.putLongBigEndian(offset, head);
+      target.putIntBigEndian(offset + 8, tail);
+    } else {
+      for (int i = 0; i < len; i++) {
+        target.put(offset + i, getByte(i));
+      }
+    }
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    out.write(bytes);
+    out.writeLong(head);
+    out.writeInt(tail);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    in.readFully(bytes);
+    head = in.readLong();
+    tail = in.readInt();
   }
 
   //------------------------------------------------------------------------------------------------
@@ -248,12 +291,13 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyTo(GradoopId target) {
-    target.bytes = this.bytes;
+    target.head = this.head;
+    target.tail = this.tail;
   }
 
   @Override
   public GradoopId copy() {
-    return new GradoopId(this.bytes);
+    return new GradoopId(this.head, this.tail);
   }
 
   @Override
@@ -262,46 +306,43 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   }
 
   //------------------------------------------------------------------------------------------------
-  // private little helpers
+  // package-private accessors of the primitive representation
   //------------------------------------------------------------------------------------------------
 
   /**
-   * Returns the timestamp component of the id.
+   * Returns the first 8 bytes of the id.
    *
-   * @return the timestamp
+   * @return bytes 0 to 7 (big-endian)
    */
-  private int getTimeStamp() {
-    return makeInt(bytes[0], bytes[1], bytes[2], bytes[3]);
+  long getHead() {
+    return head;
   }
 
   /**
-   * Returns the machine identifier component of the id.
+   * Returns the last 4 bytes of the id.
    *
-   * @return the machine identifier
+   * @return bytes 8 to 11 (big-endian)
    */
-  private int getMachineIdentifier() {
-    return makeInt((byte) 0, bytes[4], bytes[5], bytes[6]);
+  int getTail() {
+    return tail;
   }
 
-  /**
-   * Returns the process identifier component of the id.
-   *
-   * @return the process identifier
-   */
-  private short getProcessIdentifier() {
-    return (short) makeInt((byte) 0, (byte) 0, bytes[7], bytes[8]);
-  }
+  //------------------------------------------------------------------------------------------------
+  // private little helpers
+  //------------------------------------------------------------------------------------------------
 
   /**
-   * Returns the counter component of the id.
+   * Returns the byte at the given index of the byte representation.
    *
-   * @return the counter
+   * @param index byte index
+   * @return byte value
    */
-  private int getCounter() {
-    return makeInt((byte) 0, bytes[9], bytes[10], bytes[11]);
+  private byte getByte(int index) {
+    return index < 8 ?
+      (byte) (head >> (56 - index * 8)) :
+      (byte) (tail >> (24 - (index - 8) * 8));
   }
 
-
   //------------------------------------------------------------------------------------------------
   // static helper functions
   //------------------------------------------------------------------------------------------------
@@ -315,116 +356,122 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return smaller GradoopId or first if equal
    */
   public static GradoopId min(GradoopId first, GradoopId second) {
-    int comparison = first.compareTo(second);
-    return comparison == 0 ? first : (comparison == -1 ? first : second);
+    return first.compareTo(second) <= 0 ? first : second;
   }
 
   /**
-   * Checks if the Gradoop ids stored at the specified positions are equal.
-   *
-   * Note: The order in which the id components are compared is taken from
-   * {@link ObjectId#equals(Object)}. However, we compare the values of the byte arrays directly.
+   * Compares two ids given by their primitive representation, see {@link #compareTo(GradoopId)}.
    *
-   * @param first first gradoop id
-   * @param second second gradoop id
-   * @param firstPos start index in the first byte array
-   * @param secondPos start index in the second byte array
-   *
-   * @return true, iff first is equal to second
+   * @param head1 head of the first id
+   * @param tail1 tail of the first id
+   * @param head2 head of the second id
+   * @param tail2 tail of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   *         to, or greater than the second id
    */
-  static boolean equals(byte[] first, byte[] second, int firstPos, int secondPos) {
-    // compare counter (byte 9 to 11)
-    if (!equalsInRange(first, second, firstPos + 9, secondPos + 9, 3)) {
-      return false;
-    }
-    // compare machine identifier (byte 4 to 6)
-    if (!equalsInRange(first, second, firstPos + 4, secondPos + 4, 2)) {
-      return false;
-    }
-    // compare process identifier (byte 7 to 8)
-    if (!equalsInRange(first, second, firstPos + 7, secondPos + 7, 1)) {
-      return false;
-    }
-    // compare timestamp (byte 0 to 3)
-    if (!equalsInRange(first, second, firstPos, secondPos, 3)) {
-      return false;
-    }
-
-    return true;
+  static int compare(long head1, int tail1, long head2, int tail2) {
+    int result = Long.compareUnsigned(head1, head2);
+    return result != 0 ? result : Integer.compareUnsigned(tail1, tail2);
   }
 
   /**
-   * Compares the specified GradoopIds based on their byte representation
-   * (to avoid object instantiation).
+   * Returns the hash code of an id given by its primitive representation, see
+   * {@link #hashCode()}.
    *
-   * Note: Implementation is taken from {@link ObjectId#compareTo(Object)} to avoid object
-   * instantiation.
+   * @param head bytes 0 to 7
+   * @param tail bytes 8 to 11
+   * @return hash code
+   */
+  static int hashCode(long head, int tail) {
+    // timestamp, machine identifier, process identifier and counter
+    int result = (int) (head >>> 32);
+    result = 31 * result + ((int) (head >>> 8) & 0xffffff);
+    result = 31 * result + (short) (((head & 0xff) << 8) | (tail >>> 24));
+    result = 31 * result + (tail & 0xffffff);
+    return result;
+  }
+
+  /**
+   * Returns the first 8 bytes of the id stored at the given offset.
    *
-   * @param first first GradoopId
-   * @param second second GradoopId
-   * @return a negative integer, zero, or a positive integer as this object is less than, equal to,
-   *         or greater than the specified object.
+   * @param bytes byte array
+   * @param offset start index of the id
+   * @return head of the id
    */
-  private static int compare(byte[] first, byte[] second) {
-    return compare(first, second, 0, 0, GradoopId.ID_SIZE);
+  static long getHead(byte[] bytes, int offset) {
+    return getLong(bytes, offset);
   }
 
   /**
-   * Compares multiple GradoopIds represented a byte arrays at the specified ranges.
+   * Returns the last 4 bytes of the id stored at the given offset.
    *
-   * @param first first byte representation of multiple gradoop ids
-   * @param second second byte representation of multiple gradoop ids
-   * @param firstPos start index in the first array
-   * @param secondPos start index in the second array
-   * @param length length of the range
+   * @param bytes byte array
+   * @param offset start index of the id
+   * @return tail of the id
+   */
+  static int getTail(byte[] bytes, int offset) {
+    return getInt(bytes, offset + 8);
+  }
+
+  /**
+   * Writes the byte representation of an id given by its primitive representation.
    *
-   * @return a negative integer, zero, or a positive integer as this object is less than, equal to,
-   *         or greater than the specified object.
+   * @param head bytes 0 to 7
+   * @param tail bytes 8 to 11
+   * @param target target array
+   * @param offset start index in the target array
    */
-  private static int compare(byte[] first, byte[] second, int firstPos, int secondPos, int length) {
-    for (int i = 0; i < length; i++) {
-      if (first[firstPos + i] != second[secondPos + i]) {
-        return ((first[firstPos + i] & 0xff) < (second[secondPos + i] & 0xff)) ? -1 : 1;
-      }
-    }
-    return 0;
+  static void writeBytes(long head, int tail, byte[] target, int offset) {
+    putLong(target, offset, head);
+    putInt(target, offset + 8, tail);
   }
 
   /**
-   * Checks if the given byte arrays contain equal elements in specified given range.
+   * Returns the big-endian long stored at the given offset.
    *
-   * @param first first array
-   * @param second second array
-   * @param firstPos start index in the first array
-   * @param secondPos start index in the second array
-   * @param length number of bytes to compare for equality
+   * @param bytes byte array
+   * @param offset start index
+   * @return long value
+   */
+  private static long getLong(byte[] bytes, int offset) {
+    return ((long) getInt(bytes, offset) << 32) | (getInt(bytes, offset + 4) & 0xffffffffL);
+  }
+
+  /**
+   * Returns the big-endian int stored at the given offset.
    *
-   * @return true, iff both arrays have equal values in the specified range
-   */
-  private static boolean equalsInRange(byte[] first, byte[] second, int firstPos, int secondPos,
-    int length) {
-    int upperBound = firstPos + length;
-    while (firstPos < upperBound) {
-      if (first[firstPos] != second[secondPos]) {
-        return false;
-      }
-      ++firstPos;
-      ++secondPos;
-    }
-    return true;
+   * @param bytes byte array
+   * @param offset start index
+   * @return int value
+   */
+  private static int getInt(byte[] bytes, int offset) {
+    return (bytes[offset] << 24) | ((bytes[offset + 1] & 0xff) << 16) |
+      ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
   }
 
   /**
-   * Returns a primitive int represented by the given 4 bytes.
+   * Stores the given long in big-endian order at the given offset.
    *
-   * @param b3 byte 3
-   * @param b2 byte 2
-   * @param b1 byte 1
-   * @param b0 byte 0
+   * @param bytes byte array
+   * @param offset start index
+   * @param value long value
+   */
+  private static void putLong(byte[] bytes, int offset, long value) {
+    putInt(bytes, offset, (int) (value >>> 32));
+    putInt(bytes, offset + 4, (int) value);
+  }
+
+  /**
+   * Stores the given int in big-endian order at the given offset.
    *
-   * @return int value
+   * @param bytes byte array
+   * @param offset start index
+   * @param value int value
    */
-  private static int makeInt(final byte b3, final byte b2, final byte b1, final byte b0) {
-    return (b3 << 24) | ((b2 & 0xff) << 16) | ((b1 & 0xff) << 8) | ((b0 & 0xff));
+  private static void putInt(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) (value >> 24);
+    bytes[offset + 1] = (byte) (value >> 16);
+    bytes[offset + 2] = (byte) (value >> 8);
+    bytes[offset + 3] = (byte) value;
   }
 }
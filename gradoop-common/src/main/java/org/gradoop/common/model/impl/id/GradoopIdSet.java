@@ -23,79 +23,69 @@ import java.io.IOException;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * Represents a set of {@link GradoopId} instances, ignoring any duplicates.
  *
- * Note that by implementing {@link java.util.List} Flink uses the Kryo serializer for
- * (de-)serializing the list.
+ * The ids are stored in ascending order in two parallel primitive arrays (see {@link GradoopId}
+ * for the primitive representation). A set containing a single id, which is the most common case
+ * for graph memberships, stores it inline without allocating any arrays. Lookups use binary
+ * search, {@link #containsAny(GradoopIdSet)} and {@link #containsAll(GradoopIdSet)} use a merge
+ * with galloping search. All operations except {@link #iterator()} work without instantiating
+ * {@link GradoopId} objects.
  *
  * @see GradoopId
  */
 public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
+
   /**
-   * Contains the set of gradoop ids.
+   * Class version for serialization.
    */
-  private Set<GradoopId> ids;
+  private static final long serialVersionUID = 1L;
 
   /**
-   * Required default constructor for instantiation by serialization logic.
+   * Initial capacity of the arrays.
    */
-  public GradoopIdSet() {
-    this.ids = new HashSet<>();
-  }
+  private static final int DEFAULT_CAPACITY = 4;
 
   /**
-   * Initializes the set with the given byte array.
-   *
-   * @param bytes bytes representing multiple gradoop ids
+   * Maximum number of ids that is sorted using insertion sort.
    */
-  private GradoopIdSet(byte[] bytes) {
-    this.ids = readIds(bytes);
-  }
+  private static final int INSERTION_SORT_THRESHOLD = 16;
 
   /**
-   * Initializes the set with the given ids.
-   *
-   * @param ids a collection of {@link GradoopId}s
+   * First 8 bytes of the single id of the set, if {@link #heads} is {@code null}.
    */
-  private GradoopIdSet(Collection<GradoopId> ids) {
-    this.ids = new HashSet<>(ids);
-  }
+  private long inlineHead;
 
   /**
-   * Since we will need to do operations on individual ids we need
-   * to reconstruct the {@link GradoopId} instances.
-   * @param bytes serialized sequence of {@link GradoopId}s
-   * @return a set representation
+   * Last 4 bytes of the single id of the set, if {@link #heads} is {@code null}.
    */
-  private Set<GradoopId> readIds(byte[] bytes) {
-    ids = new HashSet<>();
-    for (int i = 0; i < bytes.length / GradoopId.ID_SIZE; i++) {
-      byte[] idBytes = new byte[GradoopId.ID_SIZE];
-      System.arraycopy(bytes, i * GradoopId.ID_SIZE, idBytes, 0, GradoopId.ID_SIZE);
-      ids.add(GradoopId.fromByteArray(idBytes));
-    }
-    return ids;
-  }
+  private int inlineTail;
 
   /**
-   * Serialize all ids into a byte array.
-   * @param ids sequence of {@link GradoopId}s
-   * @return a binary representation
+   * First 8 bytes of the ids in ascending order or {@code null} if the set contains at most one
+   * id (which is stored inline).
    */
-  private byte[] writeIds(Set<GradoopId> ids) {
-    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
+  private long[] heads;
 
-    int i = 0;
-    for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
-      i++;
-    }
-    return bytes;
+  /**
+   * Last 4 bytes of the ids, the value at index {@code i} belongs to the head at index {@code i}.
+   */
+  private int[] tails;
+
+  /**
+   * Number of ids in the set.
+   */
+  private int size;
+
+  /**
+   * Required default constructor for instantiation by serialization logic.
+   */
+  public GradoopIdSet() {
   }
 
   /**
@@ -115,7 +105,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return gradoop id set
    */
   public static GradoopIdSet fromExisting(Collection<GradoopId> ids) {
-    return new GradoopIdSet(ids);
+    GradoopIdSet set = new GradoopIdSet();
+    set.addAll(ids);
+    return set;
   }
 
   /**
@@ -125,7 +117,22 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return gradoop id set
    */
   public static GradoopIdSet fromByteArray(byte[] bytes) {
-    return new GradoopIdSet(bytes);
+    GradoopIdSet set = new GradoopIdSet();
+    int count = bytes.length / GradoopId.ID_SIZE;
+    if (count == 0) {
+      return set;
+    }
+    if (count == 1) {
+      set.insert(0, GradoopId.getHead(bytes, 0), GradoopId.getTail(bytes, 0));
+      return set;
+    }
+    set.ensureCapacity(count);
+    for (int i = 0; i < count; i++) {
+      int offset = i * GradoopId.ID_SIZE;
+      set.append(GradoopId.getHead(bytes, offset), GradoopId.getTail(bytes, offset));
+    }
+    set.sort();
+    return set;
   }
 
   /**
@@ -135,7 +142,12 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean add(GradoopId id) {
-    return this.ids.add(id);
+    int index = indexOf(id.getHead(), id.getTail(), 0, size);
+    if (index >= 0) {
+      return false;
+    }
+    insert(-(index + 1), id.getHead(), id.getTail());
+    return true;
   }
 
   /**
@@ -144,7 +156,38 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids the ids to add
    */
   public void addAll(GradoopIdSet ids) {
-    this.ids.addAll(ids.ids);
+    if (ids.size == 0 || ids == this) {
+      return;
+    }
+    if (ids.size == 1) {
+      add(ids.head(0), ids.tail(0));
+      return;
+    }
+
+    long[] newHeads = new long[size + ids.size];
+    int[] newTails = new int[size + ids.size];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+
+    while (i < size || j < ids.size) {
+      int comparison = i == size ? 1 : j == ids.size ? -1 :
+        GradoopId.compare(head(i), tail(i), ids.head(j), ids.tail(j));
+      if (comparison <= 0) {
+        newHeads[count] = head(i);
+        newTails[count++] = tail(i++);
+        if (comparison == 0) {
+          j++;
+        }
+      } else {
+        newHeads[count] = ids.head(j);
+        newTails[count++] = ids.tail(j++);
+      }
+    }
+
+    heads = newHeads;
+    tails = newTails;
+    size = count;
   }
 
   /**
@@ -154,7 +197,19 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean addAll(Collection<? extends GradoopId> ids) {
-    return this.ids.addAll(ids);
+    int oldSize = size;
+    if (ids instanceof GradoopIdSet) {
+      addAll((GradoopIdSet) ids);
+    } else if (ids.size() == 1) {
+      add(ids.iterator().next());
+    } else if (!ids.isEmpty()) {
+      ensureCapacity(size + ids.size());
+      for (GradoopId id : ids) {
+        append(id.getHead(), id.getTail());
+      }
+      sort();
+    }
+    return size != oldSize;
   }
 
   /**
@@ -165,7 +220,11 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean contains(Object identifier) {
-    return this.ids.contains(identifier);
+    if (!(identifier instanceof GradoopId)) {
+      return false;
+    }
+    GradoopId id = (GradoopId) identifier;
+    return indexOf(id.getHead(), id.getTail(), 0, size) >= 0;
   }
 
   /**
@@ -175,13 +234,16 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff all specified ids are contained in the set
    */
   public boolean containsAll(GradoopIdSet other) {
-    if (other.size() > this.size()) {
+    if (other.size > this.size) {
       return false;
     }
-    for (GradoopId id : other) {
-      if (!this.contains(id)) {
+    int from = 0;
+    for (int i = 0; i < other.size; i++) {
+      int index = gallop(other.head(i), other.tail(i), from);
+      if (index < 0) {
         return false;
       }
+      from = index + 1;
     }
     return true;
   }
@@ -194,6 +256,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean containsAll(Collection<?> other) {
+    if (other instanceof GradoopIdSet) {
+      return containsAll((GradoopIdSet) other);
+    }
     if (other instanceof Set && other.size() > this.size()) {
       return false;
     }
@@ -212,22 +277,21 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(GradoopIdSet other) {
-    // Algorithm: the sizes of both lists might be vastly different
-    // to prevent the case of iterating multiple times over large collections
-    // we make sure to always iterate over the smaller one
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other.ids;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other.ids;
-      contains = this.ids;
-    }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    // iterate the smaller set and gallop through the larger one
+    GradoopIdSet iterate = this;
+    GradoopIdSet search = other;
+    if (this.size > other.size) {
+      iterate = other;
+      search = this;
+    }
+
+    int from = 0;
+    for (int i = 0; i < iterate.size && from < search.size; i++) {
+      int index = search.gallop(iterate.head(i), iterate.tail(i), from);
+      if (index >= 0) {
         return true;
       }
+      from = -(index + 1);
     }
     return false;
   }
@@ -239,45 +303,104 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(Set<GradoopId> other) {
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other;
-      contains = this.ids;
+    if (other instanceof GradoopIdSet) {
+      return containsAny((GradoopIdSet) other);
     }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
-        return true;
+    if (this.size < other.size()) {
+      for (int i = 0; i < size; i++) {
+        if (other.contains(new GradoopId(head(i), tail(i)))) {
+          return true;
+        }
+      }
+    } else {
+      for (GradoopId id : other) {
+        if (contains(id)) {
+          return true;
+        }
       }
     }
     return false;
   }
 
+  /**
+   * Removes the given id from the set.
+   *
+   * @param identifier id to remove
+   * @return true, iff the id was contained in the set
+   */
+  @Override
+  public boolean remove(Object identifier) {
+    if (!(identifier instanceof GradoopId)) {
+      return false;
+    }
+    GradoopId id = (GradoopId) identifier;
+    int index = indexOf(id.getHead(), id.getTail(), 0, size);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
   /**
    * Checks if the set is empty.
    *
    * @return true, iff the set contains no elements
    */
   public boolean isEmpty() {
-    return ids.isEmpty();
+    return size == 0;
   }
 
   /**
-   * {@inheritDoc}
+   * Returns an iterator over the ids in ascending order. Note that a new {@link GradoopId} is
+   * instantiated for each returned element.
+   *
+   * @return iterator
    */
   @Override
   public Iterator<GradoopId> iterator() {
-    return ids.iterator();
+    return new Iterator<GradoopId>() {
+      /**
+       * Index of the next id.
+       */
+      private int next;
+
+      /**
+       * Index of the last returned id.
+       */
+      private int last = -1;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public GradoopId next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        last = next++;
+        return new GradoopId(head(last), tail(last));
+      }
+
+      @Override
+      public void remove() {
+        if (last < 0) {
+          throw new IllegalStateException();
+        }
+        removeAt(last);
+        next = last;
+        last = -1;
+      }
+    };
   }
 
   /**
    * Clears the set.
    */
   public void clear() {
-    ids.clear();
+    size = 0;
   }
 
   /**
@@ -286,7 +409,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return number of elements in the set
    */
   public int size() {
-    return ids.size();
+    return size;
   }
 
   /**
@@ -295,25 +418,55 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return byte array representation
    */
   public byte[] toByteArray() {
-    return writeIds(ids);
+    byte[] bytes = new byte[size * GradoopId.ID_SIZE];
+    for (int i = 0; i < size; i++) {
+      GradoopId.writeBytes(head(i), tail(i), bytes, i * GradoopId.ID_SIZE);
+    }
+    return bytes;
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    if (isEmpty()) {
-      out.writeInt(0);
-    } else {
-      out.writeInt(size());
-      out.write(writeIds(ids));
+    out.writeInt(size);
+    for (int i = 0; i < size; i++) {
+      out.writeLong(head(i));
+      out.writeInt(tail(i));
     }
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
     int n = in.readInt();
-    byte[] bytes = new byte[n * GradoopId.ID_SIZE];
-    in.readFully(bytes);
-    this.ids = readIds(bytes);
+    size = 0;
+    if (n == 0) {
+      return;
+    }
+    if (n == 1 && heads == null) {
+      inlineHead = in.readLong();
+      inlineTail = in.readInt();
+      size = 1;
+      return;
+    }
+    ensureCapacity(n);
+    for (int i = 0; i < n; i++) {
+      append(in.readLong(), in.readInt());
+    }
+    // ids written by this class are already sorted
+    sort();
+  }
+
+  /**
+   * Copies a set written by {@link #write(DataOutputView)} from the given input view to the given
+   * output view without instantiating it.
+   *
+   * @param source data input to read the set from
+   * @param target data output to write the set to
+   * @throws IOException
+   */
+  public static void copy(DataInputView source, DataOutputView target) throws IOException {
+    int n = source.readInt();
+    target.writeInt(n);
+    target.write(source, n * GradoopId.ID_SIZE);
   }
 
   @Override
@@ -323,11 +476,11 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
     if (!equal && o instanceof GradoopIdSet) {
       GradoopIdSet that = (GradoopIdSet) o;
       // same number of ids
-      equal = this.size() == that.size();
+      equal = this.size == that.size;
 
-      if (equal) {
-        // same ids
-        equal = this.ids.equals(that.ids);
+      // same ids
+      for (int i = 0; equal && i < size; i++) {
+        equal = this.head(i) == that.head(i) && this.tail(i) == that.tail(i);
       }
     }
 
@@ -336,7 +489,11 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
 
   @Override
   public int hashCode() {
-    return ids.hashCode();
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += GradoopId.hashCode(head(i), tail(i));
+    }
+    return hashCode;
   }
 
   @Override
@@ -358,4 +515,201 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
       sb.append(',').append(' ');
     }
   }
+
+  //------------------------------------------------------------------------------------------------
+  // private little helpers
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Returns the first 8 bytes of the id at the given index.
+   *
+   * @param index index
+   * @return head of the id
+   */
+  private long head(int index) {
+    return heads == null ? inlineHead : heads[index];
+  }
+
+  /**
+   * Returns the last 4 bytes of the id at the given index.
+   *
+   * @param index index
+   * @return tail of the id
+   */
+  private int tail(int index) {
+    return heads == null ? inlineTail : tails[index];
+  }
+
+  /**
+   * Adds the given id if it is not contained in the set.
+   *
+   * @param head head of the id
+   * @param tail tail of the id
+   */
+  private void add(long head, int tail) {
+    int index = indexOf(head, tail, 0, size);
+    if (index < 0) {
+      insert(-(index + 1), head, tail);
+    }
+  }
+
+  /**
+   * Searches the given id in the given range using binary search.
+   *
+   * @param head head of the id
+   * @param tail tail of the id
+   * @param from start index (inclusive)
+   * @param to end index (exclusive)
+   * @return index of the id or {@code (-(insertion point) - 1)} if the id is not contained
+   */
+  private int indexOf(long head, int tail, int from, int to) {
+    int low = from;
+    int high = to - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = GradoopId.compare(head(mid), tail(mid), head, tail);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Searches the given id starting at the given index using galloping (exponential) search.
+   *
+   * @param head head of the id
+   * @param tail tail of the id
+   * @param from start index, all ids before this index are smaller than the given one
+   * @return index of the id or {@code (-(insertion point) - 1)} if the id is not contained
+   */
+  private int gallop(long head, int tail, int from) {
+    int low = from;
+    int high = from;
+    int step = 1;
+    while (high < size && GradoopId.compare(head(high), tail(high), head, tail) < 0) {
+      low = high + 1;
+      high += step;
+      step <<= 1;
+    }
+    return indexOf(head, tail, low, Math.min(high + 1, size));
+  }
+
+  /**
+   * Inserts the given id at the given index.
+   *
+   * @param index insertion point
+   * @param head head of the id
+   * @param tail tail of the id
+   */
+  private void insert(int index, long head, int tail) {
+    if (heads == null && size == 0) {
+      inlineHead = head;
+      inlineTail = tail;
+      size = 1;
+      return;
+    }
+    ensureCapacity(size + 1);
+    System.arraycopy(heads, index, heads, index + 1, size - index);
+    System.arraycopy(tails, index, tails, index + 1, size - index);
+    heads[index] = head;
+    tails[index] = tail;
+    size++;
+  }
+
+  /**
+   * Appends the given id to the arrays, the set may be unsorted afterwards.
+   *
+   * @param head head of the id
+   * @param tail tail of the id
+   */
+  private void append(long head, int tail) {
+    heads[size] = head;
+    tails[size] = tail;
+    size++;
+  }
+
+  /**
+   * Removes the id at the given index.
+   *
+   * @param index index
+   */
+  private void removeAt(int index) {
+    if (heads != null) {
+      System.arraycopy(heads, index + 1, heads, index, size - index - 1);
+      System.arraycopy(tails, index + 1, tails, index, size - index - 1);
+    }
+    size--;
+  }
+
+  /**
+   * Makes sure that the arrays are allocated and can hold the given number of ids. A single
+   * inline id is moved to the arrays.
+   *
+   * @param capacity minimum capacity
+   */
+  private void ensureCapacity(int capacity) {
+    if (heads == null) {
+      heads = new long[Math.max(capacity, DEFAULT_CAPACITY)];
+      tails = new int[heads.length];
+      heads[0] = inlineHead;
+      tails[0] = inlineTail;
+    } else if (heads.length < capacity) {
+      int newCapacity = Math.max(capacity, heads.length + (heads.length >> 1));
+      heads = Arrays.copyOf(heads, newCapacity);
+      tails = Arrays.copyOf(tails, newCapacity);
+    }
+  }
+
+  /**
+   * Sorts the ids and removes duplicates. Does nothing if the ids are already sorted.
+   */
+  private void sort() {
+    boolean sorted = true;
+    for (int i = 1; sorted && i < size; i++) {
+      sorted = GradoopId.compare(heads[i - 1], tails[i - 1], heads[i], tails[i]) < 0;
+    }
+    if (sorted) {
+      return;
+    }
+
+    if (size > INSERTION_SORT_THRESHOLD) {
+      GradoopId[] ids = new GradoopId[size];
+      for (int i = 0; i < size; i++) {
+        ids[i] = new GradoopId(heads[i], tails[i]);
+      }
+      Arrays.sort(ids);
+      for (int i = 0; i < size; i++) {
+        heads[i] = ids[i].getHead();
+        tails[i] = ids[i].getTail();
+      }
+    } else {
+      for (int i = 1; i < size; i++) {
+        long head = heads[i];
+        int tail = tails[i];
+        int j = i - 1;
+        while (j >= 0 && GradoopId.compare(heads[j], tails[j], head, tail) > 0) {
+          heads[j + 1] = heads[j];
+          tails[j + 1] = tails[j];
+          j--;
+        }
+        heads[j + 1] = head;
+        tails[j + 1] = tail;
+      }
+    }
+
+    // remove duplicates
+    int count = size == 0 ? 0 : 1;
+    for (int i = 1; i < size; i++) {
+      if (heads[i] != heads[count - 1] || tails[i] != tails[count - 1]) {
+        heads[count] = heads[i];
+        tails[count++] = tails[i];
+      }
+    }
+    size = count;
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * A dictionary of element labels which is used to represent labels as small integers instead of
+ * strings, e.g. in intermediate tuples which are shuffled, grouped and compared.
+ *
+ * The dictionary assigns consecutive ids to the lexicographically sorted labels, i.e. two
+ * dictionaries created from the same set of labels are identical. This allows to build the
+ * dictionary independently in each parallel task (e.g. from a broadcast set of labels) or once
+ * from the meta data of a data source.
+ */
+public class LabelDictionary implements Serializable {
+
+  /**
+   * Id returned for labels which are not contained in the dictionary.
+   */
+  public static final int UNKNOWN_LABEL = -1;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Labels, the index of a label is its id.
+   */
+  private final String[] labels;
+
+  /**
+   * Mapping from label to its id.
+   */
+  private final Map<String, Integer> labelIds;
+
+  /**
+   * Creates a new dictionary from the given distinct and sorted labels.
+   *
+   * @param labels element labels
+   */
+  private LabelDictionary(String[] labels) {
+    this.labels = labels;
+    this.labelIds = new HashMap<>(labels.length * 2);
+    for (int i = 0; i < labels.length; i++) {
+      labelIds.put(labels[i], i);
+    }
+  }
+
+  /**
+   * Creates a new dictionary from the given labels. Duplicates are ignored.
+   *
+   * @param labels element labels
+   * @return label dictionary
+   */
+  public static LabelDictionary fromLabels(Collection<String> labels) {
+    Objects.requireNonNull(labels);
+    return new LabelDictionary(new TreeSet<>(labels).toArray(new String[0]));
+  }
+
+  /**
+   * Creates a new dictionary from the given labels. Duplicates are ignored.
+   *
+   * @param labels element labels
+   * @return label dictionary
+   */
+  public static LabelDictionary fromLabels(String... labels) {
+    return fromLabels(Arrays.asList(labels));
+  }
+
+  /**
+   * Returns the id of the given label.
+   *
+   * @param label element label
+   * @return label id or {@link #UNKNOWN_LABEL} if the label is not contained in the dictionary
+   */
+  public int getId(String label) {
+    Integer id = labelIds.get(label);
+    return id == null ? UNKNOWN_LABEL : id;
+  }
+
+  /**
+   * Returns the label with the given id. The returned instance is shared by all callers.
+   *
+   * @param id label id
+   * @return element label
+   */
+  public String getLabel(int id) {
+    return labels[id];
+  }
+
+  /**
+   * Checks if the given label is contained in the dictionary.
+   *
+   * @param label element label
+   * @return true, iff the dictionary contains the label
+   */
+  public boolean contains(String label) {
+    return labelIds.containsKey(label);
+  }
+
+  /**
+   * Returns the number of labels in the dictionary.
+   *
+   * @return number of labels
+   */
+  public int size() {
+    return labels.length;
+  }
+
+  /**
+   * Returns all labels of the dictionary, ordered by their id.
+   *
+   * @return element labels
+   */
+  public Collection<String> getLabels() {
+    return Arrays.asList(labels.clone());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(labels, ((LabelDictionary) o).labels);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(labels);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(labels);
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.java.typeutils.runtime.ValueComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.io.IOException;
+
+/**
+ * Compares EPGM elements by their id.
+ *
+ * The comparator uses the id as a full normalized key, i.e. sorting elements by id does not need
+ * to compare records. Serialized records (see {@link EPGMElementSerializer}) are compared by
+ * reading the ids only, without deserializing the elements. A {@code null} id is treated like
+ * {@link GradoopId#NULL_VALUE}.
+ *
+ * @param <T> element type
+ */
+public class EPGMElementIdComparator<T extends Element> extends TypeComparator<T> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * True, if the order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * Id of the reference element.
+   */
+  private transient GradoopId reference;
+
+  /**
+   * Reused id for comparing serialized records.
+   */
+  private transient GradoopId tmpId1;
+
+  /**
+   * Reused id for comparing serialized records.
+   */
+  private transient GradoopId tmpId2;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, if the order is ascending
+   */
+  public EPGMElementIdComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int hash(T record) {
+    return getId(record).hashCode();
+  }
+
+  @Override
+  public void setReference(T toCompare) {
+    if (reference == null) {
+      reference = new GradoopId();
+    }
+    getId(toCompare).copyTo(reference);
+  }
+
+  @Override
+  public boolean equalToReference(T candidate) {
+    return getId(candidate).equals(reference);
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<T> referencedComparator) {
+    GradoopId otherReference = ((EPGMElementIdComparator<T>) referencedComparator).reference;
+    return ascending ? otherReference.compareTo(reference) : reference.compareTo(otherReference);
+  }
+
+  @Override
+  public int compare(T first, T second) {
+    return ascending ?
+      getId(first).compareTo(getId(second)) : getId(second).compareTo(getId(first));
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    if (tmpId1 == null) {
+      tmpId1 = new GradoopId();
+      tmpId2 = new GradoopId();
+    }
+    GradoopId firstId = readId(firstSource, tmpId1);
+    GradoopId secondId = readId(secondSource, tmpId2);
+    return ascending ? firstId.compareTo(secondId) : secondId.compareTo(firstId);
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void putNormalizedKey(T record, MemorySegment target, int offset, int numBytes) {
+    getId(record).copyNormalizedKey(target, offset, Math.min(numBytes, GradoopId.ID_SIZE));
+    for (int i = GradoopId.ID_SIZE; i < numBytes; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
+  @Override
+  public void writeWithKeyNormalization(T record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public T readWithKeyDenormalization(T reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<T> duplicate() {
+    return new EPGMElementIdComparator<>(ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = getId((Element) record);
+    return 1;
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public TypeComparator[] getFlatComparators() {
+    return new TypeComparator[] {new ValueComparator<>(ascending, GradoopId.class)};
+  }
+
+  /**
+   * Returns the id of the given element or {@link GradoopId#NULL_VALUE} if it is {@code null}.
+   *
+   * @param element element
+   * @return id
+   */
+  private static GradoopId getId(Element element) {
+    return element.getId() == null ? GradoopId.NULL_VALUE : element.getId();
+  }
+
+  /**
+   * Reads the id of a serialized element.
+   *
+   * @param source input view positioned at the start of the element
+   * @param reuse id to read into
+   * @return id of the element or {@link GradoopId#NULL_VALUE} if it is {@code null}
+   * @throws IOException on failure
+   */
+  private static GradoopId readId(DataInputView source, GradoopId reuse) throws IOException {
+    int flags = source.readByte();
+    if ((flags & EPGMElementSerializer.FLAG_NULL_ID) != 0) {
+      return GradoopId.NULL_VALUE;
+    }
+    reuse.read(source);
+    return reuse;
+  }
+}
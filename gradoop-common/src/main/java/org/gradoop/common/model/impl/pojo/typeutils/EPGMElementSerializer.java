@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.base.TypeSerializerSingleton;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.StringValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+
+/**
+ * Base serializer for EPGM elements.
+ *
+ * Elements are written in a fixed layout:
+ *
+ * byte 1        : flags marking {@code null} fields (or a {@code null} element)
+ * byte 2 - 13   : id (if not {@code null})
+ * following     : label, see {@link StringValue#writeString(CharSequence, java.io.DataOutput)}
+ * following     : properties (if not {@code null}), see {@link Properties#write(DataOutputView)}
+ * following     : fields of subclasses, see {@link #serializeFields(Element, DataOutputView)}
+ *
+ * As the id is always stored at the same offset, {@link EPGMElementIdComparator} compares
+ * serialized elements without deserializing them.
+ *
+ * @param <T> element type
+ */
+public abstract class EPGMElementSerializer<T extends Element> extends TypeSerializerSingleton<T> {
+
+  /**
+   * Flag marking a {@code null} id.
+   */
+  static final int FLAG_NULL_ID = 0x01;
+
+  /**
+   * Flag marking {@code null} properties.
+   */
+  static final int FLAG_NULL_PROPERTIES = 0x02;
+
+  /**
+   * Flag marking {@code null} graph ids.
+   */
+  static final int FLAG_NULL_GRAPH_IDS = 0x04;
+
+  /**
+   * Flag marking a {@code null} source id.
+   */
+  static final int FLAG_NULL_SOURCE_ID = 0x08;
+
+  /**
+   * Flag marking a {@code null} target id.
+   */
+  static final int FLAG_NULL_TARGET_ID = 0x10;
+
+  /**
+   * Flag marking a {@code null} element, which is written as a single byte. As for Flink's
+   * POJO serializer, {@code null} elements are supported, e.g. as fields of tuples.
+   */
+  static final int FLAG_NULL_ELEMENT = 0x20 | FLAG_NULL_ID;
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public T copy(T from) {
+    return from == null ? null : copy(from, createInstance());
+  }
+
+  @Override
+  public T copy(T from, T reuse) {
+    if (from == null) {
+      return null;
+    }
+    reuse.setId(from.getId() == null ? null : from.getId().copy());
+    reuse.setLabel(from.getLabel());
+    reuse.setProperties(copy(from.getProperties()));
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(T record, DataOutputView target) throws IOException {
+    if (record == null) {
+      target.writeByte(FLAG_NULL_ELEMENT);
+      return;
+    }
+    target.writeByte(getFlags(record));
+    if (record.getId() != null) {
+      record.getId().write(target);
+    }
+    StringValue.writeString(record.getLabel(), target);
+    if (record.getProperties() != null) {
+      record.getProperties().write(target);
+    }
+    serializeFields(record, target);
+  }
+
+  @Override
+  public T deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public T deserialize(T reuse, DataInputView source) throws IOException {
+    int flags = source.readByte();
+    if (flags == FLAG_NULL_ELEMENT) {
+      return null;
+    }
+    if (reuse == null) {
+      reuse = createInstance();
+    }
+    reuse.setId(readId(flags, FLAG_NULL_ID, reuse.getId(), source));
+    reuse.setLabel(StringValue.readString(source));
+    if ((flags & FLAG_NULL_PROPERTIES) == 0) {
+      Properties properties = reuse.getProperties();
+      if (properties == null) {
+        properties = Properties.create();
+      }
+      properties.read(source);
+      reuse.setProperties(properties);
+    } else {
+      reuse.setProperties(null);
+    }
+    deserializeFields(reuse, flags, source);
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int flags = source.readByte();
+    target.writeByte(flags);
+    if (flags == FLAG_NULL_ELEMENT) {
+      return;
+    }
+    copyId(flags, FLAG_NULL_ID, source, target);
+    StringValue.copyString(source, target);
+    if ((flags & FLAG_NULL_PROPERTIES) == 0) {
+      Properties.copy(source, target);
+    }
+    copyFields(flags, source, target);
+  }
+
+  /**
+   * Returns the flags marking the {@code null} fields of the given element. Subclasses add the
+   * flags of their own fields.
+   *
+   * @param record element
+   * @return flags
+   */
+  protected int getFlags(T record) {
+    int flags = 0;
+    if (record.getId() == null) {
+      flags |= FLAG_NULL_ID;
+    }
+    if (record.getProperties() == null) {
+      flags |= FLAG_NULL_PROPERTIES;
+    }
+    return flags;
+  }
+
+  /**
+   * Writes the fields which are specific to the element type.
+   *
+   * @param record element
+   * @param target output view
+   * @throws IOException on failure
+   */
+  protected abstract void serializeFields(T record, DataOutputView target) throws IOException;
+
+  /**
+   * Reads the fields which are specific to the element type.
+   *
+   * @param reuse element to read the fields into
+   * @param flags flags marking the {@code null} fields
+   * @param source input view
+   * @throws IOException on failure
+   */
+  protected abstract void deserializeFields(T reuse, int flags, DataInputView source)
+    throws IOException;
+
+  /**
+   * Copies the fields which are specific to the element type.
+   *
+   * @param flags flags marking the {@code null} fields
+   * @param source input view
+   * @param target output view
+   * @throws IOException on failure
+   */
+  protected abstract void copyFields(int flags, DataInputView source, DataOutputView target)
+    throws IOException;
+
+  /**
+   * Reads an id unless it is marked as {@code null}. The given id is reused if possible.
+   *
+   * @param flags flags marking the {@code null} fields
+   * @param nullFlag flag marking the id to read as {@code null}
+   * @param reuse id to reuse or {@code null}
+   * @param source input view
+   * @return id or {@code null}
+   * @throws IOException on failure
+   */
+  static GradoopId readId(int flags, int nullFlag, GradoopId reuse, DataInputView source)
+    throws IOException {
+    if ((flags & nullFlag) != 0) {
+      return null;
+    }
+    // never overwrite the shared null value
+    GradoopId id = reuse == null || reuse == GradoopId.NULL_VALUE ? new GradoopId() : reuse;
+    id.read(source);
+    return id;
+  }
+
+  /**
+   * Copies an id unless it is marked as {@code null}.
+   *
+   * @param flags flags marking the {@code null} fields
+   * @param nullFlag flag marking the id to copy as {@code null}
+   * @param source input view
+   * @param target output view
+   * @throws IOException on failure
+   */
+  static void copyId(int flags, int nullFlag, DataInputView source, DataOutputView target)
+    throws IOException {
+    if ((flags & nullFlag) == 0) {
+      target.write(source, GradoopId.ID_SIZE);
+    }
+  }
+
+  /**
+   * Creates a deep copy of the given properties.
+   *
+   * @param properties properties or {@code null}
+   * @return copy or {@code null}
+   */
+  private static Properties copy(Properties properties) {
+    if (properties == null) {
+      return null;
+    }
+    Properties copy = Properties.createWithCapacity(properties.size());
+    for (Property property : properties) {
+      copy.set(property.getKey(),
+        PropertyValue.fromRawBytes(property.getValue().getRawBytes().clone()));
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.PojoField;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Element;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type information of EPGM elements.
+ *
+ * The type information keeps the field structure of a {@link PojoTypeInfo}, i.e. field
+ * expressions (e.g. {@code "id"}) and semantic annotations work as before, but uses a
+ * {@link EPGMElementSerializer} instead of the generic POJO serializer. Keys on the id field
+ * are compared using {@link EPGMElementIdComparator}.
+ *
+ * @param <T> element type
+ */
+public class EPGMElementTypeInfo<T extends Element> extends PojoTypeInfo<T> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Name of the id field.
+   */
+  private static final String ID_FIELD = "id";
+
+  /**
+   * Serializer for the element type.
+   */
+  private final EPGMElementSerializer<T> serializer;
+
+  /**
+   * Creates a new type information.
+   *
+   * @param typeClass element class
+   * @param serializer serializer for the element class
+   */
+  public EPGMElementTypeInfo(Class<T> typeClass, EPGMElementSerializer<T> serializer) {
+    super(typeClass, getPojoFields(typeClass));
+    this.serializer = serializer;
+  }
+
+  @Override
+  public TypeSerializer<T> createSerializer(ExecutionConfig config) {
+    return serializer;
+  }
+
+  @Override
+  public TypeComparator<T> createComparator(int[] logicalKeyFields, boolean[] orders,
+    int logicalFieldOffset, ExecutionConfig config) {
+    if (logicalKeyFields.length == 1 &&
+      logicalKeyFields[0] == logicalFieldOffset + getLogicalIdPosition()) {
+      return new EPGMElementIdComparator<>(orders[0]);
+    }
+    return super.createComparator(logicalKeyFields, orders, logicalFieldOffset, config);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof EPGMElementTypeInfo && super.equals(obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof EPGMElementTypeInfo;
+  }
+
+  /**
+   * Returns the logical position of the id field, i.e. the number of flat fields before it.
+   *
+   * @return logical position of the id field
+   */
+  private int getLogicalIdPosition() {
+    int idIndex = getFieldIndex(ID_FIELD);
+    int position = 0;
+    for (int i = 0; i < idIndex; i++) {
+      position += getTypeAt(i).getTotalFields();
+    }
+    return position;
+  }
+
+  /**
+   * Returns the fields of the given class and its super classes, as analyzed for POJOs.
+   *
+   * @param typeClass class to analyze
+   * @return non-static and non-transient fields
+   */
+  static List<PojoField> getPojoFields(Class<?> typeClass) {
+    List<PojoField> fields = new ArrayList<>();
+    for (Class<?> clazz = typeClass; clazz != Object.class; clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers()) &&
+          !Modifier.isTransient(field.getModifiers())) {
+          field.setAccessible(true);
+          fields.add(new PojoField(field, TypeExtractor.getForClass(field.getType())));
+        }
+      }
+    }
+    return fields;
+  }
+}
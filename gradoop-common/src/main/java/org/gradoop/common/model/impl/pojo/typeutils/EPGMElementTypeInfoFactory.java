@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeinfo.TypeInfoFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractionUtils;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Creates the type information for {@link Vertex}, {@link Edge} and {@link GraphHead}. The
+ * factory is registered by annotating these classes with
+ * {@link org.apache.flink.api.common.typeinfo.TypeInfo}.
+ *
+ * Subclasses of the EPGM POJOs may declare additional fields and therefore use the generic
+ * {@link PojoTypeInfo}.
+ */
+public class EPGMElementTypeInfoFactory extends TypeInfoFactory<Element> {
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public TypeInformation<Element> createTypeInfo(Type t,
+    Map<String, TypeInformation<?>> genericParameters) {
+    Class<?> typeClass = TypeExtractionUtils.typeToClass(t);
+    TypeInformation<?> typeInfo;
+    if (typeClass == Vertex.class) {
+      typeInfo = new EPGMElementTypeInfo<>(Vertex.class, VertexSerializer.INSTANCE);
+    } else if (typeClass == Edge.class) {
+      typeInfo = new EPGMElementTypeInfo<>(Edge.class, EdgeSerializer.INSTANCE);
+    } else if (typeClass == GraphHead.class) {
+      typeInfo = new EPGMElementTypeInfo<>(GraphHead.class, GraphHeadSerializer.INSTANCE);
+    } else {
+      typeInfo = new PojoTypeInfo<>(typeClass, EPGMElementTypeInfo.getPojoFields(typeClass));
+    }
+    return (TypeInformation<Element>) typeInfo;
+  }
+}
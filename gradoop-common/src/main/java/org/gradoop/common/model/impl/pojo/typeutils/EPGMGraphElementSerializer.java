@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+
+import java.io.IOException;
+
+/**
+ * Base serializer for EPGM graph elements. The graph ids (if not {@code null}) are written after
+ * the fields of {@link EPGMElementSerializer}, see {@link GradoopIdSet#write(DataOutputView)}.
+ *
+ * @param <T> graph element type
+ */
+public abstract class EPGMGraphElementSerializer<T extends GraphElement>
+  extends EPGMElementSerializer<T> {
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public T copy(T from, T reuse) {
+    if (from == null) {
+      return null;
+    }
+    super.copy(from, reuse);
+    reuse.setGraphIds(from.getGraphIds() == null ? null :
+      GradoopIdSet.fromExisting(from.getGraphIds()));
+    return reuse;
+  }
+
+  @Override
+  protected int getFlags(T record) {
+    int flags = super.getFlags(record);
+    if (record.getGraphIds() == null) {
+      flags |= FLAG_NULL_GRAPH_IDS;
+    }
+    return flags;
+  }
+
+  @Override
+  protected void serializeFields(T record, DataOutputView target) throws IOException {
+    if (record.getGraphIds() != null) {
+      record.getGraphIds().write(target);
+    }
+  }
+
+  @Override
+  protected void deserializeFields(T reuse, int flags, DataInputView source) throws IOException {
+    if ((flags & FLAG_NULL_GRAPH_IDS) == 0) {
+      GradoopIdSet graphIds = reuse.getGraphIds();
+      if (graphIds == null) {
+        graphIds = new GradoopIdSet();
+      }
+      graphIds.read(source);
+      reuse.setGraphIds(graphIds);
+    } else {
+      reuse.setGraphIds(null);
+    }
+  }
+
+  @Override
+  protected void copyFields(int flags, DataInputView source, DataOutputView target)
+    throws IOException {
+    if ((flags & FLAG_NULL_GRAPH_IDS) == 0) {
+      GradoopIdSet.copy(source, target);
+    }
+  }
+}
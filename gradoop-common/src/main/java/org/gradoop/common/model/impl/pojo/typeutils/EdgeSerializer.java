@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link Edge} instances. Source and target id (if not {@code null}) are written
+ * after the fields of {@link EPGMGraphElementSerializer}.
+ */
+public class EdgeSerializer extends EPGMGraphElementSerializer<Edge> {
+
+  /**
+   * Shared instance.
+   */
+  public static final EdgeSerializer INSTANCE = new EdgeSerializer();
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public Edge createInstance() {
+    return new Edge();
+  }
+
+  @Override
+  public Edge copy(Edge from, Edge reuse) {
+    if (from == null) {
+      return null;
+    }
+    super.copy(from, reuse);
+    reuse.setSourceId(from.getSourceId() == null ? null : from.getSourceId().copy());
+    reuse.setTargetId(from.getTargetId() == null ? null : from.getTargetId().copy());
+    return reuse;
+  }
+
+  @Override
+  protected int getFlags(Edge record) {
+    int flags = super.getFlags(record);
+    if (record.getSourceId() == null) {
+      flags |= FLAG_NULL_SOURCE_ID;
+    }
+    if (record.getTargetId() == null) {
+      flags |= FLAG_NULL_TARGET_ID;
+    }
+    return flags;
+  }
+
+  @Override
+  protected void serializeFields(Edge record, DataOutputView target) throws IOException {
+    super.serializeFields(record, target);
+    if (record.getSourceId() != null) {
+      record.getSourceId().write(target);
+    }
+    if (record.getTargetId() != null) {
+      record.getTargetId().write(target);
+    }
+  }
+
+  @Override
+  protected void deserializeFields(Edge reuse, int flags, DataInputView source)
+    throws IOException {
+    super.deserializeFields(reuse, flags, source);
+    // ids may share the same instance, e.g. for loops
+    GradoopId sourceId = reuse.getSourceId() == reuse.getId() ? null : reuse.getSourceId();
+    GradoopId targetId = reuse.getTargetId() == reuse.getId() ||
+      reuse.getTargetId() == reuse.getSourceId() ? null : reuse.getTargetId();
+    reuse.setSourceId(readId(flags, FLAG_NULL_SOURCE_ID, sourceId, source));
+    reuse.setTargetId(readId(flags, FLAG_NULL_TARGET_ID, targetId, source));
+  }
+
+  @Override
+  protected void copyFields(int flags, DataInputView source, DataOutputView target)
+    throws IOException {
+    super.copyFields(flags, source, target);
+    copyId(flags, FLAG_NULL_SOURCE_ID, source, target);
+    copyId(flags, FLAG_NULL_TARGET_ID, source, target);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof EdgeSerializer;
+  }
+}
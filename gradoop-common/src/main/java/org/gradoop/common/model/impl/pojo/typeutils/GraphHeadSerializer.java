@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+
+/**
+ * Serializer for {@link GraphHead} instances.
+ */
+public class GraphHeadSerializer extends EPGMElementSerializer<GraphHead> {
+
+  /**
+   * Shared instance.
+   */
+  public static final GraphHeadSerializer INSTANCE = new GraphHeadSerializer();
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public GraphHead createInstance() {
+    return new GraphHead();
+  }
+
+  @Override
+  protected void serializeFields(GraphHead record, DataOutputView target) {
+    // graph heads have no additional fields
+  }
+
+  @Override
+  protected void deserializeFields(GraphHead reuse, int flags, DataInputView source) {
+    // graph heads have no additional fields
+  }
+
+  @Override
+  protected void copyFields(int flags, DataInputView source, DataOutputView target) {
+    // graph heads have no additional fields
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof GraphHeadSerializer;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Serializer for {@link Vertex} instances.
+ */
+public class VertexSerializer extends EPGMGraphElementSerializer<Vertex> {
+
+  /**
+   * Shared instance.
+   */
+  public static final VertexSerializer INSTANCE = new VertexSerializer();
+
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public Vertex createInstance() {
+    return new Vertex();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof VertexSerializer;
+  }
+}
@@ -21,33 +21,65 @@ import org.apache.flink.types.Value;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Represents the properties of an {@link org.gradoop.common.model.impl.pojo.Element}.
+ *
+ * Properties are stored in two parallel arrays of keys and values which are sorted by key.
+ * Lookups are performed using binary search. Compared to a hash map, this avoids an entry object
+ * per property and the overhead of the hash table, which dominates the memory footprint of the
+ * small property collections of most elements.
  */
 public class Properties implements Iterable<Property>, Value, Serializable {
 
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
   /**
    * Default capacity for new property lists.
    */
-  private static final int DEFAULT_CAPACITY = 10;
+  private static final int DEFAULT_CAPACITY = 4;
+
+  /**
+   * Shared key array of empty property lists.
+   */
+  private static final String[] EMPTY_KEYS = new String[0];
+
+  /**
+   * Shared value array of empty property lists.
+   */
+  private static final PropertyValue[] EMPTY_VALUES = new PropertyValue[0];
 
   /**
-   * Internal representation
+   * Property keys in ascending order.
    */
-  private Map<String, PropertyValue> properties;
+  private String[] keys;
+
+  /**
+   * Property values, the value at index {@code i} belongs to the key at index {@code i}.
+   */
+  private PropertyValue[] values;
+
+  /**
+   * Number of properties.
+   */
+  private int size;
 
   /**
    * Default constructor
    */
   public Properties() {
-    properties = new HashMap<>(DEFAULT_CAPACITY);
+    this(0);
   }
 
   /**
@@ -56,7 +88,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @param capacity initial capacity
    */
   private Properties(int capacity) {
-    properties = new HashMap<>(capacity);
+    keys = capacity == 0 ? EMPTY_KEYS : new String[capacity];
+    values = capacity == 0 ? EMPTY_VALUES : new PropertyValue[capacity];
   }
 
   /**
@@ -103,12 +136,17 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   }
 
   /**
-   * Returns property keys in insertion order.
+   * Returns property keys in ascending order.
    *
    * @return property keys
    */
   public Iterable<String> getKeys() {
-    return properties.keySet();
+    return () -> new PropertyIterator<String>() {
+      @Override
+      String get(int index) {
+        return keys[index];
+      }
+    };
   }
 
   /**
@@ -130,7 +168,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    int index = indexOf(key);
+    return index < 0 ? null : values[index];
   }
 
   /**
@@ -153,7 +192,12 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
-    properties.put(key, value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      values[index] = value;
+    } else {
+      insert(-(index + 1), key, value);
+    }
   }
 
   /**
@@ -184,7 +228,18 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
-    return properties.remove(key);
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    PropertyValue value = values[index];
+    int moved = size - index - 1;
+    System.arraycopy(keys, index + 1, keys, index, moved);
+    System.arraycopy(values, index + 1, values, index, moved);
+    size--;
+    keys[size] = null;
+    values[size] = null;
+    return value;
   }
 
   /**
@@ -203,7 +258,9 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * Removes all elements from these properties.
    */
   public void clear() {
-    this.properties.clear();
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
   }
 
   /**
@@ -212,7 +269,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    return size;
   }
 
   /**
@@ -226,11 +283,10 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
   /**
    * Two properties collections are considered equal, if they contain the
-   * same properties in the same order.
+   * same properties.
    *
    * @param o other properties collection
    * @return  true, iff the two property collections contain the same elements
-   *          in the same order
    */
   @Override
   public boolean equals(Object o) {
@@ -243,19 +299,30 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
     Properties that = (Properties) o;
 
-    return !(properties != null ? !properties.equals(that.properties) :
-      that.properties != null);
+    if (size != that.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!keys[i].equals(that.keys[i]) || !values[i].equals(that.values[i])) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
    * Two properties collections have identical hash codes, if they contain the
-   * same properties in the same order.
+   * same properties.
    *
    * @return hash code
    */
   @Override
   public int hashCode() {
-    return properties != null ? properties.hashCode() : 0;
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += keys[i].hashCode() ^ values[i].hashCode();
+    }
+    return hashCode;
   }
 
   /**
@@ -263,7 +330,12 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public Iterator<Property> iterator() {
-    return toList().iterator();
+    return new PropertyIterator<Property>() {
+      @Override
+      Property get(int index) {
+        return Property.create(keys[index], values[index]);
+      }
+    };
   }
 
   /**
@@ -272,9 +344,11 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return List of properties
    */
   public List<Property> toList() {
-    return  properties.entrySet().stream()
-            .map(e -> Property.create(e.getKey(), e.getValue()))
-            .collect(Collectors.toList());
+    List<Property> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(Property.create(keys[i], values[i]));
+    }
+    return list;
   }
 
   /**
@@ -282,31 +356,75 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    outputView.writeInt(properties.size());
+    outputView.writeInt(size);
 
-    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
-      outputView.writeUTF(entry.getKey());
-      entry.getValue().write(outputView);
+    for (int i = 0; i < size; i++) {
+      outputView.writeUTF(keys[i]);
+      values[i].write(outputView);
     }
   }
 
-
   /**
-   * {@inheritDoc}
+   * Reads the properties from the given input view.
+   *
+   * If this instance is reused for deserialization (e.g. by Flink in sort and network paths),
+   * the internal arrays and the contained property values are reused.
+   *
+   * @param inputView data input to read data from
+   * @throws IOException
    */
   @Override
   public void read(DataInputView inputView) throws IOException {
     int propertyCount = inputView.readInt();
-    this.properties = new HashMap<>(propertyCount);
 
-    String key;
+    if (keys.length < propertyCount) {
+      keys = Arrays.copyOf(keys, propertyCount);
+      values = Arrays.copyOf(values, propertyCount);
+    }
+
+    boolean sorted = true;
     PropertyValue value;
 
     for (int i = 0; i < propertyCount; i++) {
-      key = inputView.readUTF();
-      value = new PropertyValue();
+      keys[i] = inputView.readUTF();
+      value = values[i];
+      // never overwrite the shared null value
+      if (i >= size || value == PropertyValue.NULL_VALUE) {
+        value = new PropertyValue();
+        values[i] = value;
+      }
       value.read(inputView);
-      properties.put(key, value);
+      sorted = sorted && (i == 0 || keys[i - 1].compareTo(keys[i]) < 0);
+    }
+
+    Arrays.fill(keys, propertyCount, Math.max(size, propertyCount), null);
+    Arrays.fill(values, propertyCount, Math.max(size, propertyCount), null);
+    size = propertyCount;
+
+    // properties written by this class are sorted by key
+    if (!sorted) {
+      sort();
+    }
+  }
+
+  /**
+   * Copies properties written by {@link #write(DataOutputView)} from the given input view to the
+   * given output view without instantiating keys or values.
+   *
+   * @param source data input to read the properties from
+   * @param target data output to write the properties to
+   * @throws IOException
+   */
+  public static void copy(DataInputView source, DataOutputView target) throws IOException {
+    int propertyCount = source.readInt();
+    target.writeInt(propertyCount);
+
+    for (int i = 0; i < propertyCount; i++) {
+      // key in modified UTF-8 encoding, see DataOutput#writeUTF(String)
+      int keyLength = source.readUnsignedShort();
+      target.writeShort(keyLength);
+      target.write(source, keyLength);
+      PropertyValue.copy(source, target);
     }
   }
 
@@ -319,4 +437,96 @@ public class Properties implements Iterable<Property>, Value, Serializable {
       .map(Property::toString)
       .collect(Collectors.joining(","));
   }
+
+  /**
+   * Returns the index of the given key or {@code (-(insertion point) - 1)} if the key is not
+   * contained.
+   *
+   * @param key property key
+   * @return index of the key
+   * @see Arrays#binarySearch(Object[], int, int, Object)
+   */
+  private int indexOf(String key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  /**
+   * Inserts the given property at the given index.
+   *
+   * @param index insertion point
+   * @param key property key
+   * @param value property value
+   */
+  private void insert(int index, String key, PropertyValue value) {
+    if (size == keys.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+    int moved = size - index;
+    System.arraycopy(keys, index, keys, index + 1, moved);
+    System.arraycopy(values, index, values, index + 1, moved);
+    keys[index] = key;
+    values[index] = value;
+    size++;
+  }
+
+  /**
+   * Sorts the properties by key (insertion sort, property lists are small). If a key is
+   * contained multiple times, the last value is kept.
+   */
+  private void sort() {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      String key = keys[i];
+      PropertyValue value = values[i];
+      int index = Arrays.binarySearch(keys, 0, count, key);
+      if (index >= 0) {
+        values[index] = value;
+      } else {
+        index = -(index + 1);
+        System.arraycopy(keys, index, keys, index + 1, count - index);
+        System.arraycopy(values, index, values, index + 1, count - index);
+        keys[index] = key;
+        values[index] = value;
+        count++;
+      }
+    }
+    Arrays.fill(keys, count, size, null);
+    Arrays.fill(values, count, size, null);
+    size = count;
+  }
+
+  /**
+   * Iterates over the indices of the properties.
+   *
+   * @param <T> type of the returned elements
+   */
+  private abstract class PropertyIterator<T> implements Iterator<T> {
+    /**
+     * Index of the next property.
+     */
+    private int next;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return get(next++);
+    }
+
+    /**
+     * Returns the element for the property at the given index.
+     *
+     * @param index property index
+     * @return element
+     */
+    abstract T get(int index);
+  }
 }
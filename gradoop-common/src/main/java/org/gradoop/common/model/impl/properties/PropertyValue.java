@@ -20,6 +20,8 @@ import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NormalizableKey;
 import org.apache.flink.types.Value;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -50,7 +52,7 @@ import java.util.Set;
  *
  * A property value wraps a value that implements a supported data type.
  */
-public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
+public class PropertyValue implements Value, Serializable, NormalizableKey<PropertyValue> {
 
   /**
    * Represents a property value that is {@code null}.
@@ -470,8 +472,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code GradoopId} value
    */
   public GradoopId getGradoopId() {
-    return GradoopId.fromByteArray(
-      Arrays.copyOfRange(rawBytes, OFFSET, GradoopId.ID_SIZE + OFFSET));
+    return GradoopId.fromByteArray(rawBytes, OFFSET);
   }
 
   /**
@@ -733,10 +734,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param gradoopIdValue value
    */
   public void setGradoopId(GradoopId gradoopIdValue) {
-    byte[] valueBytes = gradoopIdValue.toByteArray();
     rawBytes = new byte[OFFSET + GradoopId.ID_SIZE];
     rawBytes[0] = TYPE_GRADOOP_ID;
-    Bytes.putBytes(rawBytes, OFFSET, valueBytes, 0, valueBytes.length);
+    gradoopIdValue.writeBytes(rawBytes, OFFSET);
   }
 
   /**
@@ -932,34 +932,46 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     return Arrays.hashCode(rawBytes);
   }
 
+  /**
+   * Compares this and the given property value.
+   *
+   * Numerical values of different types are compared by their numerical value, see
+   * {@link PropertyValueUtils.Numeric#compare(PropertyValue, PropertyValue)}. All other values
+   * need to be of the same type. Except for {@link BigDecimal} values of different scale, the
+   * comparison is done on the byte representation without instantiating the wrapped objects.
+   *
+   * @param o property value to compare to
+   * @return a negative integer, zero, or a positive integer as this value is less than, equal to,
+   *         or greater than the given value
+   */
   @Override
   public int compareTo(PropertyValue o) {
     int result;
+    byte type = rawBytes[0];
+    byte otherType = o.rawBytes[0];
 
-    if (this.isNull() && o.isNull()) {
+    if (type == TYPE_NULL && otherType == TYPE_NULL) {
       result = 0;
-    } else if (this.isNumber() && o.isNumber()) {
+    } else if (isNumericType(type) && isNumericType(otherType)) {
       result = PropertyValueUtils.Numeric.compare(this, o);
-    } else if (this.isBoolean() && o.isBoolean()) {
-      result = Boolean.compare(this.getBoolean(), o.getBoolean());
-    } else if (this.isString() && o.isString()) {
-      result = this.getString().compareTo(o.getString());
-    } else if (this.isGradoopId() && o.isGradoopId()) {
-      result = this.getGradoopId().compareTo(o.getGradoopId());
-    } else if (this.isDate() && o.isDate()) {
-      result = this.getDate().compareTo(o.getDate());
-    } else if (this.isTime() && o.isTime()) {
-      result = this.getTime().compareTo(o.getTime());
-    } else if (this.isDateTime() && o.isDateTime()) {
-      result = this.getDateTime().compareTo(o.getDateTime());
-    } else if (this.isMap() || o.isMap() ||
-        this.isList() || o.isList() ||
-        this.isSet() || o.isSet()) {
-      throw new UnsupportedOperationException(String.format(
-        "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
-    } else {
+    } else if (type != otherType) {
+      if (isCollectionType(type) || isCollectionType(otherType)) {
+        throw new UnsupportedOperationException(String.format(
+          "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
+      }
       throw new IllegalArgumentException(String.format(
         "Incompatible types: %s, %s", this.getClass(), o.getClass()));
+    } else if (type == TYPE_BOOLEAN || type == TYPE_GRADOOP_ID) {
+      // true is stored as -1, false as 0, GradoopIds are compared unsigned
+      result = Bytes.compareTo(rawBytes, OFFSET, rawBytes.length - OFFSET,
+        o.rawBytes, OFFSET, o.rawBytes.length - OFFSET);
+    } else if (type == TYPE_STRING) {
+      result = compareUtf8(rawBytes, o.rawBytes);
+    } else if (type == TYPE_DATE || type == TYPE_TIME || type == TYPE_DATETIME) {
+      result = compareInts(rawBytes, o.rawBytes);
+    } else {
+      throw new UnsupportedOperationException(String.format(
+        "Method compareTo() is not supported for %s, %s", this.getClass(), o.getClass()));
     }
 
     return result;
@@ -1021,16 +1033,85 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     outputView.write(rawBytes, OFFSET, rawBytes.length - OFFSET);
   }
 
+  /**
+   * Reads a property value from the given input view.
+   *
+   * The value bytes are copied in bulk. If the current internal byte array has exactly the size
+   * of the value to read, it is reused instead of allocating a new one. This avoids garbage when
+   * Flink deserializes into a reused instance (e.g. in sort and network paths), e.g. for fixed
+   * length types like {@code int}, {@code long}, {@link GradoopId} or {@link LocalDateTime}.
+   * Note that, as for any reused {@link Value}, the byte array returned by
+   * {@link #getRawBytes()} before calling this method may be overwritten.
+   *
+   * @param inputView data input to read data from
+   * @throws IOException
+   */
   @Override
   public void read(DataInputView inputView) throws IOException {
-    int length = 0;
     // type
     byte typeByte = inputView.readByte();
     // Apply bitmask to get the actual type.
     byte type = (byte) (~FLAG_LARGE & typeByte);
+    int length = readLength(typeByte, inputView);
+    // reuse the current array if it fits the value, otherwise init new array
+    if (rawBytes == null || rawBytes.length != OFFSET + length) {
+      rawBytes = new byte[OFFSET + length];
+    }
+    // read type info
+    rawBytes[0] = type;
+    // read data
+    inputView.readFully(rawBytes, OFFSET, length);
+  }
+
+  /**
+   * Copies a property value written by {@link #write(DataOutputView)} from the given input view
+   * to the given output view without instantiating it.
+   *
+   * @param source data input to read the value from
+   * @param target data output to write the value to
+   * @throws IOException
+   */
+  public static void copy(DataInputView source, DataOutputView target) throws IOException {
+    byte typeByte = source.readByte();
+    target.writeByte(typeByte);
+    int length = readLength(typeByte, source);
+    byte type = (byte) (~FLAG_LARGE & typeByte);
+    if (isVariableLength(type)) {
+      if ((typeByte & FLAG_LARGE) == FLAG_LARGE) {
+        target.writeInt(length);
+      } else {
+        target.writeShort(length);
+      }
+    }
+    target.write(source, length);
+  }
+
+  /**
+   * Checks if the given type is stored with a variable length.
+   *
+   * @param type type byte without flags
+   * @return true, iff the length of the value is written before the value bytes
+   */
+  private static boolean isVariableLength(byte type) {
+    return type == TYPE_STRING || type == TYPE_BIG_DECIMAL || type == TYPE_MAP ||
+      type == TYPE_LIST || type == TYPE_SET;
+  }
+
+  /**
+   * Returns the number of value bytes following the given type byte. For types with a variable
+   * length, the length is read from the given input view.
+   *
+   * @param typeByte type byte including flags
+   * @param inputView data input positioned after the type byte
+   * @return number of value bytes
+   * @throws IOException
+   */
+  private static int readLength(byte typeByte, DataInputView inputView) throws IOException {
+    int length = 0;
+    // Apply bitmask to get the actual type.
+    byte type = (byte) (~FLAG_LARGE & typeByte);
     // dynamic type?
-    if (type == TYPE_STRING || type == TYPE_BIG_DECIMAL || type == TYPE_MAP ||
-      type == TYPE_LIST || type == TYPE_SET) {
+    if (isVariableLength(type)) {
       // read length
       if ((typeByte & FLAG_LARGE) == FLAG_LARGE) {
         length = inputView.readInt();
@@ -1060,14 +1141,239 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     } else if (type == TYPE_DATETIME) {
       length = DateTimeSerializer.SIZEOF_DATETIME;
     }
-    // init new array
-    rawBytes = new byte[OFFSET + length];
-    // read type info
-    rawBytes[0] = type;
-    // read data
-    for (int i = OFFSET; i < rawBytes.length; i++) {
-      rawBytes[i] = inputView.readByte();
+    return length;
+  }
+
+  //----------------------------------------------------------------------------
+  // NormalizableKey
+  //----------------------------------------------------------------------------
+
+  /**
+   * Property values have a variable length normalized key, i.e. the normalized key is always a
+   * prefix and records with equal normalized keys are compared using
+   * {@link #compareTo(PropertyValue)}.
+   *
+   * @return {@link Integer#MAX_VALUE}
+   */
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Writes an order-preserving key prefix. The first byte is the type byte, the following bytes
+   * are
+   *
+   * for numerical values  : the value as {@code double}, all bits flipped for negative values
+   *                         and the sign bit flipped for positive values
+   * for strings           : the UTF-16 characters (big-endian)
+   * for dates and times   : the components with flipped sign bits
+   * for other types       : the value bytes
+   *
+   * All numerical types share the type byte {@link #TYPE_DOUBLE}, as {@link #compareTo}
+   * compares them by value. The conversion to {@code double} never reverses the order of two
+   * values, but may map different values to the same key, which are then compared using
+   * {@link #compareTo(PropertyValue)}.
+   *
+   * @param target memory segment to write the key to
+   * @param offset start offset in the memory segment
+   * @param len number of bytes to write
+   */
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    if (len <= 0) {
+      return;
+    }
+    byte type = rawBytes[0];
+    int limit = offset + len;
+    int position = offset;
+
+    // numerical values of different types are compared by value
+    target.put(position++, isNumericType(type) ? TYPE_DOUBLE : type);
+
+    if (isNumericType(type)) {
+      long bits = Double.doubleToLongBits(numericAsDouble(type));
+      // flip the sign bit of positive values and all bits of negative values
+      bits ^= (bits >> 63) | Long.MIN_VALUE;
+      for (int shift = 56; shift >= 0 && position < limit; shift -= 8) {
+        target.put(position++, (byte) (bits >> shift));
+      }
+    } else if (type == TYPE_STRING) {
+      position = putUtf16(rawBytes, target, position, limit);
+    } else if (type == TYPE_DATE || type == TYPE_TIME || type == TYPE_DATETIME) {
+      for (int i = OFFSET; i < rawBytes.length && position < limit; i++) {
+        // flip the sign bit of each int
+        boolean signByte = (i - OFFSET) % Bytes.SIZEOF_INT == 0;
+        target.put(position++, signByte ? (byte) (rawBytes[i] ^ 0x80) : rawBytes[i]);
+      }
+    } else if (type == TYPE_BOOLEAN || type == TYPE_GRADOOP_ID) {
+      for (int i = OFFSET; i < rawBytes.length && position < limit; i++) {
+        target.put(position++, rawBytes[i]);
+      }
+    }
+
+    while (position < limit) {
+      target.put(position++, (byte) 0);
+    }
+  }
+
+  //----------------------------------------------------------------------------
+  // Comparison helpers
+  //----------------------------------------------------------------------------
+
+  /**
+   * Checks if the given type is numerical.
+   *
+   * @param type type byte
+   * @return true, iff the type is a numerical type
+   */
+  private static boolean isNumericType(byte type) {
+    return type == TYPE_SHORT || type == TYPE_INTEGER || type == TYPE_LONG ||
+      type == TYPE_FLOAT || type == TYPE_DOUBLE || type == TYPE_BIG_DECIMAL;
+  }
+
+  /**
+   * Converts the numerical value to {@code double}. The conversion preserves the order of values
+   * up to ties, i.e. {@code a < b} implies {@code (double) a <= (double) b}.
+   *
+   * @param type numerical type byte of this value
+   * @return value as double
+   */
+  private double numericAsDouble(byte type) {
+    double value;
+    if (type == TYPE_SHORT) {
+      value = getShort();
+    } else if (type == TYPE_INTEGER) {
+      value = getInt();
+    } else if (type == TYPE_LONG) {
+      value = getLong();
+    } else if (type == TYPE_FLOAT) {
+      value = getFloat();
+    } else if (type == TYPE_DOUBLE) {
+      value = getDouble();
+    } else {
+      value = getBigDecimal().doubleValue();
+    }
+    return value;
+  }
+
+  /**
+   * Checks if the given type is a collection type.
+   *
+   * @param type type byte
+   * @return true, iff the type is a map, list or set
+   */
+  private static boolean isCollectionType(byte type) {
+    return type == TYPE_MAP || type == TYPE_LIST || type == TYPE_SET;
+  }
+
+  /**
+   * Compares two UTF-8 encoded strings (starting at {@link #OFFSET}) with the same result as
+   * {@link String#compareTo(String)}, i.e. by their UTF-16 characters.
+   *
+   * UTF-8 byte order equals code point order, which only differs from UTF-16 order if a
+   * supplementary character (encoded as surrogates in UTF-16) is compared to a character in
+   * the range {@code U+E000} to {@code U+FFFF}.
+   *
+   * @param a first byte representation
+   * @param b second byte representation
+   * @return comparison result
+   */
+  private static int compareUtf8(byte[] a, byte[] b) {
+    int length = Math.min(a.length, b.length);
+    for (int i = OFFSET; i < length; i++) {
+      if (a[i] != b[i]) {
+        // find the start of the differing code point, the prefix is equal in both arrays
+        int start = i;
+        while (start > OFFSET && (a[start] & 0xC0) == 0x80) {
+          start--;
+        }
+        boolean aSupplementary = (a[start] & 0xF8) == 0xF0;
+        boolean bSupplementary = (b[start] & 0xF8) == 0xF0;
+        if (aSupplementary && !bSupplementary && (b[start] & 0xFE) == 0xEE) {
+          return -1;
+        } else if (bSupplementary && !aSupplementary && (a[start] & 0xFE) == 0xEE) {
+          return 1;
+        }
+        return (a[i] & 0xFF) - (b[i] & 0xFF);
+      }
+    }
+    return a.length - b.length;
+  }
+
+  /**
+   * Compares two byte representations (starting at {@link #OFFSET}) consisting of big-endian
+   * signed ints of the same count, e.g. dates and times.
+   *
+   * @param a first byte representation
+   * @param b second byte representation
+   * @return comparison result
+   */
+  private static int compareInts(byte[] a, byte[] b) {
+    int result = 0;
+    for (int i = OFFSET; result == 0 && i < a.length; i += Bytes.SIZEOF_INT) {
+      result = Integer.compare(Bytes.toInt(a, i), Bytes.toInt(b, i));
+    }
+    return result;
+  }
+
+  /**
+   * Writes the UTF-16 characters of an UTF-8 encoded string (starting at {@link #OFFSET}) in
+   * big-endian order to the memory segment.
+   *
+   * @param bytes byte representation
+   * @param target memory segment
+   * @param position first position to write to
+   * @param limit position to stop writing at
+   * @return next position to write to
+   */
+  private static int putUtf16(byte[] bytes, MemorySegment target, int position, int limit) {
+    int i = OFFSET;
+    while (i < bytes.length && position < limit) {
+      int lead = bytes[i] & 0xFF;
+      int codePoint;
+      if (lead < 0x80) {
+        codePoint = lead;
+        i += 1;
+      } else if (lead < 0xE0) {
+        codePoint = ((lead & 0x1F) << 6) | (bytes[i + 1] & 0x3F);
+        i += 2;
+      } else if (lead < 0xF0) {
+        codePoint = ((lead & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F);
+        i += 3;
+      } else {
+        codePoint = ((lead & 0x07) << 18) | ((bytes[i + 1] & 0x3F) << 12) |
+          ((bytes[i + 2] & 0x3F) << 6) | (bytes[i + 3] & 0x3F);
+        i += 4;
+      }
+      if (Character.isSupplementaryCodePoint(codePoint)) {
+        position = putChar(target, position, limit, Character.highSurrogate(codePoint));
+        position = putChar(target, position, limit, Character.lowSurrogate(codePoint));
+      } else {
+        position = putChar(target, position, limit, (char) codePoint);
+      }
+    }
+    return position;
+  }
+
+  /**
+   * Writes a character in big-endian order to the memory segment, as long as the limit is not
+   * reached.
+   *
+   * @param target memory segment
+   * @param position position to write to
+   * @param limit position to stop writing at
+   * @param c character
+   * @return next position to write to
+   */
+  private static int putChar(MemorySegment target, int position, int limit, char c) {
+    if (position < limit) {
+      target.put(position++, (byte) (c >> 8));
+    }
+    if (position < limit) {
+      target.put(position++, (byte) c);
     }
+    return position;
   }
 
   @Override
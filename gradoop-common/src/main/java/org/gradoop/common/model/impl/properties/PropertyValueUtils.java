@@ -363,6 +363,9 @@ public class PropertyValueUtils {
 
         result = Double.compare(a, b);
 
+      } else if (sameType && haveEqualScale(aValue.getRawBytes(), bValue.getRawBytes())) {
+        result = compareUnscaled(aValue.getRawBytes(), bValue.getRawBytes());
+
       } else {
         BigDecimal a;
         BigDecimal b;
@@ -501,6 +504,48 @@ public class PropertyValueUtils {
       return aIsLessOrEqual;
     }
 
+    /**
+     * Checks if two big decimal byte representations have the same scale.
+     *
+     * @param a first byte representation
+     * @param b second byte representation
+     * @return true, iff the scale is equal
+     */
+    private static boolean haveEqualScale(byte[] a, byte[] b) {
+      return org.apache.hadoop.hbase.util.Bytes.equals(
+        a, PropertyValue.OFFSET, org.apache.hadoop.hbase.util.Bytes.SIZEOF_INT,
+        b, PropertyValue.OFFSET, org.apache.hadoop.hbase.util.Bytes.SIZEOF_INT);
+    }
+
+    /**
+     * Compares the unscaled values of two big decimal byte representations with equal scale.
+     * The unscaled values are stored as minimal two's complement, i.e. a longer positive
+     * value is always bigger and a longer negative value is always smaller.
+     *
+     * @param a first byte representation
+     * @param b second byte representation
+     * @return comparison result
+     */
+    private static int compareUnscaled(byte[] a, byte[] b) {
+      int start = PropertyValue.OFFSET + org.apache.hadoop.hbase.util.Bytes.SIZEOF_INT;
+      boolean aNegative = a[start] < 0;
+      boolean bNegative = b[start] < 0;
+
+      int result;
+      if (aNegative != bNegative) {
+        result = aNegative ? -1 : 1;
+      } else if (a.length != b.length) {
+        result = (a.length < b.length) != aNegative ? -1 : 1;
+      } else {
+        result = Byte.compare(a[start], b[start]);
+        if (result == 0) {
+          result = org.apache.hadoop.hbase.util.Bytes.compareTo(
+            a, start + 1, a.length - start - 1, b, start + 1, b.length - start - 1);
+        }
+      }
+      return result;
+    }
+
     /**
      * Checks a property value for numerical type and returns its type.
      *
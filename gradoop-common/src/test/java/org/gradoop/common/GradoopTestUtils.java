@@ -369,6 +369,28 @@ public class GradoopTestUtils {
     return out;
   }
 
+  /**
+   * Writes the given value and reads it into the given (reused) instance.
+   *
+   * @param in value to write
+   * @param reuse instance to read into
+   * @param <T> value type
+   * @return the reused instance
+   * @throws IOException on failure
+   */
+  public static <T extends Value> T writeAndReadFields(T in, T reuse) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    DataOutputView outputView = new DataOutputViewStreamWrapper(outputStream);
+    in.write(outputView);
+    outputStream.flush();
+
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+    DataInputView inputView = new DataInputViewStreamWrapper(inputStream);
+    reuse.read(inputView);
+
+    return reuse;
+  }
+
   public static <T extends Value> T writeAndReadValue(Class<T> clazz, T in) throws Exception {
     // write to byte[]
     java.io.ByteArrayOutputStream outStream = new java.io.ByteArrayOutputStream();
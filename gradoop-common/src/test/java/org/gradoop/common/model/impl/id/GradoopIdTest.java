@@ -15,10 +15,13 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.bson.types.ObjectId;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -112,4 +115,65 @@ public class GradoopIdTest {
 
     assertEquals(expectedId, newId);
   }
+
+  @Test
+  public void testObjectIdCompatibility() {
+    ObjectId bsonId = new ObjectId(-23, 0xabcdef, (short) -42, 0xfedcba);
+    GradoopId id = new GradoopId(bsonId);
+
+    assertArrayEquals(bsonId.toByteArray(), id.toByteArray());
+    assertEquals(bsonId.toString(), id.toString());
+    assertEquals(bsonId.hashCode(), id.hashCode());
+    assertEquals(id, GradoopId.fromString(bsonId.toString()));
+  }
+
+  @Test
+  public void testCompareToIsByteWise() {
+    GradoopId[] ids = {
+      GradoopId.NULL_VALUE, GradoopId.MIN_VALUE, GradoopId.MAX_VALUE, GradoopId.get(),
+      new GradoopId(new ObjectId(0, 0, (short) 0x80, 0)),
+      new GradoopId(new ObjectId(0, 0, (short) 0x7f, 0xffffff))
+    };
+
+    for (GradoopId first : ids) {
+      for (GradoopId second : ids) {
+        assertEquals(Integer.signum(compareBytes(first.toByteArray(), second.toByteArray())),
+          Integer.signum(first.compareTo(second)));
+      }
+    }
+  }
+
+  @Test
+  public void testCopyNormalizedKey() {
+    GradoopId id = GradoopId.get();
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(2 * GradoopId.ID_SIZE);
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+
+    id.copyNormalizedKey(segment, 0, GradoopId.ID_SIZE);
+    segment.get(0, bytes);
+    assertArrayEquals(id.toByteArray(), bytes);
+
+    id.copyNormalizedKey(segment, GradoopId.ID_SIZE, 5);
+    segment.get(GradoopId.ID_SIZE, bytes, 0, 5);
+    assertArrayEquals(Arrays.copyOf(id.toByteArray(), 5), Arrays.copyOf(bytes, 5));
+  }
+
+  @Test
+  public void testWriteBytes() {
+    GradoopId id = GradoopId.get();
+    byte[] bytes = new byte[GradoopId.ID_SIZE + 3];
+    id.writeBytes(bytes, 3);
+
+    assertEquals(id, GradoopId.fromByteArray(bytes, 3));
+  }
+
+  private static int compareBytes(byte[] first, byte[] second) {
+    for (int i = 0; i < first.length; i++) {
+      int result = Integer.compare(first[i] & 0xff, second[i] & 0xff);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
 }
@@ -308,4 +308,86 @@ public class GradoopIdsTest {
     assertTrue("equals failed for two empty lists", empty2.equals(empty));
     assertTrue("hashCode failed two one empty lists", empty2.hashCode() == empty.hashCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testIteratorOrder() {
+    List<GradoopId> sorted = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      sorted.add(GradoopId.get());
+    }
+    List<GradoopId> shuffled = new ArrayList<>(sorted);
+    Collections.shuffle(shuffled);
+    Collections.sort(sorted);
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(shuffled);
+    assertThat(new ArrayList<>(ids), is(sorted));
+
+    GradoopIdSet added = new GradoopIdSet();
+    shuffled.forEach(added::add);
+    assertThat(new ArrayList<>(added), is(sorted));
+    assertEquals(ids, added);
+  }
+
+  @Test
+  public void testContainsAnyAndAllLargeSets() {
+    List<GradoopId> all = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      all.add(GradoopId.get());
+    }
+    GradoopIdSet ids = GradoopIdSet.fromExisting(all);
+    GradoopIdSet even = new GradoopIdSet();
+    GradoopIdSet odd = new GradoopIdSet();
+    for (int i = 0; i < all.size(); i++) {
+      (i % 2 == 0 ? even : odd).add(all.get(i));
+    }
+
+    assertTrue(ids.containsAll(even));
+    assertTrue(ids.containsAny(odd));
+    assertFalse(even.containsAny(odd));
+    assertFalse(odd.containsAll(ids));
+
+    GradoopIdSet lastOnly = GradoopIdSet.fromExisting(all.get(99), GradoopId.get());
+    assertTrue(lastOnly.containsAny(odd));
+    assertTrue(odd.containsAny(lastOnly));
+    assertFalse(even.containsAny(lastOnly));
+
+    GradoopIdSet merged = new GradoopIdSet();
+    merged.addAll(even);
+    merged.addAll(odd);
+    assertEquals(ids, merged);
+  }
+
+  @Test
+  public void testRemove() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2, id3);
+
+    assertTrue(ids.remove(id2));
+    assertFalse(ids.remove(id2));
+    assertThat(ids.size(), is(2));
+    assertFalse(ids.contains(id2));
+
+    Iterator<GradoopId> iterator = ids.iterator();
+    iterator.next();
+    iterator.remove();
+    assertThat(ids.size(), is(1));
+
+    ids.removeAll(Arrays.asList(id1, id3));
+    assertTrue(ids.isEmpty());
+  }
+
+  @Test
+  public void testToAndFromByteArray() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id2, id1);
+    assertEquals(ids, GradoopIdSet.fromByteArray(ids.toByteArray()));
+
+    GradoopIdSet single = GradoopIdSet.fromExisting(id1);
+    assertEquals(single, GradoopIdSet.fromByteArray(single.toByteArray()));
+    assertTrue(GradoopIdSet.fromByteArray(new byte[0]).isEmpty());
+  }
+}
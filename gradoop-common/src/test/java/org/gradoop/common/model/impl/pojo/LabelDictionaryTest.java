@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo;
+
+import org.gradoop.common.util.GradoopConstants;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class LabelDictionaryTest {
+
+  @Test
+  public void testFromLabels() {
+    LabelDictionary dictionary = LabelDictionary.fromLabels("Person", "Forum", "Person");
+
+    assertEquals(2, dictionary.size());
+    assertEquals(0, dictionary.getId("Forum"));
+    assertEquals(1, dictionary.getId("Person"));
+    assertEquals("Forum", dictionary.getLabel(0));
+    assertEquals("Person", dictionary.getLabel(1));
+    assertEquals(Arrays.asList("Forum", "Person"), dictionary.getLabels());
+  }
+
+  @Test
+  public void testUnknownLabel() {
+    LabelDictionary dictionary = LabelDictionary.fromLabels(GradoopConstants.DEFAULT_VERTEX_LABEL);
+
+    assertTrue(dictionary.contains(GradoopConstants.DEFAULT_VERTEX_LABEL));
+    assertFalse(dictionary.contains("Person"));
+    assertEquals(LabelDictionary.UNKNOWN_LABEL, dictionary.getId("Person"));
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    LabelDictionary dictionary = LabelDictionary.fromLabels("A", "B");
+
+    assertEquals(dictionary, LabelDictionary.fromLabels("B", "A", "B"));
+    assertEquals(dictionary.hashCode(), LabelDictionary.fromLabels("B", "A").hashCode());
+    assertNotEquals(dictionary, LabelDictionary.fromLabels("A", "C"));
+  }
+}
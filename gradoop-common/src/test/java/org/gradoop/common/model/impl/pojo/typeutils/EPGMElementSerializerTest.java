@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.gradoop.common.GradoopTestUtils.SUPPORTED_PROPERTIES;
+import static org.junit.Assert.*;
+
+public class EPGMElementSerializerTest {
+
+  @Test
+  public void testVertex() throws IOException {
+    Vertex vertex = new VertexFactory().initVertex(GradoopId.get(), "A",
+      Properties.createFromMap(SUPPORTED_PROPERTIES),
+      GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get()));
+
+    Vertex copy = serializeAndDeserialize(VertexSerializer.INSTANCE, vertex);
+    assertGraphElementEquals(vertex, copy);
+
+    // all fields are reused
+    Vertex reuse = VertexSerializer.INSTANCE.copy(vertex);
+    GradoopId reusedId = reuse.getId();
+    Properties reusedProperties = reuse.getProperties();
+    GradoopIdSet reusedGraphIds = reuse.getGraphIds();
+    Vertex other = new VertexFactory().createVertex("B");
+    other.setProperty("key", 42);
+    other.addGraphId(GradoopId.get());
+
+    copy = serializeAndDeserialize(VertexSerializer.INSTANCE, other, reuse);
+    assertSame(reuse, copy);
+    assertSame(reusedId, copy.getId());
+    assertSame(reusedProperties, copy.getProperties());
+    assertSame(reusedGraphIds, copy.getGraphIds());
+    assertGraphElementEquals(other, copy);
+  }
+
+  @Test
+  public void testEdge() throws IOException {
+    Edge edge = new EdgeFactory().initEdge(GradoopId.get(), "a", GradoopId.get(),
+      GradoopId.get(), Properties.createFromMap(SUPPORTED_PROPERTIES),
+      GradoopIdSet.fromExisting(GradoopId.get()));
+
+    Edge copy = serializeAndDeserialize(EdgeSerializer.INSTANCE, edge);
+    assertGraphElementEquals(edge, copy);
+    assertEquals(edge.getSourceId(), copy.getSourceId());
+    assertEquals(edge.getTargetId(), copy.getTargetId());
+  }
+
+  @Test
+  public void testEdgeWithSharedIdsAndReuse() throws IOException {
+    GradoopId vertexId = GradoopId.get();
+    Edge loop = new EdgeFactory().createEdge(vertexId, vertexId);
+    Edge edge = new EdgeFactory().createEdge(GradoopId.get(), GradoopId.get());
+
+    Edge copy = serializeAndDeserialize(EdgeSerializer.INSTANCE, edge, loop);
+    assertEquals(edge.getSourceId(), copy.getSourceId());
+    assertEquals(edge.getTargetId(), copy.getTargetId());
+  }
+
+  @Test
+  public void testGraphHead() throws IOException {
+    GraphHead graphHead = new GraphHeadFactory().createGraphHead("G",
+      Properties.createFromMap(SUPPORTED_PROPERTIES));
+
+    GraphHead copy = serializeAndDeserialize(GraphHeadSerializer.INSTANCE, graphHead);
+    assertElementEquals(graphHead, copy);
+  }
+
+  @Test
+  public void testNullFields() throws IOException {
+    Edge edge = new Edge();
+
+    Edge copy = serializeAndDeserialize(EdgeSerializer.INSTANCE, edge);
+    assertNull(copy.getId());
+    assertNull(copy.getLabel());
+    assertNull(copy.getProperties());
+    assertNull(copy.getGraphIds());
+    assertNull(copy.getSourceId());
+    assertNull(copy.getTargetId());
+
+    // null fields are reset on reuse
+    Edge reuse = new EdgeFactory().createEdge("a", GradoopId.get(), GradoopId.get(),
+      Properties.createFromMap(SUPPORTED_PROPERTIES), GradoopIdSet.fromExisting(GradoopId.get()));
+    copy = serializeAndDeserialize(EdgeSerializer.INSTANCE, edge, reuse);
+    assertNull(copy.getId());
+    assertNull(copy.getLabel());
+    assertNull(copy.getProperties());
+    assertNull(copy.getGraphIds());
+    assertNull(copy.getSourceId());
+    assertNull(copy.getTargetId());
+  }
+
+  @Test
+  public void testNullElement() throws IOException {
+    assertNull(serializeAndDeserialize(VertexSerializer.INSTANCE, null));
+    assertNull(serializeAndDeserialize(EdgeSerializer.INSTANCE, null, new Edge()));
+    assertNull(serializeAndDeserialize(GraphHeadSerializer.INSTANCE, null));
+    assertNull(EdgeSerializer.INSTANCE.copy(null));
+    assertNull(EdgeSerializer.INSTANCE.copy(null, new Edge()));
+  }
+
+  @Test
+  public void testCopy() throws IOException {
+    Edge edge = new EdgeFactory().createEdge("a", GradoopId.get(), GradoopId.get(),
+      Properties.createFromMap(SUPPORTED_PROPERTIES), GradoopIdSet.fromExisting(GradoopId.get()));
+
+    Edge copy = EdgeSerializer.INSTANCE.copy(edge);
+    assertNotSame(edge, copy);
+    assertNotSame(edge.getId(), copy.getId());
+    assertNotSame(edge.getProperties(), copy.getProperties());
+    assertNotSame(edge.getGraphIds(), copy.getGraphIds());
+    assertGraphElementEquals(edge, copy);
+    assertEquals(edge.getSourceId(), copy.getSourceId());
+    assertEquals(edge.getTargetId(), copy.getTargetId());
+  }
+
+  @Test
+  public void testCopySerialized() throws IOException {
+    Vertex vertex = new VertexFactory().createVertex("A",
+      Properties.createFromMap(SUPPORTED_PROPERTIES), GradoopIdSet.fromExisting(GradoopId.get()));
+    Edge edge = new EdgeFactory().createEdge("a", GradoopId.get(), GradoopId.get(),
+      Properties.createFromMap(SUPPORTED_PROPERTIES), GradoopIdSet.fromExisting(GradoopId.get()));
+
+    assertCopySerialized(VertexSerializer.INSTANCE, vertex);
+    assertCopySerialized(VertexSerializer.INSTANCE, new Vertex());
+    assertCopySerialized(EdgeSerializer.INSTANCE, edge);
+    assertCopySerialized(EdgeSerializer.INSTANCE, new Edge());
+    assertCopySerialized(GraphHeadSerializer.INSTANCE,
+      new GraphHeadFactory().createGraphHead("G"));
+  }
+
+  private static <T> T serializeAndDeserialize(TypeSerializer<T> serializer, T record)
+    throws IOException {
+    return serializeAndDeserialize(serializer, record, serializer.createInstance());
+  }
+
+  private static <T> T serializeAndDeserialize(TypeSerializer<T> serializer, T record, T reuse)
+    throws IOException {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(record, out);
+    DataInputDeserializer in = new DataInputDeserializer(out.getSharedBuffer(), 0, out.length());
+    T result = serializer.deserialize(reuse, in);
+    assertEquals("all bytes consumed", 0, in.available());
+    return result;
+  }
+
+  private static <T> void assertCopySerialized(TypeSerializer<T> serializer, T record)
+    throws IOException {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(record, out);
+    // append a marker to check that exactly one record is copied
+    out.writeInt(42);
+    byte[] serialized = out.getCopyOfBuffer();
+
+    DataInputDeserializer in = new DataInputDeserializer(serialized, 0, serialized.length);
+    ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    serializer.copy(in, new DataOutputViewStreamWrapper(copy));
+
+    assertEquals(42, in.readInt());
+    assertArrayEquals(Arrays.copyOf(serialized, serialized.length - 4), copy.toByteArray());
+  }
+
+  private static void assertElementEquals(Element expected, Element actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getLabel(), actual.getLabel());
+    assertEquals(expected.getProperties(), actual.getProperties());
+  }
+
+  private static void assertGraphElementEquals(Vertex expected, Vertex actual) {
+    assertElementEquals(expected, actual);
+    assertEquals(expected.getGraphIds(), actual.getGraphIds());
+  }
+
+  private static void assertGraphElementEquals(Edge expected, Edge actual) {
+    assertElementEquals(expected, actual);
+    assertEquals(expected.getGraphIds(), actual.getGraphIds());
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.operators.Keys;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.CompositeType;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class EPGMElementTypeInfoTest {
+
+  @Test
+  public void testTypeExtraction() {
+    ExecutionConfig config = new ExecutionConfig();
+
+    TypeInformation<Vertex> vertexType = TypeExtractor.getForClass(Vertex.class);
+    assertTrue(vertexType instanceof EPGMElementTypeInfo);
+    assertSame(VertexSerializer.INSTANCE, vertexType.createSerializer(config));
+
+    TypeInformation<Edge> edgeType = TypeExtractor.getForClass(Edge.class);
+    assertTrue(edgeType instanceof EPGMElementTypeInfo);
+    assertSame(EdgeSerializer.INSTANCE, edgeType.createSerializer(config));
+
+    TypeInformation<GraphHead> graphHeadType = TypeExtractor.getForClass(GraphHead.class);
+    assertTrue(graphHeadType instanceof EPGMElementTypeInfo);
+    assertSame(GraphHeadSerializer.INSTANCE, graphHeadType.createSerializer(config));
+
+    assertEquals(vertexType, TypeExtractor.getForClass(Vertex.class));
+    assertNotEquals(vertexType, edgeType);
+  }
+
+  @Test
+  public void testFieldExpressions() {
+    CompositeType<Edge> edgeType = (CompositeType<Edge>) TypeExtractor.getForClass(Edge.class);
+    assertTrue(edgeType.hasField("id"));
+    assertTrue(edgeType.hasField("sourceId"));
+    assertTrue(edgeType.hasField("graphIds"));
+    assertEquals(TypeExtractor.getForClass(GradoopId.class), edgeType.getTypeAt("targetId"));
+
+    ExecutionConfig config = new ExecutionConfig();
+    assertTrue(createComparator(edgeType, "id", config) instanceof EPGMElementIdComparator);
+    assertFalse(createComparator(edgeType, "sourceId", config) instanceof EPGMElementIdComparator);
+  }
+
+  @Test
+  public void testIdComparator() throws IOException {
+    Vertex smaller = new VertexFactory().createVertex("A");
+    Vertex larger = new VertexFactory().createVertex("B");
+    if (smaller.getId().compareTo(larger.getId()) > 0) {
+      Vertex tmp = smaller;
+      smaller = larger;
+      larger = tmp;
+    }
+
+    EPGMElementIdComparator<Vertex> comparator = new EPGMElementIdComparator<>(true);
+    assertTrue(comparator.compare(smaller, larger) < 0);
+    assertEquals(0, comparator.compare(smaller, VertexSerializer.INSTANCE.copy(smaller)));
+    assertTrue(compareSerialized(comparator, smaller, larger) < 0);
+    assertTrue(compareSerialized(comparator, larger, smaller) > 0);
+    assertEquals(0, compareSerialized(comparator, smaller, smaller));
+    assertTrue(compareNormalizedKeys(comparator, smaller, larger) < 0);
+
+    comparator.setReference(smaller);
+    assertTrue(comparator.equalToReference(VertexSerializer.INSTANCE.copy(smaller)));
+    assertFalse(comparator.equalToReference(larger));
+    EPGMElementIdComparator<Vertex> other = new EPGMElementIdComparator<>(true);
+    other.setReference(larger);
+    assertTrue(comparator.compareToReference(other) > 0);
+
+    EPGMElementIdComparator<Vertex> descending = new EPGMElementIdComparator<>(false);
+    assertTrue(descending.compare(smaller, larger) > 0);
+    assertTrue(compareSerialized(descending, smaller, larger) > 0);
+    assertTrue(descending.invertNormalizedKey());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> TypeComparator<T> createComparator(CompositeType<T> type, String field,
+    ExecutionConfig config) {
+    Keys.ExpressionKeys<T> keys = new Keys.ExpressionKeys<>(field, type);
+    return type.createComparator(keys.computeLogicalKeyPositions(), new boolean[] {true}, 0,
+      config);
+  }
+
+  private static int compareSerialized(EPGMElementIdComparator<Vertex> comparator, Vertex first,
+    Vertex second) throws IOException {
+    return comparator.compareSerialized(serialize(first), serialize(second));
+  }
+
+  private static DataInputDeserializer serialize(Vertex vertex) throws IOException {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    VertexSerializer.INSTANCE.serialize(vertex, out);
+    return new DataInputDeserializer(out.getSharedBuffer(), 0, out.length());
+  }
+
+  private static int compareNormalizedKeys(EPGMElementIdComparator<Vertex> comparator,
+    Vertex first, Vertex second) {
+    int length = comparator.getNormalizeKeyLen();
+    MemorySegment firstKey = MemorySegmentFactory.wrap(new byte[length]);
+    MemorySegment secondKey = MemorySegmentFactory.wrap(new byte[length]);
+    comparator.putNormalizedKey(first, firstKey, 0, length);
+    comparator.putNormalizedKey(second, secondKey, 0, length);
+    return firstKey.compare(secondKey, 0, 0, length);
+  }
+}
@@ -212,4 +212,43 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testWriteAndReadFieldsWithReuse() throws Exception {
+    Properties reuse = Properties.create();
+    reuse.set(KEY_1, BOOL_VAL_1);
+    reuse.set(KEY_2, INT_VAL_2);
+    reuse.set(KEY_3, PropertyValue.NULL_VALUE);
+    reuse.set("unknown", STRING_VAL_6);
+    PropertyValue reusedValue = reuse.get(KEY_2);
+
+    Properties propertiesIn = Properties.create();
+    propertiesIn.set(KEY_1, STRING_VAL_6);
+    propertiesIn.set(KEY_2, 42);
+    propertiesIn.set(KEY_3, LONG_VAL_3);
+
+    Properties propertiesOut = writeAndReadFields(propertiesIn, reuse);
+
+    assertEquals(propertiesIn, propertiesOut);
+    assertFalse("stale key found", propertiesOut.containsKey("unknown"));
+    assertSame("value was not reused", reusedValue, propertiesOut.get(KEY_2));
+    assertTrue("null value was modified", PropertyValue.NULL_VALUE.isNull());
+
+    propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    assertEquals(propertiesIn, writeAndReadFields(propertiesIn, propertiesOut));
+  }
+
+  @Test
+  public void testKeyOrder() {
+    Properties properties = Properties.create();
+    properties.set(KEY_3, INT_VAL_2);
+    properties.set(KEY_1, INT_VAL_2);
+    properties.set(KEY_2, INT_VAL_2);
+    properties.set(KEY_0, INT_VAL_2);
+    properties.remove(KEY_2);
+
+    assertEquals(Lists.newArrayList(KEY_0, KEY_1, KEY_3),
+      Lists.newArrayList(properties.getKeys()));
+  }
+}
@@ -16,6 +16,8 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.junit.Rule;
@@ -1038,6 +1040,88 @@ public class PropertyValueTest {
     create(SET_VAL_f).compareTo(create(SET_VAL_f));
   }
 
+  @Test
+  public void testCompareToMatchesObjectComparison() {
+    List<String> strings = Arrays.asList("", "a", "ab", "b", "\u00e4", "\u20ac",
+      "\uffe0", "\ud83d\ude00", "a\ud83d\ude00", "a\uffe0", "\uff00x");
+    for (String a : strings) {
+      for (String b : strings) {
+        assertEquals(Integer.signum(a.compareTo(b)),
+          Integer.signum(create(a).compareTo(create(b))));
+      }
+    }
+
+    List<LocalDate> dates = Arrays.asList(LocalDate.of(-5, 1, 1), LocalDate.of(1970, 1, 1),
+      LocalDate.of(1970, 2, 1), LocalDate.of(2018, 12, 31));
+    for (LocalDate a : dates) {
+      for (LocalDate b : dates) {
+        assertEquals(Integer.signum(a.compareTo(b)),
+          Integer.signum(create(a).compareTo(create(b))));
+      }
+    }
+
+    List<BigDecimal> decimals = Arrays.asList(new BigDecimal("-1000.5"), new BigDecimal("-129"),
+      new BigDecimal("-128"), new BigDecimal("-1"),
+      new BigDecimal("-0.01"), BigDecimal.ZERO, new BigDecimal("0.10"), new BigDecimal("127"),
+      new BigDecimal("128"), new BigDecimal("1E+30"));
+    for (BigDecimal a : decimals) {
+      for (BigDecimal b : decimals) {
+        assertEquals(Integer.signum(a.compareTo(b)),
+          Integer.signum(create(a).compareTo(create(b))));
+      }
+    }
+  }
+
+  @Test
+  public void testNormalizedKey() {
+    List<PropertyValue> values = Lists.newArrayList(
+      create(null), create(false), create(true),
+      create((short) -3), create((short) 0), create((short) 7),
+      create(-2), create(0), create(5), create(16777216), create(16777217),
+      create(Long.MIN_VALUE), create(-1L), create(0L), create(3L), create(9007199254740992L),
+      create(9007199254740993L), create(Long.MAX_VALUE),
+      create(Float.NEGATIVE_INFINITY), create(-1.5F), create(-0.0F), create(0.0F),
+      create(2.5F), create(16777216F), create(Float.NaN),
+      create(-1.5D), create(-0.0D), create(0.0D), create(9007199254740992D), create(Double.NaN),
+      create(new BigDecimal("-1000.5")), create(BigDecimal.ONE), create(new BigDecimal("1.00")),
+      create(new BigDecimal("1E+30")),
+      create(""), create("a"), create("ab"), create("b"), create("\ud83d\ude00"),
+      create("\uffe0"),
+      create(LocalDate.of(-1000, 6, 1)), create(LocalDate.of(2018, 6, 1)),
+      create(LocalDate.of(2018, 6, 2)),
+      create(LocalTime.of(10, 0)), create(LocalTime.of(10, 0, 1)),
+      create(LocalDateTime.of(2018, 6, 1, 10, 0)), create(LocalDateTime.of(2018, 6, 1, 10, 0, 0, 1)));
+
+    int keyLength = 32;
+    for (PropertyValue a : values) {
+      for (PropertyValue b : values) {
+        int keyResult = Integer.signum(compareNormalizedKeys(a, b, keyLength));
+        byte aType = a.getRawBytes()[0];
+        byte bType = b.getRawBytes()[0];
+        boolean numeric = isNumeric(aType) && isNumeric(bType);
+        if (aType != bType && !numeric) {
+          // other values of different types sort by type, numerical values share one type byte
+          byte aKeyType = isNumeric(aType) ? PropertyValue.TYPE_DOUBLE : aType;
+          byte bKeyType = isNumeric(bType) ? PropertyValue.TYPE_DOUBLE : bType;
+          assertEquals(Integer.signum(Byte.compare(aKeyType, bKeyType)), keyResult);
+        } else if (keyResult != 0) {
+          // differing keys have to agree with compareTo, also for mixed numerical types
+          if (aType == bType) {
+            assertEquals(a + " " + b, Integer.signum(a.compareTo(b)), keyResult);
+          } else if (!(isNonFinite(a) && bType == PropertyValue.TYPE_BIG_DECIMAL) &&
+            !(isNonFinite(b) && aType == PropertyValue.TYPE_BIG_DECIMAL)) {
+            // mixed types are compared at the precision of the wider type, which may tie
+            // values with different keys, e.g. 16777217 and 16777216F
+            assertNotEquals(a + " " + b, -keyResult, Integer.signum(a.compareTo(b)));
+          }
+        } else if (!numeric && aType != PropertyValue.TYPE_STRING) {
+          // fixed size values are fully contained in the key
+          assertEquals(a + " " + b, 0, a.compareTo(b));
+        }
+      }
+    }
+  }
+
   @Test
   public void testArrayValueMaxSize() {
     PropertyValue property = new PropertyValue();
@@ -1191,6 +1275,27 @@ public class PropertyValueTest {
     assertEquals(p, writeAndReadFields(PropertyValue.class, p));
   }
 
+  @Test
+  public void testWriteAndReadFieldsWithReuse() throws IOException {
+    PropertyValue reuse = new PropertyValue();
+    for (Object value : SUPPORTED_PROPERTIES.values()) {
+      PropertyValue p = create(value);
+      assertEquals(p, writeAndReadFields(p, reuse));
+    }
+  }
+
+  @Test
+  public void testReadReusesByteArrayOfSameSize() throws IOException {
+    PropertyValue reuse = create(LONG_VAL_3);
+    byte[] rawBytes = reuse.getRawBytes();
+
+    PropertyValue p = create(42L);
+    writeAndReadFields(p, reuse);
+
+    assertEquals(p, reuse);
+    assertSame(rawBytes, reuse.getRawBytes());
+  }
+
   @Test
   public void testGetType() {
     PropertyValue p = create(NULL_VAL_0);
@@ -1245,6 +1350,13 @@ public class PropertyValueTest {
   /**
    * Assumes that p1 == p2 < p3
    */
+  private int compareNormalizedKeys(PropertyValue a, PropertyValue b, int keyLength) {
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(2 * keyLength);
+    a.copyNormalizedKey(segment, 0, keyLength);
+    b.copyNormalizedKey(segment, keyLength, keyLength);
+    return segment.compare(segment, 0, keyLength, keyLength);
+  }
+
   private void validateCompareTo(PropertyValue p1, PropertyValue p2,
     PropertyValue p3) {
     assertTrue(p1.compareTo(p1) == 0);
@@ -1254,4 +1366,28 @@ public class PropertyValueTest {
     assertTrue(p3.compareTo(p1) > 0);
     assertTrue(p3.compareTo(p2) > 0);
   }
+
+  /**
+   * Checks if the given type is numerical.
+   *
+   * @param type type byte
+   * @return true, iff the type is numerical
+   */
+  private boolean isNumeric(byte type) {
+    return type == PropertyValue.TYPE_SHORT || type == PropertyValue.TYPE_INTEGER ||
+      type == PropertyValue.TYPE_LONG || type == PropertyValue.TYPE_FLOAT ||
+      type == PropertyValue.TYPE_DOUBLE || type == PropertyValue.TYPE_BIG_DECIMAL;
+  }
+
+  /**
+   * Checks if the given value is an infinite or NaN float or double, which can not be compared
+   * to big decimals.
+   *
+   * @param value property value
+   * @return true, iff the value is not finite
+   */
+  private boolean isNonFinite(PropertyValue value) {
+    return value.isFloat() && !Float.isFinite(value.getFloat()) ||
+      value.isDouble() && !Double.isFinite(value.getDouble());
+  }
 }
@@ -26,8 +26,11 @@ import org.gradoop.flink.io.api.DataSource;
 import org.gradoop.flink.io.impl.csv.indexed.IndexedCSVDataSource;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsHDFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.File;
@@ -59,6 +62,10 @@ public class CypherBenchmark extends AbstractRunner implements ProgramDescriptio
    * Option for used first name in query.
    */
   private static final String OPTION_FIRST_NAME = "n";
+  /**
+   * Option to disable the reduction of join inputs by semi joins
+   */
+  private static final String OPTION_NO_SEMI_JOIN = "j";
   /**
    * Used input path
    */
@@ -83,6 +90,10 @@ public class CypherBenchmark extends AbstractRunner implements ProgramDescriptio
    * Used first name for query (q1,q2,q3)
    */
   private static String FIRST_NAME;
+  /**
+   * Used to indicate if join inputs may be reduced by semi joins
+   */
+  private static boolean SEMI_JOIN_REDUCTION;
 
   static {
     OPTIONS.addOption(OPTION_INPUT_PATH, "input", true,
@@ -95,6 +106,8 @@ public class CypherBenchmark extends AbstractRunner implements ProgramDescriptio
       "Used first Name in Cypher Query");
     OPTIONS.addOption(OPTION_STATISTICS_PATH, "statistics", true,
       "Input path to previously generated statistics.");
+    OPTIONS.addOption(OPTION_NO_SEMI_JOIN, "no-semi-join", false,
+      "Disable the bloom filter based semi join reduction of join inputs.");
   }
 
   /**
@@ -130,14 +143,13 @@ public class CypherBenchmark extends AbstractRunner implements ProgramDescriptio
     String query = getQuery(QUERY);
 
     // execute cypher with or without statistics
-    if (HAS_STATISTICS) {
-      GraphStatistics statistics = GraphStatisticsHDFSReader
-        .read(STATISTICS_INPUT_PATH, new Configuration());
+    GraphStatistics statistics = HAS_STATISTICS ?
+      GraphStatisticsHDFSReader.read(STATISTICS_INPUT_PATH, new Configuration()) :
+      new GraphStatistics(1, 1, 1, 1);
 
-      collection = graph.query(query, statistics);
-    } else {
-      collection = graph.query(query);
-    }
+    collection = graph.callForCollection(new CypherPatternMatching(query, null, true,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, statistics, PlannerStrategy.GREEDY,
+      null, SEMI_JOIN_REDUCTION));
 
     // count embeddings
     System.out.println(collection.getGraphHeads().count());
@@ -176,6 +188,7 @@ public class CypherBenchmark extends AbstractRunner implements ProgramDescriptio
     HAS_STATISTICS = cmd.hasOption(OPTION_STATISTICS_PATH);
     STATISTICS_INPUT_PATH = cmd.getOptionValue(OPTION_STATISTICS_PATH);
     FIRST_NAME = cmd.getOptionValue(OPTION_FIRST_NAME);
+    SEMI_JOIN_REDUCTION = !cmd.hasOption(OPTION_NO_SEMI_JOIN);
   }
 
   /**
@@ -210,18 +223,20 @@ public class CypherBenchmark extends AbstractRunner implements ProgramDescriptio
    */
   private static void writeCSV(ExecutionEnvironment env) throws IOException {
 
-    String head = String.format("%s|%s|%s|%s|%s%n",
+    String head = String.format("%s|%s|%s|%s|%s|%s%n",
       "Parallelism",
       "dataset",
       "query",
       "usedStatistics",
+      "semiJoinReduction",
       "Runtime(s)");
 
-    String tail = String.format("%s|%s|%s|%s|%s%n",
+    String tail = String.format("%s|%s|%s|%s|%s|%s%n",
       env.getParallelism(),
       INPUT_PATH,
       QUERY,
       HAS_STATISTICS,
+      SEMI_JOIN_REDUCTION,
       env.getLastJobExecutionResult().getNetRuntime(TimeUnit.SECONDS));
 
     File f = new File(CSV_PATH);
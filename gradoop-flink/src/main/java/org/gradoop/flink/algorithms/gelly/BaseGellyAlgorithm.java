@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdge;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+
+/**
+ * Base class for Algorithms executed in Flink Gelly, holding the functions mapping Gradoop
+ * elements to Gelly elements.
+ *
+ * @param <K> Key type of the Gelly graph.
+ * @param <E> Value type for vertices.
+ * @param <F> Value type for edges.
+ */
+public abstract class BaseGellyAlgorithm<K, E, F> implements UnaryGraphToGraphOperator {
+
+  /**
+   * The graph used in {@link #execute(LogicalGraph)}.
+   */
+  protected LogicalGraph currentGraph;
+
+  /**
+   * Function mapping to edge to gelly edge.
+   */
+  private final EdgeToGellyEdge<F> toGellyEdge;
+
+  /**
+   * Function mapping vertex to gelly vertex.
+   */
+  private final VertexToGellyVertex<E> toGellyVertex;
+
+  /**
+   * Base constructor, only setting the mapper functions.
+   *
+   * @param vertexValue Function mapping vertices from Gradoop to Gelly.
+   * @param edgeValue   function mapping edges from Gradoop to Gelly.
+   */
+  protected BaseGellyAlgorithm(VertexToGellyVertex<E> vertexValue, EdgeToGellyEdge<F> edgeValue) {
+    this.toGellyVertex = vertexValue;
+    this.toGellyEdge = edgeValue;
+  }
+
+  protected EdgeToGellyEdge<F> getToGellyEdge() {
+    return toGellyEdge;
+  }
+
+  protected VertexToGellyVertex<E> getToGellyVertex() {
+    return toGellyVertex;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeSourceToDenseId;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeTargetToDenseId;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdge;
+import org.gradoop.flink.algorithms.gelly.functions.IndexToLongValue;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToDenseId;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToGellyVertex;
+import org.gradoop.flink.algorithms.gelly.functions.JoinWithIndexedVertex;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+
+/**
+ * Base class for Algorithms executed in Flink Gelly using dense {@code long} ids as key.
+ *
+ * Before the algorithm is executed, each vertex is assigned a consecutive id in {@code [0, |V|)}
+ * and the source and target ids of the edges are replaced accordingly. Iterative algorithms then
+ * ship and hash 8-byte instead of 12-byte keys in each superstep. The result is joined once with
+ * the indexed vertices, see {@link #joinWithVertices}. The indexed vertices are passed along
+ * instead of being stored in the operator.
+ *
+ * @param <E> Value type for vertices.
+ * @param <F> Value type for edges.
+ */
+public abstract class DenseIdGellyAlgorithm<E, F> extends BaseGellyAlgorithm<LongValue, E, F> {
+
+  /**
+   * Base constructor, only setting the mapper functions.
+   *
+   * @param vertexValue Function mapping vertices from Gradoop to Gelly.
+   * @param edgeValue   function mapping edges from Gradoop to Gelly.
+   */
+  protected DenseIdGellyAlgorithm(VertexToGellyVertex<E> vertexValue,
+    EdgeToGellyEdge<F> edgeValue) {
+    super(vertexValue, edgeValue);
+  }
+
+  @Override
+  public LogicalGraph execute(LogicalGraph graph) {
+    currentGraph = graph;
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices = indexVertices(graph);
+    try {
+      return executeInGelly(transformToGelly(graph, indexedVertices), indexedVertices);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Assigns a consecutive dense id to each vertex of the given graph.
+   *
+   * @param graph Gradoop Graph.
+   * @return (denseId, vertex)
+   */
+  protected DataSet<Tuple2<LongValue, Vertex>> indexVertices(LogicalGraph graph) {
+    return DataSetUtils.zipWithIndex(graph.getVertices())
+      .map(new IndexToLongValue<>());
+  }
+
+  /**
+   * Transformation from a Gradoop Graph to a Gelly Graph with dense {@code long} ids.
+   *
+   * @param graph Gradoop Graph.
+   * @param indexedVertices vertices of the graph with their dense id
+   * @return Gelly Graph.
+   */
+  protected Graph<LongValue, E, F> transformToGelly(LogicalGraph graph,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices) {
+    DataSet<Tuple2<GradoopId, LongValue>> denseIds = indexedVertices
+      .map(new IndexedVertexToDenseId());
+
+    DataSet<org.apache.flink.graph.Vertex<LongValue, E>> gellyVertices = indexedVertices
+      .map(new IndexedVertexToGellyVertex<>(getToGellyVertex()));
+
+    DataSet<Edge<LongValue, F>> gellyEdges = graph.getEdges()
+      .map(getToGellyEdge())
+      .join(denseIds)
+      .where(0).equalTo(0)
+      .with(new EdgeSourceToDenseId<>())
+      .join(denseIds)
+      .where(1).equalTo(0)
+      .with(new EdgeTargetToDenseId<>());
+
+    return Graph.fromDataSet(gellyVertices, gellyEdges,
+      graph.getConfig().getExecutionEnvironment());
+  }
+
+  /**
+   * Perform some operation in Gelly and transform the Gelly graph back to a Gradoop
+   * {@link LogicalGraph}.
+   *
+   * @param graph The Gelly graph.
+   * @param indexedVertices vertices of the Gradoop graph with their dense id
+   * @return The Gradoop graph.
+   */
+  protected abstract LogicalGraph executeInGelly(Graph<LongValue, E, F> graph,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices) throws Exception;
+
+  /**
+   * Joins the result of a Gelly algorithm with the vertices of the current graph.
+   *
+   * @param result algorithm result
+   * @param indexedVertices vertices of the current graph with their dense id
+   * @param resultKey selects the dense vertex id from a result
+   * @param joinFunction updates a vertex by its result
+   * @param <T> result type
+   * @return updated vertices
+   */
+  protected <T> DataSet<Vertex> joinWithVertices(DataSet<T> result,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices, KeySelector<T, LongValue> resultKey,
+    JoinFunction<T, Vertex, Vertex> joinFunction) {
+    return result
+      .join(indexedVertices)
+      .where(resultKey).equalTo(0)
+      .with(new JoinWithIndexedVertex<>(joinFunction));
+  }
+
+  /**
+   * Joins the result of a Gelly algorithm with the vertices of the current graph.
+   *
+   * @param result algorithm result
+   * @param indexedVertices vertices of the current graph with their dense id
+   * @param resultKeyField position of the dense vertex id in a result tuple
+   * @param joinFunction updates a vertex by its result
+   * @param <T> result type
+   * @return updated vertices
+   */
+  protected <T> DataSet<Vertex> joinWithVertices(DataSet<T> result,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices, int resultKeyField,
+    JoinFunction<T, Vertex, Vertex> joinFunction) {
+    return result
+      .join(indexedVertices)
+      .where(resultKeyField).equalTo(0)
+      .with(new JoinWithIndexedVertex<>(joinFunction));
+  }
+}
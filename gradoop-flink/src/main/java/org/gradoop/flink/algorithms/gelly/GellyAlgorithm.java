@@ -23,30 +23,17 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdge;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
 
 /**
- * Base class for Algorithms executed in Flink Gelly.
+ * Base class for Algorithms executed in Flink Gelly using the {@link GradoopId} of vertices as key.
+ *
+ * Algorithms that do not depend on a specific vertex id should use
+ * {@link DenseIdGellyAlgorithm} instead.
  *
  * @param <E> Value type for vertices.
  * @param <F> Value type for edges.
  */
-public abstract class GellyAlgorithm<E, F> implements UnaryGraphToGraphOperator {
-
-  /**
-   * The graph used in {@link GellyAlgorithm#execute(LogicalGraph)}.
-   */
-  protected LogicalGraph currentGraph;
-
-  /**
-   * Function mapping to edge to gelly edge.
-   */
-  private final EdgeToGellyEdge<F> toGellyEdge;
-
-  /**
-   * Function mapping vertex to gelly vertex.
-   */
-  private final VertexToGellyVertex<E> toGellyVertex;
+public abstract class GellyAlgorithm<E, F> extends BaseGellyAlgorithm<GradoopId, E, F> {
 
   /**
    * Base constructor, only setting the mapper functions.
@@ -55,8 +42,7 @@ public abstract class GellyAlgorithm<E, F> implements UnaryGraphToGraphOperator
    * @param edgeValue   function mapping edges from Gradoop to Gelly.
    */
   protected GellyAlgorithm(VertexToGellyVertex<E> vertexValue, EdgeToGellyEdge<F> edgeValue) {
-    this.toGellyVertex = vertexValue;
-    this.toGellyEdge = edgeValue;
+    super(vertexValue, edgeValue);
   }
 
   @Override
@@ -76,8 +62,8 @@ public abstract class GellyAlgorithm<E, F> implements UnaryGraphToGraphOperator
    * @return Gelly Graph.
    */
   protected Graph<GradoopId, E, F> transformToGelly(LogicalGraph graph) {
-    DataSet<Vertex<GradoopId, E>> gellyVertices = graph.getVertices().map(toGellyVertex);
-    DataSet<Edge<GradoopId, F>> gellyEdges = graph.getEdges().map(toGellyEdge);
+    DataSet<Vertex<GradoopId, E>> gellyVertices = graph.getVertices().map(getToGellyVertex());
+    DataSet<Edge<GradoopId, F>> gellyEdges = graph.getEdges().map(getToGellyEdge());
     return Graph.fromDataSet(gellyVertices, gellyEdges,
       graph.getConfig().getExecutionEnvironment());
   }
@@ -16,23 +16,24 @@
 package org.gradoop.flink.algorithms.gelly.connectedcomponents;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.DenseIdGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.connectedcomponents.functions.ConnectedComponentToAttribute;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithGradoopId;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.ConnectedComponents}.
  * The result will be the same {@link LogicalGraph} with a component id assigned to each vertex
  * as a Property.
  */
-public class AnnotateWeaklyConnectedComponents extends GellyAlgorithm<GradoopId, NullValue> {
+public class AnnotateWeaklyConnectedComponents extends DenseIdGellyAlgorithm<GradoopId, NullValue> {
 
   /**
    * Property key to store the component id in.
@@ -57,15 +58,14 @@ public class AnnotateWeaklyConnectedComponents extends GellyAlgorithm<GradoopId,
   }
 
   @Override
-  protected LogicalGraph executeInGelly(Graph<GradoopId, GradoopId, NullValue> graph)
-    throws Exception {
-    DataSet<Vertex> newVertices = new org.apache.flink.graph.library.ConnectedComponents<GradoopId,
-      GradoopId, NullValue>(maxIterations)
-      .run(graph)
-      .join(currentGraph.getVertices())
-      .where(0)
-      .equalTo(new Id<>())
-      .with(new ConnectedComponentToAttribute(propertyKey));
+  protected LogicalGraph executeInGelly(Graph<LongValue, GradoopId, NullValue> graph,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices) throws Exception {
+    DataSet<Vertex> newVertices = joinWithVertices(
+      new org.apache.flink.graph.library.ConnectedComponents<LongValue, GradoopId, NullValue>(
+        maxIterations).run(graph),
+      indexedVertices,
+      0,
+      new ConnectedComponentToAttribute(propertyKey));
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
   }
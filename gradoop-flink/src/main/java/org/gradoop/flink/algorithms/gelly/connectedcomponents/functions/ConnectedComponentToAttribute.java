@@ -16,6 +16,7 @@
 package org.gradoop.flink.algorithms.gelly.connectedcomponents.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 
@@ -24,7 +25,7 @@ import org.gradoop.common.model.impl.pojo.Vertex;
  * in the vertex.
  */
 public class ConnectedComponentToAttribute
-  implements JoinFunction<org.apache.flink.graph.Vertex<GradoopId, GradoopId>, Vertex, Vertex> {
+  implements JoinFunction<org.apache.flink.graph.Vertex<LongValue, GradoopId>, Vertex, Vertex> {
 
   /**
    * Property to store the component id in.
@@ -41,7 +42,7 @@ public class ConnectedComponentToAttribute
   }
 
   @Override
-  public Vertex join(org.apache.flink.graph.Vertex<GradoopId, GradoopId> gellyVertex,
+  public Vertex join(org.apache.flink.graph.Vertex<LongValue, GradoopId> gellyVertex,
     Vertex gradoopVertex) {
     gradoopVertex.setProperty(componentProperty, gellyVertex.getValue());
     return gradoopVertex;
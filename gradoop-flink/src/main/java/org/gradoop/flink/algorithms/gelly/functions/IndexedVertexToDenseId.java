@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * (denseId, vertex) => (vertexId, denseId)
+ */
+@FunctionAnnotation.ForwardedFields("f0->f1;f1.id->f0")
+public class IndexedVertexToDenseId
+  implements MapFunction<Tuple2<LongValue, Vertex>, Tuple2<GradoopId, LongValue>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, LongValue> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<GradoopId, LongValue> map(Tuple2<LongValue, Vertex> indexedVertex) {
+    reuseTuple.f0 = indexedVertex.f1.getId();
+    reuseTuple.f1 = indexedVertex.f0;
+    return reuseTuple;
+  }
+}
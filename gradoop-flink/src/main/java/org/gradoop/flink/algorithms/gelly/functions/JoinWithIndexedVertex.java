@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Applies the given join function to an algorithm result and the EPGM vertex of an indexed vertex.
+ *
+ * (result, (denseId, vertex)) => joinFunction(result, vertex)
+ *
+ * @param <T> result type
+ */
+public class JoinWithIndexedVertex<T>
+  implements JoinFunction<T, Tuple2<LongValue, Vertex>, Vertex> {
+
+  /**
+   * Updates a vertex by its result.
+   */
+  private final JoinFunction<T, Vertex, Vertex> joinFunction;
+
+  /**
+   * Constructor.
+   *
+   * @param joinFunction updates a vertex by its result
+   */
+  public JoinWithIndexedVertex(JoinFunction<T, Vertex, Vertex> joinFunction) {
+    this.joinFunction = joinFunction;
+  }
+
+  @Override
+  public Vertex join(T result, Tuple2<LongValue, Vertex> indexedVertex) throws Exception {
+    return joinFunction.join(result, indexedVertex.f1);
+  }
+}
@@ -16,17 +16,17 @@
 package org.gradoop.flink.algorithms.gelly.hits;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.DenseIdGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.hits.functions.HITSToAttributes;
 import org.gradoop.flink.algorithms.gelly.hits.functions.HitsResultKeySelector;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.linkanalysis.HITS}
@@ -36,7 +36,7 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
  * <p>
  * The Results are stored as properties of the vertices (with given keys).
  */
-public class HITS extends GellyAlgorithm<NullValue, NullValue> {
+public class HITS extends DenseIdGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to store the authority score.
@@ -51,7 +51,7 @@ public class HITS extends GellyAlgorithm<NullValue, NullValue> {
   /**
    * Gelly HITS implementation
    */
-  private org.apache.flink.graph.library.linkanalysis.HITS<GradoopId, NullValue, NullValue> hits;
+  private org.apache.flink.graph.library.linkanalysis.HITS<LongValue, NullValue, NullValue> hits;
 
   /**
    * HITS with fixed number of iterations
@@ -102,13 +102,11 @@ public class HITS extends GellyAlgorithm<NullValue, NullValue> {
 
 
   @Override
-  protected LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
-    throws Exception {
+  protected LogicalGraph executeInGelly(Graph<LongValue, NullValue, NullValue> graph,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices) throws Exception {
 
-    DataSet<Vertex> newVertices = hits.runInternal(graph)
-      .join(currentGraph.getVertices())
-      .where(new HitsResultKeySelector()).equalTo(new Id<>())
-      .with(new HITSToAttributes(authorityPropertyKey, hubPropertyKey));
+    DataSet<Vertex> newVertices = joinWithVertices(hits.runInternal(graph), indexedVertices,
+      new HitsResultKeySelector(), new HITSToAttributes(authorityPropertyKey, hubPropertyKey));
 
     return currentGraph.getConfig().getLogicalGraphFactory()
       .fromDataSets(newVertices, currentGraph.getEdges());
@@ -17,14 +17,14 @@ package org.gradoop.flink.algorithms.gelly.hits.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.graph.library.linkanalysis.HITS;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
  * Stores HITS Results as Properties of a Vertex
  */
-public class HITSToAttributes implements JoinFunction<HITS.Result<GradoopId>, Vertex, Vertex> {
+public class HITSToAttributes implements JoinFunction<HITS.Result<LongValue>, Vertex, Vertex> {
 
   /**
    * Property Key to store the authority score
@@ -45,7 +45,7 @@ public class HITSToAttributes implements JoinFunction<HITS.Result<GradoopId>, Ve
   }
 
   @Override
-  public Vertex join(HITS.Result<GradoopId> result, Vertex vertex) throws Exception {
+  public Vertex join(HITS.Result<LongValue> result, Vertex vertex) throws Exception {
     vertex.setProperty(authorityPropertyKey,
       PropertyValue.create(result.getAuthorityScore().getValue()));
     vertex.setProperty(hubPropertyKey, PropertyValue.create(result.getHubScore().getValue()));
@@ -17,24 +17,24 @@ package org.gradoop.flink.algorithms.gelly.hits.functions;
 
 import org.apache.flink.api.java.functions.KeySelector;
 import org.apache.flink.graph.library.linkanalysis.HITS;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.apache.flink.types.LongValue;
 
 /**
  * Key selector for HITS.Result
  */
 public class HitsResultKeySelector
-  implements KeySelector<org.apache.flink.graph.library.linkanalysis.HITS.Result<GradoopId>,
-  GradoopId> {
+  implements KeySelector<org.apache.flink.graph.library.linkanalysis.HITS.Result<LongValue>,
+  LongValue> {
 
   /**
-   * Selects GradoopId as key
+   * Selects the vertex id as key
    *
    * @param gradoopIdResult HITS Algorithm result
    * @return selects gradoop id
    * @throws Exception
    */
   @Override
-  public GradoopId getKey(HITS.Result<GradoopId> gradoopIdResult) throws Exception {
+  public LongValue getKey(HITS.Result<LongValue> gradoopIdResult) throws Exception {
     return gradoopIdResult.getVertexId0();
   }
 }
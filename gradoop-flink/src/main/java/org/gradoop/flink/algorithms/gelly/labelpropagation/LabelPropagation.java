@@ -16,17 +16,17 @@
 package org.gradoop.flink.algorithms.gelly.labelpropagation;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
-import org.gradoop.flink.algorithms.gelly.GellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.DenseIdGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithPropertyValue;
 import org.gradoop.flink.algorithms.gelly.labelpropagation.functions.LPVertexJoin;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -43,7 +43,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  *
  * The computation will terminate if no new values are assigned.
  */
-public abstract class LabelPropagation extends GellyAlgorithm<PropertyValue, NullValue> {
+public abstract class LabelPropagation extends DenseIdGellyAlgorithm<PropertyValue, NullValue> {
 
   /**
    * Counter to define maximum number of iterations for the algorithm
@@ -72,11 +72,10 @@ public abstract class LabelPropagation extends GellyAlgorithm<PropertyValue, Nul
    * {@inheritDoc}
    */
   @Override
-  protected LogicalGraph executeInGelly(Graph<GradoopId, PropertyValue, NullValue> graph) {
-    DataSet<Vertex> labeledVertices = executeInternal(graph)
-      .join(currentGraph.getVertices())
-      .where(0).equalTo(new Id<>())
-      .with(new LPVertexJoin(propertyKey));
+  protected LogicalGraph executeInGelly(Graph<LongValue, PropertyValue, NullValue> graph,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices) {
+    DataSet<Vertex> labeledVertices = joinWithVertices(executeInternal(graph), indexedVertices, 0,
+      new LPVertexJoin(propertyKey));
 
     // return labeled graph
     return currentGraph.getConfig().getLogicalGraphFactory()
@@ -89,8 +88,8 @@ public abstract class LabelPropagation extends GellyAlgorithm<PropertyValue, Nul
    * @param gellyGraph gelly graph with initialized vertices
    * @return updated vertex set
    */
-  protected abstract DataSet<org.apache.flink.graph.Vertex<GradoopId, PropertyValue>>
-  executeInternal(Graph<GradoopId, PropertyValue, NullValue> gellyGraph);
+  protected abstract DataSet<org.apache.flink.graph.Vertex<LongValue, PropertyValue>>
+  executeInternal(Graph<LongValue, PropertyValue, NullValue> gellyGraph);
 
   /**
    * Returns the maximum number of iterations the algorithm is executed.
@@ -19,7 +19,7 @@ import org.apache.flink.graph.Vertex;
 import org.apache.flink.graph.spargel.GatherFunction;
 import org.apache.flink.graph.spargel.MessageIterator;
 import org.apache.flink.hadoop.shaded.com.google.common.collect.Lists;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import java.util.Collections;
@@ -30,7 +30,7 @@ import java.util.List;
  * all incoming values.
  */
 public class LPUpdateFunction
-  extends GatherFunction<GradoopId, PropertyValue, PropertyValue> {
+  extends GatherFunction<LongValue, PropertyValue, PropertyValue> {
   /**
    * Updates the vertex value if it has changed.
    *
@@ -39,7 +39,7 @@ public class LPUpdateFunction
    * @throws Exception
    */
   @Override
-  public void updateVertex(Vertex<GradoopId, PropertyValue> vertex,
+  public void updateVertex(Vertex<LongValue, PropertyValue> vertex,
     MessageIterator<PropertyValue> msg) throws Exception {
     PropertyValue value = getNewValue(vertex,
       Lists.newArrayList(msg.iterator()));
@@ -64,7 +64,7 @@ public class LPUpdateFunction
    * @param allMessages all received messages
    * @return most frequent value below all messages
    */
-  private PropertyValue getNewValue(Vertex<GradoopId, PropertyValue> vertex,
+  private PropertyValue getNewValue(Vertex<LongValue, PropertyValue> vertex,
     List<PropertyValue> allMessages) {
 
     Collections.sort(allMessages);
@@ -17,7 +17,7 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
@@ -27,7 +27,7 @@ import org.gradoop.common.model.impl.properties.PropertyValue;
 @FunctionAnnotation.ForwardedFieldsSecond("id;label;graphIds")
 @FunctionAnnotation.ReadFieldsFirst("f1")
 public class LPVertexJoin implements JoinFunction
-  <org.apache.flink.graph.Vertex<GradoopId, PropertyValue>, Vertex, Vertex> {
+  <org.apache.flink.graph.Vertex<LongValue, PropertyValue>, Vertex, Vertex> {
 
   /**
    * Property key to access the value which will be propagated
@@ -45,7 +45,7 @@ public class LPVertexJoin implements JoinFunction
 
   @Override
   public Vertex join(
-    org.apache.flink.graph.Vertex<GradoopId, PropertyValue> gellyVertex,
+    org.apache.flink.graph.Vertex<LongValue, PropertyValue> gellyVertex,
     Vertex epgmVertex) throws Exception {
     epgmVertex.setProperty(propertyKey, gellyVertex.getValue());
     return epgmVertex;
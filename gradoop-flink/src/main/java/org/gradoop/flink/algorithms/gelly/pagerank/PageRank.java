@@ -16,22 +16,22 @@
 package org.gradoop.flink.algorithms.gelly.pagerank;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.DenseIdGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
-import org.gradoop.flink.algorithms.gelly.pagerank.functions.PageRankToAttribute;
 import org.gradoop.flink.algorithms.gelly.pagerank.functions.PageRankResultKey;
+import org.gradoop.flink.algorithms.gelly.pagerank.functions.PageRankToAttribute;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.library.linkanalysis.PageRank}.
  */
-public class PageRank extends GellyAlgorithm<NullValue, NullValue> {
+public class PageRank extends DenseIdGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to store the page rank in.
@@ -63,16 +63,15 @@ public class PageRank extends GellyAlgorithm<NullValue, NullValue> {
   }
 
   @Override
-  protected LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
-    throws Exception {
-    DataSet<Vertex> newVertices =
-      new org.apache.flink.graph.library.linkanalysis.PageRank<GradoopId, NullValue, NullValue>(
+  protected LogicalGraph executeInGelly(Graph<LongValue, NullValue, NullValue> graph,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices) throws Exception {
+    DataSet<Vertex> newVertices = joinWithVertices(
+      new org.apache.flink.graph.library.linkanalysis.PageRank<LongValue, NullValue, NullValue>(
         dampingFactor, iterations)
-      .run(graph)
-      .join(currentGraph.getVertices())
-      .where(new PageRankResultKey())
-      .equalTo(new Id<>())
-      .with(new PageRankToAttribute(propertyKey));
+      .run(graph),
+      indexedVertices,
+      new PageRankResultKey(),
+      new PageRankToAttribute(propertyKey));
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
   }
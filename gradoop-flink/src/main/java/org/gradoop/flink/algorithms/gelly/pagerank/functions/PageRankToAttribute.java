@@ -18,7 +18,7 @@ package org.gradoop.flink.algorithms.gelly.pagerank.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.graph.library.linkanalysis.PageRank;
-import org.gradoop.common.model.impl.id.GradoopId;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
@@ -26,7 +26,7 @@ import org.gradoop.common.model.impl.properties.PropertyValue;
  * Stores the page rank result from the left as a Property in in the right.
  */
 public class PageRankToAttribute
-  implements JoinFunction<PageRank.Result<GradoopId>, Vertex, Vertex> {
+  implements JoinFunction<PageRank.Result<LongValue>, Vertex, Vertex> {
 
   /**
    * Property to store the page rank in.
@@ -16,16 +16,16 @@
 package org.gradoop.flink.algorithms.gelly.vertexdegrees;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.gelly.GellyAlgorithm;
+import org.gradoop.flink.algorithms.gelly.DenseIdGellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
 import org.gradoop.flink.algorithms.gelly.vertexdegrees.functions.DistinctVertexDegreesToAttribute;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
-import org.gradoop.flink.model.impl.functions.epgm.Id;
 
 /**
  * A gradoop operator wrapping {@link org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees}.
@@ -34,7 +34,7 @@ import org.gradoop.flink.model.impl.functions.epgm.Id;
  * Note: This Gelly implementation count loops between edges like (v1) -> (v2),
  * (v2) -> (v1) as one.
  */
-public class DistinctVertexDegrees extends GellyAlgorithm<NullValue, NullValue> {
+public class DistinctVertexDegrees extends DenseIdGellyAlgorithm<NullValue, NullValue> {
 
   /**
    * Property key to store the sum vertex degree in.
@@ -85,16 +85,16 @@ public class DistinctVertexDegrees extends GellyAlgorithm<NullValue, NullValue>
   }
 
   @Override
-  protected LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
-    throws Exception {
-    DataSet<Vertex> newVertices =
-      new org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees<GradoopId, NullValue,
+  protected LogicalGraph executeInGelly(Graph<LongValue, NullValue, NullValue> graph,
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices) throws Exception {
+    DataSet<Vertex> newVertices = joinWithVertices(
+      new org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees<LongValue, NullValue,
       NullValue>()
       .setIncludeZeroDegreeVertices(includeZeroDegreeVertices)
-      .run(graph)
-      .join(currentGraph.getVertices())
-      .where(0).equalTo(new Id<>())
-      .with(new DistinctVertexDegreesToAttribute(propertyKey, propertyKeyIn, propertyKeyOut));
+      .run(graph),
+      indexedVertices,
+      0,
+      new DistinctVertexDegreesToAttribute(propertyKey, propertyKeyIn, propertyKeyOut));
 
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
@@ -22,6 +22,7 @@ import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
@@ -128,4 +129,16 @@ public class MetaData {
   public List<PropertyMetaData> getPropertyMetaData(String type, String label) {
     return metaData.getOrDefault(new Tuple2<>(type, label), new ArrayList<>());
   }
+
+  /**
+   * Returns a dictionary containing all vertex and edge labels. The dictionary can be used to
+   * represent labels as small integers, e.g. for grouping.
+   *
+   * @return label dictionary
+   */
+  public LabelDictionary getLabelDictionary() {
+    Set<String> labels = getVertexLabels();
+    labels.addAll(getEdgeLabels());
+    return LabelDictionary.fromLabels(labels);
+  }
 }
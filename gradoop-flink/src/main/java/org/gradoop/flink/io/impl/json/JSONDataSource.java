@@ -18,7 +18,6 @@ package org.gradoop.flink.io.impl.json;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -78,14 +77,11 @@ public class JSONDataSource extends JSONBase implements DataSource {
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
     // used for type hinting when loading vertex data
-    TypeInformation<Vertex> vertexTypeInfo = TypeExtractor
-      .createTypeInfo(getConfig().getVertexFactory().getType());
+    TypeInformation<Vertex> vertexTypeInfo = getConfig().getVertexTypeInfo();
     // used for type hinting when loading edge data
-    TypeInformation<Edge> edgeTypeInfo = TypeExtractor
-      .createTypeInfo(getConfig().getEdgeFactory().getType());
+    TypeInformation<Edge> edgeTypeInfo = getConfig().getEdgeTypeInfo();
     // used for type hinting when loading graph data
-    TypeInformation<GraphHead> graphTypeInfo = TypeExtractor
-      .createTypeInfo(getConfig().getGraphHeadFactory().getType());
+    TypeInformation<GraphHead> graphTypeInfo = getConfig().getGraphHeadTypeInfo();
 
     // read vertex, edge and graph data
     DataSet<Vertex> vertices = env.readTextFile(getVertexPath())
@@ -26,19 +26,23 @@ import org.gradoop.flink.model.impl.operators.statistics.DistinctSourceIdsByEdge
 import org.gradoop.flink.model.impl.operators.statistics.DistinctTargetIdsByEdgeLabel;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctVertexProperties;
 import org.gradoop.flink.model.impl.operators.statistics.EdgeLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.EdgeMostCommonPropertyValuesByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.IncomingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.OutgoingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.VertexMostCommonPropertyValuesByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctEdgePropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctSourceVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctTargetVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctVertexPropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.EdgeCountPreparer;
+import org.gradoop.flink.model.impl.operators.statistics.writer.EdgePropertyHistogramsByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.SourceAndEdgeLabelDistributionPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.StatisticWriter;
 import org.gradoop.flink.model.impl.operators.statistics.writer.TargetAndEdgeLabelDistributionPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.VertexCountPreparer;
+import org.gradoop.flink.model.impl.operators.statistics.writer.VertexPropertyHistogramsByLabelPreparer;
 
 /**
  * Estimates all graph statistics containing in {@link org.gradoop.flink.model.impl.operators.statistics.writer}.
@@ -134,6 +138,22 @@ public class GraphStatisticsDataSink implements DataSink {
         .execute(logicalGraph),
         appendSeparator(this.path) +
         GraphStatisticsReader.OUTGOING_VERTEX_DEGREE_DISTRIBUTION);
+    StatisticWriter.writeCSV(new EdgePropertyHistogramsByLabelPreparer()
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL);
+    StatisticWriter.writeCSV(new VertexPropertyHistogramsByLabelPreparer()
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL);
+    StatisticWriter.writeCSV(new EdgeMostCommonPropertyValuesByLabel()
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL);
+    StatisticWriter.writeCSV(new VertexMostCommonPropertyValuesByLabel()
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL);
   }
 
   @Override
@@ -118,6 +118,11 @@ public class GraphCollection implements GraphCollectionOperators, GraphCollectio
     return layout.isIndexedGVELayout();
   }
 
+  @Override
+  public boolean isColumnarLayout() {
+    return layout.isColumnarLayout();
+  }
+
   @Override
   public boolean isTransactionalLayout() {
     return layout.isTransactionalLayout();
@@ -121,6 +121,11 @@ public class LogicalGraph implements LogicalGraphLayout, LogicalGraphOperators {
     return layout.isIndexedGVELayout();
   }
 
+  @Override
+  public boolean isColumnarLayout() {
+    return layout.isColumnarLayout();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -133,6 +138,17 @@ public class LogicalGraph implements LogicalGraphLayout, LogicalGraphOperators {
     return config;
   }
 
+  /**
+   * Returns the layout representing this graph. Operators may use it to access a layout specific
+   * representation, e.g. the columns of a
+   * {@link org.gradoop.flink.model.impl.layouts.columnar.ColumnarLayout}.
+   *
+   * @return graph layout
+   */
+  public LogicalGraphLayout getLayout() {
+    return layout;
+  }
+
   @Override
   public DataSet<Vertex> getVertices() {
     return layout.getVertices();
@@ -39,6 +39,13 @@ public interface GraphCollectionLayout extends Layout {
    */
   boolean isIndexedGVELayout();
 
+  /**
+   * True, if the layout stores ids, labels and properties of vertices and edges column-wise.
+   *
+   * @return true, iff layout is based on column blocks
+   */
+  boolean isColumnarLayout();
+
   /**
    * True, if the layout is based on a transactional data representation.
    *
@@ -38,6 +38,13 @@ public interface LogicalGraphLayout extends Layout {
    */
   boolean isIndexedGVELayout();
 
+  /**
+   * True, if the layout stores ids, labels and properties of vertices and edges column-wise.
+   *
+   * @return true, iff layout is based on column blocks
+   */
+  boolean isColumnarLayout();
+
   /**
    * Returns a dataset containing a single graph head associated with that
    * logical graph.
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.EdgesToBlocks;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.PropertyBlocks;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.VerticesToBlocks;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.EdgeBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.VertexBlock;
+import org.gradoop.flink.model.impl.layouts.common.BaseFactory;
+
+import java.util.Objects;
+
+/**
+ * Base class for columnar layout factories.
+ */
+abstract class ColumnarBaseFactory extends BaseFactory {
+
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Constructor
+   *
+   * @param blockSize maximum number of elements per block
+   */
+  ColumnarBaseFactory(int blockSize) {
+    this.blockSize = blockSize;
+  }
+
+  /**
+   * Creates a columnar layout from the given datasets.
+   *
+   * @param graphHeads GraphHead DataSet
+   * @param vertices Vertex DataSet
+   * @param edges Edge DataSet
+   * @return columnar layout
+   */
+  ColumnarLayout create(DataSet<GraphHead> graphHeads, DataSet<Vertex> vertices,
+    DataSet<Edge> edges) {
+    Objects.requireNonNull(graphHeads, "GraphHead DataSet was null");
+    Objects.requireNonNull(vertices, "Vertex DataSet was null");
+    Objects.requireNonNull(edges, "Edge DataSet was null");
+
+    DataSet<Tuple2<VertexBlock, PropertyBlock[]>> vertexBlocks = vertices
+      .mapPartition(new VerticesToBlocks(blockSize));
+
+    DataSet<Tuple2<EdgeBlock, PropertyBlock[]>> edgeBlocks = edges
+      .mapPartition(new EdgesToBlocks(blockSize));
+
+    return new ColumnarLayout(graphHeads,
+      vertexBlocks.map(new Value0Of2<>()),
+      vertexBlocks.flatMap(new PropertyBlocks<>()),
+      edgeBlocks.map(new Value0Of2<>()),
+      edgeBlocks.flatMap(new PropertyBlocks<>()),
+      getConfig());
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.layouts.GraphCollectionLayout;
+import org.gradoop.flink.model.api.layouts.GraphCollectionLayoutFactory;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.impl.layouts.gve.GVECollectionLayoutFactory;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Responsible for creating a {@link ColumnarLayout} from given data. The data is first arranged
+ * by a {@link GVECollectionLayoutFactory} and then split into columns.
+ */
+public class ColumnarCollectionLayoutFactory extends ColumnarBaseFactory
+  implements GraphCollectionLayoutFactory {
+
+  /**
+   * Arranges the data before it is split into columns.
+   */
+  private final GVECollectionLayoutFactory gveFactory = new GVECollectionLayoutFactory();
+
+  /**
+   * Creates a factory using the default block size.
+   */
+  public ColumnarCollectionLayoutFactory() {
+    this(ColumnarLayout.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a factory using the given block size.
+   *
+   * @param blockSize maximum number of elements per block
+   */
+  public ColumnarCollectionLayoutFactory(int blockSize) {
+    super(blockSize);
+  }
+
+  @Override
+  public void setGradoopFlinkConfig(GradoopFlinkConfig config) {
+    super.setGradoopFlinkConfig(config);
+    gveFactory.setGradoopFlinkConfig(config);
+  }
+
+  @Override
+  public GraphCollectionLayout fromDataSets(DataSet<GraphHead> graphHeads,
+    DataSet<Vertex> vertices) {
+    return create(gveFactory.fromDataSets(graphHeads, vertices));
+  }
+
+  @Override
+  public GraphCollectionLayout fromDataSets(DataSet<GraphHead> graphHeads, DataSet<Vertex> vertices,
+    DataSet<Edge> edges) {
+    return create(graphHeads, vertices, edges);
+  }
+
+  @Override
+  public GraphCollectionLayout fromIndexedDataSets(Map<String, DataSet<GraphHead>> graphHeads,
+    Map<String, DataSet<Vertex>> vertices, Map<String, DataSet<Edge>> edges) {
+    return create(gveFactory.fromIndexedDataSets(graphHeads, vertices, edges));
+  }
+
+  @Override
+  public GraphCollectionLayout fromCollections(Collection<GraphHead> graphHeads,
+    Collection<Vertex> vertices, Collection<Edge> edges) {
+    return create(gveFactory.fromCollections(graphHeads, vertices, edges));
+  }
+
+  @Override
+  public GraphCollectionLayout fromGraphLayout(LogicalGraphLayout graph) {
+    return create(graph.getGraphHead(), graph.getVertices(), graph.getEdges());
+  }
+
+  @Override
+  public GraphCollectionLayout fromTransactions(DataSet<GraphTransaction> transactions) {
+    return create(gveFactory.fromTransactions(transactions));
+  }
+
+  @Override
+  public GraphCollectionLayout fromTransactions(DataSet<GraphTransaction> transactions,
+    GroupReduceFunction<Vertex, Vertex> vertexMergeReducer,
+    GroupReduceFunction<Edge, Edge> edgeMergeReducer) {
+    return create(gveFactory.fromTransactions(transactions, vertexMergeReducer, edgeMergeReducer));
+  }
+
+  @Override
+  public GraphCollectionLayout createEmptyCollection() {
+    return create(gveFactory.createEmptyCollection());
+  }
+
+  /**
+   * Splits the given layout into columns.
+   *
+   * @param layout graph collection layout
+   * @return columnar layout
+   */
+  private ColumnarLayout create(GraphCollectionLayout layout) {
+    return create(layout.getGraphHeads(), layout.getVertices(), layout.getEdges());
+  }
+}
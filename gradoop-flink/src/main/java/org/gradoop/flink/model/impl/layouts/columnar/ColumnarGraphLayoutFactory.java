@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayoutFactory;
+import org.gradoop.flink.model.impl.layouts.gve.GVEGraphLayoutFactory;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Responsible for creating a {@link ColumnarLayout} from given data. The data is first arranged
+ * by a {@link GVEGraphLayoutFactory} and then split into columns.
+ */
+public class ColumnarGraphLayoutFactory extends ColumnarBaseFactory
+  implements LogicalGraphLayoutFactory {
+
+  /**
+   * Arranges the data before it is split into columns.
+   */
+  private final GVEGraphLayoutFactory gveFactory = new GVEGraphLayoutFactory();
+
+  /**
+   * Creates a factory using the default block size.
+   */
+  public ColumnarGraphLayoutFactory() {
+    this(ColumnarLayout.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a factory using the given block size.
+   *
+   * @param blockSize maximum number of elements per block
+   */
+  public ColumnarGraphLayoutFactory(int blockSize) {
+    super(blockSize);
+  }
+
+  @Override
+  public void setGradoopFlinkConfig(GradoopFlinkConfig config) {
+    super.setGradoopFlinkConfig(config);
+    gveFactory.setGradoopFlinkConfig(config);
+  }
+
+  @Override
+  public LogicalGraphLayout fromDataSets(DataSet<Vertex> vertices) {
+    return create(gveFactory.fromDataSets(vertices));
+  }
+
+  @Override
+  public LogicalGraphLayout fromDataSets(DataSet<Vertex> vertices, DataSet<Edge> edges) {
+    return create(gveFactory.fromDataSets(vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout fromDataSets(DataSet<GraphHead> graphHead, DataSet<Vertex> vertices,
+    DataSet<Edge> edges) {
+    return create(graphHead, vertices, edges);
+  }
+
+  @Override
+  public LogicalGraphLayout fromIndexedDataSets(Map<String, DataSet<Vertex>> vertices,
+    Map<String, DataSet<Edge>> edges) {
+    return create(gveFactory.fromIndexedDataSets(vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout fromIndexedDataSets(Map<String, DataSet<GraphHead>> graphHeads,
+    Map<String, DataSet<Vertex>> vertices, Map<String, DataSet<Edge>> edges) {
+    return create(gveFactory.fromIndexedDataSets(graphHeads, vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout fromCollections(GraphHead graphHead, Collection<Vertex> vertices,
+    Collection<Edge> edges) {
+    return create(gveFactory.fromCollections(graphHead, vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout fromCollections(Collection<Vertex> vertices, Collection<Edge> edges) {
+    return create(gveFactory.fromCollections(vertices, edges));
+  }
+
+  @Override
+  public LogicalGraphLayout createEmptyGraph() {
+    return create(gveFactory.createEmptyGraph());
+  }
+
+  /**
+   * Splits the given layout into columns.
+   *
+   * @param layout logical graph layout
+   * @return columnar layout
+   */
+  private ColumnarLayout create(LogicalGraphLayout layout) {
+    return create(layout.getGraphHead(), layout.getVertices(), layout.getEdges());
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.layouts.GraphCollectionLayout;
+import org.gradoop.flink.model.api.layouts.LogicalGraphLayout;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.BlockContainsLabel;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.BlockIds;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.BlockSourceIds;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.BlockTargetIds;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.BlocksToEdges;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.BlocksToVertices;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.IdColumn;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.PropertyBlockHasKey;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.PropertyColumnValues;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.EdgeBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.ElementBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.VertexBlock;
+import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * Represents a graph or a graph collection by storing vertices and edges column-wise. Vertices
+ * and edges are split into blocks. For each block, ids, labels and graph ids (and source and target
+ * ids of edges) are stored in a single {@link VertexBlock} or {@link EdgeBlock}. The values of each
+ * property key are stored in a separate {@link PropertyBlock} sharing the id of the element block.
+ *
+ * Vertices and edges are assembled from their columns on access. Operators only reading some of
+ * the columns, e.g. ids or a single property, can use the column accessors of this layout and
+ * avoid reading and shipping the remaining columns.
+ */
+public class ColumnarLayout extends GVELayout implements LogicalGraphLayout, GraphCollectionLayout {
+  /**
+   * Default maximum number of elements per block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1024;
+  /**
+   * Vertex ids, labels and graph ids.
+   */
+  private final DataSet<VertexBlock> vertexBlocks;
+  /**
+   * Vertex property values separated by property key.
+   */
+  private final DataSet<PropertyBlock> vertexPropertyBlocks;
+  /**
+   * Edge ids, labels, graph ids, source and target ids.
+   */
+  private final DataSet<EdgeBlock> edgeBlocks;
+  /**
+   * Edge property values separated by property key.
+   */
+  private final DataSet<PropertyBlock> edgePropertyBlocks;
+  /**
+   * Gradoop Flink config
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Creates a new columnar layout.
+   *
+   * @param graphHeads graph head dataset
+   * @param vertexBlocks vertex blocks
+   * @param vertexPropertyBlocks vertex property blocks
+   * @param edgeBlocks edge blocks
+   * @param edgePropertyBlocks edge property blocks
+   * @param config Gradoop Flink config
+   */
+  ColumnarLayout(DataSet<GraphHead> graphHeads, DataSet<VertexBlock> vertexBlocks,
+    DataSet<PropertyBlock> vertexPropertyBlocks, DataSet<EdgeBlock> edgeBlocks,
+    DataSet<PropertyBlock> edgePropertyBlocks, GradoopFlinkConfig config) {
+    super(graphHeads,
+      vertexBlocks.coGroup(vertexPropertyBlocks)
+        .where(0).equalTo(0)
+        .with(new BlocksToVertices(config.getVertexFactory())),
+      edgeBlocks.coGroup(edgePropertyBlocks)
+        .where(0).equalTo(0)
+        .with(new BlocksToEdges(config.getEdgeFactory())));
+    this.vertexBlocks = vertexBlocks;
+    this.vertexPropertyBlocks = vertexPropertyBlocks;
+    this.edgeBlocks = edgeBlocks;
+    this.edgePropertyBlocks = edgePropertyBlocks;
+    this.config = config;
+  }
+
+  @Override
+  public boolean isGVELayout() {
+    return false;
+  }
+
+  @Override
+  public boolean isColumnarLayout() {
+    return true;
+  }
+
+  @Override
+  public DataSet<Vertex> getVerticesByLabel(String label) {
+    return vertexBlocks
+      .filter(new BlockContainsLabel<>(label))
+      .coGroup(vertexPropertyBlocks)
+      .where(0).equalTo(0)
+      .with(new BlocksToVertices(config.getVertexFactory(), label));
+  }
+
+  @Override
+  public DataSet<Edge> getEdgesByLabel(String label) {
+    return edgeBlocks
+      .filter(new BlockContainsLabel<>(label))
+      .coGroup(edgePropertyBlocks)
+      .where(0).equalTo(0)
+      .with(new BlocksToEdges(config.getEdgeFactory(), label));
+  }
+
+  //----------------------------------------------------------------------------
+  // Column access
+  //----------------------------------------------------------------------------
+
+  /**
+   * Returns the vertex blocks storing ids, labels and graph ids column-wise.
+   *
+   * @return vertex blocks
+   */
+  public DataSet<VertexBlock> getVertexBlocks() {
+    return vertexBlocks;
+  }
+
+  /**
+   * Returns the property blocks of the vertex blocks, one per block and property key.
+   *
+   * @return vertex property blocks
+   */
+  public DataSet<PropertyBlock> getVertexPropertyBlocks() {
+    return vertexPropertyBlocks;
+  }
+
+  /**
+   * Returns the edge blocks storing ids, labels, graph ids, source and target ids column-wise.
+   *
+   * @return edge blocks
+   */
+  public DataSet<EdgeBlock> getEdgeBlocks() {
+    return edgeBlocks;
+  }
+
+  /**
+   * Returns the property blocks of the edge blocks, one per block and property key.
+   *
+   * @return edge property blocks
+   */
+  public DataSet<PropertyBlock> getEdgePropertyBlocks() {
+    return edgePropertyBlocks;
+  }
+
+  /**
+   * Returns the ids of all vertices.
+   *
+   * @return vertex ids
+   */
+  public DataSet<GradoopId> getVertexIds() {
+    return vertexBlocks.flatMap(new BlockIds<>());
+  }
+
+  /**
+   * Returns the ids of all vertices with the given label.
+   *
+   * @param label vertex label
+   * @return vertex ids
+   */
+  public DataSet<GradoopId> getVertexIdsByLabel(String label) {
+    return vertexBlocks.flatMap(new BlockIds<>(label));
+  }
+
+  /**
+   * Returns the ids of all edges.
+   *
+   * @return edge ids
+   */
+  public DataSet<GradoopId> getEdgeIds() {
+    return edgeBlocks.flatMap(new BlockIds<>());
+  }
+
+  /**
+   * Returns the ids of all edges with the given label.
+   *
+   * @param label edge label
+   * @return edge ids
+   */
+  public DataSet<GradoopId> getEdgeIdsByLabel(String label) {
+    return edgeBlocks.flatMap(new BlockIds<>(label));
+  }
+
+  /**
+   * Returns the source vertex id of each edge.
+   *
+   * @return source vertex ids
+   */
+  public DataSet<GradoopId> getEdgeSourceIds() {
+    return edgeBlocks.flatMap(new BlockSourceIds());
+  }
+
+  /**
+   * Returns the target vertex id of each edge.
+   *
+   * @return target vertex ids
+   */
+  public DataSet<GradoopId> getEdgeTargetIds() {
+    return edgeBlocks.flatMap(new BlockTargetIds());
+  }
+
+  /**
+   * Returns the values of the given property key together with the id of the vertex. Vertices
+   * without that property are omitted.
+   *
+   * @param key property key
+   * @return (vertexId, propertyValue)
+   */
+  public DataSet<Tuple2<GradoopId, PropertyValue>> getVertexPropertyColumn(String key) {
+    return getPropertyColumn(vertexBlocks, vertexPropertyBlocks, key);
+  }
+
+  /**
+   * Returns the values of the given property key together with the id of the edge. Edges without
+   * that property are omitted.
+   *
+   * @param key property key
+   * @return (edgeId, propertyValue)
+   */
+  public DataSet<Tuple2<GradoopId, PropertyValue>> getEdgePropertyColumn(String key) {
+    return getPropertyColumn(edgeBlocks, edgePropertyBlocks, key);
+  }
+
+  /**
+   * Joins the property blocks of the given key with the id column of their element blocks.
+   *
+   * @param blocks element blocks
+   * @param propertyBlocks property blocks
+   * @param key property key
+   * @param <B> block type
+   * @return (elementId, propertyValue)
+   */
+  private <B extends ElementBlock> DataSet<Tuple2<GradoopId, PropertyValue>> getPropertyColumn(
+    DataSet<B> blocks, DataSet<PropertyBlock> propertyBlocks, String key) {
+    return propertyBlocks
+      .filter(new PropertyBlockHasKey(key))
+      .join(blocks.map(new IdColumn<>()))
+      .where(0).equalTo(0)
+      .with(new PropertyColumnValues());
+  }
+}
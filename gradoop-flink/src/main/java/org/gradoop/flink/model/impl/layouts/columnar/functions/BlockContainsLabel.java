@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.ElementBlock;
+
+/**
+ * Filters blocks containing at least one element with the given label.
+ *
+ * @param <B> block type
+ */
+public class BlockContainsLabel<B extends ElementBlock> implements FilterFunction<B> {
+
+  /**
+   * Label to filter on.
+   */
+  private final String label;
+
+  /**
+   * Constructor
+   *
+   * @param label label to filter on
+   */
+  public BlockContainsLabel(String label) {
+    this.label = label;
+  }
+
+  @Override
+  public boolean filter(B block) {
+    return block.containsLabel(label);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.ElementBlock;
+
+/**
+ * block => elementId,..
+ *
+ * If a label is given, only the ids of elements with that label are returned.
+ *
+ * @param <B> block type
+ */
+public class BlockIds<B extends ElementBlock> implements FlatMapFunction<B, GradoopId> {
+
+  /**
+   * Label of the elements or {@code null} to return the ids of all elements.
+   */
+  private final String label;
+
+  /**
+   * Constructor
+   */
+  public BlockIds() {
+    this(null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param label label of the elements
+   */
+  public BlockIds(String label) {
+    this.label = label;
+  }
+
+  @Override
+  public void flatMap(B block, Collector<GradoopId> out) {
+    if (label != null && !block.containsLabel(label)) {
+      return;
+    }
+    for (int i = 0; i < block.size(); i++) {
+      if (label == null || label.equals(block.getLabel(i))) {
+        out.collect(block.getId(i));
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.Columns;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.EdgeBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+
+/**
+ * (edgeBlock, propertyBlocks) => edge,..
+ *
+ * If a label is given, only edges with that label are assembled.
+ */
+public class BlocksToEdges implements CoGroupFunction<EdgeBlock, PropertyBlock, Edge> {
+
+  /**
+   * Creates edge instances.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Label of the edges to assemble or {@code null} to assemble all edges.
+   */
+  private final String label;
+
+  /**
+   * Constructor
+   *
+   * @param edgeFactory edge factory
+   */
+  public BlocksToEdges(EPGMEdgeFactory<Edge> edgeFactory) {
+    this(edgeFactory, null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param edgeFactory edge factory
+   * @param label label of the edges to assemble
+   */
+  public BlocksToEdges(EPGMEdgeFactory<Edge> edgeFactory, String label) {
+    this.edgeFactory = edgeFactory;
+    this.label = label;
+  }
+
+  @Override
+  public void coGroup(Iterable<EdgeBlock> edgeBlocks, Iterable<PropertyBlock> propertyBlocks,
+    Collector<Edge> out) {
+    for (EdgeBlock block : edgeBlocks) {
+      if (label != null && !block.containsLabel(label)) {
+        continue;
+      }
+      Properties[] properties = Columns.toProperties(propertyBlocks, block.size());
+      for (int i = 0; i < block.size(); i++) {
+        if (label == null || label.equals(block.getLabel(i))) {
+          out.collect(edgeFactory.initEdge(block.getId(i), block.getLabel(i),
+            block.getSourceId(i), block.getTargetId(i), properties[i], block.getGraphIds(i)));
+        }
+      }
+    }
+  }
+}
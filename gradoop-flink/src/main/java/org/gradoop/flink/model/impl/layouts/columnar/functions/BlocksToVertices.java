@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.Columns;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.VertexBlock;
+
+/**
+ * (vertexBlock, propertyBlocks) => vertex,..
+ *
+ * If a label is given, only vertices with that label are assembled.
+ */
+public class BlocksToVertices implements CoGroupFunction<VertexBlock, PropertyBlock, Vertex> {
+
+  /**
+   * Creates vertex instances.
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+
+  /**
+   * Label of the vertices to assemble or {@code null} to assemble all vertices.
+   */
+  private final String label;
+
+  /**
+   * Constructor
+   *
+   * @param vertexFactory vertex factory
+   */
+  public BlocksToVertices(EPGMVertexFactory<Vertex> vertexFactory) {
+    this(vertexFactory, null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param vertexFactory vertex factory
+   * @param label label of the vertices to assemble
+   */
+  public BlocksToVertices(EPGMVertexFactory<Vertex> vertexFactory, String label) {
+    this.vertexFactory = vertexFactory;
+    this.label = label;
+  }
+
+  @Override
+  public void coGroup(Iterable<VertexBlock> vertexBlocks, Iterable<PropertyBlock> propertyBlocks,
+    Collector<Vertex> out) {
+    for (VertexBlock block : vertexBlocks) {
+      if (label != null && !block.containsLabel(label)) {
+        continue;
+      }
+      Properties[] properties = Columns.toProperties(propertyBlocks, block.size());
+      for (int i = 0; i < block.size(); i++) {
+        if (label == null || label.equals(block.getLabel(i))) {
+          out.collect(vertexFactory.initVertex(
+            block.getId(i), block.getLabel(i), properties[i], block.getGraphIds(i)));
+        }
+      }
+    }
+  }
+}
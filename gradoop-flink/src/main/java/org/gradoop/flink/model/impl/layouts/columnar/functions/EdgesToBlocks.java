@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.typeutils.EdgeSerializer;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.Columns;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.EdgeBlock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * edges => (edgeBlock, propertyBlocks)
+ */
+public class EdgesToBlocks extends ElementsToBlocks<Edge, EdgeBlock> {
+
+  /**
+   * Constructor
+   *
+   * @param blockSize maximum number of edges per block
+   */
+  public EdgesToBlocks(int blockSize) {
+    super(blockSize, EdgeSerializer.INSTANCE);
+  }
+
+  @Override
+  protected EdgeBlock createBlock(GradoopId blockId, List<Edge> edges) {
+    List<String> labels = new ArrayList<>();
+    int[] labelCodes = Columns.toLabelColumn(edges, Edge::getLabel, labels);
+    return new EdgeBlock(blockId,
+      Columns.toIdColumn(edges, Edge::getId),
+      labels.toArray(new String[labels.size()]),
+      labelCodes,
+      edges.stream().map(Edge::getGraphIds).toArray(GradoopIdSet[]::new),
+      Columns.toIdColumn(edges, Edge::getSourceId),
+      Columns.toIdColumn(edges, Edge::getTargetId));
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.Columns;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.ElementBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the graph elements of a partition into blocks of a fixed maximum size and stores each
+ * block column-wise. Elements are copied before they are buffered, since the input iterator may
+ * reuse its instances.
+ *
+ * elements => (block, propertyBlocks)
+ *
+ * @param <E> graph element type
+ * @param <B> block type
+ */
+public abstract class ElementsToBlocks<E extends GraphElement, B extends ElementBlock>
+  implements MapPartitionFunction<E, Tuple2<B, PropertyBlock[]>> {
+
+  /**
+   * Maximum number of elements per block.
+   */
+  private final int blockSize;
+
+  /**
+   * Serializer used to copy the buffered elements.
+   */
+  private final TypeSerializer<E> serializer;
+
+  /**
+   * Constructor
+   *
+   * @param blockSize maximum number of elements per block
+   * @param serializer serializer used to copy the buffered elements
+   */
+  ElementsToBlocks(int blockSize, TypeSerializer<E> serializer) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be positive, was " + blockSize);
+    }
+    this.blockSize = blockSize;
+    this.serializer = serializer;
+  }
+
+  @Override
+  public void mapPartition(Iterable<E> elements, Collector<Tuple2<B, PropertyBlock[]>> out) {
+    List<E> block = new ArrayList<>(blockSize);
+    for (E element : elements) {
+      block.add(serializer.copy(element));
+      if (block.size() == blockSize) {
+        collect(block, out);
+        block.clear();
+      }
+    }
+    if (!block.isEmpty()) {
+      collect(block, out);
+    }
+  }
+
+  /**
+   * Stores the given elements column-wise and collects the resulting blocks.
+   *
+   * @param elements elements of a block
+   * @param out output collector
+   */
+  private void collect(List<E> elements, Collector<Tuple2<B, PropertyBlock[]>> out) {
+    GradoopId blockId = GradoopId.get();
+    out.collect(Tuple2.of(
+      createBlock(blockId, elements),
+      Columns.toPropertyBlocks(blockId, elements)));
+  }
+
+  /**
+   * Creates the block storing ids, labels and further columns of the given elements.
+   *
+   * @param blockId block id
+   * @param elements elements of the block
+   * @return element block
+   */
+  protected abstract B createBlock(GradoopId blockId, List<E> elements);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.ElementBlock;
+
+/**
+ * block => (blockId, idColumn)
+ *
+ * @param <B> block type
+ */
+public class IdColumn<B extends ElementBlock> implements MapFunction<B, Tuple2<GradoopId, byte[]>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<GradoopId, byte[]> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<GradoopId, byte[]> map(B block) {
+    reuseTuple.f0 = block.getBlockId();
+    reuseTuple.f1 = block.getIdColumn();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+
+/**
+ * Filters property blocks of the given property key.
+ */
+public class PropertyBlockHasKey implements FilterFunction<PropertyBlock> {
+
+  /**
+   * Property key to filter on.
+   */
+  private final String key;
+
+  /**
+   * Constructor
+   *
+   * @param key property key to filter on
+   */
+  public PropertyBlockHasKey(String key) {
+    this.key = key;
+  }
+
+  @Override
+  public boolean filter(PropertyBlock propertyBlock) {
+    return propertyBlock.getKey().equals(key);
+  }
+}
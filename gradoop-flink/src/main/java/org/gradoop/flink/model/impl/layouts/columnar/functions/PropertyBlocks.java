@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.ElementBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+
+/**
+ * (block, propertyBlocks) => propertyBlock,..
+ *
+ * @param <B> block type
+ */
+public class PropertyBlocks<B extends ElementBlock>
+  implements FlatMapFunction<Tuple2<B, PropertyBlock[]>, PropertyBlock> {
+
+  @Override
+  public void flatMap(Tuple2<B, PropertyBlock[]> blocks, Collector<PropertyBlock> out) {
+    for (PropertyBlock propertyBlock : blocks.f1) {
+      out.collect(propertyBlock);
+    }
+  }
+}
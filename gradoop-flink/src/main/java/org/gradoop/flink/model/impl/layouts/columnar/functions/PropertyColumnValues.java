@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.Columns;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+
+/**
+ * (propertyBlock, (blockId, idColumn)) => (elementId, propertyValue),..
+ *
+ * Elements without a value for the property key are skipped.
+ */
+public class PropertyColumnValues implements
+  FlatJoinFunction<PropertyBlock, Tuple2<GradoopId, byte[]>, Tuple2<GradoopId, PropertyValue>> {
+
+  @Override
+  public void join(PropertyBlock propertyBlock, Tuple2<GradoopId, byte[]> idColumn,
+    Collector<Tuple2<GradoopId, PropertyValue>> out) {
+    PropertyValue[] values = propertyBlock.getValues();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        out.collect(Tuple2.of(Columns.getId(idColumn.f1, i), values[i]));
+      }
+    }
+  }
+}
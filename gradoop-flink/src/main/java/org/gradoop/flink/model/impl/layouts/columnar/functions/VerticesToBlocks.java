@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.typeutils.VertexSerializer;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.Columns;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.VertexBlock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * vertices => (vertexBlock, propertyBlocks)
+ */
+public class VerticesToBlocks extends ElementsToBlocks<Vertex, VertexBlock> {
+
+  /**
+   * Constructor
+   *
+   * @param blockSize maximum number of vertices per block
+   */
+  public VerticesToBlocks(int blockSize) {
+    super(blockSize, VertexSerializer.INSTANCE);
+  }
+
+  @Override
+  protected VertexBlock createBlock(GradoopId blockId, List<Vertex> vertices) {
+    List<String> labels = new ArrayList<>();
+    int[] labelCodes = Columns.toLabelColumn(vertices, Vertex::getLabel, labels);
+    return new VertexBlock(blockId,
+      Columns.toIdColumn(vertices, Vertex::getId),
+      labels.toArray(new String[labels.size()]),
+      labelCodes,
+      vertices.stream().map(Vertex::getGraphIds).toArray(GradoopIdSet[]::new));
+  }
+}
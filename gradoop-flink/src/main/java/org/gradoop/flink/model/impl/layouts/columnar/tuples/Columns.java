@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.tuples;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Utility methods to write and read the columns of an {@link ElementBlock}.
+ */
+public final class Columns {
+
+  /**
+   * Utility class
+   */
+  private Columns() {
+  }
+
+  /**
+   * Writes the ids extracted from the given elements into a single byte array.
+   *
+   * @param elements elements
+   * @param idFunction extracts the id from an element
+   * @param <E> element type
+   * @return id column
+   */
+  public static <E> byte[] toIdColumn(Collection<E> elements, Function<E, GradoopId> idFunction) {
+    byte[] column = new byte[elements.size() * GradoopId.ID_SIZE];
+    int offset = 0;
+    for (E element : elements) {
+      idFunction.apply(element).writeBytes(column, offset);
+      offset += GradoopId.ID_SIZE;
+    }
+    return column;
+  }
+
+  /**
+   * Returns the id at the given index of an id column.
+   *
+   * @param column id column
+   * @param index element index
+   * @return id
+   */
+  public static GradoopId getId(byte[] column, int index) {
+    return GradoopId.fromByteArray(column, index * GradoopId.ID_SIZE);
+  }
+
+  /**
+   * Returns the distinct labels of the given elements together with the encoded label column.
+   *
+   * @param elements elements
+   * @param labelFunction extracts the label from an element
+   * @param distinctLabels distinct labels in order of their first occurrence (output)
+   * @param <E> element type
+   * @return encoded label column
+   */
+  public static <E> int[] toLabelColumn(Collection<E> elements, Function<E, String> labelFunction,
+    List<String> distinctLabels) {
+    int[] column = new int[elements.size()];
+    int index = 0;
+    for (E element : elements) {
+      String label = labelFunction.apply(element);
+      int code = distinctLabels.indexOf(label);
+      if (code == -1) {
+        code = distinctLabels.size();
+        distinctLabels.add(label);
+      }
+      column[index++] = code;
+    }
+    return column;
+  }
+
+  /**
+   * Creates one property block per property key of the given elements.
+   *
+   * @param blockId id of the element block
+   * @param elements elements of the block
+   * @return property blocks
+   */
+  public static PropertyBlock[] toPropertyBlocks(GradoopId blockId,
+    List<? extends EPGMElement> elements) {
+    Map<String, PropertyValue[]> columns = new HashMap<>();
+    for (int i = 0; i < elements.size(); i++) {
+      Properties properties = elements.get(i).getProperties();
+      if (properties == null) {
+        continue;
+      }
+      for (Property property : properties) {
+        columns.computeIfAbsent(property.getKey(), k -> new PropertyValue[elements.size()])[i] =
+          property.getValue();
+      }
+    }
+    PropertyBlock[] blocks = new PropertyBlock[columns.size()];
+    int index = 0;
+    for (Map.Entry<String, PropertyValue[]> column : columns.entrySet()) {
+      blocks[index++] = new PropertyBlock(blockId, column.getKey(), column.getValue());
+    }
+    return blocks;
+  }
+
+  /**
+   * Assembles the properties of each element of a block from the given property blocks.
+   *
+   * @param propertyBlocks property blocks of an element block
+   * @param size number of elements in the block
+   * @return properties of each element
+   */
+  public static Properties[] toProperties(Iterable<PropertyBlock> propertyBlocks, int size) {
+    Properties[] properties = new Properties[size];
+    for (int i = 0; i < size; i++) {
+      properties[i] = Properties.create();
+    }
+    for (PropertyBlock propertyBlock : propertyBlocks) {
+      PropertyValue[] values = propertyBlock.getValues();
+      for (int i = 0; i < size; i++) {
+        if (values[i] != null) {
+          properties[i].set(propertyBlock.getKey(), values[i]);
+        }
+      }
+    }
+    return properties;
+  }
+}
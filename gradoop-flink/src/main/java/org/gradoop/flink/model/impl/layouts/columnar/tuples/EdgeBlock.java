@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple7;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+import java.util.Arrays;
+
+/**
+ * A block of edges stored column-wise.
+ *
+ * f0: block id
+ * f1: edge ids, see {@link Columns#toIdColumn}
+ * f2: distinct edge labels of the block
+ * f3: index of each edge label in f2
+ * f4: graph ids of each edge
+ * f5: source vertex ids
+ * f6: target vertex ids
+ */
+public class EdgeBlock
+  extends Tuple7<GradoopId, byte[], String[], int[], GradoopIdSet[], byte[], byte[]>
+  implements ElementBlock {
+
+  /**
+   * default constructor
+   */
+  public EdgeBlock() {
+  }
+
+  /**
+   * valued constructor
+   *
+   * @param blockId block id
+   * @param ids id column
+   * @param labels distinct labels
+   * @param labelCodes label column
+   * @param graphIds graph id column
+   * @param sourceIds source id column
+   * @param targetIds target id column
+   */
+  public EdgeBlock(GradoopId blockId, byte[] ids, String[] labels, int[] labelCodes,
+    GradoopIdSet[] graphIds, byte[] sourceIds, byte[] targetIds) {
+    super(blockId, ids, labels, labelCodes, graphIds, sourceIds, targetIds);
+  }
+
+  @Override
+  public GradoopId getBlockId() {
+    return f0;
+  }
+
+  @Override
+  public int size() {
+    return f3.length;
+  }
+
+  @Override
+  public byte[] getIdColumn() {
+    return f1;
+  }
+
+  @Override
+  public GradoopId getId(int index) {
+    return Columns.getId(f1, index);
+  }
+
+  @Override
+  public String getLabel(int index) {
+    return f2[f3[index]];
+  }
+
+  @Override
+  public boolean containsLabel(String label) {
+    return Arrays.asList(f2).contains(label);
+  }
+
+  @Override
+  public GradoopIdSet getGraphIds(int index) {
+    return f4[index];
+  }
+
+  /**
+   * Returns the source vertex id of the edge at the given index.
+   *
+   * @param index element index
+   * @return source id
+   */
+  public GradoopId getSourceId(int index) {
+    return Columns.getId(f5, index);
+  }
+
+  /**
+   * Returns the target vertex id of the edge at the given index.
+   *
+   * @param index element index
+   * @return target id
+   */
+  public GradoopId getTargetId(int index) {
+    return Columns.getId(f6, index);
+  }
+}
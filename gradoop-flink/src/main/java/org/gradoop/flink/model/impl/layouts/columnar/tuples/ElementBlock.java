@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.tuples;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+/**
+ * A block of graph elements stored column-wise. The element at a given index is described by the
+ * values at that index in each column of the block. The property columns of a block are stored
+ * separately, see {@link PropertyBlock}.
+ */
+public interface ElementBlock {
+
+  /**
+   * Returns the identifier of the block which is shared by its property blocks.
+   *
+   * @return block id
+   */
+  GradoopId getBlockId();
+
+  /**
+   * Returns the number of elements in that block.
+   *
+   * @return number of elements
+   */
+  int size();
+
+  /**
+   * Returns the ids of all elements of that block, see {@link Columns#toIdColumn}.
+   *
+   * @return id column
+   */
+  byte[] getIdColumn();
+
+  /**
+   * Returns the id of the element at the given index.
+   *
+   * @param index element index
+   * @return element id
+   */
+  GradoopId getId(int index);
+
+  /**
+   * Returns the label of the element at the given index.
+   *
+   * @param index element index
+   * @return element label
+   */
+  String getLabel(int index);
+
+  /**
+   * Checks if at least one element of that block has the given label.
+   *
+   * @param label label
+   * @return true, iff the label occurs in the block
+   */
+  boolean containsLabel(String label);
+
+  /**
+   * Returns the graph ids of the element at the given index.
+   *
+   * @param index element index
+   * @return graph ids
+   */
+  GradoopIdSet getGraphIds(int index);
+}
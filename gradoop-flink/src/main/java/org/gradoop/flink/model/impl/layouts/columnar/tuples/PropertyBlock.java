@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * The values of a single property key for all elements of an {@link ElementBlock}.
+ *
+ * f0: block id
+ * f1: property key
+ * f2: property value of each element of the block ({@code null} if the element has no value)
+ */
+public class PropertyBlock extends Tuple3<GradoopId, String, PropertyValue[]> {
+
+  /**
+   * default constructor
+   */
+  public PropertyBlock() {
+  }
+
+  /**
+   * valued constructor
+   *
+   * @param blockId block id
+   * @param key property key
+   * @param values property value column
+   */
+  public PropertyBlock(GradoopId blockId, String key, PropertyValue[] values) {
+    super(blockId, key, values);
+  }
+
+  public GradoopId getBlockId() {
+    return f0;
+  }
+
+  public String getKey() {
+    return f1;
+  }
+
+  public PropertyValue[] getValues() {
+    return f2;
+  }
+}
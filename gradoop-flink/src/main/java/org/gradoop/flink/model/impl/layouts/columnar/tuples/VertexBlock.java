@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple5;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+import java.util.Arrays;
+
+/**
+ * A block of vertices stored column-wise.
+ *
+ * f0: block id
+ * f1: vertex ids, see {@link Columns#toIdColumn}
+ * f2: distinct vertex labels of the block
+ * f3: index of each vertex label in f2
+ * f4: graph ids of each vertex
+ */
+public class VertexBlock extends Tuple5<GradoopId, byte[], String[], int[], GradoopIdSet[]>
+  implements ElementBlock {
+
+  /**
+   * default constructor
+   */
+  public VertexBlock() {
+  }
+
+  /**
+   * valued constructor
+   *
+   * @param blockId block id
+   * @param ids id column
+   * @param labels distinct labels
+   * @param labelCodes label column
+   * @param graphIds graph id column
+   */
+  public VertexBlock(GradoopId blockId, byte[] ids, String[] labels, int[] labelCodes,
+    GradoopIdSet[] graphIds) {
+    super(blockId, ids, labels, labelCodes, graphIds);
+  }
+
+  @Override
+  public GradoopId getBlockId() {
+    return f0;
+  }
+
+  @Override
+  public int size() {
+    return f3.length;
+  }
+
+  @Override
+  public byte[] getIdColumn() {
+    return f1;
+  }
+
+  @Override
+  public GradoopId getId(int index) {
+    return Columns.getId(f1, index);
+  }
+
+  @Override
+  public String getLabel(int index) {
+    return f2[f3[index]];
+  }
+
+  @Override
+  public boolean containsLabel(String label) {
+    return Arrays.asList(f2).contains(label);
+  }
+
+  @Override
+  public GradoopIdSet getGraphIds(int index) {
+    return f4[index];
+  }
+}
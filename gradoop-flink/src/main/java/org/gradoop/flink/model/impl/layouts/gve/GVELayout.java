@@ -80,6 +80,11 @@ public class GVELayout implements LogicalGraphLayout, GraphCollectionLayout {
     return false;
   }
 
+  @Override
+  public boolean isColumnarLayout() {
+    return false;
+  }
+
   @Override
   public boolean isTransactionalLayout() {
     return false;
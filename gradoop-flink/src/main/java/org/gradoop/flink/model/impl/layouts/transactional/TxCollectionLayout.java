@@ -60,6 +60,11 @@ public class TxCollectionLayout implements GraphCollectionLayout {
     return false;
   }
 
+  @Override
+  public boolean isColumnarLayout() {
+    return false;
+  }
+
   @Override
   public boolean isTransactionalLayout() {
     return true;
@@ -18,10 +18,13 @@ package org.gradoop.flink.model.impl.operators.grouping;
 import com.google.common.collect.Lists;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.operators.UnsortedGrouping;
+import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
 import org.gradoop.common.util.GradoopConstants;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
+import org.gradoop.flink.model.impl.functions.epgm.Label;
 import org.gradoop.flink.model.impl.operators.grouping.functions.BuildEdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.functions.CombineEdgeGroupItems;
 import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceEdgeGroupItems;
@@ -33,8 +36,10 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * The grouping operator determines a structural grouping of vertices and edges
@@ -111,6 +116,12 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
    */
   private final List<LabelGroup> edgeLabelGroups;
 
+  /**
+   * Contains all vertex and edge labels of the input graph or {@code null}, if the labels
+   * shall be determined from the input graph.
+   */
+  private final LabelDictionary labelDictionary;
+
   /**
    * Creates grouping operator instance.
    *
@@ -118,16 +129,19 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
    * @param useEdgeLabels     group on edge label true/false
    * @param vertexLabelGroups stores grouping properties for vertex labels
    * @param edgeLabelGroups   stores grouping properties for edge labels
+   * @param labelDictionary   labels of the input graph (may be {@code null})
    */
   Grouping(
     boolean useVertexLabels,
     boolean useEdgeLabels,
     List<LabelGroup> vertexLabelGroups,
-    List<LabelGroup> edgeLabelGroups) {
+    List<LabelGroup> edgeLabelGroups,
+    LabelDictionary labelDictionary) {
     this.useVertexLabels   = useVertexLabels;
     this.useEdgeLabels     = useEdgeLabels;
     this.vertexLabelGroups = vertexLabelGroups;
     this.edgeLabelGroups   = edgeLabelGroups;
+    this.labelDictionary   = labelDictionary;
   }
 
   /**
@@ -204,6 +218,61 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     return edgeLabelGroups;
   }
 
+  /**
+   * Returns the labels which are needed to build the label dictionary for vertex group items.
+   * The labels are broadcast to the functions which create and read vertex group items.
+   *
+   * @param graph input graph
+   * @return vertex labels
+   */
+  protected DataSet<String> getVertexLabels(LogicalGraph graph) {
+    return getLabels(graph.getVertices(), useVertexLabels(), getVertexLabelGroups());
+  }
+
+  /**
+   * Returns the labels which are needed to build the label dictionary for edge group items.
+   * The labels are broadcast to the functions which create and read edge group items.
+   *
+   * @param graph input graph
+   * @return edge labels
+   */
+  protected DataSet<String> getEdgeLabels(LogicalGraph graph) {
+    return getLabels(graph.getEdges(), useEdgeLabels(), getEdgeLabelGroups());
+  }
+
+  /**
+   * Returns the grouping and group labels of the label groups and, if the element labels are
+   * used for grouping, the element labels. Element labels are taken from the label dictionary
+   * if it was provided and computed from the elements otherwise.
+   *
+   * @param elements    input vertices or edges
+   * @param useLabels   true, iff element labels are used for grouping
+   * @param labelGroups vertex or edge label groups
+   * @param <T>         element type
+   * @return labels
+   */
+  private <T extends EPGMElement> DataSet<String> getLabels(
+    DataSet<T> elements, boolean useLabels, List<LabelGroup> labelGroups) {
+    Set<String> labels = new HashSet<>();
+    for (LabelGroup labelGroup : labelGroups) {
+      labels.add(labelGroup.getGroupingLabel());
+      labels.add(labelGroup.getGroupLabel());
+    }
+    if (useLabels && labelDictionary != null) {
+      labels.addAll(labelDictionary.getLabels());
+    }
+
+    DataSet<String> result = config.getExecutionEnvironment().fromCollection(labels);
+
+    if (useLabels && labelDictionary == null) {
+      result = elements
+        .map(new Label<>())
+        .union(result)
+        .distinct();
+    }
+    return result;
+  }
+
   /**
    * Group vertices by either vertex label, vertex property or both.
    *
@@ -255,9 +324,12 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     LogicalGraph graph,
     DataSet<VertexWithSuperVertex> vertexToRepresentativeMap) {
 
+    DataSet<String> edgeLabels = getEdgeLabels(graph);
+
     DataSet<EdgeGroupItem> edges = graph.getEdges()
       // build edge group items
       .flatMap(new BuildEdgeGroupItem(useEdgeLabels(), getEdgeLabelGroups()))
+      .withBroadcastSet(edgeLabels, BuildEdgeGroupItem.BC_LABELS)
       // join edges with vertex-group-map on source-id == vertex-id
       .join(vertexToRepresentativeMap)
       .where(0).equalTo(0)
@@ -279,7 +351,8 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     return groupEdges(combinedEdges)
       .reduceGroup(new ReduceEdgeGroupItems(
         useEdgeLabels(),
-        config.getEdgeFactory()));
+        config.getEdgeFactory()))
+      .withBroadcastSet(edgeLabels, ReduceEdgeGroupItems.BC_LABELS);
   }
 
   /**
@@ -338,12 +411,29 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
      */
     private List<PropertyValueAggregator> globalEdgeAggregators;
 
+    /**
+     * Vertex and edge labels of the input graph.
+     */
+    private LabelDictionary labelDictionary;
+
+    /**
+     * Maximum number of groups kept in memory per task by {@link GroupingStrategy#HASH_COMBINE}.
+     */
+    private int maxHashTableSize;
+
+    /**
+     * True, iff super vertex ids shall be derived from the grouping keys.
+     */
+    private boolean useHashedSuperVertexIds;
+
     /**
      * Creates a new grouping builder
      */
     public GroupingBuilder() {
       this.useVertexLabel           = false;
       this.useEdgeLabel             = false;
+      this.useHashedSuperVertexIds  = false;
+      this.maxHashTableSize         = GroupingHashCombine.DEFAULT_MAX_TABLE_SIZE;
       this.vertexLabelGroups        = Lists.newArrayList();
       this.edgeLabelGroups          = Lists.newArrayList();
       this.globalVertexAggregators  = Lists.newArrayList();
@@ -585,6 +675,47 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       return this;
     }
 
+    /**
+     * Sets a dictionary containing all vertex and edge labels of the input graph, e.g. created
+     * from the meta data of a data source. Element labels are represented by their id in the
+     * dictionary during grouping. If no dictionary is set, the labels are computed from the
+     * input graph when grouping on vertex or edge labels.
+     *
+     * @param labelDictionary vertex and edge labels of the input graph
+     * @return this builder
+     */
+    public GroupingBuilder setLabelDictionary(LabelDictionary labelDictionary) {
+      this.labelDictionary = labelDictionary;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of groups kept in the in-memory hash table of each task when using
+     * {@link GroupingStrategy#HASH_COMBINE}. If the table is full, the partial aggregates are
+     * emitted and the table is cleared.
+     *
+     * @param maxHashTableSize maximum number of groups per task
+     * @return this builder
+     */
+    public GroupingBuilder setMaxHashTableSize(int maxHashTableSize) {
+      this.maxHashTableSize = maxHashTableSize;
+      return this;
+    }
+
+    /**
+     * Define, if the super vertex ids shall be derived from a hash of the grouping keys. This
+     * allows to map vertices to their super vertex without waiting for the vertex grouping and
+     * to combine vertex aggregates before shuffling. It is only supported by
+     * {@link GroupingStrategy#GROUP_REDUCE}.
+     *
+     * @param useHashedSuperVertexIds true, iff super vertex ids shall be hashed grouping keys
+     * @return this builder
+     */
+    public GroupingBuilder useHashedSuperVertexIds(boolean useHashedSuperVertexIds) {
+      this.useHashedSuperVertexIds = useHashedSuperVertexIds;
+      return this;
+    }
+
     /**
      * Add an aggregate function which is applied on all vertices represented by a single super
      * vertex which do not have a specific label group.
@@ -663,14 +794,25 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
 
       Grouping groupingOperator;
 
+      if (useHashedSuperVertexIds && strategy != GroupingStrategy.GROUP_REDUCE) {
+        throw new IllegalArgumentException(
+          "Hashed super vertex ids are not supported by strategy: " + strategy);
+      }
+
       switch (strategy) {
       case GROUP_REDUCE:
         groupingOperator = new GroupingGroupReduce(
-          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups);
+          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups, labelDictionary,
+          useHashedSuperVertexIds);
         break;
       case GROUP_COMBINE:
         groupingOperator = new GroupingGroupCombine(
-          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups);
+          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups, labelDictionary);
+        break;
+      case HASH_COMBINE:
+        groupingOperator = new GroupingHashCombine(
+          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups, labelDictionary,
+          maxHashTableSize);
         break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.operators.grouping;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
@@ -72,20 +73,25 @@ public class GroupingGroupCombine extends Grouping {
    * @param useEdgeLabels     group on edge label true/false
    * @param vertexLabelGroups stores grouping properties for vertex labels
    * @param edgeLabelGroups   stores grouping properties for edge labels
+   * @param labelDictionary   labels of the input graph (may be {@code null})
    */
   GroupingGroupCombine(
     boolean useVertexLabels,
     boolean useEdgeLabels,
     List<LabelGroup> vertexLabelGroups,
-    List<LabelGroup> edgeLabelGroups) {
-    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups);
+    List<LabelGroup> edgeLabelGroups,
+    LabelDictionary labelDictionary) {
+    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups, labelDictionary);
   }
 
   @Override
   protected LogicalGraph groupInternal(LogicalGraph graph) {
+    DataSet<String> vertexLabels = getVertexLabels(graph);
+
     // map vertex to vertex group item
     DataSet<VertexGroupItem> verticesForGrouping = graph.getVertices()
-      .flatMap(new BuildVertexGroupItem(useVertexLabels(), getVertexLabelGroups()));
+      .flatMap(new BuildVertexGroupItem(useVertexLabels(), getVertexLabelGroups()))
+      .withBroadcastSet(vertexLabels, BuildVertexGroupItem.BC_LABELS);
 
     // group vertices by label / properties / both
     DataSet<VertexGroupItem> combinedVertexGroupItems = groupVertices(verticesForGrouping)
@@ -103,7 +109,8 @@ public class GroupingGroupCombine extends Grouping {
     DataSet<Vertex> superVertices = superVertexTuples
       .map(new Value0Of2<>())
       .map(new BuildSuperVertex(
-        useVertexLabels(), config.getVertexFactory()));
+        useVertexLabels(), config.getVertexFactory()))
+      .withBroadcastSet(vertexLabels, BuildSuperVertex.BC_LABELS);
 
     // extract mapping
     DataSet<IdWithIdSet> mapping = superVertexTuples
@@ -16,7 +16,9 @@
 package org.gradoop.flink.model.impl.operators.grouping;
 
 import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
@@ -24,7 +26,9 @@ import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGrou
 import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertex;
 import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
 import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceHashedVertexGroupItems;
 import org.gradoop.flink.model.impl.operators.grouping.functions.ReduceVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.SetHashedSuperVertexId;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
@@ -53,8 +57,18 @@ import java.util.List;
  *    and/or edge property.
  * 8) Group combine on the workers and compute aggregate.
  * 9) Group reduce globally and create final super edges.
+ *
+ * If hashed super vertex ids are used, the super vertex id is computed from the grouping key of
+ * each {@link VertexGroupItem} in step 1). The mapping of 4a) is then built directly from the
+ * vertex group items without waiting for the grouping, and step 3) only needs to compute the
+ * aggregates, which allows to combine the vertex group items before they are shuffled.
  */
 public class GroupingGroupReduce extends Grouping {
+  /**
+   * True, iff super vertex ids are derived from the grouping keys.
+   */
+  private final boolean useHashedSuperVertexIds;
+
   /**
    * Creates grouping operator instance.
    *
@@ -62,14 +76,37 @@ public class GroupingGroupReduce extends Grouping {
    * @param useEdgeLabels     group on edge label true/false
    * @param vertexLabelGroups stores grouping properties for vertex labels
    * @param edgeLabelGroups   stores grouping properties for edge labels
+   * @param labelDictionary   labels of the input graph (may be {@code null})
    */
   GroupingGroupReduce(
     boolean useVertexLabels,
     boolean useEdgeLabels,
     List<LabelGroup> vertexLabelGroups,
-    List<LabelGroup> edgeLabelGroups) {
-    super(
-      useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups);
+    List<LabelGroup> edgeLabelGroups,
+    LabelDictionary labelDictionary) {
+    this(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups, labelDictionary,
+      false);
+  }
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param useVertexLabels         group on vertex label true/false
+   * @param useEdgeLabels           group on edge label true/false
+   * @param vertexLabelGroups       stores grouping properties for vertex labels
+   * @param edgeLabelGroups         stores grouping properties for edge labels
+   * @param labelDictionary         labels of the input graph (may be {@code null})
+   * @param useHashedSuperVertexIds derive super vertex ids from the grouping keys true/false
+   */
+  GroupingGroupReduce(
+    boolean useVertexLabels,
+    boolean useEdgeLabels,
+    List<LabelGroup> vertexLabelGroups,
+    List<LabelGroup> edgeLabelGroups,
+    LabelDictionary labelDictionary,
+    boolean useHashedSuperVertexIds) {
+    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups, labelDictionary);
+    this.useHashedSuperVertexIds = useHashedSuperVertexIds;
   }
 
   /**
@@ -78,9 +115,16 @@ public class GroupingGroupReduce extends Grouping {
   @Override
   protected LogicalGraph groupInternal(LogicalGraph graph) {
 
+    DataSet<String> vertexLabels = getVertexLabels(graph);
+
     DataSet<VertexGroupItem> verticesForGrouping = graph.getVertices()
       // map vertex to vertex group item
-      .flatMap(new BuildVertexGroupItem(useVertexLabels(), getVertexLabelGroups()));
+      .flatMap(new BuildVertexGroupItem(useVertexLabels(), getVertexLabelGroups()))
+      .withBroadcastSet(vertexLabels, BuildVertexGroupItem.BC_LABELS);
+
+    if (useHashedSuperVertexIds) {
+      return groupWithHashedSuperVertexIds(graph, vertexLabels, verticesForGrouping);
+    }
 
     // group vertices by label / properties / both
     DataSet<VertexGroupItem> vertexGroupItems = groupVertices(verticesForGrouping)
@@ -91,7 +135,8 @@ public class GroupingGroupReduce extends Grouping {
       // filter group representative tuples
       .filter(new FilterSuperVertices())
       // build super vertices
-      .map(new BuildSuperVertex(useVertexLabels(), config.getVertexFactory()));
+      .map(new BuildSuperVertex(useVertexLabels(), config.getVertexFactory()))
+      .withBroadcastSet(vertexLabels, BuildSuperVertex.BC_LABELS);
 
     DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = vertexGroupItems
       // filter group element tuples
@@ -105,6 +150,39 @@ public class GroupingGroupReduce extends Grouping {
     return config.getLogicalGraphFactory().fromDataSets(superVertices, superEdges);
   }
 
+  /**
+   * Groups the vertices using super vertex ids computed from the grouping keys.
+   *
+   * @param graph               input graph
+   * @param vertexLabels        labels of the vertex label dictionary
+   * @param verticesForGrouping vertex group items
+   * @return grouped output graph
+   */
+  private LogicalGraph groupWithHashedSuperVertexIds(LogicalGraph graph,
+    DataSet<String> vertexLabels, DataSet<VertexGroupItem> verticesForGrouping) {
+
+    DataSet<VertexGroupItem> vertexGroupItems = verticesForGrouping
+      // assign super vertex id
+      .map(new SetHashedSuperVertexId(GradoopId.get()));
+
+    DataSet<Vertex> superVertices = vertexGroupItems
+      // group by super vertex id, combine and reduce aggregates
+      .groupBy(1)
+      .reduceGroup(new ReduceHashedVertexGroupItems(useVertexLabels()))
+      // build super vertices
+      .map(new BuildSuperVertex(useVertexLabels(), config.getVertexFactory()))
+      .withBroadcastSet(vertexLabels, BuildSuperVertex.BC_LABELS);
+
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = vertexGroupItems
+      // build vertex to group representative tuple
+      .map(new BuildVertexWithSuperVertex());
+
+    // build super edges
+    DataSet<Edge> superEdges = buildSuperEdges(graph, vertexToRepresentativeMap);
+
+    return config.getLogicalGraphFactory().fromDataSets(superVertices, superEdges);
+  }
+
   /**
    * {@inheritDoc}
    */
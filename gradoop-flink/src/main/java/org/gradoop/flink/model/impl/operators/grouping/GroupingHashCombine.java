@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertexBC;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
+import org.gradoop.flink.model.impl.operators.grouping.functions.HashCombineVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.TransposeVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+import java.util.List;
+
+/**
+ * Grouping implementation that pre-aggregates vertices in an in-memory hash table per task
+ * instead of sorting them. This is beneficial if the number of groups is small compared to the
+ * number of vertices.
+ *
+ * Algorithmic idea:
+ *
+ * 1) Map the vertices of each partition into a bounded hash table keyed on the group label and
+ *    the serialized grouping values. Emit a non-candidate {@link VertexGroupItem} for each
+ *    vertex and one super vertex tuple with the partial aggregates for each group and table
+ *    flush.
+ * 2) Filter output of 1)
+ *    a) super vertex tuples are filtered, grouped and merged via groupReduce to
+ *       create a final super vertex representing the group. An additional
+ *       mapping from the final super vertex id to the super vertex ids of the
+ *       partial groups is also created.
+ *    b) non-candidate tuples are mapped to {@link VertexWithSuperVertex} using
+ *       the broadcasted mapping output of 2a)
+ * 3) Map edges to a minimal representation, i.e. {@link EdgeGroupItem}
+ * 4) Join edges with output of 2b) and replace source/target id with super
+ *    vertex id.
+ * 5) Updated edges are grouped by source and target id and optionally by label
+ *    and/or edge property.
+ * 6) Group combine on the workers and compute aggregate.
+ * 7) Group reduce globally and create final super edges.
+ */
+public class GroupingHashCombine extends Grouping {
+
+  /**
+   * Default maximum number of groups kept in the hash table of a task.
+   */
+  public static final int DEFAULT_MAX_TABLE_SIZE = 1 << 16;
+
+  /**
+   * Maximum number of groups kept in the hash table of a task.
+   */
+  private final int maxTableSize;
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param useVertexLabels   group on vertex label true/false
+   * @param useEdgeLabels     group on edge label true/false
+   * @param vertexLabelGroups stores grouping properties for vertex labels
+   * @param edgeLabelGroups   stores grouping properties for edge labels
+   * @param labelDictionary   labels of the input graph (may be {@code null})
+   * @param maxTableSize      maximum number of groups kept in the hash table of a task
+   */
+  GroupingHashCombine(
+    boolean useVertexLabels,
+    boolean useEdgeLabels,
+    List<LabelGroup> vertexLabelGroups,
+    List<LabelGroup> edgeLabelGroups,
+    LabelDictionary labelDictionary,
+    int maxTableSize) {
+    super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups, labelDictionary);
+    if (maxTableSize < 1) {
+      throw new IllegalArgumentException("Hash table size must be positive: " + maxTableSize);
+    }
+    this.maxTableSize = maxTableSize;
+  }
+
+  @Override
+  protected LogicalGraph groupInternal(LogicalGraph graph) {
+    DataSet<String> vertexLabels = getVertexLabels(graph);
+
+    // pre-aggregate vertices per partition
+    DataSet<VertexGroupItem> combinedVertexGroupItems = graph.getVertices()
+      .mapPartition(new HashCombineVertexGroupItems(
+        useVertexLabels(), getVertexLabelGroups(), maxTableSize))
+      .withBroadcastSet(vertexLabels, HashCombineVertexGroupItems.BC_LABELS);
+
+    // filter super vertex tuples (1..n per partition/group)
+    // group  super vertex tuples
+    // create super vertex tuple (1 per group) + previous super vertex ids
+    DataSet<Tuple2<VertexGroupItem, IdWithIdSet>> superVertexTuples =
+      groupVertices(combinedVertexGroupItems.filter(new FilterSuperVertices()))
+        .reduceGroup(new TransposeVertexGroupItems(useVertexLabels()));
+
+    // build super vertices from super vertex tuples
+    DataSet<Vertex> superVertices = superVertexTuples
+      .map(new Value0Of2<>())
+      .map(new BuildSuperVertex(
+        useVertexLabels(), config.getVertexFactory()))
+      .withBroadcastSet(vertexLabels, BuildSuperVertex.BC_LABELS);
+
+    // extract mapping
+    DataSet<IdWithIdSet> mapping = superVertexTuples
+      .map(new Value1Of2<>());
+
+    // filter non-candidates from combiner output
+    // update their vertex representative according to the mapping
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = combinedVertexGroupItems
+      .filter(new FilterRegularVertices())
+      .map(new BuildVertexWithSuperVertexBC())
+      .withBroadcastSet(mapping, BuildVertexWithSuperVertexBC.BC_MAPPING);
+
+    // build super edges
+    DataSet<Edge> superEdges = buildSuperEdges(graph, vertexToRepresentativeMap);
+
+    return config.getLogicalGraphFactory().fromDataSets(superVertices, superEdges);
+  }
+
+  @Override
+  public String getName() {
+    return GroupingHashCombine.class.getName();
+  }
+}
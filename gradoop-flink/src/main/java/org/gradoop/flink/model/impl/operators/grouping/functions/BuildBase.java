@@ -16,7 +16,10 @@
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.AbstractRichFunction;
+import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
 import org.gradoop.common.model.api.entities.EPGMAttributed;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
@@ -25,14 +28,18 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 
 import java.io.IOException;
-import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
 
 /**
  * Encapsulates logic that is used for building summarized vertices and edges.
  */
-abstract class BuildBase implements Serializable {
+abstract class BuildBase extends AbstractRichFunction {
+
+  /**
+   * Broadcast variable containing the labels of the label dictionary.
+   */
+  public static final String BC_LABELS = "labels";
 
   /**
    * Class version for serialization.
@@ -48,6 +55,11 @@ abstract class BuildBase implements Serializable {
    * True, if the label shall be considered.
    */
   private final boolean useLabel;
+  /**
+   * Maps labels to the ids used in group items, initialized in {@link #open(Configuration)}
+   * if the label broadcast set is available.
+   */
+  private LabelDictionary labelDictionary;
 
   /**
    * Creates build base.
@@ -59,6 +71,15 @@ abstract class BuildBase implements Serializable {
 
   }
 
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    if (getRuntimeContext().hasBroadcastVariable(BC_LABELS)) {
+      List<String> labels = getRuntimeContext().getBroadcastVariable(BC_LABELS);
+      labelDictionary = LabelDictionary.fromLabels(labels);
+    }
+  }
+
   /**
    * Resets the underlying aggregators
    *
@@ -84,6 +105,30 @@ abstract class BuildBase implements Serializable {
     return useLabel;
   }
 
+  /**
+   * Returns the dictionary which maps labels to the ids stored in group items.
+   *
+   * @return label dictionary
+   */
+  protected LabelDictionary getLabelDictionary() {
+    return labelDictionary;
+  }
+
+  /**
+   * Returns the id of the given label in the label dictionary.
+   *
+   * @param label element or group label
+   * @return label id
+   */
+  protected int getLabelId(String label) {
+    int labelId = labelDictionary.getId(label);
+    if (labelId == LabelDictionary.UNKNOWN_LABEL) {
+      throw new IllegalStateException(
+        "Label '" + label + "' is not contained in the label dictionary " + labelDictionary);
+    }
+    return labelId;
+  }
+
   //----------------------------------------------------------------------------
   // Grouping properties
   //----------------------------------------------------------------------------
@@ -61,16 +61,15 @@ public class BuildEdgeGroupItem
     reuseEdgeGroupItem.setTargetId(edge.getTargetId());
 
     // check if edge shall be grouped by a special set of keys
-    for (LabelGroup edgeLabelGroup : getLabelGroups()) {
-      if (edgeLabelGroup.getGroupingLabel().equals(edge.getLabel())) {
-        usedEdgeLabelGroup = true;
-        setGroupItem(reuseEdgeGroupItem, edge, edgeLabelGroup);
-        collector.collect(reuseEdgeGroupItem);
-      }
+    int labelId = getLabelDictionary().getId(edge.getLabel());
+    for (LabelGroup edgeLabelGroup : getLabelGroups(labelId)) {
+      usedEdgeLabelGroup = true;
+      setGroupItem(reuseEdgeGroupItem, edge, labelId, edgeLabelGroup);
+      collector.collect(reuseEdgeGroupItem);
     }
     // standard grouping case
     if (!usedEdgeLabelGroup) {
-      setGroupItem(reuseEdgeGroupItem, edge, getDefaultLabelGroup());
+      setGroupItem(reuseEdgeGroupItem, edge, labelId, getDefaultLabelGroup());
       collector.collect(reuseEdgeGroupItem);
     }
   }
@@ -16,7 +16,9 @@
 package org.gradoop.flink.model.impl.operators.grouping.functions;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping;
@@ -24,6 +26,8 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.GroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -46,6 +50,11 @@ public class BuildGroupItemBase extends BuildBase {
    */
   private List<PropertyValue> groupingValues;
 
+  /**
+   * Label groups indexed by the label id of their grouping label.
+   */
+  private List<List<LabelGroup>> labelGroupsByLabelId;
+
   /**
    * Valued constructor.
    *
@@ -72,15 +81,40 @@ public class BuildGroupItemBase extends BuildBase {
     defaultLabelGroup = standardLabelGroup;
   }
 
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    LabelDictionary labelDictionary = getLabelDictionary();
+    labelGroupsByLabelId = new ArrayList<>(labelDictionary.size());
+    for (int i = 0; i < labelDictionary.size(); i++) {
+      labelGroupsByLabelId.add(new ArrayList<>());
+    }
+    for (LabelGroup labelGroup : labelGroups) {
+      labelGroupsByLabelId.get(getLabelId(labelGroup.getGroupingLabel())).add(labelGroup);
+    }
+  }
+
+  /**
+   * Returns the label groups whose grouping label is equal to the given label.
+   *
+   * @param labelId id of the element label, see {@link #getLabelId(String)}
+   * @return label groups, may be empty
+   */
+  protected List<LabelGroup> getLabelGroups(int labelId) {
+    return labelId == LabelDictionary.UNKNOWN_LABEL ?
+      Collections.emptyList() : labelGroupsByLabelId.get(labelId);
+  }
+
   /**
    * Sets the basic values for either a vertex or an edge group item.
    *
    * @param groupItem the group item to be set
    * @param element the epgm element
+   * @param elementLabelId id of the element label in the label dictionary
    * @param labelGroup label group to be assigned
    */
-  protected void setGroupItem(GroupItem groupItem, EPGMElement element, LabelGroup labelGroup)
-    throws IOException {
+  protected void setGroupItem(GroupItem groupItem, EPGMElement element, int elementLabelId,
+    LabelGroup labelGroup) throws IOException {
     // stores all, in the label group specified, grouping values of the element, if the element
     // does not have a property a null property value is stored
     for (String groupPropertyKey : labelGroup.getPropertyKeys()) {
@@ -96,9 +130,11 @@ public class BuildGroupItemBase extends BuildBase {
     // label is also taken.
     if (labelGroup.getGroupingLabel().equals(getDefaultLabelGroup().getGroupingLabel()) &&
       useLabel()) {
-      groupItem.setGroupLabel(element.getLabel());
+      // the element label needs to be contained in the dictionary to be used as group label
+      groupItem.setGroupLabelId(elementLabelId == LabelDictionary.UNKNOWN_LABEL ?
+        getLabelId(element.getLabel()) : elementLabelId);
     } else {
-      groupItem.setGroupLabel(labelGroup.getGroupLabel());
+      groupItem.setGroupLabelId(getLabelId(labelGroup.getGroupLabel()));
     }
 
     if (doAggregate(labelGroup.getAggregators())) {
@@ -112,10 +148,6 @@ public class BuildGroupItemBase extends BuildBase {
     groupingValues.clear();
   }
 
-  protected List<LabelGroup> getLabelGroups() {
-    return labelGroups;
-  }
-
   protected LabelGroup getDefaultLabelGroup() {
     return defaultLabelGroup;
   }
@@ -52,7 +52,7 @@ abstract class BuildSuperEdge extends BuildBase {
       if (firstElement) {
         edgeGroupItem.setSourceId(edge.getSourceId());
         edgeGroupItem.setTargetId(edge.getTargetId());
-        edgeGroupItem.setGroupLabel(edge.getGroupLabel());
+        edgeGroupItem.setGroupLabelId(edge.getGroupLabelId());
         edgeGroupItem.setGroupingValues(edge.getGroupingValues());
         edgeGroupItem.setLabelGroup(edge.getLabelGroup());
         firstElement = false;
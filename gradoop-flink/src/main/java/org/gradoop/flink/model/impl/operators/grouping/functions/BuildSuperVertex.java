@@ -28,7 +28,7 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
  * Creates a new super vertex representing a vertex group. The vertex stores the
  * group label, the group property value and the aggregate values for its group.
  */
-@FunctionAnnotation.ForwardedFields("f1->id;f2->label")
+@FunctionAnnotation.ForwardedFields("f1->id")
 @FunctionAnnotation.ReadFields("f1;f2;f3;f4;f6")
 public class BuildSuperVertex
   extends BuildBase
@@ -63,7 +63,7 @@ public class BuildSuperVertex
     Exception {
     Vertex supVertex = vertexFactory.initVertex(groupItem.getSuperVertexId());
 
-    supVertex.setLabel(groupItem.getGroupLabel());
+    supVertex.setLabel(getLabelDictionary().getLabel(groupItem.getGroupLabelId()));
     setGroupProperties(supVertex, groupItem.getGroupingValues(), groupItem.getLabelGroup());
     setAggregateValues(
       supVertex,
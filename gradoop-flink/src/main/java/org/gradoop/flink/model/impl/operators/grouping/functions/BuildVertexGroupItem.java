@@ -67,16 +67,15 @@ public class BuildVertexGroupItem
     reuseVertexGroupItem.setVertexId(vertex.getId());
 
     // check if vertex shall be grouped by a special set of keys
-    for (LabelGroup vertexLabelGroup : getLabelGroups()) {
-      if (vertexLabelGroup.getGroupingLabel().equals(vertex.getLabel())) {
-        usedVertexLabelGroup = true;
-        setGroupItem(reuseVertexGroupItem, vertex, vertexLabelGroup);
-        collector.collect(reuseVertexGroupItem);
-      }
+    int labelId = getLabelDictionary().getId(vertex.getLabel());
+    for (LabelGroup vertexLabelGroup : getLabelGroups(labelId)) {
+      usedVertexLabelGroup = true;
+      setGroupItem(reuseVertexGroupItem, vertex, labelId, vertexLabelGroup);
+      collector.collect(reuseVertexGroupItem);
     }
     // standard grouping case
     if (!usedVertexLabelGroup) {
-      setGroupItem(reuseVertexGroupItem, vertex, getDefaultLabelGroup());
+      setGroupItem(reuseVertexGroupItem, vertex, labelId, getDefaultLabelGroup());
       collector.collect(reuseVertexGroupItem);
     }
   }
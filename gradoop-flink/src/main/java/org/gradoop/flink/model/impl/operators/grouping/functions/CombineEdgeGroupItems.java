@@ -26,7 +26,7 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
 @FunctionAnnotation.ForwardedFields(
     "f0;" + // sourceId
     "f1;" + // targetId
-    "f2;" + // group label
+    "f2;" + // group label id
     "f3;" + // properties
     "f4;" + // aggregates
     "f5"    // label group
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueList;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-aggregates the vertices of a partition in a bounded in-memory hash table.
+ *
+ * The table is keyed on the group label id and the serialized grouping values of a vertex. For
+ * each vertex, a non-candidate {@link VertexGroupItem} referring to the (partition local) super
+ * vertex id of its group is emitted. Super vertex tuples holding the partial aggregates of a
+ * group are emitted at the end of the partition or whenever the table reached its maximum size
+ * and a new group is encountered. In the latter case, the table is cleared and following
+ * vertices of a flushed group are assigned a new super vertex id.
+ *
+ * The output has the same form as the output of {@link CombineVertexGroupItems}, but no
+ * sorting of the input is required.
+ */
+public class HashCombineVertexGroupItems
+  extends BuildGroupItemBase
+  implements MapPartitionFunction<Vertex, VertexGroupItem> {
+
+  /**
+   * Maximum number of groups kept in the hash table.
+   */
+  private final int maxTableSize;
+
+  /**
+   * Partial super vertex tuples by group label id and grouping values.
+   */
+  private final Map<Tuple2<Integer, PropertyValueList>, VertexGroupItem> table;
+
+  /**
+   * Partial aggregates by group label id and grouping values.
+   */
+  private final Map<Tuple2<Integer, PropertyValueList>, PropertyValue[]> aggregates;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final VertexGroupItem reuseVertexGroupItem;
+
+  /**
+   * Creates map partition function.
+   *
+   * @param useLabel          true, if label shall be considered
+   * @param vertexLabelGroups stores grouping properties for vertex labels
+   * @param maxTableSize      maximum number of groups kept in memory
+   */
+  public HashCombineVertexGroupItems(boolean useLabel, List<LabelGroup> vertexLabelGroups,
+    int maxTableSize) {
+    super(useLabel, vertexLabelGroups);
+    this.maxTableSize = maxTableSize;
+    this.table = Maps.newHashMapWithExpectedSize(maxTableSize);
+    this.aggregates = Maps.newHashMapWithExpectedSize(maxTableSize);
+    this.reuseVertexGroupItem = new VertexGroupItem();
+  }
+
+  @Override
+  public void mapPartition(Iterable<Vertex> vertices, Collector<VertexGroupItem> out)
+    throws Exception {
+    for (Vertex vertex : vertices) {
+      boolean usedVertexLabelGroup = false;
+
+      // check if vertex shall be grouped by a special set of keys
+      int labelId = getLabelDictionary().getId(vertex.getLabel());
+      for (LabelGroup vertexLabelGroup : getLabelGroups(labelId)) {
+        usedVertexLabelGroup = true;
+        setGroupItem(reuseVertexGroupItem, vertex, labelId, vertexLabelGroup);
+        combine(vertex.getId(), out);
+      }
+      // standard grouping case
+      if (!usedVertexLabelGroup) {
+        setGroupItem(reuseVertexGroupItem, vertex, labelId, getDefaultLabelGroup());
+        combine(vertex.getId(), out);
+      }
+    }
+    flush(out);
+  }
+
+  /**
+   * Adds the current group item to the hash table and emits the non-candidate tuple for the
+   * given vertex.
+   *
+   * @param vertexId vertex id
+   * @param out output collector
+   * @throws IOException if the partial aggregates can not be serialized
+   */
+  private void combine(GradoopId vertexId, Collector<VertexGroupItem> out) throws IOException {
+    Tuple2<Integer, PropertyValueList> key = Tuple2.of(
+      reuseVertexGroupItem.getGroupLabelId(), reuseVertexGroupItem.getGroupingValues());
+    List<PropertyValueAggregator> valueAggregators =
+      reuseVertexGroupItem.getLabelGroup().getAggregators();
+
+    VertexGroupItem superVertex = table.get(key);
+    if (superVertex == null) {
+      if (table.size() >= maxTableSize) {
+        flush(out);
+      }
+      GradoopId superVertexId = GradoopId.get();
+      superVertex = new VertexGroupItem();
+      superVertex.setVertexId(superVertexId);
+      superVertex.setSuperVertexId(superVertexId);
+      superVertex.setGroupLabelId(key.f0);
+      superVertex.setGroupingValues(key.f1);
+      superVertex.setSuperVertex(true);
+      superVertex.setLabelGroup(reuseVertexGroupItem.getLabelGroup());
+      table.put(key, superVertex);
+      aggregates.put(key, new PropertyValue[valueAggregators.size()]);
+    }
+
+    if (doAggregate(valueAggregators)) {
+      PropertyValue[] partialAggregates = aggregates.get(key);
+      Iterator<PropertyValue> valueIt = reuseVertexGroupItem.getAggregateValues().iterator();
+      for (int i = 0; i < partialAggregates.length; i++) {
+        PropertyValueAggregator valueAggregator = valueAggregators.get(i);
+        valueAggregator.resetAggregate();
+        if (partialAggregates[i] != null) {
+          valueAggregator.aggregate(partialAggregates[i]);
+        }
+        valueAggregator.aggregate(valueIt.next());
+        partialAggregates[i] = valueAggregator.getAggregate();
+      }
+      resetAggregators(valueAggregators);
+    }
+
+    reuseVertexGroupItem.setVertexId(vertexId);
+    reuseVertexGroupItem.setSuperVertexId(superVertex.getSuperVertexId());
+    reuseVertexGroupItem.setAggregateValues(PropertyValueList.createEmptyList());
+    reuseVertexGroupItem.setSuperVertex(false);
+    out.collect(reuseVertexGroupItem);
+  }
+
+  /**
+   * Emits the super vertex tuples of all groups in the hash table and clears the table.
+   *
+   * @param out output collector
+   * @throws IOException if the partial aggregates can not be serialized
+   */
+  private void flush(Collector<VertexGroupItem> out) throws IOException {
+    for (Map.Entry<Tuple2<Integer, PropertyValueList>, VertexGroupItem> entry : table.entrySet()) {
+      VertexGroupItem superVertex = entry.getValue();
+      if (doAggregate(superVertex.getLabelGroup().getAggregators())) {
+        superVertex.setAggregateValues(
+          PropertyValueList.fromPropertyValues(Lists.newArrayList(aggregates.get(entry.getKey()))));
+      } else {
+        superVertex.setAggregateValues(PropertyValueList.createEmptyList());
+      }
+      out.collect(superVertex);
+    }
+    table.clear();
+    aggregates.clear();
+  }
+}
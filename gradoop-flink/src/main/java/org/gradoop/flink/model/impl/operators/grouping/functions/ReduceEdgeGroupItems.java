@@ -29,8 +29,8 @@ import org.gradoop.flink.model.impl.operators.grouping.tuples.EdgeGroupItem;
  * Creates a new super edge representing an edge group. The edge stores the
  * group label, the group property value and the aggregate values for its group.
  */
-@FunctionAnnotation.ForwardedFields("f0->sourceId;f1->targetId;f2->label")
-@FunctionAnnotation.ReadFields("f3;f5")
+@FunctionAnnotation.ForwardedFields("f0->sourceId;f1->targetId")
+@FunctionAnnotation.ReadFields("f2;f3;f5")
 public class ReduceEdgeGroupItems
   extends BuildSuperEdge
   implements GroupReduceFunction<EdgeGroupItem, Edge>, ResultTypeQueryable<Edge> {
@@ -66,7 +66,7 @@ public class ReduceEdgeGroupItems
     EdgeGroupItem edgeGroupItem = reduceInternal(edgeGroupItems);
 
     Edge superEdge = edgeFactory.createEdge(
-      edgeGroupItem.getGroupLabel(),
+      getLabelDictionary().getLabel(edgeGroupItem.getGroupLabelId()),
       edgeGroupItem.getSourceId(),
       edgeGroupItem.getTargetId());
 
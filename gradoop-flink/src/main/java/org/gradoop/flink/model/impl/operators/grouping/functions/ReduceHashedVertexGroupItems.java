@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+/**
+ * Reduces a group of {@link VertexGroupItem} instances sharing the same super vertex id (see
+ * {@link SetHashedSuperVertexId}) to a single super vertex tuple holding the group aggregates.
+ *
+ * As the output has the same form as the input, the function is also used as combiner.
+ */
+@FunctionAnnotation.ForwardedFields(
+    "f1;" + // super vertex id
+    "f2;" + // label id
+    "f3;" + // properties
+    "f6"    // label group
+)
+public class ReduceHashedVertexGroupItems
+  extends ReduceVertexGroupItemBase
+  implements GroupReduceFunction<VertexGroupItem, VertexGroupItem>,
+  GroupCombineFunction<VertexGroupItem, VertexGroupItem> {
+
+  /**
+   * Creates group reduce function.
+   *
+   * @param useLabel true, iff labels are used for grouping
+   */
+  public ReduceHashedVertexGroupItems(boolean useLabel) {
+    super(useLabel);
+  }
+
+  @Override
+  public void reduce(Iterable<VertexGroupItem> vertexGroupItems,
+    Collector<VertexGroupItem> collector) throws Exception {
+
+    VertexGroupItem first = null;
+
+    for (VertexGroupItem groupItem : vertexGroupItems) {
+      if (first == null) {
+        first = groupItem;
+      }
+      if (doAggregate(first.getLabelGroup().getAggregators())) {
+        aggregate(groupItem.getAggregateValues(), first.getLabelGroup().getAggregators());
+      }
+    }
+
+    VertexGroupItem superVertex = createSuperVertexTuple(
+      first.getSuperVertexId(),
+      first.getGroupLabelId(),
+      first.getGroupingValues(),
+      first.getLabelGroup().getAggregators());
+    superVertex.setSuperVertexId(first.getSuperVertexId());
+    superVertex.setLabelGroup(first.getLabelGroup());
+
+    resetAggregators(superVertex.getLabelGroup().getAggregators());
+    collector.collect(superVertex);
+  }
+
+  @Override
+  public void combine(Iterable<VertexGroupItem> values,
+    Collector<VertexGroupItem> out) throws Exception {
+    reduce(values, out);
+  }
+}
@@ -51,17 +51,17 @@ abstract class ReduceVertexGroupItemBase extends BuildBase {
    * later used to create a super vertex for each group.
    *
    * @param superVertexId       super vertex id
-   * @param groupLabel          group label
+   * @param groupLabelId        group label id
    * @param groupPropertyValues group property values
    * @param valueAggregators    vertex aggregators
    * @return vertex group item representing the super vertex
    */
   protected VertexGroupItem createSuperVertexTuple(
-    GradoopId superVertexId, String groupLabel,
+    GradoopId superVertexId, int groupLabelId,
     PropertyValueList groupPropertyValues,
     List<PropertyValueAggregator> valueAggregators) throws IOException {
     reuseVertexGroupItem.setVertexId(superVertexId);
-    reuseVertexGroupItem.setGroupLabel(groupLabel);
+    reuseVertexGroupItem.setGroupLabelId(groupLabelId);
     reuseVertexGroupItem.setGroupingValues(groupPropertyValues);
     reuseVertexGroupItem.setAggregateValues(getAggregateValues(valueAggregators));
     reuseVertexGroupItem.setSuperVertex(true);
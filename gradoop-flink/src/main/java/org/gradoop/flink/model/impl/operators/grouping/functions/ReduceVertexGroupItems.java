@@ -27,7 +27,7 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  */
 @FunctionAnnotation.ForwardedFields(
     "f0;" + // vertex id
-    "f2;" + // label
+    "f2;" + // label id
     "f3;" + // properties
     "f4;" + // aggregates
     "f6"    // label group
@@ -50,7 +50,7 @@ public class ReduceVertexGroupItems
     Collector<VertexGroupItem> collector) throws Exception {
 
     GradoopId superVertexId                         = null;
-    String groupLabel                               = null;
+    int groupLabelId                                = 0;
     PropertyValueList groupPropertyValues           = null;
 
     VertexGroupItem reuseTuple = getReuseVertexGroupItem();
@@ -60,10 +60,10 @@ public class ReduceVertexGroupItems
     for (VertexGroupItem groupItem : vertexGroupItems) {
       if (isFirst) {
         superVertexId       = GradoopId.get();
-        groupLabel          = groupItem.getGroupLabel();
+        groupLabelId        = groupItem.getGroupLabelId();
         groupPropertyValues = groupItem.getGroupingValues();
 
-        reuseTuple.setGroupLabel(groupLabel);
+        reuseTuple.setGroupLabelId(groupLabelId);
         reuseTuple.setGroupingValues(groupPropertyValues);
         reuseTuple.setSuperVertexId(superVertexId);
         reuseTuple.setAggregateValues(groupItem.getAggregateValues());
@@ -84,7 +84,7 @@ public class ReduceVertexGroupItems
 
     VertexGroupItem superVertex = createSuperVertexTuple(
       superVertexId,
-      groupLabel,
+      groupLabelId,
       groupPropertyValues,
       reuseTuple.getLabelGroup().getAggregators());
     resetAggregators(superVertex.getLabelGroup().getAggregators());
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+
+/**
+ * Sets the super vertex id of a {@link VertexGroupItem} to an id derived from its grouping key,
+ * i.e. its group label id and its grouping values.
+ *
+ * The id consists of the first {@link GradoopId#ID_SIZE} bytes of the 128 bit murmur3 hash of
+ * the grouping key and a seed. All items of a group get the same super vertex id without any
+ * communication. The seed distinguishes the super vertex ids of different grouping operators.
+ */
+@FunctionAnnotation.ForwardedFields("f0;f2;f3;f4;f5;f6")
+@FunctionAnnotation.ReadFields("f2;f3")
+public class SetHashedSuperVertexId implements MapFunction<VertexGroupItem, VertexGroupItem> {
+
+  /**
+   * Hash function used to compute the ids.
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  /**
+   * Seed of the hash, shared by all items of a grouping operator.
+   */
+  private final GradoopId seed;
+
+  /**
+   * Holds the serialized grouping key.
+   */
+  private transient DataOutputSerializer keyBuffer;
+
+  /**
+   * Creates map function.
+   *
+   * @param seed seed of the hash
+   */
+  public SetHashedSuperVertexId(GradoopId seed) {
+    this.seed = seed;
+  }
+
+  @Override
+  public VertexGroupItem map(VertexGroupItem item) throws Exception {
+    if (keyBuffer == null) {
+      keyBuffer = new DataOutputSerializer(64);
+    }
+    keyBuffer.clear();
+    seed.write(keyBuffer);
+    keyBuffer.writeInt(item.getGroupLabelId());
+    item.getGroupingValues().write(keyBuffer);
+
+    byte[] hash = HASH_FUNCTION
+      .hashBytes(keyBuffer.getSharedBuffer(), 0, keyBuffer.length())
+      .asBytes();
+    item.setSuperVertexId(GradoopId.fromByteArray(hash));
+    return item;
+  }
+}
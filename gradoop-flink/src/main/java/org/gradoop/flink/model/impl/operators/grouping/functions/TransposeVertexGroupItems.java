@@ -47,7 +47,7 @@ import java.util.Set;
  */
 @FunctionAnnotation.ForwardedFields(
     "f0->f0.f0;" +  // vertexId
-    "f2->f0.f2;" +  // label
+    "f2->f0.f2;" +  // label id
     "f3->f0.f3;" +  // properties
     "f6->f0.f6"     // label group
 )
@@ -80,7 +80,7 @@ public class TransposeVertexGroupItems
       throws Exception {
 
     GradoopId superVertexId               = null;
-    String groupLabel                     = null;
+    int groupLabelId                      = 0;
     PropertyValueList groupPropertyValues = null;
     LabelGroup vertexLabelGroup           = null;
 
@@ -91,7 +91,7 @@ public class TransposeVertexGroupItems
     for (VertexGroupItem groupItem : vertexGroupItems) {
       if (isFirst) {
         superVertexId = GradoopId.get();
-        groupLabel            = groupItem.getGroupLabel();
+        groupLabelId          = groupItem.getGroupLabelId();
         groupPropertyValues   = groupItem.getGroupingValues();
         vertexLabelGroup      = groupItem.getLabelGroup();
 
@@ -108,7 +108,7 @@ public class TransposeVertexGroupItems
     reuseInnerTuple.setId(superVertexId);
     reuseInnerTuple.setIdSet(GradoopIdSet.fromExisting(superVertexIds));
 
-    reuseOuterTuple.f0 = createSuperVertexTuple(superVertexId, groupLabel,
+    reuseOuterTuple.f0 = createSuperVertexTuple(superVertexId, groupLabelId,
       groupPropertyValues, vertexLabelGroup.getAggregators());
     reuseOuterTuple.f0.setSuperVertexId(superVertexId);
     reuseOuterTuple.f0.setLabelGroup(vertexLabelGroup);
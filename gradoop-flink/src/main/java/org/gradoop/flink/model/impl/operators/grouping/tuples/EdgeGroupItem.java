@@ -24,13 +24,13 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  *
  * f0: source vertex id
  * f1: target vertex id
- * f2: edge group label
+ * f2: edge group label id
  * f3: edge group property values
  * f4: edge group aggregate values
  * f5: edge label group
  */
 public class EdgeGroupItem
-  extends Tuple6<GradoopId, GradoopId, String, PropertyValueList, PropertyValueList, LabelGroup>
+  extends Tuple6<GradoopId, GradoopId, Integer, PropertyValueList, PropertyValueList, LabelGroup>
   implements GroupItem {
 
   public GradoopId getSourceId() {
@@ -49,12 +49,12 @@ public class EdgeGroupItem
     f1 = targetVertexId;
   }
 
-  public String getGroupLabel() {
+  public int getGroupLabelId() {
     return f2;
   }
 
-  public void setGroupLabel(String groupLabel) {
-    f2 = groupLabel;
+  public void setGroupLabelId(int groupLabelId) {
+    f2 = groupLabelId;
   }
 
   public PropertyValueList getGroupingValues() {
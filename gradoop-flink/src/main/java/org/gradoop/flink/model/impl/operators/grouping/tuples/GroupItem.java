@@ -24,18 +24,18 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
 public interface GroupItem {
 
   /**
-   * Returns the label of the group of the group item.
+   * Returns the id of the group label in the label dictionary.
    *
-   * @return group label
+   * @return group label id
    */
-  String getGroupLabel();
+  int getGroupLabelId();
 
   /**
-   * Sets the label of the group of the group item.
+   * Sets the id of the group label in the label dictionary.
    *
-   * @param label new label
+   * @param labelId new group label id
    */
-  void setGroupLabel(String label);
+  void setGroupLabelId(int labelId);
 
   /**
    * Returns the label group of the group item.
@@ -24,7 +24,7 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  *
  * f0: vertex id
  * f1: super vertex id
- * f2: vertex group label
+ * f2: vertex group label id
  * f3: vertex group properties
  * f4: vertex group aggregate values
  * f5: super vertex tuple true/false
@@ -32,7 +32,7 @@ import org.gradoop.common.model.impl.properties.PropertyValueList;
  */
 public class VertexGroupItem
   extends Tuple7
-  <GradoopId, GradoopId, String, PropertyValueList, PropertyValueList, Boolean, LabelGroup>
+  <GradoopId, GradoopId, Integer, PropertyValueList, PropertyValueList, Boolean, LabelGroup>
   implements GroupItem {
 
   public GradoopId getVertexId() {
@@ -51,12 +51,12 @@ public class VertexGroupItem
     f1 = superVertexId;
   }
 
-  public String getGroupLabel() {
+  public int getGroupLabelId() {
     return f2;
   }
 
-  public void setGroupLabel(String groupLabel) {
-    f2 = groupLabel;
+  public void setGroupLabelId(int groupLabelId) {
+    f2 = groupLabelId;
   }
 
   public PropertyValueList getGroupingValues() {
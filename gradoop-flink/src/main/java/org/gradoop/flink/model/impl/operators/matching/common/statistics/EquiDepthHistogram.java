@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import java.util.Arrays;
+
+/**
+ * Equi-depth histogram over the numeric values of a (label, property name) pair. Each bucket
+ * contains (approximately) the same number of values and is described by its lower and upper
+ * bound, i.e. {@code k} buckets are defined by {@code k + 1} ascending bounds.
+ */
+public class EquiDepthHistogram {
+  /**
+   * Number of values covered by the histogram
+   */
+  private final long count;
+  /**
+   * Ascending bucket bounds
+   */
+  private final double[] bounds;
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param count number of values covered by the histogram
+   * @param bounds ascending bucket bounds (at least two)
+   */
+  public EquiDepthHistogram(long count, double[] bounds) {
+    if (bounds.length < 2) {
+      throw new IllegalArgumentException("A histogram needs at least two bounds");
+    }
+    this.count = count;
+    this.bounds = bounds;
+  }
+
+  /**
+   * Returns the number of values covered by the histogram.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the ascending bucket bounds.
+   *
+   * @return bucket bounds
+   */
+  public double[] getBounds() {
+    return bounds;
+  }
+
+  /**
+   * Returns the number of buckets.
+   *
+   * @return number of buckets
+   */
+  public int getBucketCount() {
+    return bounds.length - 1;
+  }
+
+  /**
+   * Estimates the fraction of values that are smaller than the given value. Values are assumed to
+   * be uniformly distributed within a bucket.
+   *
+   * @param value value to compare with
+   * @return fraction of values in [0, 1]
+   */
+  public double getFractionLessThan(double value) {
+    if (value <= bounds[0]) {
+      return 0d;
+    }
+    if (value > bounds[bounds.length - 1]) {
+      return 1d;
+    }
+    double fraction = 0d;
+    for (int i = 0; i < getBucketCount(); i++) {
+      double lower = bounds[i];
+      double upper = bounds[i + 1];
+      if (value > upper) {
+        fraction += 1d;
+      } else {
+        if (upper > lower) {
+          fraction += (value - lower) / (upper - lower);
+        }
+        break;
+      }
+    }
+    return fraction / getBucketCount();
+  }
+
+  /**
+   * Estimates the fraction of values that are greater than the given value.
+   *
+   * @param value value to compare with
+   * @return fraction of values in [0, 1]
+   */
+  public double getFractionGreaterThan(double value) {
+    if (value < bounds[0]) {
+      return 1d;
+    }
+    if (value >= bounds[bounds.length - 1]) {
+      return 0d;
+    }
+    double fraction = 0d;
+    for (int i = getBucketCount() - 1; i >= 0; i--) {
+      double lower = bounds[i];
+      double upper = bounds[i + 1];
+      if (value < lower) {
+        fraction += 1d;
+      } else {
+        if (upper > lower) {
+          fraction += (upper - value) / (upper - lower);
+        }
+        break;
+      }
+    }
+    return fraction / getBucketCount();
+  }
+
+  @Override
+  public String toString() {
+    return "EquiDepthHistogram{count=" + count + ", bounds=" + Arrays.toString(bounds) + "}";
+  }
+}
@@ -84,6 +84,22 @@ public class GraphStatistics {
    * Number of distinct vertex property values for property names
    */
   private Map<String, Long> distinctVertexProperties;
+  /**
+   * Equi-depth histograms of numeric edge property values of a given label - property name pair
+   */
+  private Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel;
+  /**
+   * Equi-depth histograms of numeric vertex property values of a given label - property name pair
+   */
+  private Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel;
+  /**
+   * Most common edge property values and their frequencies of a given label - property name pair
+   */
+  private Map<String, Map<String, Map<String, Long>>> edgeMostCommonValuesByLabel;
+  /**
+   * Most common vertex property values and their frequencies of a given label - property name pair
+   */
+  private Map<String, Map<String, Map<String, Long>>> vertexMostCommonValuesByLabel;
 
   /**
    * Constructor using basic statistics.
@@ -140,6 +156,55 @@ public class GraphStatistics {
     Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
     Map<String, Long> distinctEdgeProperties,
     Map<String, Long> distinctVertexProperties) {
+    this(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
+      edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
+      distinctSourceVertexCount, distinctTargetVertexCount,
+      distinctSourceVertexCountByEdgeLabel, distinctTargetVertexCountByEdgeLabel,
+      distinctEdgePropertiesByLabel, distinctVertexPropertiesByLabel,
+      distinctEdgeProperties, distinctVertexProperties,
+      Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param vertexCount number of vertices
+   * @param edgeCount number of edges
+   * @param vertexCountByLabel number of vertices by label
+   * @param edgeCountByLabel number of edges by label
+   * @param edgeCountBySourceVertexAndEdgeLabel number of edges by source vertex and edge label
+   * @param edgeCountByTargetVertexAndEdgeLabel number of edges by target vertex and edge label
+   * @param distinctSourceVertexCount number of distinct source vertices
+   * @param distinctTargetVertexCount number of distinct target vertices
+   * @param distinctSourceVertexCountByEdgeLabel number of distinct source vertices by edge label
+   * @param distinctTargetVertexCountByEdgeLabel number of distinct target vertices by edge label
+   * @param distinctEdgePropertiesByLabel (label,property) -> distinct values
+   * @param distinctVertexPropertiesByLabel (label,property) -> distinct values
+   * @param distinctEdgeProperties (edge property) -> distinct values
+   * @param distinctVertexProperties (vertex property) -> distinct values
+   * @param edgePropertyHistogramsByLabel (label,property) -> histogram
+   * @param vertexPropertyHistogramsByLabel (label,property) -> histogram
+   * @param edgeMostCommonValuesByLabel (label,property) -> (value -> frequency)
+   * @param vertexMostCommonValuesByLabel (label,property) -> (value -> frequency)
+   */
+  GraphStatistics(long vertexCount, long edgeCount, Map<String, Long> vertexCountByLabel,
+    Map<String, Long> edgeCountByLabel,
+    Map<String, Map<String, Long>> edgeCountBySourceVertexAndEdgeLabel,
+    Map<String, Map<String, Long>> edgeCountByTargetVertexAndEdgeLabel,
+    long distinctSourceVertexCount, long distinctTargetVertexCount,
+    Map<String, Long> distinctSourceVertexCountByEdgeLabel,
+    Map<String, Long> distinctTargetVertexCountByEdgeLabel,
+    Map<String, Map<String, Long>> distinctEdgePropertiesByLabel,
+    Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
+    Map<String, Long> distinctEdgeProperties,
+    Map<String, Long> distinctVertexProperties,
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel,
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel,
+    Map<String, Map<String, Map<String, Long>>> edgeMostCommonValuesByLabel,
+    Map<String, Map<String, Map<String, Long>>> vertexMostCommonValuesByLabel) {
     this.vertexCount = vertexCount;
     this.edgeCount = edgeCount;
     this.vertexCountByLabel = vertexCountByLabel;
@@ -154,6 +219,10 @@ public class GraphStatistics {
     this.distinctVertexPropertiesByLabel = distinctVertexPropertiesByLabel;
     this.distinctEdgeProperties = distinctEdgeProperties;
     this.distinctVertexProperties = distinctVertexProperties;
+    this.edgePropertyHistogramsByLabel = edgePropertyHistogramsByLabel;
+    this.vertexPropertyHistogramsByLabel = vertexPropertyHistogramsByLabel;
+    this.edgeMostCommonValuesByLabel = edgeMostCommonValuesByLabel;
+    this.vertexMostCommonValuesByLabel = vertexMostCommonValuesByLabel;
   }
 
   /**
@@ -306,6 +375,62 @@ public class GraphStatistics {
       distinctEdgePropertiesByLabel.get(edgeLabel).getOrDefault(propertyName, 0L) : 0;
   }
 
+  /**
+   * Returns the histogram of numeric property values for the given vertex label property name
+   * pair or {@code null} if no histogram is available.
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return histogram or {@code null}
+   */
+  public EquiDepthHistogram getVertexPropertyHistogram(String vertexLabel, String propertyName) {
+    return vertexPropertyHistogramsByLabel.containsKey(vertexLabel) ?
+      vertexPropertyHistogramsByLabel.get(vertexLabel).get(propertyName) : null;
+  }
+
+  /**
+   * Returns the histogram of numeric property values for the given edge label property name
+   * pair or {@code null} if no histogram is available.
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return histogram or {@code null}
+   */
+  public EquiDepthHistogram getEdgePropertyHistogram(String edgeLabel, String propertyName) {
+    return edgePropertyHistogramsByLabel.containsKey(edgeLabel) ?
+      edgePropertyHistogramsByLabel.get(edgeLabel).get(propertyName) : null;
+  }
+
+  /**
+   * Returns the most common property values and their frequencies for the given vertex label
+   * property name pair, e.g. (Person, city) -> {Leipzig=2, Dresden=3}. Values are represented by
+   * their string representation.
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return most common values (empty, if not available)
+   */
+  public Map<String, Long> getVertexMostCommonValues(String vertexLabel, String propertyName) {
+    return vertexMostCommonValuesByLabel.containsKey(vertexLabel) ?
+      vertexMostCommonValuesByLabel.get(vertexLabel)
+        .getOrDefault(propertyName, Collections.emptyMap()) : Collections.emptyMap();
+  }
+
+  /**
+   * Returns the most common property values and their frequencies for the given edge label
+   * property name pair, e.g. (knows, since) -> {2014=4}. Values are represented by their string
+   * representation.
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return most common values (empty, if not available)
+   */
+  public Map<String, Long> getEdgeMostCommonValues(String edgeLabel, String propertyName) {
+    return edgeMostCommonValuesByLabel.containsKey(edgeLabel) ?
+      edgeMostCommonValuesByLabel.get(edgeLabel)
+        .getOrDefault(propertyName, Collections.emptyMap()) : Collections.emptyMap();
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("GraphStatistics{");
@@ -337,6 +462,14 @@ public class GraphStatistics {
       .append(distinctVertexPropertiesByLabel);
     sb.append(String.format(",%n distinctEdgePropertiesByLabel="))
       .append(distinctEdgePropertiesByLabel);
+    sb.append(String.format(",%n vertexPropertyHistogramsByLabel="))
+      .append(vertexPropertyHistogramsByLabel);
+    sb.append(String.format(",%n edgePropertyHistogramsByLabel="))
+      .append(edgePropertyHistogramsByLabel);
+    sb.append(String.format(",%n vertexMostCommonValuesByLabel="))
+      .append(vertexMostCommonValuesByLabel);
+    sb.append(String.format(",%n edgeMostCommonValuesByLabel="))
+      .append(edgeMostCommonValuesByLabel);
 
     sb.append(String.format("%n}"));
     return sb.toString();
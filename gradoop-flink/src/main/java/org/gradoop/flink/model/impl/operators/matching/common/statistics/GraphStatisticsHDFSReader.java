@@ -23,6 +23,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -33,7 +34,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Histograms and
+   * most common values are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -60,6 +62,14 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
     Map<String, Map<String, Long>> distinctPropertyValuesByVertexLabelAndPropertyName;
     Map<String, Long> distinctEdgePropertyValuesByPropertyName;
     Map<String, Long> distinctVertexPropertyValuesByPropertyName;
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel =
+      Collections.emptyMap();
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel =
+      Collections.emptyMap();
+    Map<String, Map<String, Map<String, Long>>> edgeMostCommonValuesByLabel =
+      Collections.emptyMap();
+    Map<String, Map<String, Map<String, Long>>> vertexMostCommonValuesByLabel =
+      Collections.emptyMap();
 
     Path p = new Path(root, GraphStatisticsReader.FILE_VERTEX_COUNT);
     try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
@@ -135,11 +145,42 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
+    // histograms and most common values are optional
+    p = new Path(root, GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        edgePropertyHistogramsByLabel = readHistograms(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        vertexPropertyHistogramsByLabel = readHistograms(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        edgeMostCommonValuesByLabel = readMostCommonValues(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        vertexMostCommonValuesByLabel = readMostCommonValues(br.lines());
+      }
+    }
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
-      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel, vertexPropertyHistogramsByLabel,
+      edgeMostCommonValuesByLabel, vertexMostCommonValuesByLabel);
   }
 }
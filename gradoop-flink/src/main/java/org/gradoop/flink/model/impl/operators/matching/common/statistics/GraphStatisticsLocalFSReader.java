@@ -21,6 +21,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -31,7 +32,8 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Histograms and
+   * most common values are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -98,6 +100,27 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
+    // histograms and most common values are optional
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel =
+      Files.exists(p) ? readHistograms(Files.lines(p, charset)) : Collections.emptyMap();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL));
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel =
+      Files.exists(p) ? readHistograms(Files.lines(p, charset)) : Collections.emptyMap();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL));
+    Map<String, Map<String, Map<String, Long>>> edgeMostCommonValuesByLabel =
+      Files.exists(p) ? readMostCommonValues(Files.lines(p, charset)) : Collections.emptyMap();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL));
+    Map<String, Map<String, Map<String, Long>>> vertexMostCommonValuesByLabel =
+      Files.exists(p) ? readMostCommonValues(Files.lines(p, charset)) : Collections.emptyMap();
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
@@ -105,7 +128,11 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
-      distinctVertexPropertyValuesByPropertyName);
+      distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel,
+      vertexPropertyHistogramsByLabel,
+      edgeMostCommonValuesByLabel,
+      vertexMostCommonValuesByLabel);
   }
 
 }
@@ -195,6 +195,60 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Each line contains the edge label, a property name, the number of numeric values for that
+   * pair and the ascending bounds of an equi-depth histogram over these values, e.g.
+   *
+   * BOF
+   * knows,since,10,2013.0,2014.0,2014.0,2015.0
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "edge_property_histograms_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, the number of numeric values for that
+   * pair and the ascending bounds of an equi-depth histogram over these values, e.g.
+   *
+   * BOF
+   * Person,age,6,20.0,30.0,35.0,40.0
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "vertex_property_histograms_by_label";
+
+  /**
+   * Each line contains the edge label, a property name, the frequency of a property value and
+   * the property value itself, e.g.
+   *
+   * BOF
+   * knows,since,4,2014
+   * knows,since,3,2013
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL =
+    "edge_most_common_values_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, the frequency of a property value and
+   * the property value itself, e.g.
+   *
+   * BOF
+   * Person,city,3,Dresden
+   * Person,city,2,Leipzig
+   * EOF
+   *
+   * The file is optional.
+   */
+  public static final String FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL =
+    "vertex_most_common_values_by_label";
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -251,4 +305,53 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads histograms from the given file grouped by the first token in each line.
+   *
+   * @param lines stream of lines in the file
+   * @return (label, property) -> histogram
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, EquiDepthHistogram>> readHistograms(Stream<String> lines)
+      throws IOException {
+
+    final Map<String, Map<String, EquiDepthHistogram>> mapping = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> {
+          double[] bounds = new double[tokens.length - 3];
+          for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = Double.parseDouble(tokens[i + 3]);
+          }
+          mapping.computeIfAbsent(tokens[0], k -> new HashMap<>())
+            .put(tokens[1], new EquiDepthHistogram(Long.parseLong(tokens[2]), bounds));
+        });
+
+    return mapping;
+  }
+
+  /**
+   * Reads most common values from the given file grouped by the first two tokens in each line.
+   * The value is the remainder of the line and may contain the token separator.
+   *
+   * @param lines stream of lines in the file
+   * @return (label, property) -> (value -> frequency)
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, Map<String, Long>>> readMostCommonValues(Stream<String> lines)
+      throws IOException {
+
+    final Map<String, Map<String, Map<String, Long>>> mapping = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR, 4))
+      .forEach(tokens -> mapping
+        .computeIfAbsent(tokens[0], k -> new HashMap<>())
+        .computeIfAbsent(tokens[1], k -> new HashMap<>())
+        .put(tokens[3], Long.parseLong(tokens[2])));
+
+    return mapping;
+  }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import com.google.common.base.Preconditions;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evaluates a batch of Cypher queries on the same search graph within a single dataflow.
+ *
+ * The queries are planned independently, but share an {@link EmbeddingCache}, such that equal
+ * leaf operators are computed only once. Furthermore, plan nodes of different queries with equal
+ * signatures (see {@link PlanNode#getSignature()}), e.g. equal join sub trees, share their
+ * output. The result contains one graph collection per query.
+ */
+public class CypherBatchPatternMatching {
+  /**
+   * Operators for the single queries
+   */
+  private final List<CypherPatternMatching> queries;
+  /**
+   * Query plans computed by the last execution
+   */
+  private List<QueryPlan> queryPlans;
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param queries         Cypher query strings
+   * @param attachData      true, if original data shall be attached to the result
+   * @param vertexStrategy  morphism strategy for vertex mappings
+   * @param edgeStrategy    morphism strategy for edge mappings
+   * @param graphStatistics statistics about the data graph
+   */
+  public CypherBatchPatternMatching(List<String> queries, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(queries, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      PlannerStrategy.GREEDY, new EmbeddingCache());
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param queries         Cypher query strings
+   * @param attachData      true, if original data shall be attached to the result
+   * @param vertexStrategy  morphism strategy for vertex mappings
+   * @param edgeStrategy    morphism strategy for edge mappings
+   * @param graphStatistics statistics about the data graph
+   * @param plannerStrategy planner used to compute the query plans
+   * @param embeddingCache  cache for the output of leaf operators shared by all queries
+   */
+  public CypherBatchPatternMatching(List<String> queries, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy, EmbeddingCache embeddingCache) {
+    Preconditions.checkArgument(!queries.isEmpty(), "Batch must contain at least one query");
+    Preconditions.checkNotNull(embeddingCache, "Embedding cache must not be null");
+    this.queries = new ArrayList<>();
+    for (String query : queries) {
+      this.queries.add(new CypherPatternMatching(query, null, attachData, vertexStrategy,
+        edgeStrategy, graphStatistics, plannerStrategy, embeddingCache));
+    }
+    this.queryPlans = Collections.emptyList();
+  }
+
+  /**
+   * Plans all queries and builds the dataflow computing their matches in the given graph.
+   *
+   * @param graph search graph
+   * @return graph collections containing the matches in the order of the queries
+   */
+  public List<GraphCollection> execute(LogicalGraph graph) {
+    Map<String, DataSet<Embedding>> sharedEmbeddings = new HashMap<>();
+    List<QueryPlan> plans = new ArrayList<>();
+    List<GraphCollection> results = new ArrayList<>();
+
+    for (CypherPatternMatching query : queries) {
+      QueryPlan plan = query.createQueryPlan(graph);
+      plan.setSharedEmbeddings(sharedEmbeddings);
+      results.add(query.executeForPlan(graph, plan));
+      plans.add(plan);
+    }
+
+    this.queryPlans = plans;
+    return results;
+  }
+
+  /**
+   * Returns the query plans computed by the last call of {@link #execute(LogicalGraph)}.
+   *
+   * @return query plans in the order of the queries
+   */
+  public List<QueryPlan> getQueryPlans() {
+    return Collections.unmodifiableList(queryPlans);
+  }
+
+  /**
+   * Returns the number of plan nodes of the last execution that are not evaluated, because a node
+   * with the same signature has already been evaluated.
+   *
+   * @return number of shared plan nodes
+   */
+  public int getSharedNodeCount() {
+    int sharedNodes = 0;
+    Set<String> signatures = new HashSet<>();
+    for (QueryPlan plan : queryPlans) {
+      for (PlanNode node : plan.getNodes()) {
+        String signature = node.getSignature();
+        if (signature != null && !signatures.add(signature)) {
+          sharedNodes++;
+        }
+      }
+    }
+    return sharedNodes;
+  }
+}
@@ -30,6 +30,10 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.Print
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.BasePlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamicprogramming.DynamicProgrammingPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
@@ -65,6 +69,18 @@ public class CypherPatternMatching extends PatternMatching {
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Planner used to compute the query plan
+   */
+  private final PlannerStrategy plannerStrategy;
+  /**
+   * Cache for the output of leaf operators, shared across queries
+   */
+  private final EmbeddingCache embeddingCache;
+  /**
+   * True, if join inputs may be reduced by semi joins
+   */
+  private final boolean semiJoinReduction;
 
   /**
    * Instantiates a new operator.
@@ -92,11 +108,72 @@ public class CypherPatternMatching extends PatternMatching {
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      PlannerStrategy.GREEDY);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerStrategy     planner used to compute the query plan
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      plannerStrategy, null);
+  }
+
+  /**
+   * Instantiates a new operator. Leaf operators that filter and project the same vertices or
+   * edges as an operator of a previous query using the same cache reuse its result.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerStrategy     planner used to compute the query plan
+   * @param embeddingCache      cache shared across queries or {@code null} for a cache per query
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy, EmbeddingCache embeddingCache) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      plannerStrategy, embeddingCache, true);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerStrategy     planner used to compute the query plan
+   * @param embeddingCache      cache shared across queries or {@code null} for a cache per query
+   * @param semiJoinReduction   true, if the planner may reduce join inputs by semi joins
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy, EmbeddingCache embeddingCache, boolean semiJoinReduction) {
     super(query, attachData, LOG);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.plannerStrategy = plannerStrategy;
+    this.embeddingCache = embeddingCache;
+    this.semiJoinReduction = semiJoinReduction;
   }
 
   @Override
@@ -106,11 +183,28 @@ public class CypherPatternMatching extends PatternMatching {
 
   @Override
   protected GraphCollection executeForPattern(LogicalGraph graph) {
-    // Query planning
+    return executeForPlan(graph, createQueryPlan(graph));
+  }
+
+  /**
+   * Computes the query plan for the given search graph.
+   *
+   * @param graph search graph
+   * @return query plan
+   */
+  QueryPlan createQueryPlan(LogicalGraph graph) {
+    return createPlanner(graph, getQueryHandler()).plan().getQueryPlan();
+  }
+
+  /**
+   * Executes the given query plan and constructs the resulting graph collection.
+   *
+   * @param graph search graph
+   * @param plan query plan computed by {@link #createQueryPlan(LogicalGraph)}
+   * @return graph collection containing the matches
+   */
+  GraphCollection executeForPlan(LogicalGraph graph, QueryPlan plan) {
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -136,6 +230,32 @@ public class CypherPatternMatching extends PatternMatching {
       PostProcessor.extractGraphCollection(finalElements, graph.getConfig(), true);
   }
 
+  /**
+   * Creates the query planner according to the planner strategy.
+   *
+   * @param graph        search graph
+   * @param queryHandler query handler
+   * @return query planner
+   */
+  private BasePlanner createPlanner(LogicalGraph graph, QueryHandler queryHandler) {
+    EmbeddingCache cache = embeddingCache != null ? embeddingCache : new EmbeddingCache();
+    BasePlanner planner;
+    switch (plannerStrategy) {
+    case GREEDY:
+      planner = new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy,
+        edgeStrategy, cache);
+      break;
+    case DYNAMIC_PROGRAMMING:
+      planner = new DynamicProgrammingPlanner(graph, queryHandler, graphStatistics,
+        vertexStrategy, edgeStrategy, DynamicProgrammingPlanner.DEFAULT_MAX_LEAVES, cache);
+      break;
+    default:
+      throw new IllegalArgumentException("Unsupported planner strategy: " + plannerStrategy);
+    }
+    planner.setSemiJoinReduction(semiJoinReduction);
+    return planner;
+  }
+
   /**
    * Method to construct final embedded elements
    *
@@ -147,6 +147,23 @@ public abstract class ExpandEmbeddings implements PhysicalOperator {
    * @return initial working set with the expand embeddings
    */
   private DataSet<ExpandEmbedding> preProcess() {
+    prepareCandidateEdges();
+
+    return input.join(candidateEdgeTuples, joinHint)
+      .where(new ExtractExpandColumn(expandColumn)).equalTo(0)
+      .with(new CreateExpandEmbedding(
+        distinctVertexColumns,
+        distinctEdgeColumns,
+        closingColumn
+      ))
+      .name(getName() + " - Initial expansion");
+  }
+
+  /**
+   * Orients the candidate edges according to the expand direction and creates the keyed
+   * candidate edge tuples used to grow the paths
+   */
+  protected void prepareCandidateEdges() {
     if (direction == ExpandDirection.IN) {
       candidateEdges = candidateEdges
         .map(new ReverseEdgeEmbedding())
@@ -158,15 +175,6 @@ public abstract class ExpandEmbeddings implements PhysicalOperator {
       .name(getName() + " - Create candidate edge tuples")
       .partitionByHash(0)
       .name(getName() + " - Partition edge tuples");
-
-    return input.join(candidateEdgeTuples, joinHint)
-      .where(new ExtractExpandColumn(expandColumn)).equalTo(0)
-      .with(new CreateExpandEmbedding(
-        distinctVertexColumns,
-        distinctEdgeColumns,
-        closingColumn
-      ))
-      .name(getName() + " - Initial expansion");
   }
 
   /**
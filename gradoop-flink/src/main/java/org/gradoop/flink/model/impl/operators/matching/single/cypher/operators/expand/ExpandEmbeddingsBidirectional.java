@@ -0,0 +1,306 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.count.Count;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CombineHalfPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateReachabilityEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateReachabilityTuple;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExpandReachability;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractClosingVertex;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractMeetingPoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ReverseEdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ToFrontierSize;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Expands an vertex along the edges. The number of hops can be specified via upper and lower bound
+ * The input embedding is appended by 2 Entries, the first one represents the path (edge, vertex,
+ * edge, vertex, ..., edge), the second one the end vertex
+ *
+ * Iteration is done with {@code LoopUnrolling}. If the end of the paths is already part of the
+ * input embedding (closing column), paths are grown from both ends and meet in the middle: a path
+ * of length k is the combination of a path of length ceil(k/2) starting at the expand column and
+ * a path of length floor(k/2) grown backwards from the closing vertex. Backward paths are grown
+ * once per distinct closing vertex.
+ *
+ * If path identities are not needed (e.g. for reachability queries, see
+ * {@link #setKeepPaths(boolean)}), the operator only keeps the distinct (start vertex, current
+ * vertex) pairs of each iteration and appends an empty path to each reachable end vertex.
+ * This requires homomorphism semantics for the expanded paths.
+ *
+ * The number of entries in the frontier of each iteration is reported by
+ * {@link #getFrontierSizes()}.
+ */
+public class ExpandEmbeddingsBidirectional extends ExpandEmbeddings {
+  /**
+   * Side label for frontiers grown from the expand column
+   */
+  public static final String FORWARD = "forward";
+  /**
+   * Side label for frontiers grown from the closing column
+   */
+  public static final String BACKWARD = "backward";
+  /**
+   * True, if the paths have to be part of the result
+   */
+  private boolean keepPaths = true;
+  /**
+   * Frontier sizes of all expansion steps, available after evaluation
+   */
+  private DataSet<Tuple3<String, Integer, Long>> frontierSizes;
+
+  /**
+   * New bidirectional expand operator. Paths are grown from both ends, if the closing column is
+   * set and more than one hop is requested.
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the input column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand, must be finite
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct input vertex columns
+   * @param distinctEdgeColumns indices of distinct input edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   * @param joinHint join strategy
+   */
+  public ExpandEmbeddingsBidirectional(DataSet<Embedding> input,
+    DataSet<Embedding> candidateEdges, int expandColumn, int lowerBound, int upperBound,
+    ExpandDirection direction, List<Integer> distinctVertexColumns,
+    List<Integer> distinctEdgeColumns, int closingColumn, JoinOperatorBase.JoinHint joinHint) {
+
+    super(input, candidateEdges, expandColumn, lowerBound, upperBound, direction,
+      distinctVertexColumns, distinctEdgeColumns, closingColumn, joinHint);
+
+    if (upperBound < Math.max(lowerBound, 1)) {
+      throw new IllegalArgumentException("Invalid path length bounds");
+    }
+    if (upperBound == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Bidirectional expansion requires an upper bound");
+    }
+  }
+
+  /**
+   * New bidirectional expand operator with default join strategy
+   *
+   * @param input the embedding which should be expanded
+   * @param candidateEdges candidate edges along which we expand
+   * @param expandColumn specifies the column that represents the vertex from which we expand
+   * @param lowerBound specifies the minimum hops we want to expand
+   * @param upperBound specifies the maximum hops we want to expand, must be finite
+   * @param direction direction of the expansion {@see ExpandDirection}
+   * @param distinctVertexColumns indices of distinct vertex columns
+   * @param distinctEdgeColumns indices of distinct edge columns
+   * @param closingColumn defines the column which should be equal with the paths end
+   */
+  public ExpandEmbeddingsBidirectional(DataSet<Embedding> input,
+    DataSet<Embedding> candidateEdges, int expandColumn, int lowerBound, int upperBound,
+    ExpandDirection direction, List<Integer> distinctVertexColumns,
+    List<Integer> distinctEdgeColumns, int closingColumn) {
+
+    this(input, candidateEdges, expandColumn, lowerBound, upperBound, direction,
+      distinctVertexColumns, distinctEdgeColumns, closingColumn,
+      JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+  }
+
+  /**
+   * Defines whether the paths have to be part of the result. Paths are kept by default.
+   *
+   * Note that the query planner always keeps the paths, as the elements of variable length
+   * paths are part of the result graphs of a Cypher query. Omitting them is only available to
+   * callers using this operator directly.
+   *
+   * @param keepPaths false, if only the reachable end vertices are needed
+   */
+  public void setKeepPaths(boolean keepPaths) {
+    if (!keepPaths && !(distinctVertexColumns.isEmpty() && distinctEdgeColumns.isEmpty())) {
+      throw new IllegalArgumentException(
+        "Paths can only be omitted for homomorphic expansions");
+    }
+    this.keepPaths = keepPaths;
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    return keepPaths ? super.evaluate() : expandReachability();
+  }
+
+  /**
+   * Returns the number of entries in each frontier of the expansion. Each tuple contains the
+   * expansion side ({@link #FORWARD} or {@link #BACKWARD}), the iteration and the frontier size.
+   *
+   * @return frontier sizes of all expansion steps
+   */
+  public DataSet<Tuple3<String, Integer, Long>> getFrontierSizes() {
+    if (frontierSizes == null) {
+      throw new IllegalStateException("Frontier sizes are available after evaluation");
+    }
+    return frontierSizes;
+  }
+
+  @Override
+  protected DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet) {
+    boolean bidirectional = closingColumn >= 0 && upperBound > 1;
+    int forwardSteps = bidirectional ? (upperBound + 1) / 2 : upperBound;
+
+    List<DataSet<ExpandEmbedding>> forward = Lists.newArrayList(initialWorkingSet);
+    for (int i = 1; i < forwardSteps; i++) {
+      forward.add(forward.get(i - 1)
+        .join(candidateEdgeTuples, joinHint)
+          .where(2).equalTo(0)
+          .with(new MergeExpandEmbeddings(distinctVertexColumns, distinctEdgeColumns,
+            closingColumn))
+          .name(getName() + " - Forward expansion " + i));
+    }
+    addFrontierSizes(FORWARD, forward);
+
+    List<DataSet<ExpandEmbedding>> backward = bidirectional ?
+      growBackward(upperBound / 2) : Collections.emptyList();
+    addFrontierSizes(BACKWARD, backward);
+
+    DataSet<ExpandEmbedding> result = null;
+    for (int length = Math.max(lowerBound, 1); length <= upperBound; length++) {
+      int forwardLength = bidirectional ? (length + 1) / 2 : length;
+      int backwardLength = length - forwardLength;
+
+      DataSet<ExpandEmbedding> paths = forward.get(forwardLength - 1);
+      if (backwardLength > 0) {
+        paths = paths
+          .join(backward.get(backwardLength - 1), joinHint)
+            .where(new ExtractMeetingPoint(closingColumn)).equalTo(new ExtractMeetingPoint(0))
+            .with(new CombineHalfPaths(distinctVertexColumns, distinctEdgeColumns))
+            .name(getName() + " - Combine paths of length " + length);
+      }
+      result = result == null ? paths : result.union(paths);
+    }
+
+    return result;
+  }
+
+  /**
+   * Grows paths backwards from the distinct closing vertices of the input embeddings. The base of
+   * each backward path only contains its closing vertex.
+   *
+   * @param steps maximum length of the backward paths
+   * @return backward paths of length 1 to steps
+   */
+  private List<DataSet<ExpandEmbedding>> growBackward(int steps) {
+    // a single base column keeps the morphism checks within the backward path enabled
+    List<Integer> vertexColumns = distinctVertexColumns.isEmpty() ?
+      Collections.emptyList() : Collections.singletonList(0);
+    List<Integer> edgeColumns = distinctEdgeColumns.isEmpty() ?
+      Collections.emptyList() : Collections.singletonList(0);
+
+    DataSet<EdgeWithTiePoint> reversedEdgeTuples = candidateEdgeTuples
+      .map(new ReverseEdgeWithTiePoint())
+      .name(getName() + " - Reverse edge tuples");
+
+    DataSet<Embedding> closingVertices = input
+      .map(new ExtractClosingVertex(closingColumn))
+      .name(getName() + " - Extract closing vertices")
+      .distinct(new ExtractExpandColumn(0))
+      .name(getName() + " - Distinct closing vertices");
+
+    List<DataSet<ExpandEmbedding>> backward = Lists.newArrayList(closingVertices
+      .join(reversedEdgeTuples, joinHint)
+        .where(new ExtractExpandColumn(0)).equalTo(0)
+        .with(new CreateExpandEmbedding(vertexColumns, edgeColumns, -1))
+        .name(getName() + " - Initial backward expansion"));
+
+    for (int i = 1; i < steps; i++) {
+      backward.add(backward.get(i - 1)
+        .join(reversedEdgeTuples, joinHint)
+          .where(2).equalTo(0)
+          .with(new MergeExpandEmbeddings(vertexColumns, edgeColumns, -1))
+          .name(getName() + " - Backward expansion " + i));
+    }
+    return backward;
+  }
+
+  /**
+   * Computes the vertices reachable from the expand column within the given bounds. Each frontier
+   * only contains the distinct (start vertex, current vertex) pairs, independent of the number of
+   * paths leading to them.
+   *
+   * @return the input appended by an empty path and a reachable end vertex
+   */
+  private DataSet<Embedding> expandReachability() {
+    prepareCandidateEdges();
+
+    DataSet<Tuple2<GradoopId, GradoopId>> frontier = input
+      .map(new CreateReachabilityTuple(expandColumn))
+      .name(getName() + " - Create start vertices")
+      .distinct()
+      .name(getName() + " - Distinct start vertices");
+
+    List<DataSet<Tuple2<GradoopId, GradoopId>>> frontiers = Lists.newArrayList();
+    DataSet<Tuple2<GradoopId, GradoopId>> reachable = lowerBound == 0 ? frontier : null;
+
+    for (int i = 1; i <= upperBound; i++) {
+      frontier = frontier
+        .join(candidateEdgeTuples, joinHint)
+          .where(1).equalTo(0)
+          .with(new ExpandReachability())
+          .name(getName() + " - Reachability expansion " + i)
+        .distinct()
+          .name(getName() + " - Distinct frontier " + i);
+      frontiers.add(frontier);
+
+      if (i >= lowerBound) {
+        reachable = reachable == null ? frontier : reachable.union(frontier);
+      }
+    }
+    addFrontierSizes(FORWARD, frontiers);
+
+    return input
+      .join(reachable.distinct().name(getName() + " - Distinct reachable vertices"), joinHint)
+        .where(new ExtractExpandColumn(expandColumn)).equalTo(0)
+        .with(new CreateReachabilityEmbedding(closingColumn))
+        .name(getName() + " - Append reachable vertices");
+  }
+
+  /**
+   * Adds the sizes of the given frontiers to the reported frontier sizes.
+   *
+   * @param side expansion side
+   * @param frontiers frontiers ordered by iteration
+   * @param <T> frontier entry type
+   */
+  private <T> void addFrontierSizes(String side, List<DataSet<T>> frontiers) {
+    for (int i = 0; i < frontiers.size(); i++) {
+      DataSet<Tuple3<String, Integer, Long>> size = Count.count(frontiers.get(i))
+        .map(new ToFrontierSize(side, i + 1))
+        .name(getName() + " - Frontier size " + side + " " + (i + 1));
+      frontierSizes = frontierSizes == null ? size : frontierSizes.union(size);
+    }
+  }
+}
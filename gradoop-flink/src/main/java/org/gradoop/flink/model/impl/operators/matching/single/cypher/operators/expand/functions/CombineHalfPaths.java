@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.RichFlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+
+import java.util.List;
+
+/**
+ * Combines a path grown forward from the expand column with a path grown backwards from the
+ * closing vertex, which meet at the same vertex.
+ *
+ * (base,(a,b,c),d) x ((f),(g,h,i),d) -> (base,(a,b,c,d,i,h,g),f)
+ *
+ * Before combining it is checked whether distinctiveness conditions apply to the whole path.
+ */
+public class CombineHalfPaths
+  extends RichFlatJoinFunction<ExpandEmbedding, ExpandEmbedding, ExpandEmbedding> {
+
+  /**
+   * Holds the index of all base vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertices;
+  /**
+   * Holds the index of all base edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdges;
+
+  /**
+   * Create a new UDF instance
+   *
+   * @param distinctVertices distinct vertex columns of the base embedding
+   * @param distinctEdges distinct edge columns of the base embedding
+   */
+  public CombineHalfPaths(List<Integer> distinctVertices, List<Integer> distinctEdges) {
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+  }
+
+  @Override
+  public void join(ExpandEmbedding forward, ExpandEmbedding backward,
+    Collector<ExpandEmbedding> out) throws Exception {
+
+    if (!checkDistinctiveness(forward, backward)) {
+      return;
+    }
+
+    GradoopId[] forwardPath = forward.getPath();
+    GradoopId[] backwardPath = backward.getPath();
+    GradoopId[] path = new GradoopId[forwardPath.length + backwardPath.length + 2];
+
+    System.arraycopy(forwardPath, 0, path, 0, forwardPath.length);
+    path[forwardPath.length] = forward.getEnd();
+    for (int i = 0; i < backwardPath.length; i++) {
+      path[forwardPath.length + 1 + i] = backwardPath[backwardPath.length - 1 - i];
+    }
+    path[path.length - 1] = backward.getBase().getId(0);
+
+    out.collect(new ExpandEmbedding(forward.getBase().copy(), path));
+  }
+
+  /**
+   * Checks the distinct criteria between both halves of the path. Each half has already been
+   * checked on its own while it was grown, the meeting vertex is validated by the backward half.
+   *
+   * @param forward path grown from the expand column
+   * @param backward path grown from the closing vertex
+   * @return true if distinct criteria hold for the combined path
+   */
+  private boolean checkDistinctiveness(ExpandEmbedding forward, ExpandEmbedding backward) {
+    if (distinctVertices.isEmpty() && distinctEdges.isEmpty()) {
+      return true;
+    }
+
+    GradoopId[] forwardPath = forward.getPath();
+    GradoopId[] backwardPath = backward.getPath();
+
+    // paths start with an edge, i.e. vertices are stored at odd positions
+    for (int i = 0; i < backwardPath.length; i++) {
+      boolean isVertex = i % 2 == 1;
+      if (isVertex ? distinctVertices.isEmpty() : distinctEdges.isEmpty()) {
+        continue;
+      }
+      for (int j = isVertex ? 1 : 0; j < forwardPath.length; j += 2) {
+        if (backwardPath[i].equals(forwardPath[j])) {
+          return false;
+        }
+      }
+      List<Integer> baseColumns = isVertex ? distinctVertices : distinctEdges;
+      if (forward.getBase().getIdsAsList(baseColumns).contains(backwardPath[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Creates the initial frontier entry of a reachability expansion, i.e. the start vertex that has
+ * been reached from itself.
+ *
+ * f0 -> start vertex
+ * f1 -> current vertex
+ */
+public class CreateReachabilityTuple
+  implements MapFunction<Embedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column that holds the start vertex
+   */
+  private final int expandColumn;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param expandColumn column that holds the start vertex
+   */
+  public CreateReachabilityTuple(int expandColumn) {
+    this.expandColumn = expandColumn;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> map(Embedding value) throws Exception {
+    reuseTuple.f0 = value.getId(expandColumn);
+    reuseTuple.f1 = reuseTuple.f0;
+    return reuseTuple;
+  }
+}
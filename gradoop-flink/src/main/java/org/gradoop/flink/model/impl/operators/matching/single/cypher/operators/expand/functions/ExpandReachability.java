@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+
+/**
+ * Moves a frontier entry of a reachability expansion along an edge.
+ *
+ * (s,a) x (a,e,b) -> (s,b)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f2->f1")
+public class ExpandReachability implements
+  JoinFunction<Tuple2<GradoopId, GradoopId>, EdgeWithTiePoint, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> join(Tuple2<GradoopId, GradoopId> frontier,
+    EdgeWithTiePoint edge) throws Exception {
+    reuseTuple.f0 = frontier.f0;
+    reuseTuple.f1 = edge.getTarget();
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Creates an embedding that only contains the vertex the expanded paths have to end at. It is used
+ * as base of the paths that are grown backwards from the closing vertex.
+ */
+public class ExtractClosingVertex implements MapFunction<Embedding, Embedding> {
+  /**
+   * Column that holds the closing vertex
+   */
+  private final int closingColumn;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param closingColumn column that holds the closing vertex
+   */
+  public ExtractClosingVertex(int closingColumn) {
+    this.closingColumn = closingColumn;
+  }
+
+  @Override
+  public Embedding map(Embedding value) throws Exception {
+    Embedding closingVertex = new Embedding();
+    closingVertex.add(value.getId(closingColumn));
+    return closingVertex;
+  }
+}
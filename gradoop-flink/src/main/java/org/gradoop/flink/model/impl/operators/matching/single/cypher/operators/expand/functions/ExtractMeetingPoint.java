@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+
+/**
+ * Extracts the key on which a forward and a backward grown path meet. The key consists of the end
+ * of the path and the closing vertex, which is referenced by its column in the base embedding.
+ *
+ * f0 -> end of the path
+ * f1 -> closing vertex
+ */
+public class ExtractMeetingPoint
+  implements KeySelector<ExpandEmbedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column of the base embedding that holds the closing vertex
+   */
+  private final int closingColumn;
+
+  /**
+   * Creates the key selector
+   *
+   * @param closingColumn column of the base embedding that holds the closing vertex
+   */
+  public ExtractMeetingPoint(int closingColumn) {
+    this.closingColumn = closingColumn;
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> getKey(ExpandEmbedding value) throws Exception {
+    return Tuple2.of(value.getEnd(), value.getBase().getId(closingColumn));
+  }
+}
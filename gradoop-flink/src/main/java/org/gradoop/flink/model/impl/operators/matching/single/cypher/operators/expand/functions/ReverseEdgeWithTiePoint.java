@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
+
+/**
+ * Swaps source and target of an {@link EdgeWithTiePoint}, so that paths can be grown against the
+ * edge direction.
+ */
+@FunctionAnnotation.ForwardedFields("f0->f2;f1;f2->f0")
+public class ReverseEdgeWithTiePoint implements MapFunction<EdgeWithTiePoint, EdgeWithTiePoint> {
+
+  @Override
+  public EdgeWithTiePoint map(EdgeWithTiePoint edge) throws Exception {
+    GradoopId source = edge.getSource();
+    edge.setSource(edge.getTarget());
+    edge.setTarget(source);
+    return edge;
+  }
+}
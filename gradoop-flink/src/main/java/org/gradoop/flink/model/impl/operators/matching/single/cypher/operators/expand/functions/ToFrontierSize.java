@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+
+/**
+ * Attaches the expansion side and the iteration to the size of a frontier.
+ *
+ * f0 -> expansion side
+ * f1 -> iteration
+ * f2 -> number of frontier entries
+ */
+@FunctionAnnotation.ForwardedFields("*->f2")
+public class ToFrontierSize implements MapFunction<Long, Tuple3<String, Integer, Long>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<String, Integer, Long> reuseTuple;
+
+  /**
+   * Creates a new UDF instance
+   *
+   * @param side expansion side
+   * @param iteration iteration that produced the frontier
+   */
+  public ToFrontierSize(String side, int iteration) {
+    this.reuseTuple = new Tuple3<>(side, iteration, 0L);
+  }
+
+  @Override
+  public Tuple3<String, Integer, Long> map(Long size) throws Exception {
+    reuseTuple.f2 = size;
+    return reuseTuple;
+  }
+}
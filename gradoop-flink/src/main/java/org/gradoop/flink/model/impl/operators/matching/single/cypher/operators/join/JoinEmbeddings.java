@@ -19,7 +19,7 @@ import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
-import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
 
 import java.util.Collections;
@@ -180,8 +180,8 @@ public class JoinEmbeddings implements PhysicalOperator {
   @Override
   public DataSet<Embedding> evaluate() {
     return left.join(right, joinHint)
-      .where(new ExtractJoinColumns(leftJoinColumns))
-      .equalTo(new ExtractJoinColumns(rightJoinColumns))
+      .where(new ExtractJoinKey(leftJoinColumns))
+      .equalTo(new ExtractJoinKey(rightJoinColumns))
       .with(new MergeEmbeddings(rightColumns, rightJoinColumns,
         distinctVertexColumnsLeft, distinctVertexColumnsRight,
         distinctEdgeColumnsLeft, distinctEdgeColumnsRight))
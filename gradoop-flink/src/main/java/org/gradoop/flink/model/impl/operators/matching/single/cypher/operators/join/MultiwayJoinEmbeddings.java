@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.CreateExtensionPrefix;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractAdjacency;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractPrefixColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.HasMinimumDegree;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ProposeExtension;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ToVertexWithDegree;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.UpdateMinimumDegree;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Extends the left embeddings by a single vertex which is adjacent to multiple vertices of the
+ * left embeddings, e.g. the vertex that closes a triangle.
+ *
+ * Each right input contains edge embeddings which connect a vertex of the left embedding (the
+ * join column) with the new vertex (the extend column). Instead of joining the right inputs one
+ * after another, which produces all partial matches of the cyclic pattern (e.g. all wedges), the
+ * operator follows the generic join algorithm (see Ngo et al., "Skew Strikes Back: New Developments
+ * in the Theory of Join Algorithms", SIGMOD Record 2013):
+ *
+ * <ol>
+ * <li>for each left embedding, the right input with the minimum number of distinct neighbors at
+ *     the respective join column is determined</li>
+ * <li>only that right input proposes the candidates for the new vertex</li>
+ * <li>the candidates are intersected with the remaining right inputs by joining on both the join
+ *     and the extend column</li>
+ * </ol>
+ *
+ * Hence, the number of intermediate embeddings is bounded by the minimum degree per left embedding
+ * and not by the product of the degrees.
+ *
+ * The result contains all columns of the left embedding followed by the new vertex and the
+ * non-join columns of each right input in the given order. Properties are appended in the same
+ * order.
+ */
+public class MultiwayJoinEmbeddings implements PhysicalOperator {
+  /**
+   * Left side embeddings
+   */
+  private final DataSet<Embedding> left;
+  /**
+   * Number of columns in the left embedding
+   */
+  private final int leftColumns;
+  /**
+   * Right side embeddings, each connecting a left vertex with the new vertex
+   */
+  private final List<DataSet<Embedding>> rights;
+  /**
+   * Number of columns in each right embedding
+   */
+  private final List<Integer> rightColumns;
+  /**
+   * Join column of the left embedding for each right input
+   */
+  private final List<Integer> leftJoinColumns;
+  /**
+   * Join column of each right embedding
+   */
+  private final List<Integer> rightJoinColumns;
+  /**
+   * Column of each right embedding that contains the new vertex
+   */
+  private final List<Integer> rightExtendColumns;
+  /**
+   * Vertex columns of the left embedding the new vertex needs to be distinct from
+   */
+  private final List<Integer> distinctVertexColumnsLeft;
+  /**
+   * Edge columns of the left embedding which need to be distinct
+   */
+  private final List<Integer> distinctEdgeColumnsLeft;
+  /**
+   * Edge columns of each right embedding which need to be distinct
+   */
+  private final List<Integer> distinctEdgeColumnsRight;
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Instantiates a new multiway join operator.
+   *
+   * @param left embeddings of the left side of the join
+   * @param leftColumns number of columns in the left embedding
+   * @param rights embeddings of the right sides of the join
+   * @param rightColumns number of columns in each right embedding
+   * @param leftJoinColumns join column of the left embedding for each right input
+   * @param rightJoinColumns join column of each right embedding
+   * @param rightExtendColumns column of each right embedding containing the new vertex
+   */
+  public MultiwayJoinEmbeddings(DataSet<Embedding> left, int leftColumns,
+    List<DataSet<Embedding>> rights, List<Integer> rightColumns,
+    List<Integer> leftJoinColumns, List<Integer> rightJoinColumns,
+    List<Integer> rightExtendColumns) {
+    this(left, leftColumns, rights, rightColumns,
+      leftJoinColumns, rightJoinColumns, rightExtendColumns,
+      Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+  }
+
+  /**
+   * Instantiates a new multiway join operator.
+   *
+   * @param left embeddings of the left side of the join
+   * @param leftColumns number of columns in the left embedding
+   * @param rights embeddings of the right sides of the join
+   * @param rightColumns number of columns in each right embedding
+   * @param leftJoinColumns join column of the left embedding for each right input
+   * @param rightJoinColumns join column of each right embedding
+   * @param rightExtendColumns column of each right embedding containing the new vertex
+   * @param distinctVertexColumnsLeft vertex columns the new vertex needs to be distinct from
+   * @param distinctEdgeColumnsLeft distinct edge columns of the left embedding
+   * @param distinctEdgeColumnsRight distinct edge columns of each right embedding
+   */
+  public MultiwayJoinEmbeddings(DataSet<Embedding> left, int leftColumns,
+    List<DataSet<Embedding>> rights, List<Integer> rightColumns,
+    List<Integer> leftJoinColumns, List<Integer> rightJoinColumns,
+    List<Integer> rightExtendColumns,
+    List<Integer> distinctVertexColumnsLeft,
+    List<Integer> distinctEdgeColumnsLeft, List<Integer> distinctEdgeColumnsRight) {
+    if (rights.isEmpty() ||
+      rights.size() != rightColumns.size() ||
+      rights.size() != leftJoinColumns.size() ||
+      rights.size() != rightJoinColumns.size() ||
+      rights.size() != rightExtendColumns.size()) {
+      throw new IllegalArgumentException(
+        "Each right input requires its column count, join columns and extend column");
+    }
+    this.left                      = left;
+    this.leftColumns               = leftColumns;
+    this.rights                    = rights;
+    this.rightColumns              = rightColumns;
+    this.leftJoinColumns           = leftJoinColumns;
+    this.rightJoinColumns          = rightJoinColumns;
+    this.rightExtendColumns        = rightExtendColumns;
+    this.distinctVertexColumnsLeft = distinctVertexColumnsLeft;
+    this.distinctEdgeColumnsLeft   = distinctEdgeColumnsLeft;
+    this.distinctEdgeColumnsRight  = distinctEdgeColumnsRight;
+    this.setName("MultiwayJoinEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    List<DataSet<Tuple2<GradoopId, GradoopId>>> adjacencies = new ArrayList<>(rights.size());
+
+    // determine the right input with the minimum number of neighbors for each left embedding
+    DataSet<Tuple3<Embedding, Integer, Long>> prefixes = left
+      .map(new CreateExtensionPrefix())
+      .name(getName() + " - Create prefixes");
+
+    for (int i = 0; i < rights.size(); i++) {
+      DataSet<Tuple2<GradoopId, GradoopId>> adjacency = rights.get(i)
+        .map(new ExtractAdjacency(rightJoinColumns.get(i), rightExtendColumns.get(i)))
+        .name(getName() + " - Extract adjacency " + i)
+        .distinct();
+      adjacencies.add(adjacency);
+
+      DataSet<Tuple2<GradoopId, Long>> degrees = adjacency
+        .map(new ToVertexWithDegree())
+        .groupBy(0).sum(1);
+
+      prefixes = prefixes.join(degrees)
+        .where(new ExtractPrefixColumn(leftJoinColumns.get(i))).equalTo(0)
+        .with(new UpdateMinimumDegree(i))
+        .name(getName() + " - Count neighbors " + i);
+    }
+
+    // let the right input with the minimum degree propose the candidates for the new vertex
+    DataSet<Embedding> candidates = null;
+    for (int i = 0; i < rights.size(); i++) {
+      DataSet<Embedding> proposed = prefixes
+        .filter(new HasMinimumDegree(i))
+        .join(adjacencies.get(i))
+        .where(new ExtractPrefixColumn(leftJoinColumns.get(i))).equalTo(0)
+        .with(new ProposeExtension(distinctVertexColumnsLeft))
+        .name(getName() + " - Propose candidates " + i);
+      candidates = candidates == null ? proposed : candidates.union(proposed);
+    }
+
+    // intersect the candidates with all right inputs and attach the right embeddings
+    DataSet<Embedding> result = candidates;
+    List<Integer> distinctEdgeColumns = new ArrayList<>(distinctEdgeColumnsLeft);
+    int extendColumn = leftColumns;
+    int columns = leftColumns + 1;
+
+    for (int i = 0; i < rights.size(); i++) {
+      List<Integer> joinColumnsLeft = Lists.newArrayList(leftJoinColumns.get(i), extendColumn);
+      List<Integer> joinColumnsRight =
+        Lists.newArrayList(rightJoinColumns.get(i), rightExtendColumns.get(i));
+
+      JoinEmbeddings join = new JoinEmbeddings(result, rights.get(i), rightColumns.get(i),
+        joinColumnsLeft, joinColumnsRight,
+        Collections.emptyList(), Collections.emptyList(),
+        new ArrayList<>(distinctEdgeColumns), distinctEdgeColumnsRight);
+      join.setName(getName() + " - Intersect " + i);
+      result = join.evaluate();
+
+      // keep track of the edge columns appended to the result
+      for (int column = 0; column < rightColumns.get(i); column++) {
+        if (!joinColumnsRight.contains(column)) {
+          if (distinctEdgeColumnsRight.contains(column)) {
+            distinctEdgeColumns.add(columns);
+          }
+          columns++;
+        }
+      }
+    }
+
+    return result;
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.BuildBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.FilterByBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeBloomFilters;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+
+import java.util.List;
+
+/**
+ * Reduces an input of {@link JoinEmbeddings} to the embeddings that might have a join partner
+ * in the other input (approximate semi join).
+ *
+ * A bloom filter on the join keys of the filter input is built per partition, merged and
+ * broadcast. The embeddings of the reduced input are filtered by the bloom filter before they
+ * are shipped to the join. As the bloom filter has false positives but no false negatives, the
+ * result may contain embeddings without join partner, which are removed by the join.
+ */
+public class SemiJoinEmbeddings implements PhysicalOperator {
+  /**
+   * Default false positive rate of the bloom filter
+   */
+  public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+  /**
+   * Embeddings to be reduced
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Embeddings whose join keys are added to the bloom filter
+   */
+  private final DataSet<Embedding> filterInput;
+  /**
+   * Join columns of the reduced input
+   */
+  private final List<Integer> inputJoinColumns;
+  /**
+   * Join columns of the filter input
+   */
+  private final List<Integer> filterJoinColumns;
+  /**
+   * Expected number of distinct join keys in the filter input
+   */
+  private final long expectedKeys;
+  /**
+   * False positive rate of the bloom filter
+   */
+  private final double falsePositiveRate;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New semi join operator using the {@link #DEFAULT_FALSE_POSITIVE_RATE}.
+   *
+   * @param input embeddings to be reduced
+   * @param filterInput embeddings whose join keys are added to the bloom filter
+   * @param inputJoinColumns join columns of the reduced input
+   * @param filterJoinColumns join columns of the filter input
+   * @param expectedKeys expected number of distinct join keys in the filter input
+   */
+  public SemiJoinEmbeddings(DataSet<Embedding> input, DataSet<Embedding> filterInput,
+    List<Integer> inputJoinColumns, List<Integer> filterJoinColumns, long expectedKeys) {
+    this(input, filterInput, inputJoinColumns, filterJoinColumns, expectedKeys,
+      DEFAULT_FALSE_POSITIVE_RATE);
+  }
+
+  /**
+   * New semi join operator.
+   *
+   * @param input embeddings to be reduced
+   * @param filterInput embeddings whose join keys are added to the bloom filter
+   * @param inputJoinColumns join columns of the reduced input
+   * @param filterJoinColumns join columns of the filter input
+   * @param expectedKeys expected number of distinct join keys in the filter input
+   * @param falsePositiveRate false positive rate of the bloom filter
+   */
+  public SemiJoinEmbeddings(DataSet<Embedding> input, DataSet<Embedding> filterInput,
+    List<Integer> inputJoinColumns, List<Integer> filterJoinColumns, long expectedKeys,
+    double falsePositiveRate) {
+    this.input = input;
+    this.filterInput = filterInput;
+    this.inputJoinColumns = inputJoinColumns;
+    this.filterJoinColumns = filterJoinColumns;
+    this.expectedKeys = expectedKeys;
+    this.falsePositiveRate = falsePositiveRate;
+    this.setName("SemiJoinEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<IdBloomFilter> bloomFilter = filterInput
+      .mapPartition(new BuildBloomFilter(filterJoinColumns, expectedKeys, falsePositiveRate))
+      .name(getName() + " - BuildBloomFilter")
+      .reduce(new MergeBloomFilters())
+      .name(getName() + " - MergeBloomFilters");
+
+    return input
+      .filter(new FilterByBloomFilter(inputJoinColumns))
+      .withBroadcastSet(bloomFilter, FilterByBloomFilter.BLOOM_FILTER)
+      .name(getName());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+
+import java.util.List;
+
+/**
+ * Adds the join keys of all embeddings of a partition to a bloom filter. Every partition emits
+ * exactly one filter of the same size, so that the filters can be merged afterwards.
+ */
+public class BuildBloomFilter implements MapPartitionFunction<Embedding, IdBloomFilter> {
+  /**
+   * Extracts the join key
+   */
+  private final ExtractJoinKey keySelector;
+  /**
+   * Expected number of distinct keys over all partitions
+   */
+  private final long expectedKeys;
+  /**
+   * False positive rate at the expected number of keys
+   */
+  private final double falsePositiveRate;
+
+  /**
+   * Creates the function.
+   *
+   * @param joinColumns columns to extract the join key from
+   * @param expectedKeys expected number of distinct keys over all partitions
+   * @param falsePositiveRate false positive rate at the expected number of keys
+   */
+  public BuildBloomFilter(List<Integer> joinColumns, long expectedKeys,
+    double falsePositiveRate) {
+    this.keySelector = new ExtractJoinKey(joinColumns);
+    this.expectedKeys = expectedKeys;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  @Override
+  public void mapPartition(Iterable<Embedding> values, Collector<IdBloomFilter> out)
+    throws Exception {
+    IdBloomFilter bloomFilter = new IdBloomFilter(expectedKeys, falsePositiveRate);
+    for (Embedding embedding : values) {
+      bloomFilter.add(keySelector.getKey(embedding));
+    }
+    out.collect(bloomFilter);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.MultiwayJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * embedding => (embedding, -1, Long.MAX_VALUE)
+ *
+ * Creates the prefix which is used by {@link MultiwayJoinEmbeddings} to keep track of the right
+ * input with the minimum number of neighbors.
+ */
+@FunctionAnnotation.ForwardedFields("*->f0")
+public class CreateExtensionPrefix
+  implements MapFunction<Embedding, Tuple3<Embedding, Integer, Long>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<Embedding, Integer, Long> reuseTuple = new Tuple3<>();
+
+  @Override
+  public Tuple3<Embedding, Integer, Long> map(Embedding embedding) throws Exception {
+    reuseTuple.f0 = embedding;
+    reuseTuple.f1 = -1;
+    reuseTuple.f2 = Long.MAX_VALUE;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * embedding => (embedding[joinColumn], embedding[extendColumn])
+ */
+public class ExtractAdjacency implements MapFunction<Embedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column containing the vertex which is already part of the left embedding
+   */
+  private final int joinColumn;
+  /**
+   * Column containing the vertex which extends the left embedding
+   */
+  private final int extendColumn;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple = new Tuple2<>();
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param joinColumn column containing the vertex which is already part of the left embedding
+   * @param extendColumn column containing the vertex which extends the left embedding
+   */
+  public ExtractAdjacency(int joinColumn, int extendColumn) {
+    this.joinColumn = joinColumn;
+    this.extendColumn = extendColumn;
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> map(Embedding embedding) throws Exception {
+    reuseTuple.f0 = embedding.getId(joinColumn);
+    reuseTuple.f1 = embedding.getId(extendColumn);
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdEmbedding;
+
+import java.util.List;
+
+/**
+ * Given a list of columns, extracts the ids stored at these columns into an {@link IdEmbedding}.
+ *
+ * In contrast to {@link ExtractJoinColumns}, the key has a fixed width per id and supports
+ * normalized keys, i.e. Flink sorts and compares it on its binary representation.
+ */
+public class ExtractJoinKey implements KeySelector<Embedding, IdEmbedding> {
+  /**
+   * Columns to extract ids from
+   */
+  private final int[] columns;
+
+  /**
+   * Creates the key selector
+   *
+   * @param columns columns to extract ids from
+   */
+  public ExtractJoinKey(List<Integer> columns) {
+    this.columns = columns.stream().mapToInt(i -> i).toArray();
+  }
+
+  @Override
+  public IdEmbedding getKey(Embedding value) throws Exception {
+    return IdEmbedding.fromEmbedding(value, columns);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts the id stored at the given column of the embedding contained in a prefix.
+ */
+public class ExtractPrefixColumn
+  implements KeySelector<Tuple3<Embedding, Integer, Long>, GradoopId> {
+  /**
+   * Column that holds the id which will be used as key
+   */
+  private final int column;
+
+  /**
+   * Creates the key selector
+   *
+   * @param column column that holds the id which will be used as key
+   */
+  public ExtractPrefixColumn(int column) {
+    this.column = column;
+  }
+
+  @Override
+  public GradoopId getKey(Tuple3<Embedding, Integer, Long> prefix) throws Exception {
+    return prefix.f0.getId(column);
+  }
+}
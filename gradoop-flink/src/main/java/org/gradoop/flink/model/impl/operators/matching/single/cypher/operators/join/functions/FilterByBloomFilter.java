@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+
+import java.util.List;
+
+/**
+ * Keeps the embeddings whose join key might be contained in the broadcast bloom filter.
+ */
+public class FilterByBloomFilter extends RichFilterFunction<Embedding> {
+  /**
+   * Name of the broadcast set containing the bloom filter
+   */
+  public static final String BLOOM_FILTER = "bloom-filter";
+  /**
+   * Extracts the join key
+   */
+  private final ExtractJoinKey keySelector;
+  /**
+   * Bloom filter on the join keys of the other join input, {@code null} if that input is empty
+   */
+  private IdBloomFilter bloomFilter;
+
+  /**
+   * Creates the function.
+   *
+   * @param joinColumns columns to extract the join key from
+   */
+  public FilterByBloomFilter(List<Integer> joinColumns) {
+    this.keySelector = new ExtractJoinKey(joinColumns);
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    List<IdBloomFilter> broadcast = getRuntimeContext().getBroadcastVariable(BLOOM_FILTER);
+    this.bloomFilter = broadcast.isEmpty() ? null : broadcast.get(0);
+  }
+
+  @Override
+  public boolean filter(Embedding embedding) throws Exception {
+    return bloomFilter != null && bloomFilter.mightContain(keySelector.getKey(embedding));
+  }
+}
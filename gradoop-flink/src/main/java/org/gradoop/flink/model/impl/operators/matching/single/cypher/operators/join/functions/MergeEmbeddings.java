@@ -235,7 +235,7 @@ public class MergeEmbeddings implements
    * @return the merged data represented as byte array
    */
   private byte[] mergePropertyData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getPropertyData(), right.getPropertyData());
+    return mergeData(left.getPropertyData(), right.getPropertyData());
   }
 
   /**
@@ -247,6 +247,24 @@ public class MergeEmbeddings implements
    * @return the merged data represented as byte array
    */
   private byte[] mergeIdListData(Embedding left, Embedding right) {
-    return ArrayUtils.addAll(left.getIdListData(), right.getIdListData());
+    return mergeData(left.getIdListData(), right.getIdListData());
+  }
+
+  /**
+   * Concatenates the given data arrays. If one of the arrays is empty, which is always the case
+   * for embeddings without properties or paths, the other array is returned without copying it.
+   *
+   * @param left left data
+   * @param right right data
+   * @return concatenated data
+   */
+  private byte[] mergeData(byte[] left, byte[] right) {
+    if (right.length == 0) {
+      return left;
+    }
+    if (left.length == 0) {
+      return right;
+    }
+    return ArrayUtils.addAll(left, right);
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.List;
+
+/**
+ * (embedding, input, degree) x (vertexId, neighborId) => embedding + neighborId
+ *
+ * Appends the proposed neighbor to the embedding if it is distinct from the specified vertex
+ * columns.
+ */
+public class ProposeExtension implements
+  FlatJoinFunction<Tuple3<Embedding, Integer, Long>, Tuple2<GradoopId, GradoopId>, Embedding> {
+  /**
+   * Vertex columns of the embedding which need to be distinct from the neighbor
+   */
+  private final int[] distinctVertexColumns;
+  /**
+   * Reduce object instantiations
+   */
+  private final Embedding reuseEmbedding;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param distinctVertexColumns vertex columns which need to be distinct from the neighbor
+   */
+  public ProposeExtension(List<Integer> distinctVertexColumns) {
+    this.distinctVertexColumns = distinctVertexColumns.stream().mapToInt(i -> i).toArray();
+    this.reuseEmbedding = new Embedding();
+  }
+
+  @Override
+  public void join(Tuple3<Embedding, Integer, Long> prefix,
+    Tuple2<GradoopId, GradoopId> adjacency, Collector<Embedding> out) throws Exception {
+    Embedding embedding = prefix.f0;
+    for (int column : distinctVertexColumns) {
+      if (embedding.getId(column).equals(adjacency.f1)) {
+        return;
+      }
+    }
+    reuseEmbedding.setIdData(embedding.getIdData());
+    reuseEmbedding.setPropertyData(embedding.getPropertyData());
+    reuseEmbedding.setIdListData(embedding.getIdListData());
+    reuseEmbedding.add(adjacency.f1);
+    out.collect(reuseEmbedding);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * (vertexId, neighborId) => (vertexId, 1)
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class ToVertexWithDegree
+  implements MapFunction<Tuple2<GradoopId, GradoopId>, Tuple2<GradoopId, Long>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, Long> reuseTuple = new Tuple2<>(null, 1L);
+
+  @Override
+  public Tuple2<GradoopId, Long> map(Tuple2<GradoopId, GradoopId> adjacency) throws Exception {
+    reuseTuple.f0 = adjacency.f0;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * (embedding, input, degree) x (vertexId, degree') => (embedding, input', min(degree, degree'))
+ *
+ * Stores the index of the right input if it provides less neighbors than the current one.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class UpdateMinimumDegree implements
+  JoinFunction<Tuple3<Embedding, Integer, Long>, Tuple2<GradoopId, Long>,
+    Tuple3<Embedding, Integer, Long>> {
+  /**
+   * Index of the right input the degrees are computed for
+   */
+  private final int input;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param input index of the right input the degrees are computed for
+   */
+  public UpdateMinimumDegree(int input) {
+    this.input = input;
+  }
+
+  @Override
+  public Tuple3<Embedding, Integer, Long> join(Tuple3<Embedding, Integer, Long> prefix,
+    Tuple2<GradoopId, Long> degree) throws Exception {
+    if (degree.f1 < prefix.f2) {
+      prefix.f1 = input;
+      prefix.f2 = degree.f1;
+    }
+    return prefix;
+  }
+}
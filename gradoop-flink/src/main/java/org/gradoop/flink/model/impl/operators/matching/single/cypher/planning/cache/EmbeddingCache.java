@@ -0,0 +1,367 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import org.apache.flink.api.common.JobExecutionResult;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.TypeSerializerInputFormat;
+import org.apache.flink.api.java.io.TypeSerializerOutputFormat;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Caches the embeddings produced by leaf operators, such that query plans (of the same or of
+ * subsequent queries) that filter and project the same vertices or edges reuse them instead of
+ * scanning the search graph again. Entries are identified by an {@link EmbeddingCacheKey}.
+ *
+ * The cache holds at most {@link #getCapacity()} entries and evicts the least recently used entry
+ * if it is full. By default, a cached data set is shared between plans and evaluated by each
+ * program that uses it.
+ *
+ * If a spill directory is given, the cache adds a sink to the plan which writes each new entry to
+ * that directory. The directory has to be accessible by all task managers, e.g. a HDFS path.
+ * Nothing is executed by the cache itself: the spill file is written by the next program the
+ * user executes on the environment, plans built after that program read the file instead of
+ * evaluating the embeddings again. Spill files of evicted entries are deleted after the next
+ * program has run, since plans built before the eviction may still read them.
+ *
+ * A cache per query is used by default. To share entries across queries on the same graph, the
+ * same instance has to be passed to each query, all of which have to use the same execution
+ * environment. The cache is not thread-safe.
+ */
+public class EmbeddingCache {
+  /**
+   * Default maximum number of cached entries
+   */
+  public static final int DEFAULT_CAPACITY = 64;
+  /**
+   * Logger
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(EmbeddingCache.class);
+
+  /**
+   * Maximum number of cached entries
+   */
+  private final int capacity;
+  /**
+   * Shared directory for spill files or {@code null}
+   */
+  private final Path spillDirectory;
+  /**
+   * Cached entries in access order
+   */
+  private final Map<EmbeddingCacheKey, Entry> entries;
+  /**
+   * Evicted entries whose spill files may still be read by a plan
+   */
+  private final List<Entry> released;
+  /**
+   * Number of requests served by the cache
+   */
+  private long hitCount;
+  /**
+   * Number of requests that created a new entry
+   */
+  private long missCount;
+  /**
+   * Number of entries evicted from the cache
+   */
+  private long evictionCount;
+
+  /**
+   * Creates a cache with {@link #DEFAULT_CAPACITY} that shares data sets between plans.
+   */
+  public EmbeddingCache() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a cache that shares data sets between plans.
+   *
+   * @param capacity maximum number of cached entries
+   */
+  public EmbeddingCache(int capacity) {
+    this(capacity, null);
+  }
+
+  /**
+   * Creates a cache that spills its entries to the given directory.
+   *
+   * @param capacity maximum number of cached entries
+   * @param spillDirectory directory accessible by all task managers or {@code null} to share
+   *                       data sets between plans
+   */
+  public EmbeddingCache(int capacity, String spillDirectory) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.spillDirectory = spillDirectory != null ? new Path(spillDirectory) : null;
+    this.released = new ArrayList<>();
+    this.entries = new LinkedHashMap<EmbeddingCacheKey, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<EmbeddingCacheKey, Entry> eldest) {
+        if (size() > EmbeddingCache.this.capacity) {
+          evictionCount++;
+          release(eldest.getValue());
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached embeddings for the given key. If there is no such entry, the embeddings are
+   * created by the given loader and added to the cache.
+   *
+   * @param key cache key
+   * @param loader creates the embeddings if they are not cached
+   * @return cached embeddings
+   */
+  public DataSet<Embedding> get(EmbeddingCacheKey key, Supplier<DataSet<Embedding>> loader) {
+    deleteUnusedSpillFiles();
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      hitCount++;
+      return entry.getEmbeddings();
+    }
+    missCount++;
+    entry = spillDirectory != null ? spill(loader.get()) : new Entry(loader.get(), null);
+    entries.put(key, entry);
+    return entry.getEmbeddings();
+  }
+
+  /**
+   * Checks if there is an entry for the given key without changing the access order.
+   *
+   * @param key cache key
+   * @return true, if the embeddings are cached
+   */
+  public boolean contains(EmbeddingCacheKey key) {
+    return entries.containsKey(key);
+  }
+
+  /**
+   * Removes all entries from the cache and deletes their spill files. Must not be called before
+   * all plans using the cache have been executed. Hit and miss counters are kept.
+   */
+  public void clear() {
+    entries.values().forEach(Entry::deleteSpillFile);
+    released.forEach(Entry::deleteSpillFile);
+    entries.clear();
+    released.clear();
+  }
+
+  /**
+   * Returns the number of cached entries.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the maximum number of cached entries.
+   *
+   * @return capacity
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of requests served by the cache.
+   *
+   * @return hit count
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of requests that created a new entry.
+   *
+   * @return miss count
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the number of entries evicted from the cache.
+   *
+   * @return eviction count
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Adds a sink writing the given embeddings to a new spill file.
+   *
+   * @param embeddings embeddings to cache
+   * @return cache entry
+   */
+  private Entry spill(DataSet<Embedding> embeddings) {
+    Path path = new Path(spillDirectory, UUID.randomUUID().toString());
+    embeddings
+      .write(new TypeSerializerOutputFormat<>(), path.toString(), FileSystem.WriteMode.OVERWRITE)
+      .name("Spill cached embeddings");
+    return new Entry(embeddings, path);
+  }
+
+  /**
+   * Keeps the spill file of an evicted entry until the next program has run.
+   *
+   * @param entry evicted entry
+   */
+  private void release(Entry entry) {
+    if (entry.hasSpillFile()) {
+      entry.markReleased();
+      released.add(entry);
+    }
+  }
+
+  /**
+   * Deletes the spill files of evicted entries that are no longer read by any plan.
+   */
+  private void deleteUnusedSpillFiles() {
+    Iterator<Entry> iterator = released.iterator();
+    while (iterator.hasNext()) {
+      Entry entry = iterator.next();
+      if (entry.isExecutedSinceRelease()) {
+        entry.deleteSpillFile();
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * A cached data set and its spill file (if any).
+   */
+  private static class Entry {
+    /**
+     * Environment of the cached embeddings
+     */
+    private final ExecutionEnvironment env;
+    /**
+     * Spill file or {@code null}
+     */
+    private final Path spillPath;
+    /**
+     * Last program executed before the spill sink was added
+     */
+    private final JobExecutionResult executedBeforeSpill;
+    /**
+     * Last program executed before the entry was evicted
+     */
+    private JobExecutionResult executedBeforeRelease;
+    /**
+     * Cached embeddings
+     */
+    private DataSet<Embedding> embeddings;
+    /**
+     * True, if the embeddings are read from the spill file
+     */
+    private boolean spilled;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param embeddings cached embeddings
+     * @param spillPath spill file written by a sink of the current plan or {@code null}
+     */
+    Entry(DataSet<Embedding> embeddings, Path spillPath) {
+      this.env = embeddings.getExecutionEnvironment();
+      this.spillPath = spillPath;
+      this.executedBeforeSpill = env.getLastJobExecutionResult();
+      this.embeddings = embeddings;
+    }
+
+    /**
+     * Returns the cached embeddings. If the spill file has been written by a previous program,
+     * the embeddings are read from that file.
+     *
+     * @return embeddings
+     */
+    DataSet<Embedding> getEmbeddings() {
+      if (spillPath != null && !spilled &&
+        env.getLastJobExecutionResult() != executedBeforeSpill) {
+        TypeSerializerInputFormat<Embedding> inputFormat =
+          new TypeSerializerInputFormat<>(embeddings.getType());
+        inputFormat.setFilePath(spillPath);
+        embeddings = env.createInput(inputFormat, embeddings.getType()).name("Cached embeddings");
+        spilled = true;
+      }
+      return embeddings;
+    }
+
+    /**
+     * Checks if the entry has a spill file.
+     *
+     * @return true, if the embeddings are spilled
+     */
+    boolean hasSpillFile() {
+      return spillPath != null;
+    }
+
+    /**
+     * Remembers the last program executed before the entry was evicted.
+     */
+    void markReleased() {
+      executedBeforeRelease = env.getLastJobExecutionResult();
+    }
+
+    /**
+     * Checks if a program has been executed since the entry was evicted. That program contained
+     * all plans built before, including those reading or writing the spill file.
+     *
+     * @return true, if the spill file is no longer used
+     */
+    boolean isExecutedSinceRelease() {
+      return env.getLastJobExecutionResult() != executedBeforeRelease;
+    }
+
+    /**
+     * Deletes the spill file of the entry.
+     */
+    void deleteSpillFile() {
+      if (spillPath == null) {
+        return;
+      }
+      try {
+        spillPath.getFileSystem().delete(spillPath, true);
+      } catch (IOException e) {
+        LOG.warn("Could not delete spill file " + spillPath, e);
+      }
+    }
+  }
+}
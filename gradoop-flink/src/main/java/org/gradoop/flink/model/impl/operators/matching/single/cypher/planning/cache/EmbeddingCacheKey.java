@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Identifies the result of a leaf operator that filters and projects the vertices or edges of a
+ * search graph.
+ *
+ * The key consists of the search graph, the element type, the label, the filter predicate, the
+ * projected property keys and (for edges) whether loops are requested. The query variable is
+ * removed from the predicate, such that the same leaf of different queries (or of the same query)
+ * leads to equal keys, independent of the variable names.
+ */
+public class EmbeddingCacheKey {
+  /**
+   * Placeholder for the query variable in a normalized predicate
+   */
+  private static final String VARIABLE = "_";
+  /**
+   * Search graph the elements are taken from, compared by identity
+   */
+  private final Object graph;
+  /**
+   * True, if the key identifies vertex embeddings
+   */
+  private final boolean vertex;
+  /**
+   * Label of the vertices or edges
+   */
+  private final String label;
+  /**
+   * Filter predicate without the query variable
+   */
+  private final String predicate;
+  /**
+   * Projected property keys in the order of the embedding columns
+   */
+  private final List<String> projectionKeys;
+  /**
+   * True, if only loops are requested
+   */
+  private final boolean loop;
+
+  /**
+   * Creates a new key.
+   *
+   * @param graph search graph
+   * @param vertex true, if the key identifies vertex embeddings
+   * @param label label of the vertices or edges
+   * @param predicate normalized filter predicate
+   * @param projectionKeys projected property keys
+   * @param loop true, if only loops are requested
+   */
+  private EmbeddingCacheKey(Object graph, boolean vertex, String label, String predicate,
+    List<String> projectionKeys, boolean loop) {
+    this.graph = graph;
+    this.vertex = vertex;
+    this.label = label;
+    this.predicate = predicate;
+    this.projectionKeys = new ArrayList<>(projectionKeys);
+    this.loop = loop;
+  }
+
+  /**
+   * Creates a key for filtered and projected vertices.
+   *
+   * @param graph search graph
+   * @param label vertex label
+   * @param variable query variable of the vertex
+   * @param predicate filter predicate
+   * @param projectionKeys projected property keys in the order of the embedding columns
+   * @return key or {@code null}, if the predicate references other variables
+   */
+  public static EmbeddingCacheKey forVertices(Object graph, String label, String variable,
+    CNF predicate, List<String> projectionKeys) {
+    String normalized = normalize(predicate, variable);
+    return normalized == null ? null :
+      new EmbeddingCacheKey(graph, true, label, normalized, projectionKeys, false);
+  }
+
+  /**
+   * Creates a key for filtered and projected edges.
+   *
+   * @param graph search graph
+   * @param label edge label
+   * @param variable query variable of the edge
+   * @param predicate filter predicate
+   * @param projectionKeys projected property keys in the order of the embedding columns
+   * @param loop true, if only loops are requested
+   * @return key or {@code null}, if the predicate references other variables
+   */
+  public static EmbeddingCacheKey forEdges(Object graph, String label, String variable,
+    CNF predicate, List<String> projectionKeys, boolean loop) {
+    String normalized = normalize(predicate, variable);
+    return normalized == null ? null :
+      new EmbeddingCacheKey(graph, false, label, normalized, projectionKeys, loop);
+  }
+
+  /**
+   * Creates a string representation of the predicate that does not contain the query variable.
+   * Disjunctions and their comparisons are sorted, so that the representation does not depend on
+   * the order in the query.
+   *
+   * @param predicate filter predicate
+   * @param variable query variable
+   * @return normalized predicate or {@code null}, if the predicate references other variables
+   */
+  private static String normalize(CNF predicate, String variable) {
+    if (!Collections.singleton(variable).containsAll(predicate.getVariables())) {
+      return null;
+    }
+    List<String> disjunctions = new ArrayList<>();
+    for (CNFElement disjunction : predicate.getPredicates()) {
+      List<String> comparisons = new ArrayList<>();
+      for (ComparisonExpression comparison : disjunction.getPredicates()) {
+        comparisons.add(normalize(comparison.getLhs()) + " " + comparison.getComparator() + " " +
+          normalize(comparison.getRhs()));
+      }
+      Collections.sort(comparisons);
+      disjunctions.add(String.join(" OR ", comparisons));
+    }
+    Collections.sort(disjunctions);
+    return String.join(" AND ", disjunctions);
+  }
+
+  /**
+   * Creates a string representation of the comparable that does not contain the query variable.
+   *
+   * @param comparable comparable
+   * @return normalized comparable
+   */
+  private static String normalize(QueryComparable comparable) {
+    if (comparable instanceof PropertySelectorComparable) {
+      return VARIABLE + "." + ((PropertySelectorComparable) comparable).getPropertyKey();
+    } else if (comparable instanceof LiteralComparable) {
+      Object value = ((LiteralComparable) comparable).getValue();
+      return value == null ? "NULL" : value.getClass().getSimpleName() + ":" + value;
+    }
+    // element selector of the query variable
+    return VARIABLE;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    EmbeddingCacheKey that = (EmbeddingCacheKey) o;
+    return graph == that.graph && vertex == that.vertex && loop == that.loop &&
+      Objects.equals(label, that.label) && predicate.equals(that.predicate) &&
+      projectionKeys.equals(that.projectionKeys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(System.identityHashCode(graph), vertex, label, predicate, projectionKeys,
+      loop);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("EmbeddingCacheKey{" +
+        "vertex=%s, " +
+        "label=%s, " +
+        "predicate=%s, " +
+        "projectionKeys=%s, " +
+        "loop=%s}",
+      vertex, label, predicate, projectionKeys, loop);
+  }
+}
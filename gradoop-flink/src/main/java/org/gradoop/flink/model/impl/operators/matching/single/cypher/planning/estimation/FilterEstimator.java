@@ -15,17 +15,32 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.EquiDepthHistogram;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.Map;
 
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
  * from the applied predicates.
+ *
+ * Comparisons between a property and a literal are estimated using the most common values and
+ * the number of distinct values (equality) and the equi-depth histograms (ranges) provided by the
+ * {@link GraphStatistics}. Predicates without applicable statistics are assumed to not filter any
+ * elements.
  */
 class FilterEstimator extends Estimator {
   /**
@@ -96,11 +111,179 @@ class FilterEstimator extends Estimator {
   }
 
   /**
-   * Updates the selectivity based on the given predicates.
+   * Updates the selectivity based on the given predicates. Conjunctions are assumed to be
+   * independent.
    *
    * @param predicates query predicates
    */
   private void updateSelectivity(CNF predicates) {
-    // TODO
+    for (CNFElement element : predicates.getPredicates()) {
+      selectivity *= getSelectivity(element);
+    }
+  }
+
+  /**
+   * Estimates the selectivity of a disjunction of comparisons assuming independence.
+   *
+   * @param element disjunction of comparisons
+   * @return selectivity factor
+   */
+  private double getSelectivity(CNFElement element) {
+    double nonSelectivity = 1d;
+    for (ComparisonExpression comparison : element.getPredicates()) {
+      nonSelectivity *= 1d - getSelectivity(comparison);
+    }
+    return 1d - nonSelectivity;
+  }
+
+  /**
+   * Estimates the selectivity of a single comparison. Only comparisons between a property and a
+   * literal are considered.
+   *
+   * @param comparison comparison expression
+   * @return selectivity factor
+   */
+  private double getSelectivity(ComparisonExpression comparison) {
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+
+    if (lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable) {
+      return getSelectivity((PropertySelectorComparable) lhs, comparison.getComparator(),
+        PropertyValue.create(((LiteralComparable) rhs).getValue()));
+    } else if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+      return getSelectivity((PropertySelectorComparable) rhs, flip(comparison.getComparator()),
+        PropertyValue.create(((LiteralComparable) lhs).getValue()));
+    }
+    return 1d;
+  }
+
+  /**
+   * Estimates the selectivity of the comparison {@code property comparator literal}.
+   *
+   * @param property property selector
+   * @param comparator comparator
+   * @param literal literal value
+   * @return selectivity factor
+   */
+  private double getSelectivity(PropertySelectorComparable property, Comparator comparator,
+    PropertyValue literal) {
+    String variable = property.getVariable();
+    boolean isVertex = getQueryHandler().isVertex(variable);
+    if (!isVertex && !getQueryHandler().isEdge(variable)) {
+      return 1d;
+    }
+    String label = getLabel(variable, isVertex);
+    String propertyKey = property.getPropertyKey();
+
+    switch (comparator) {
+    case EQ:
+      return getEqualitySelectivity(label, propertyKey, literal, isVertex);
+    case NEQ:
+      double equalitySelectivity = getEqualitySelectivity(label, propertyKey, literal, isVertex);
+      return equalitySelectivity < 1d ? 1d - equalitySelectivity : 1d;
+    default:
+      return getRangeSelectivity(label, propertyKey, comparator, literal, isVertex);
+    }
+  }
+
+  /**
+   * Estimates the fraction of elements with the given label whose property is equal to the given
+   * literal. If the literal is one of the most common values, its frequency is used. Otherwise,
+   * the remaining elements are assumed to be uniformly distributed over the remaining distinct
+   * values.
+   *
+   * @param label element label
+   * @param propertyKey property key
+   * @param literal literal value
+   * @param isVertex true, iff the property belongs to a vertex
+   * @return selectivity factor
+   */
+  private double getEqualitySelectivity(String label, String propertyKey, PropertyValue literal,
+    boolean isVertex) {
+    GraphStatistics statistics = getGraphStatistics();
+    double labelCardinality = getCardinality(label, isVertex);
+    Map<String, Long> mostCommonValues = isVertex ?
+      statistics.getVertexMostCommonValues(label, propertyKey) :
+      statistics.getEdgeMostCommonValues(label, propertyKey);
+    long distinctValues = isVertex ?
+      statistics.getDistinctVertexProperties(label, propertyKey) :
+      statistics.getDistinctEdgeProperties(label, propertyKey);
+
+    if (labelCardinality == 0d || distinctValues == 0L) {
+      return 1d;
+    }
+    Long frequency = mostCommonValues.get(literal.toString());
+    if (frequency != null) {
+      return Math.min(1d, frequency / labelCardinality);
+    }
+    long mostCommonCount = mostCommonValues.values().stream().mapToLong(Long::longValue).sum();
+    double remainingFraction = Math.max(0d, 1d - mostCommonCount / labelCardinality);
+    long remainingValues = distinctValues - mostCommonValues.size();
+
+    return remainingValues > 0 ? remainingFraction / remainingValues : 0d;
+  }
+
+  /**
+   * Estimates the fraction of elements with the given label whose property fulfills the given
+   * range comparison using the equi-depth histogram of the property.
+   *
+   * @param label element label
+   * @param propertyKey property key
+   * @param comparator range comparator
+   * @param literal literal value
+   * @param isVertex true, iff the property belongs to a vertex
+   * @return selectivity factor
+   */
+  private double getRangeSelectivity(String label, String propertyKey, Comparator comparator,
+    PropertyValue literal, boolean isVertex) {
+    EquiDepthHistogram histogram = isVertex ?
+      getGraphStatistics().getVertexPropertyHistogram(label, propertyKey) :
+      getGraphStatistics().getEdgePropertyHistogram(label, propertyKey);
+    double labelCardinality = getCardinality(label, isVertex);
+
+    if (histogram == null || !literal.isNumber() || labelCardinality == 0d) {
+      return 1d;
+    }
+    double value = ((Number) literal.getObject()).doubleValue();
+    double fraction;
+    switch (comparator) {
+    case LT:
+      fraction = histogram.getFractionLessThan(value);
+      break;
+    case LTE:
+      fraction = 1d - histogram.getFractionGreaterThan(value);
+      break;
+    case GT:
+      fraction = histogram.getFractionGreaterThan(value);
+      break;
+    case GTE:
+      fraction = 1d - histogram.getFractionLessThan(value);
+      break;
+    default:
+      return 1d;
+    }
+    // elements without a numeric value for the property do not pass the filter
+    return fraction * Math.min(1d, histogram.getCount() / labelCardinality);
+  }
+
+  /**
+   * Returns the comparator that results from swapping both sides of a comparison.
+   *
+   * @param comparator comparator
+   * @return flipped comparator
+   */
+  private Comparator flip(Comparator comparator) {
+    switch (comparator) {
+    case LT:
+      return Comparator.GT;
+    case LTE:
+      return Comparator.GTE;
+    case GT:
+      return Comparator.LT;
+    case GTE:
+      return Comparator.LTE;
+    default:
+      return comparator;
+    }
   }
 }
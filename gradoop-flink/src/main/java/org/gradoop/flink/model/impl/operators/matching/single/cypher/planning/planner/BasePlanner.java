@@ -0,0 +1,790 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.SemiJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCacheKey;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.CartesianProductNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.MultiwayJoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.ProjectEmbeddingsNode;
+import org.s1ck.gdl.model.Edge;
+import org.s1ck.gdl.model.Vertex;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.EDGE;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.GRAPH;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.PATH;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.VERTEX;
+
+/**
+ * Base class for query planners. Provides the creation of the initial plan table and the
+ * operations to combine plan table entries.
+ */
+public abstract class BasePlanner {
+  /**
+   * Maximum estimated fraction of the larger join input that has a join partner, such that the
+   * input is reduced by a semi join.
+   */
+  public static final double MAX_SEMI_JOIN_SELECTIVITY = 0.5;
+  /**
+   * The search graph to be queried
+   */
+  private final LogicalGraph graph;
+  /**
+   * The query handler represents the query.
+   */
+  private final QueryHandler queryHandler;
+  /**
+   * Statistics about the search graph.
+   */
+  private final GraphStatistics graphStatistics;
+  /**
+   * The morphism type for vertex mappings.
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * The morphism type for edge mappings.
+   */
+  private final MatchStrategy edgeStrategy;
+  /**
+   * Cache for the embeddings produced by leaf nodes.
+   */
+  private final EmbeddingCache embeddingCache;
+  /**
+   * True, if join inputs may be reduced by semi joins.
+   */
+  private boolean semiJoinReduction = true;
+
+  /**
+   * Creates a new planner that shares the output of equal leaf nodes within the query.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  protected BasePlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      new EmbeddingCache());
+  }
+
+  /**
+   * Creates a new planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param embeddingCache cache for the embeddings produced by leaf nodes
+   */
+  protected BasePlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    EmbeddingCache embeddingCache) {
+    this.graph = graph;
+    this.queryHandler = queryHandler;
+    this.graphStatistics = graphStatistics;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.embeddingCache = embeddingCache;
+  }
+
+  /**
+   * Computes the {@link PlanTableEntry} that wraps the {@link QueryPlan} with the minimum costs
+   * according to the optimization algorithm of the planner.
+   *
+   * @return entry with minimum execution costs
+   */
+  public abstract PlanTableEntry plan();
+
+  /**
+   * Returns the search graph.
+   *
+   * @return search graph
+   */
+  protected LogicalGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the query handler.
+   *
+   * @return query handler
+   */
+  protected QueryHandler getQueryHandler() {
+    return queryHandler;
+  }
+
+  /**
+   * Returns the search graph statistics.
+   *
+   * @return graph statistics
+   */
+  protected GraphStatistics getGraphStatistics() {
+    return graphStatistics;
+  }
+
+  /**
+   * Returns the morphism type for vertex mappings.
+   *
+   * @return vertex strategy
+   */
+  protected MatchStrategy getVertexStrategy() {
+    return vertexStrategy;
+  }
+
+  /**
+   * Returns the morphism type for edge mappings.
+   *
+   * @return edge strategy
+   */
+  protected MatchStrategy getEdgeStrategy() {
+    return edgeStrategy;
+  }
+
+  /**
+   * Returns the cache for the embeddings produced by leaf nodes.
+   *
+   * @return embedding cache
+   */
+  protected EmbeddingCache getEmbeddingCache() {
+    return embeddingCache;
+  }
+
+  /**
+   * Enables or disables the cost-based reduction of join inputs by semi joins (see
+   * {@link JoinEmbeddingsNode.SemiJoinReduction}). The reduction is enabled by default.
+   *
+   * @param semiJoinReduction true, if join inputs may be reduced by semi joins
+   */
+  public void setSemiJoinReduction(boolean semiJoinReduction) {
+    this.semiJoinReduction = semiJoinReduction;
+  }
+
+  /**
+   * Returns true, if join inputs may be reduced by semi joins.
+   *
+   * @return true, if semi join reduction is enabled
+   */
+  protected boolean isSemiJoinReduction() {
+    return semiJoinReduction;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Initialization
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates the initial plan table entries according to the specified vertices and edges.
+   *
+   * @return initial plan table
+   */
+  protected PlanTable initPlanTable() {
+    PlanTable planTable = new PlanTable();
+    createVertexPlans(planTable);
+    createEdgePlans(planTable);
+    return planTable;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Leaf nodes (i.e. vertices and (variable length) edges)
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates an initial {@link PlanTableEntry} for each vertex in the query graph and adds it to the
+   * specified {@link PlanTable}. The entry wraps a query plan that filters vertices based on their
+   * predicates and projects properties that are required for further query planning.
+   *
+   * @param planTable plan table
+   */
+  private void createVertexPlans(PlanTable planTable) {
+    for (Vertex vertex : queryHandler.getVertices()) {
+      String vertexVariable = vertex.getVariable();
+      CNF allPredicates = queryHandler.getPredicates();
+      // TODO: this might be moved to the FilterAndProject node in issue #510
+      CNF vertexPredicates = allPredicates.removeSubCNF(vertexVariable);
+      Set<String> projectionKeys = allPredicates.getPropertyKeys(vertexVariable);
+
+      DataSet<org.gradoop.common.model.impl.pojo.Vertex> vertices =
+        vertex.getLabel().equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
+          graph.getVertices() : graph.getVerticesByLabel(vertex.getLabel());
+
+      EmbeddingCacheKey cacheKey = EmbeddingCacheKey.forVertices(graph, vertex.getLabel(),
+        vertexVariable, vertexPredicates, new ArrayList<>(projectionKeys));
+
+      FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(vertices,
+        vertex.getVariable(), vertexPredicates, projectionKeys, embeddingCache, cacheKey);
+
+      planTable.add(new PlanTableEntry(VERTEX, Sets.newHashSet(vertexVariable), allPredicates,
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+    }
+  }
+
+  /**
+   * Creates an initial {@link PlanTableEntry} for each edge in the query graph and adds it to the
+   * specified {@link PlanTable}. The entry wraps a {@link QueryPlan} that filters edges based on
+   * their predicates and projects properties that are required for further query planning.
+   *
+   * @param planTable plan table
+   */
+  private void createEdgePlans(PlanTable planTable) {
+    for (Edge edge : queryHandler.getEdges()) {
+      String edgeVariable = edge.getVariable();
+      String sourceVariable = queryHandler.getVertexById(edge.getSourceVertexId()).getVariable();
+      String targetVariable = queryHandler.getVertexById(edge.getTargetVertexId()).getVariable();
+
+      CNF allPredicates = queryHandler.getPredicates();
+      // TODO: this might be moved the the FilterAndProject node in issue #510
+      CNF edgePredicates = allPredicates.removeSubCNF(edgeVariable);
+      Set<String> projectionKeys = allPredicates.getPropertyKeys(edgeVariable);
+
+      boolean isPath = edge.getUpperBound() != 1;
+
+      DataSet<org.gradoop.common.model.impl.pojo.Edge> edges =
+        edge.getLabel().equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
+          graph.getEdges() : graph.getEdgesByLabel(edge.getLabel());
+
+      EmbeddingCacheKey cacheKey = EmbeddingCacheKey.forEdges(graph, edge.getLabel(),
+        edgeVariable, edgePredicates, new ArrayList<>(projectionKeys),
+        sourceVariable.equals(targetVariable) && !isPath);
+
+      FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(edges,
+        sourceVariable, edgeVariable, targetVariable, edgePredicates, projectionKeys, isPath,
+        embeddingCache, cacheKey);
+
+      PlanTableEntry.Type type = edge.hasVariableLength() ? PATH : EDGE;
+
+      planTable.add(new PlanTableEntry(type, Sets.newHashSet(edgeVariable), allPredicates,
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)));
+    }
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Join and Expand
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Checks if the given entry may be extended. This is only the case for entries that represents
+   * either a vertex or a partial match graph.
+   *
+   * @param entry plan table entry
+   * @return true, iff the specified entry may be extended
+   */
+  protected boolean mayExtend(PlanTableEntry entry) {
+    return entry.getType() == VERTEX || entry.getType() == GRAPH;
+  }
+
+  /**
+   * Computes the overlapping query variables of the specified entries.
+   *
+   * @param firstEntry first entry
+   * @param secondEntry second entry
+   * @return variables that are available in both input entries
+   */
+  protected List<String> getOverlap(PlanTableEntry firstEntry, PlanTableEntry secondEntry) {
+    Set<String> overlap = firstEntry.getAllVariables();
+    overlap.retainAll(secondEntry.getAllVariables());
+    return new ArrayList<>(overlap);
+  }
+
+  /**
+   * Joins the query plans represented by the specified plan table entries.
+   *
+   * The method considers if the right entry is a variable length path and in that case
+   * creates an {@link ExpandEmbeddingsNode}. In any other case, a regular
+   * {@link JoinEmbeddingsNode} is used to join the query plans.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param joinVariables join variables
+   * @return an entry that represents the join of both input entries
+   */
+  protected PlanTableEntry joinEntries(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    List<String> joinVariables) {
+
+    PlanNode node;
+    if (rightEntry.getType() == PATH) {
+      assert joinVariables.size() == 1;
+      node = createExpandNode(leftEntry, rightEntry, joinVariables.get(0));
+    } else {
+      node = createJoinNode(leftEntry, rightEntry, joinVariables);
+    }
+
+    // update processed variables
+    HashSet<String> processedVariables = Sets.newHashSet(leftEntry.getProcessedVariables());
+    processedVariables.addAll(rightEntry.getProcessedVariables());
+    // create resulting predicates
+    // TODO: this might be moved to the join/expand node in issue #510
+    CNF predicates = mergePredicates(leftEntry, rightEntry);
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Decides which input of a join is reduced by a semi join. The larger input is reduced by a
+   * bloom filter on the join keys of the smaller input, if the estimated fraction of its
+   * embeddings that have a join partner (including the false positives of the bloom filter) is at
+   * most {@link #MAX_SEMI_JOIN_SELECTIVITY} and the removed embeddings outnumber the embeddings
+   * of the smaller input, which are scanned to build the filter.
+   *
+   * @param leftCardinality estimated cardinality of the left input
+   * @param rightCardinality estimated cardinality of the right input
+   * @param joinCardinality estimated cardinality of the join
+   * @return input to reduce
+   */
+  protected static JoinEmbeddingsNode.SemiJoinReduction chooseSemiJoinReduction(
+    long leftCardinality, long rightCardinality, long joinCardinality) {
+    long larger = Math.max(leftCardinality, rightCardinality);
+    long smaller = Math.min(leftCardinality, rightCardinality);
+    if (larger <= 0L) {
+      return JoinEmbeddingsNode.SemiJoinReduction.NONE;
+    }
+    // every embedding of the larger input with a join partner produces at least one result
+    double selectivity = Math.min(1d, (double) joinCardinality / larger) +
+      SemiJoinEmbeddings.DEFAULT_FALSE_POSITIVE_RATE;
+    if (selectivity > MAX_SEMI_JOIN_SELECTIVITY || larger * (1d - selectivity) <= smaller) {
+      return JoinEmbeddingsNode.SemiJoinReduction.NONE;
+    }
+    return leftCardinality >= rightCardinality ?
+      JoinEmbeddingsNode.SemiJoinReduction.LEFT : JoinEmbeddingsNode.SemiJoinReduction.RIGHT;
+  }
+
+  /**
+   * Creates a {@link JoinEmbeddingsNode} for the specified entries. If enabled, one of the inputs
+   * is reduced by a semi join according to the estimated cardinalities (see
+   * {@link #chooseSemiJoinReduction(long, long, long)}).
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param joinVariables join variables
+   * @return new join node
+   */
+  private JoinEmbeddingsNode createJoinNode(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    List<String> joinVariables) {
+    PlanNode leftChild = leftEntry.getQueryPlan().getRoot();
+    PlanNode rightChild = rightEntry.getQueryPlan().getRoot();
+    JoinEmbeddingsNode node = new JoinEmbeddingsNode(leftChild, rightChild, joinVariables,
+      vertexStrategy, edgeStrategy);
+    if (!semiJoinReduction) {
+      return node;
+    }
+
+    long leftCardinality = leftEntry.getEstimatedCardinality();
+    long rightCardinality = rightEntry.getEstimatedCardinality();
+    long joinCardinality =
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics).getCardinality();
+
+    JoinEmbeddingsNode.SemiJoinReduction reduction =
+      chooseSemiJoinReduction(leftCardinality, rightCardinality, joinCardinality);
+    if (reduction == JoinEmbeddingsNode.SemiJoinReduction.NONE) {
+      return node;
+    }
+    return new JoinEmbeddingsNode(leftChild, rightChild, joinVariables, vertexStrategy,
+      edgeStrategy, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES, reduction,
+      Math.min(leftCardinality, rightCardinality));
+  }
+
+  /**
+   * Returns the vertex variable by which the specified edge entry would extend the specified
+   * entry, i.e. the vertex variable of the edge which is not yet covered by the entry.
+   *
+   * The method returns {@code null}, if the edge entry represents no single edge, is a loop or
+   * does not connect exactly one vertex of the specified entry.
+   *
+   * @param entry plan table entry to extend
+   * @param edgeEntry plan table entry representing a single edge
+   * @return vertex variable or {@code null}, if the edge does not extend the entry
+   */
+  protected String getExtendVariable(PlanTableEntry entry, PlanTableEntry edgeEntry) {
+    if (edgeEntry.getType() != EDGE) {
+      return null;
+    }
+    List<String> edgeVertices = edgeEntry.getQueryPlan().getRoot()
+      .getEmbeddingMetaData().getVertexVariables();
+    if (edgeVertices.size() != 2) {
+      return null;
+    }
+    Set<String> variables = entry.getAllVariables();
+    boolean containsSource = variables.contains(edgeVertices.get(0));
+    boolean containsTarget = variables.contains(edgeVertices.get(1));
+    if (containsSource == containsTarget) {
+      return null;
+    }
+    return containsSource ? edgeVertices.get(1) : edgeVertices.get(0);
+  }
+
+  /**
+   * Extends the query plan represented by the left entry by the specified vertex using a
+   * {@link MultiwayJoinEmbeddingsNode}. Each edge entry connects a vertex of the left entry with
+   * the new vertex (see {@link #getExtendVariable(PlanTableEntry, PlanTableEntry)}).
+   *
+   * In contrast to joining the edge entries one after another, the multiway join does not produce
+   * the partial matches of the cyclic sub-pattern formed by the edges.
+   *
+   * @param leftEntry left entry
+   * @param edgeEntries edge entries
+   * @param extendVariable vertex variable shared by all edge entries
+   * @return an entry that represents the join of all input entries
+   */
+  protected PlanTableEntry joinEntries(PlanTableEntry leftEntry, List<PlanTableEntry> edgeEntries,
+    String extendVariable) {
+
+    PlanNode node = new MultiwayJoinEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+      edgeEntries.stream()
+        .map(entry -> entry.getQueryPlan().getRoot())
+        .collect(Collectors.toList()),
+      extendVariable, vertexStrategy, edgeStrategy);
+
+    // update processed variables and create resulting predicates
+    // TODO: this might be moved to the join/expand node in issue #510
+    HashSet<String> processedVariables = Sets.newHashSet(leftEntry.getProcessedVariables());
+    CNF predicates = new CNF(leftEntry.getPredicates());
+    for (PlanTableEntry edgeEntry : edgeEntries) {
+      CNF edgePredicates = new CNF(edgeEntry.getPredicates());
+      predicates.removeSubCNF(edgeEntry.getProcessedVariables());
+      edgePredicates.removeSubCNF(processedVariables);
+      predicates = predicates.and(edgePredicates);
+      processedVariables.addAll(edgeEntry.getProcessedVariables());
+    }
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Creates an {@link ExpandEmbeddingsNode} from the specified arguments.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param startVariable vertex variable to expand from
+   *
+   * @return new expand node
+   */
+  private ExpandEmbeddingsNode createExpandNode(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+    String startVariable) {
+
+    String pathVariable = rightEntry.getQueryPlan().getRoot()
+      .getEmbeddingMetaData().getEdgeVariables().get(0);
+
+    Edge queryEdge = queryHandler.getEdgeByVariable(pathVariable);
+    Vertex sourceVertex = queryHandler.getVertexById(queryEdge.getSourceVertexId());
+    Vertex targetVertex = queryHandler.getVertexById(queryEdge.getTargetVertexId());
+
+    int lowerBound = queryEdge.getLowerBound();
+    int upperBound = queryEdge.getUpperBound();
+    ExpandDirection direction = sourceVertex.getVariable().equals(startVariable) ?
+      ExpandDirection.OUT : ExpandDirection.IN;
+    String endVariable = direction == ExpandDirection.OUT ?
+      targetVertex.getVariable() : sourceVertex.getVariable();
+
+    return new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+      rightEntry.getQueryPlan().getRoot(),
+      startVariable, pathVariable, endVariable, lowerBound, upperBound, direction,
+      vertexStrategy, edgeStrategy);
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Filter embedding evaluation
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * The method checks if a filter can be applied on any of the entries in the specified table. If
+   * this is the case, a {@link FilterEmbeddingsNode} is added to the query plan represented by the
+   * affected entries.
+   *
+   * @param currentTable query plan table
+   * @return input table with possibly updated entries
+   */
+  protected PlanTable evaluateFilter(PlanTable currentTable) {
+    PlanTable newTable = new PlanTable();
+
+    for (PlanTableEntry entry : currentTable) {
+      newTable.add(evaluateFilter(entry));
+    }
+
+    return newTable;
+  }
+
+  /**
+   * Adds a {@link FilterEmbeddingsNode} to the query plan represented by the specified entry, if
+   * any of its remaining predicates can be evaluated.
+   *
+   * @param entry plan table entry
+   * @return possibly updated entry
+   */
+  protected PlanTableEntry evaluateFilter(PlanTableEntry entry) {
+    Set<String> variables = Sets.newHashSet(entry.getProcessedVariables());
+    CNF predicates = entry.getPredicates();
+    CNF subCNF = predicates.removeSubCNF(variables);
+    if (subCNF.size() > 0) {
+      FilterEmbeddingsNode node = new FilterEmbeddingsNode(entry.getQueryPlan().getRoot(),
+        subCNF);
+      return new PlanTableEntry(GRAPH, Sets.newHashSet(entry.getProcessedVariables()),
+        predicates, new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+    }
+    return entry;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Filter embedding evaluation
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * The method checks if a filter can be applied on any of the entries in the specified table. If
+   * this is the case, a {@link ProjectEmbeddingsNode} is added to the query plan represented by the
+   * affected entries.
+   *
+   * @param currentTable query plan table
+   * @return input table with possibly updated entries
+   */
+  protected PlanTable evaluateProjection(PlanTable currentTable) {
+    PlanTable newTable = new PlanTable();
+
+    for (PlanTableEntry entry : currentTable) {
+      newTable.add(evaluateProjection(entry));
+    }
+    return newTable;
+  }
+
+  /**
+   * Adds a {@link ProjectEmbeddingsNode} to the query plan represented by the specified entry, if
+   * it contains properties which are not needed for further query processing.
+   *
+   * @param entry plan table entry
+   * @return possibly updated entry
+   */
+  protected PlanTableEntry evaluateProjection(PlanTableEntry entry) {
+    Set<Pair<String, String>> propertyPairs = entry.getPropertyPairs();
+    Set<Pair<String, String>> projectionPairs = entry.getProjectionPairs();
+
+    Set<Pair<String, String>> updatedPropertyPairs = propertyPairs.stream()
+      .filter(projectionPairs::contains)
+      .collect(Collectors.toSet());
+
+    if (updatedPropertyPairs.size() < propertyPairs.size()) {
+      ProjectEmbeddingsNode node = new ProjectEmbeddingsNode(entry.getQueryPlan().getRoot(),
+        new ArrayList<>(updatedPropertyPairs));
+      return new PlanTableEntry(GRAPH,
+        Sets.newHashSet(entry.getProcessedVariables()), entry.getPredicates(),
+        new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+    }
+    return entry;
+  }
+
+  //------------------------------------------------------------------------------------------------
+  // Join and Expand
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Evaluates which entries in the specified plan table can be joined. The joined entries
+   * are added to a new table which is returned.
+   *
+   * @param currentTable query plan table
+   * @return new table containing solely joined plans from the input table
+   */
+  protected PlanTable evaluateCartesianProducts(PlanTable currentTable) {
+    PlanTable newTable = new PlanTable();
+    for (int i = 0; i < currentTable.size(); i++) {
+      PlanTableEntry leftEntry = currentTable.get(i);
+      for (int j = i + 1; j < currentTable.size(); j++) {
+        PlanTableEntry rightEntry = currentTable.get(j);
+        CNF joinPredicate = getJoinPredicate(leftEntry, rightEntry);
+        if (joinPredicate.size() > 0) {
+          newTable.add(createValueJoinEntry(leftEntry, rightEntry, joinPredicate));
+        } else {
+          // regular join or join with variable length path on source or target vertex
+          newTable.add(createCartesianProductEntry(leftEntry, rightEntry));
+        }
+      }
+    }
+    return newTable;
+  }
+
+
+  /**
+   * Computes the overlapping query variables of the specified entries.
+   *
+   * @param leftEntry first entry
+   * @param rightEntry second entry
+   * @return variables that are available in both input entries
+   */
+  private CNF getJoinPredicate(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+    Set<String> allVariables = leftEntry.getAllVariables();
+    allVariables.addAll(rightEntry.getAllVariables());
+
+    CNF leftPredicates = new CNF(leftEntry.getPredicates());
+    CNF rightPredicates = new CNF(rightEntry.getPredicates());
+    leftPredicates.removeSubCNF(rightEntry.getProcessedVariables());
+    rightPredicates.removeSubCNF(leftEntry.getProcessedVariables());
+    CNF predicates = leftPredicates.and(rightPredicates).getSubCNF(allVariables);
+
+    return new CNF(
+      predicates.getPredicates()
+        .stream()
+        .filter(p ->
+          p.size() == 1 && p.getPredicates().get(0).getComparator().equals(Comparator.EQ)
+        ).collect(Collectors.toList())
+    );
+  }
+
+  /**
+   * Creates an {@link CartesianProductNode} from the specified arguments.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   *
+   * @return new expand node
+   */
+  private PlanTableEntry createCartesianProductEntry(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    CartesianProductNode node = new CartesianProductNode(
+      leftEntry.getQueryPlan().getRoot(),
+      rightEntry.getQueryPlan().getRoot(),
+      vertexStrategy, edgeStrategy
+    );
+
+    Set<String> processedVariables = leftEntry.getProcessedVariables();
+    processedVariables.addAll(rightEntry.getProcessedVariables());
+
+    CNF predicates = mergePredicates(leftEntry, rightEntry);
+
+    return new PlanTableEntry(
+      GRAPH,
+      processedVariables,
+      predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+    );
+  }
+
+  /**
+   * Creates an {@link ValueJoinNode} from the specified arguments.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @param joinPredicate join predicate
+   *
+   * @return new value join node
+   */
+  private PlanTableEntry createValueJoinEntry(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry, CNF joinPredicate) {
+
+    List<Pair<String, String>> leftProperties = new ArrayList<>();
+    List<Pair<String, String>> rightProperties = new ArrayList<>();
+
+    for (CNFElement e : joinPredicate.getPredicates()) {
+      ComparisonExpression comparison = e.getPredicates().get(0);
+
+      Pair<String, String> joinProperty = extractJoinProperty(comparison.getLhs());
+      if (leftEntry.getAllVariables().contains(joinProperty.getKey())) {
+        leftProperties.add(joinProperty);
+      } else {
+        rightProperties.add(joinProperty);
+      }
+
+      joinProperty = extractJoinProperty(comparison.getRhs());
+      if (leftEntry.getAllVariables().contains(joinProperty.getKey())) {
+        leftProperties.add(joinProperty);
+      } else {
+        rightProperties.add(joinProperty);
+      }
+    }
+
+    ValueJoinNode node = new ValueJoinNode(
+      leftEntry.getQueryPlan().getRoot(),
+      rightEntry.getQueryPlan().getRoot(),
+      leftProperties, rightProperties,
+      vertexStrategy, edgeStrategy
+    );
+
+    Set<String> processedVariables = leftEntry.getProcessedVariables();
+    processedVariables.addAll(rightEntry.getProcessedVariables());
+
+    CNF predicates = mergePredicates(leftEntry, rightEntry);
+
+    return new PlanTableEntry(
+      GRAPH,
+      processedVariables,
+      predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics)
+    );
+  }
+
+  /**
+   * Turns a QueryComparable into a {@code Pair<Variable, PropertyKey>}
+   * @param comparable query comparable
+   * @return join property
+   */
+  private Pair<String, String> extractJoinProperty(QueryComparable comparable) {
+    if (comparable instanceof PropertySelectorComparable) {
+      PropertySelectorComparable propertySelector = (PropertySelectorComparable) comparable;
+      return Pair.of(propertySelector.getVariable(), propertySelector.getPropertyKey());
+    } else {
+      //TODO #580 Include ElementSelector -> ID needs to be projected as property
+      throw new RuntimeException("Comparable " + comparable + "cant be used for ValueJoin");
+    }
+  }
+
+  /**
+   * Creates a new predicate that includes only elements that exist in both input predicates
+   *
+   * @param leftEntry left side plant table entry
+   * @param rightEntry right side plan table entry
+   * @return Merged predicates
+   */
+  private CNF mergePredicates(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+    CNF leftPredicates = new CNF(leftEntry.getPredicates());
+    CNF rightPredicates = new CNF(rightEntry.getPredicates());
+    leftPredicates.removeSubCNF(rightEntry.getProcessedVariables());
+    rightPredicates.removeSubCNF(leftEntry.getProcessedVariables());
+    return leftPredicates.and(rightPredicates);
+  }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamicprogramming;
+
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.BasePlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.LongConsumer;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.PATH;
+
+/**
+ * A query planner that computes a query plan using dynamic programming over the connected
+ * sub-graphs of the query graph (DPccp, see Moerkotte and Neumann, "Analysis of Two Existing and
+ * One New Dynamic Programming Algorithm for the Generation of Optimal Bushy Join Trees without
+ * Cross Products", VLDB 2006).
+ *
+ * The leaves of the query graph are the initial plan table entries, i.e. the query vertices and
+ * (variable length) query edges. Two leaves are connected if they share a query variable. For
+ * each connected sub-graph, the planner keeps the cheapest plan, where the costs of a plan are the
+ * sum of the estimated cardinalities of all its intermediate results. In contrast to the
+ * {@link GreedyPlanner}, this allows bushy plans and avoids early decisions that lead to large
+ * intermediate results. Sets of edges which connect a planned sub-graph with the same new vertex
+ * (e.g. the closing edges of a triangle) are additionally planned as a single multiway join.
+ *
+ * Since the number of connected sub-graphs grows exponentially with the size of the query graph,
+ * the planner falls back to the {@link GreedyPlanner} if the query graph consists of more leaves
+ * than a configurable threshold. Disconnected query graph components are planned independently and
+ * combined by the {@link GreedyPlanner}.
+ */
+public class DynamicProgrammingPlanner extends BasePlanner {
+  /**
+   * Default maximum number of leaves for which dynamic programming is used.
+   */
+  public static final int DEFAULT_MAX_LEAVES = 20;
+  /**
+   * Maximum number of leaves for which dynamic programming is used.
+   */
+  private final int maxLeaves;
+
+  /**
+   * Creates a new dynamic programming planner using {@link #DEFAULT_MAX_LEAVES}.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public DynamicProgrammingPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, DEFAULT_MAX_LEAVES);
+  }
+
+  /**
+   * Creates a new dynamic programming planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxLeaves maximum number of leaves for which dynamic programming is used
+   */
+  public DynamicProgrammingPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int maxLeaves) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, maxLeaves,
+      new EmbeddingCache());
+  }
+
+  /**
+   * Creates a new dynamic programming planner that uses the given cache for the output of leaf
+   * nodes.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxLeaves maximum number of leaves for which dynamic programming is used
+   * @param embeddingCache cache for the embeddings produced by leaf nodes
+   */
+  public DynamicProgrammingPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int maxLeaves, EmbeddingCache embeddingCache) {
+    super(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy, embeddingCache);
+    if (maxLeaves < 1 || maxLeaves >= Long.SIZE) {
+      throw new IllegalArgumentException(
+        "Maximum number of leaves must be in [1, " + (Long.SIZE - 1) + "]");
+    }
+    this.maxLeaves = maxLeaves;
+  }
+
+  @Override
+  public PlanTableEntry plan() {
+    PlanTable planTable = initPlanTable();
+
+    if (planTable.size() > maxLeaves) {
+      return createGreedyPlanner().plan(planTable);
+    }
+
+    PlanTable componentTable = new PlanTable();
+    for (List<PlanTableEntry> component : getComponents(planTable)) {
+      componentTable.add(new ComponentPlanner(component).plan());
+    }
+
+    return componentTable.size() == 1 ?
+      componentTable.get(0) : createGreedyPlanner().plan(componentTable);
+  }
+
+  /**
+   * Creates a greedy planner using the same input as this planner.
+   *
+   * @return greedy planner
+   */
+  private GreedyPlanner createGreedyPlanner() {
+    GreedyPlanner planner = new GreedyPlanner(getGraph(), getQueryHandler(),
+      getGraphStatistics(), getVertexStrategy(), getEdgeStrategy(), getEmbeddingCache());
+    planner.setSemiJoinReduction(isSemiJoinReduction());
+    return planner;
+  }
+
+  /**
+   * Splits the entries of the specified plan table into connected components. Two entries are
+   * connected, if they share at least one query variable. The entries of each component are
+   * ordered by a breadth-first traversal, which is required by the enumeration of DPccp.
+   *
+   * @param planTable initial plan table
+   * @return connected components in breadth-first order
+   */
+  private List<List<PlanTableEntry>> getComponents(PlanTable planTable) {
+    List<List<PlanTableEntry>> components = new ArrayList<>();
+    boolean[] visited = new boolean[planTable.size()];
+
+    for (int start = 0; start < planTable.size(); start++) {
+      if (visited[start]) {
+        continue;
+      }
+      List<PlanTableEntry> component = new ArrayList<>();
+      Queue<Integer> queue = new ArrayDeque<>();
+      queue.add(start);
+      visited[start] = true;
+
+      while (!queue.isEmpty()) {
+        PlanTableEntry entry = planTable.get(queue.poll());
+        component.add(entry);
+        for (int i = 0; i < planTable.size(); i++) {
+          if (!visited[i] && getOverlap(entry, planTable.get(i)).size() > 0) {
+            visited[i] = true;
+            queue.add(i);
+          }
+        }
+      }
+      components.add(component);
+    }
+    return components;
+  }
+
+  /**
+   * Computes the cheapest plan for a single connected component of the query graph. Sets of
+   * leaves are represented as bit sets, where bit {@code i} stands for the i-th leaf.
+   */
+  private class ComponentPlanner {
+    /**
+     * Leaves of the component in breadth-first order
+     */
+    private final List<PlanTableEntry> leaves;
+    /**
+     * Neighbors of each leaf
+     */
+    private final long[] neighbors;
+    /**
+     * Cheapest entry for each set of leaves that could be planned
+     */
+    private final Map<Long, PlanTableEntry> bestEntries;
+    /**
+     * Costs of the cheapest entry for each set of leaves
+     */
+    private final Map<Long, Long> bestCosts;
+
+    /**
+     * Creates a new component planner.
+     *
+     * @param leaves leaves of the component in breadth-first order
+     */
+    ComponentPlanner(List<PlanTableEntry> leaves) {
+      this.leaves = leaves;
+      this.neighbors = new long[leaves.size()];
+      this.bestEntries = new HashMap<>();
+      this.bestCosts = new HashMap<>();
+
+      for (int i = 0; i < leaves.size(); i++) {
+        for (int j = 0; j < leaves.size(); j++) {
+          if (i != j && getOverlap(leaves.get(i), leaves.get(j)).size() > 0) {
+            neighbors[i] |= 1L << j;
+          }
+        }
+        bestEntries.put(1L << i, leaves.get(i));
+        bestCosts.put(1L << i, leaves.get(i).getEstimatedCardinality());
+      }
+    }
+
+    /**
+     * Enumerates all pairs of connected sub-graphs and their connected complements and returns
+     * the cheapest entry covering all leaves.
+     *
+     * @return entry with minimum execution costs
+     */
+    PlanTableEntry plan() {
+      LongConsumer csgConsumer = csg -> enumerateCmp(csg, cmp -> evaluatePair(csg, cmp));
+
+      for (int i = leaves.size() - 1; i >= 0; i--) {
+        long start = 1L << i;
+        csgConsumer.accept(start);
+        enumerateCsgRec(start, lowerBits(i), csgConsumer);
+      }
+
+      return bestEntries.get(lowerBits(leaves.size() - 1));
+    }
+
+    /**
+     * Emits all connected sub-graphs that extend the specified sub-graph by its neighbors,
+     * excluding the specified leaves.
+     *
+     * @param subgraph connected sub-graph
+     * @param excluded leaves that must not be added
+     * @param consumer receives each extended sub-graph
+     */
+    private void enumerateCsgRec(long subgraph, long excluded, LongConsumer consumer) {
+      long neighborhood = getNeighborhood(subgraph) & ~excluded;
+      if (neighborhood == 0L) {
+        return;
+      }
+      // iterate non-empty subsets of the neighborhood in ascending order
+      long subset = 0L;
+      do {
+        subset = (subset - neighborhood) & neighborhood;
+        consumer.accept(subgraph | subset);
+      } while (subset != neighborhood);
+
+      subset = 0L;
+      do {
+        subset = (subset - neighborhood) & neighborhood;
+        enumerateCsgRec(subgraph | subset, excluded | neighborhood, consumer);
+      } while (subset != neighborhood);
+    }
+
+    /**
+     * Emits all connected complements of the specified connected sub-graph, i.e. the connected
+     * sub-graphs which are disjoint from and adjacent to it and whose smallest leaf is greater
+     * than the smallest leaf of the sub-graph.
+     *
+     * @param csg connected sub-graph
+     * @param consumer receives each complement
+     */
+    private void enumerateCmp(long csg, LongConsumer consumer) {
+      long excluded = lowerBits(Long.numberOfTrailingZeros(csg)) | csg;
+      long neighborhood = getNeighborhood(csg) & ~excluded;
+
+      for (int i = Long.SIZE - 1 - Long.numberOfLeadingZeros(neighborhood); i >= 0; i--) {
+        long leaf = 1L << i;
+        if ((neighborhood & leaf) != 0L) {
+          consumer.accept(leaf);
+          enumerateCsgRec(leaf, excluded | (lowerBits(i) & neighborhood), consumer);
+        }
+      }
+    }
+
+    /**
+     * Joins the cheapest entries of both sets of leaves in all possible ways and updates the
+     * cheapest entry of their union.
+     *
+     * @param first first set of leaves
+     * @param second second set of leaves
+     */
+    private void evaluatePair(long first, long second) {
+      PlanTableEntry firstEntry = bestEntries.get(first);
+      PlanTableEntry secondEntry = bestEntries.get(second);
+      // sets consisting solely of edges can not be planned on their own
+      if (firstEntry == null && secondEntry != null) {
+        evaluateMultiwayJoin(second, first);
+        return;
+      }
+      if (secondEntry == null && firstEntry != null) {
+        evaluateMultiwayJoin(first, second);
+        return;
+      }
+      if (firstEntry == null) {
+        return;
+      }
+      long childCosts = bestCosts.get(first) + bestCosts.get(second);
+
+      for (PlanTableEntry entry : createJoins(firstEntry, secondEntry)) {
+        update(first | second, entry, childCosts);
+      }
+    }
+
+    /**
+     * Extends the cheapest entry of the first set of leaves by all edges of the second set of
+     * leaves using a multiway join. This is only possible if all edges connect a vertex of the
+     * entry with the same new vertex, e.g. if the edges close a triangle.
+     *
+     * @param first set of leaves with a planned entry
+     * @param edges set of edge leaves
+     */
+    private void evaluateMultiwayJoin(long first, long edges) {
+      PlanTableEntry leftEntry = bestEntries.get(first);
+      if (!mayExtend(leftEntry)) {
+        return;
+      }
+      List<PlanTableEntry> edgeEntries = new ArrayList<>();
+      String extendVariable = null;
+      long childCosts = bestCosts.get(first);
+
+      for (long remaining = edges; remaining != 0L; remaining &= remaining - 1) {
+        PlanTableEntry edgeEntry = leaves.get(Long.numberOfTrailingZeros(remaining));
+        String variable = getExtendVariable(leftEntry, edgeEntry);
+        if (variable == null || (extendVariable != null && !extendVariable.equals(variable))) {
+          return;
+        }
+        extendVariable = variable;
+        edgeEntries.add(edgeEntry);
+        childCosts += edgeEntry.getEstimatedCardinality();
+      }
+
+      update(first | edges, finish(joinEntries(leftEntry, edgeEntries, extendVariable)),
+        childCosts);
+    }
+
+    /**
+     * Stores the specified entry as the cheapest entry of the specified set of leaves if its
+     * costs are lower than the costs of the current one.
+     *
+     * @param set set of leaves covered by the entry
+     * @param entry plan table entry
+     * @param childCosts costs of the inputs of the entry
+     */
+    private void update(long set, PlanTableEntry entry, long childCosts) {
+      long costs = entry.getEstimatedCardinality() + childCosts;
+      Long currentCosts = bestCosts.get(set);
+      if (currentCosts == null || costs < currentCosts) {
+        bestEntries.put(set, entry);
+        bestCosts.put(set, costs);
+      }
+    }
+
+    /**
+     * Creates all possible joins of the specified entries in both directions and applies filters
+     * and projections on the results.
+     *
+     * @param firstEntry first entry
+     * @param secondEntry second entry
+     * @return joined entries
+     */
+    private List<PlanTableEntry> createJoins(PlanTableEntry firstEntry,
+      PlanTableEntry secondEntry) {
+      List<PlanTableEntry> joined = new ArrayList<>();
+      addJoins(firstEntry, secondEntry, joined);
+      addJoins(secondEntry, firstEntry, joined);
+      return joined;
+    }
+
+    /**
+     * Adds all joins with the specified left and right entry to the given list.
+     *
+     * @param leftEntry left entry
+     * @param rightEntry right entry
+     * @param joined joined entries
+     */
+    private void addJoins(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+      List<PlanTableEntry> joined) {
+      if (!mayExtend(leftEntry)) {
+        return;
+      }
+      List<String> joinVariables = getOverlap(leftEntry, rightEntry);
+      if (joinVariables.isEmpty()) {
+        return;
+      }
+      if (rightEntry.getType() == PATH && joinVariables.size() == 2) {
+        // evaluate join with variable length path on source and target vertex
+        joined.add(finish(joinEntries(leftEntry, rightEntry, joinVariables.subList(0, 1))));
+        joined.add(finish(joinEntries(leftEntry, rightEntry, joinVariables.subList(1, 2))));
+      } else {
+        // regular join or join with variable length path on source or target vertex
+        joined.add(finish(joinEntries(leftEntry, rightEntry, joinVariables)));
+      }
+    }
+
+    /**
+     * Applies filters and projections on the specified joined entry.
+     *
+     * @param entry joined entry
+     * @return entry with evaluated filters and projections
+     */
+    private PlanTableEntry finish(PlanTableEntry entry) {
+      return evaluateProjection(evaluateFilter(entry));
+    }
+
+    /**
+     * Returns the leaves adjacent to the specified set of leaves.
+     *
+     * @param set set of leaves
+     * @return neighborhood of the set
+     */
+    private long getNeighborhood(long set) {
+      long neighborhood = 0L;
+      for (long remaining = set; remaining != 0L; remaining &= remaining - 1) {
+        neighborhood |= neighbors[Long.numberOfTrailingZeros(remaining)];
+      }
+      return neighborhood & ~set;
+    }
+
+    /**
+     * Returns the set containing the leaves {@code 0} to {@code i}.
+     *
+     * @param i index of the largest leaf
+     * @return set of leaves
+     */
+    private long lowerBits(int i) {
+      return (1L << (i + 1)) - 1;
+    }
+  }
+}
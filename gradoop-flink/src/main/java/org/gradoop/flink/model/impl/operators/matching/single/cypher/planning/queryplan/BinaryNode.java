@@ -61,4 +61,18 @@ public abstract class BinaryNode extends PlanNode {
   public PlanNode getRightChild() {
     return rightChild;
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The signature consists of the string representation of the node, its output meta data and
+   * the signatures of both child nodes.
+   */
+  @Override
+  public String getSignature() {
+    String leftSignature = leftChild.getSignature();
+    String rightSignature = rightChild.getSignature();
+    return leftSignature == null || rightSignature == null ? null :
+      String.format("%s%s(%s,%s)", this, getEmbeddingMetaData(), leftSignature, rightSignature);
+  }
 }
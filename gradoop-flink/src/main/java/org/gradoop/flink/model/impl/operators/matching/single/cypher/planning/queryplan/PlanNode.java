@@ -19,6 +19,8 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
+import java.util.Map;
+
 /**
  * Represents a single node in a {@link QueryPlan}
  */
@@ -27,13 +29,63 @@ public abstract class PlanNode {
    * Describes the output of that node.
    */
   private EmbeddingMetaData embeddingMetaData;
+  /**
+   * Embeddings produced by already executed nodes, identified by their signature.
+   */
+  private Map<String, DataSet<Embedding>> sharedEmbeddings;
 
   /**
    * Recursively executes this node and returns the resulting {@link Embedding} data set.
    *
+   * If the node shares its output (see {@link #setSharedEmbeddings(Map)}), the embeddings of an
+   * already executed node with the same signature are returned instead.
+   *
+   * @return embeddings
+   */
+  public DataSet<Embedding> execute() {
+    String signature = sharedEmbeddings != null ? getSignature() : null;
+    if (signature == null) {
+      return evaluate();
+    }
+    DataSet<Embedding> embeddings = sharedEmbeddings.get(signature);
+    if (embeddings == null) {
+      embeddings = evaluate();
+      sharedEmbeddings.put(signature, embeddings);
+    }
+    return embeddings;
+  }
+
+  /**
+   * Creates the operators represented by this node and returns the resulting {@link Embedding}
+   * data set.
+   *
    * @return embeddings
    */
-  public abstract DataSet<Embedding> execute();
+  protected abstract DataSet<Embedding> evaluate();
+
+  /**
+   * Sets the embeddings shared between nodes with equal signatures, e.g. across the query plans
+   * of a batch of queries. The map is filled while executing the nodes.
+   *
+   * @param sharedEmbeddings embeddings by signature
+   */
+  public void setSharedEmbeddings(Map<String, DataSet<Embedding>> sharedEmbeddings) {
+    this.sharedEmbeddings = sharedEmbeddings;
+  }
+
+  /**
+   * Returns a string that identifies the embeddings produced by that node. Nodes with equal
+   * signatures that are executed on the same search graph produce equal embeddings, i.e. the
+   * signature covers the operator, its parameters, the output meta data and (recursively) the
+   * input nodes.
+   *
+   * By default, the output of a node is not shared.
+   *
+   * @return signature or {@code null}, if the output of that node can not be shared
+   */
+  public String getSignature() {
+    return null;
+  }
 
   /**
    * Returns the meta data describing the embeddings produced by this node.
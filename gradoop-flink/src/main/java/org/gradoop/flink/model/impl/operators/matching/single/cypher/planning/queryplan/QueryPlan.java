@@ -19,6 +19,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Represents an executable Cypher query plan.
  */
@@ -59,6 +63,28 @@ public class QueryPlan {
     return root.execute();
   }
 
+  /**
+   * Sets the embeddings shared between nodes with equal signatures for all nodes of the plan.
+   * Executing multiple plans using the same map computes equal sub plans only once.
+   *
+   * @param sharedEmbeddings embeddings by signature
+   * @see PlanNode#setSharedEmbeddings(java.util.Map)
+   */
+  public void setSharedEmbeddings(Map<String, DataSet<Embedding>> sharedEmbeddings) {
+    getNodes().forEach(node -> node.setSharedEmbeddings(sharedEmbeddings));
+  }
+
+  /**
+   * Returns all nodes of the query plan in pre-order.
+   *
+   * @return plan nodes
+   */
+  public List<PlanNode> getNodes() {
+    List<PlanNode> nodes = new ArrayList<>();
+    collectPlanNodes(root, nodes);
+    return nodes;
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -81,6 +107,30 @@ public class QueryPlan {
     } else if (node instanceof BinaryNode) {
       printPlanNode(((BinaryNode) node).getLeftChild(), level, sb);
       printPlanNode(((BinaryNode) node).getRightChild(), level, sb);
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        printPlanNode(child, level, sb);
+      }
+    }
+  }
+
+  /**
+   * Recursively collects the nodes of the sub tree of the given node in pre-order.
+   *
+   * @param node root plan node
+   * @param nodes collected nodes
+   */
+  private void collectPlanNodes(PlanNode node, List<PlanNode> nodes) {
+    nodes.add(node);
+    if (node instanceof UnaryNode) {
+      collectPlanNodes(((UnaryNode) node).getChildNode(), nodes);
+    } else if (node instanceof BinaryNode) {
+      collectPlanNodes(((BinaryNode) node).getLeftChild(), nodes);
+      collectPlanNodes(((BinaryNode) node).getRightChild(), nodes);
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        collectPlanNodes(child, nodes);
+      }
     }
   }
 }
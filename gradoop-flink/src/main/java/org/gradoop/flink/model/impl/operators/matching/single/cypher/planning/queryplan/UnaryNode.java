@@ -45,4 +45,17 @@ public abstract class UnaryNode extends PlanNode {
   public PlanNode getChildNode() {
     return childNode;
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The signature consists of the string representation of the node, its output meta data and
+   * the signature of the child node.
+   */
+  @Override
+  public String getSignature() {
+    String childSignature = childNode.getSignature();
+    return childSignature == null ? null :
+      String.format("%s%s(%s)", this, getEmbeddingMetaData(), childSignature);
+  }
 }
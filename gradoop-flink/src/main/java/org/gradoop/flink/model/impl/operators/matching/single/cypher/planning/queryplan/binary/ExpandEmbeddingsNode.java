@@ -24,6 +24,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand
   .ExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBidirectional;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.ExpandEmbeddingsBulk;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
@@ -34,7 +35,10 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator.
+ * Binary node that wraps an {@link ExpandEmbeddingsBulk} operator. If the path is bounded and its
+ * end vertex is already part of the input embedding, an {@link ExpandEmbeddingsBidirectional}
+ * operator is used instead, which grows the path from both ends. The paths are always kept, see
+ * {@link ExpandEmbeddingsBidirectional#setKeepPaths(boolean)}.
  */
 public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   /**
@@ -111,13 +115,23 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
-    ExpandEmbeddings op = new ExpandEmbeddingsBulk(
-      getLeftChild().execute(), getRightChild().execute(),
-      expandColumn, lowerBound, upperBound, expandDirection,
-      getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
-      getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
-      closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+  protected DataSet<Embedding> evaluate() {
+    ExpandEmbeddings op;
+    if (closingColumn >= 0 && upperBound != Integer.MAX_VALUE) {
+      op = new ExpandEmbeddingsBidirectional(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, lowerBound, upperBound, expandDirection,
+        getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+        getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+        closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+    } else {
+      op = new ExpandEmbeddingsBulk(
+        getLeftChild().execute(), getRightChild().execute(),
+        expandColumn, lowerBound, upperBound, expandDirection,
+        getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
+        getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
+        closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+    }
     op.setName(toString());
     return op.evaluate();
   }
@@ -21,6 +21,7 @@ import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.JoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.SemiJoinEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
@@ -33,6 +34,25 @@ import java.util.stream.Collectors;
  * Binary node that wraps a {@link JoinEmbeddings} operator.
  */
 public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
+  /**
+   * Input of the join that is reduced by a semi join before the join (see
+   * {@link SemiJoinEmbeddings}).
+   */
+  public enum SemiJoinReduction {
+    /**
+     * Both inputs are joined as they are
+     */
+    NONE,
+    /**
+     * The left input is reduced by a bloom filter on the join keys of the right input
+     */
+    LEFT,
+    /**
+     * The right input is reduced by a bloom filter on the join keys of the left input
+     */
+    RIGHT
+  }
+
   /**
    * Query variables on which left and right child are joined
    */
@@ -49,6 +69,14 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
    * Join hint for Flink optimizer
    */
   private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Input that is reduced by a semi join
+   */
+  private final SemiJoinReduction semiJoinReduction;
+  /**
+   * Expected number of distinct join keys in the input the bloom filter is built from
+   */
+  private final long bloomFilterKeys;
 
   /**
    * Creates  a new node.
@@ -80,16 +108,54 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     List<String> joinVariables,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
     JoinOperatorBase.JoinHint joinHint) {
+    this(leftChild, rightChild, joinVariables, vertexStrategy, edgeStrategy, joinHint,
+      SemiJoinReduction.NONE, 0L);
+  }
+
+  /**
+   * Creates a new node that reduces one of its inputs by a semi join before joining them.
+   *
+   * @param leftChild left input plan node
+   * @param rightChild right input plan node
+   * @param joinVariables query variables to join the inputs on
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   * @param joinHint Join hint for the Flink optimizer
+   * @param semiJoinReduction input that is reduced by a semi join
+   * @param bloomFilterKeys expected number of distinct join keys in the other input
+   */
+  public JoinEmbeddingsNode(PlanNode leftChild, PlanNode rightChild,
+    List<String> joinVariables,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    JoinOperatorBase.JoinHint joinHint, SemiJoinReduction semiJoinReduction,
+    long bloomFilterKeys) {
     super(leftChild, rightChild);
     this.joinVariables = joinVariables;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.joinHint = joinHint;
+    this.semiJoinReduction = semiJoinReduction;
+    this.bloomFilterKeys = bloomFilterKeys;
   }
 
   @Override
-  public DataSet<Embedding> execute() {
-    JoinEmbeddings op = new JoinEmbeddings(getLeftChild().execute(), getRightChild().execute(),
+  protected DataSet<Embedding> evaluate() {
+    DataSet<Embedding> left = getLeftChild().execute();
+    DataSet<Embedding> right = getRightChild().execute();
+
+    if (semiJoinReduction == SemiJoinReduction.LEFT) {
+      SemiJoinEmbeddings semiJoin = new SemiJoinEmbeddings(left, right,
+        getJoinColumnsLeft(), getJoinColumnsRight(), bloomFilterKeys);
+      semiJoin.setName("SemiJoinEmbeddings(left) " + toString());
+      left = semiJoin.evaluate();
+    } else if (semiJoinReduction == SemiJoinReduction.RIGHT) {
+      SemiJoinEmbeddings semiJoin = new SemiJoinEmbeddings(right, left,
+        getJoinColumnsRight(), getJoinColumnsLeft(), bloomFilterKeys);
+      semiJoin.setName("SemiJoinEmbeddings(right) " + toString());
+      right = semiJoin.evaluate();
+    }
+
+    JoinEmbeddings op = new JoinEmbeddings(left, right,
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getJoinColumnsLeft(), getJoinColumnsRight(),
       getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
@@ -99,6 +165,15 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     return op.evaluate();
   }
 
+  /**
+   * Returns the input that is reduced by a semi join before the join.
+   *
+   * @return reduced input
+   */
+  public SemiJoinReduction getSemiJoinReduction() {
+    return semiJoinReduction;
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     EmbeddingMetaData leftInputMetaData = getLeftChild().getEmbeddingMetaData();
@@ -222,7 +297,8 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     return String.format("JoinEmbeddingsNode{" +
       "joinVariables=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      joinVariables, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "semiJoinReduction=%s}",
+      joinVariables, vertexStrategy, edgeStrategy, semiJoinReduction);
   }
 }
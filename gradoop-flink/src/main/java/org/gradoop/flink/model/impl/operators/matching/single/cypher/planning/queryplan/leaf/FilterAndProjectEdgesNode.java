@@ -20,6 +20,8 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCacheKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.FilterAndProjectEdges;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
@@ -61,6 +63,14 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
    * Indicates if the edges is actually a path
    */
   private final boolean isPath;
+  /**
+   * Cache for the output of this node or {@code null}
+   */
+  private final EmbeddingCache cache;
+  /**
+   * Identifies the output of this node in the cache or {@code null}
+   */
+  private final EmbeddingCacheKey cacheKey;
 
   /**
    * Creates a new node.
@@ -76,6 +86,27 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
   public FilterAndProjectEdgesNode(DataSet<Edge> edges,
     String sourceVariable, String edgeVariable, String targetVariable,
     CNF filterPredicate, Set<String> projectionKeys, boolean isPath) {
+    this(edges, sourceVariable, edgeVariable, targetVariable, filterPredicate, projectionKeys,
+      isPath, null, null);
+  }
+
+  /**
+   * Creates a new node whose output is taken from (or added to) the given cache.
+   *
+   * @param edges input edges
+   * @param sourceVariable query variable of the source vertex
+   * @param edgeVariable query variable of the edge
+   * @param targetVariable query variable of the target vertex
+   * @param filterPredicate filter predicate to be applied on edges
+   * @param projectionKeys property keys whose associated values are projected to the output
+   * @param isPath indicates if the edges is actually a path
+   * @param cache cache for the output or {@code null}
+   * @param cacheKey key of the output in the cache or {@code null}
+   */
+  public FilterAndProjectEdgesNode(DataSet<Edge> edges,
+    String sourceVariable, String edgeVariable, String targetVariable,
+    CNF filterPredicate, Set<String> projectionKeys, boolean isPath, EmbeddingCache cache,
+    EmbeddingCacheKey cacheKey) {
     this.edges = edges;
     this.sourceVariable = sourceVariable;
     this.edgeVariable = edgeVariable;
@@ -83,10 +114,22 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
     this.filterPredicate = filterPredicate;
     this.projectionKeys = new ArrayList<>(projectionKeys);
     this.isPath = isPath;
+    this.cache = cache;
+    this.cacheKey = cacheKey;
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> evaluate() {
+    return cache == null || cacheKey == null ? filterAndProject() :
+      cache.get(cacheKey, this::filterAndProject);
+  }
+
+  /**
+   * Creates the wrapped operator and evaluates it.
+   *
+   * @return filtered and projected edges
+   */
+  private DataSet<Embedding> filterAndProject() {
     FilterAndProjectEdges op =  new FilterAndProjectEdges(
       edges,
       filterPredicate,
@@ -133,6 +176,17 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
     return embeddingMetaData;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The signature consists of the cache key and the output meta data. The output is not shared,
+   * if there is no cache key.
+   */
+  @Override
+  public String getSignature() {
+    return cacheKey == null ? null : String.format("%s%s", cacheKey, getEmbeddingMetaData());
+  }
+
   @Override
   public String toString() {
     return String.format("FilterAndProjectEdgesNode{" +
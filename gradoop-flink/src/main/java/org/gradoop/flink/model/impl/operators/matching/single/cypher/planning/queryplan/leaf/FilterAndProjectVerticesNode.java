@@ -20,6 +20,8 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCacheKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.FilterAndProjectVertices;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
@@ -49,6 +51,14 @@ public class FilterAndProjectVerticesNode extends LeafNode implements FilterNode
    * Property keys used for projection
    */
   private final List<String> projectionKeys;
+  /**
+   * Cache for the output of this node or {@code null}
+   */
+  private final EmbeddingCache cache;
+  /**
+   * Identifies the output of this node in the cache or {@code null}
+   */
+  private final EmbeddingCacheKey cacheKey;
 
   /**
    * Creates a new node.
@@ -60,14 +70,42 @@ public class FilterAndProjectVerticesNode extends LeafNode implements FilterNode
    */
   public FilterAndProjectVerticesNode(DataSet<Vertex> vertices, String vertexVariable,
     CNF filterPredicate, Set<String> projectionKeys) {
+    this(vertices, vertexVariable, filterPredicate, projectionKeys, null, null);
+  }
+
+  /**
+   * Creates a new node whose output is taken from (or added to) the given cache.
+   *
+   * @param vertices input vertices
+   * @param vertexVariable query variable of the vertex
+   * @param filterPredicate filter predicate to be applied on edges
+   * @param projectionKeys property keys whose associated values are projected to the output
+   * @param cache cache for the output or {@code null}
+   * @param cacheKey key of the output in the cache or {@code null}
+   */
+  public FilterAndProjectVerticesNode(DataSet<Vertex> vertices, String vertexVariable,
+    CNF filterPredicate, Set<String> projectionKeys, EmbeddingCache cache,
+    EmbeddingCacheKey cacheKey) {
     this.vertices = vertices;
     this.vertexVariable = vertexVariable;
     this.filterPredicate = filterPredicate;
     this.projectionKeys = new ArrayList<>(projectionKeys);
+    this.cache = cache;
+    this.cacheKey = cacheKey;
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> evaluate() {
+    return cache == null || cacheKey == null ? filterAndProject() :
+      cache.get(cacheKey, this::filterAndProject);
+  }
+
+  /**
+   * Creates the wrapped operator and evaluates it.
+   *
+   * @return filtered and projected vertices
+   */
+  private DataSet<Embedding> filterAndProject() {
     FilterAndProjectVertices op =
       new FilterAndProjectVertices(vertices, filterPredicate, projectionKeys);
     op.setName(toString());
@@ -101,6 +139,17 @@ public class FilterAndProjectVerticesNode extends LeafNode implements FilterNode
     return embeddingMetaData;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The signature consists of the cache key and the output meta data. The output is not shared,
+   * if there is no cache key.
+   */
+  @Override
+  public String getSignature() {
+    return cacheKey == null ? null : String.format("%s%s", cacheKey, getEmbeddingMetaData());
+  }
+
   @Override
   public String toString() {
     return String.format("FilterAndProjectVerticesNode{" +
@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.MultiwayJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * N-ary node that wraps a {@link MultiwayJoinEmbeddings} operator.
+ *
+ * The node extends the embeddings of the left child by a single vertex. Each right child provides
+ * edges between a vertex of the left child and the new vertex.
+ */
+public class MultiwayJoinEmbeddingsNode extends NaryNode implements JoinNode {
+  /**
+   * Query variable of the vertex the left embeddings are extended by
+   */
+  private final String extendVariable;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Creates a new node.
+   *
+   * @param leftChild left input plan node
+   * @param rightChildren edge plan nodes connecting the left input with the new vertex
+   * @param extendVariable query variable of the new vertex
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public MultiwayJoinEmbeddingsNode(PlanNode leftChild, List<PlanNode> rightChildren,
+    String extendVariable, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    super(toChildren(leftChild, rightChildren));
+    this.extendVariable = extendVariable;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+  }
+
+  /**
+   * Returns the left input node.
+   *
+   * @return left input node
+   */
+  public PlanNode getLeftChild() {
+    return getChildren().get(0);
+  }
+
+  /**
+   * Returns the right input nodes.
+   *
+   * @return right input nodes
+   */
+  public List<PlanNode> getRightChildren() {
+    return getChildren().subList(1, getChildren().size());
+  }
+
+  @Override
+  protected DataSet<Embedding> evaluate() {
+    List<PlanNode> rightChildren = getRightChildren();
+
+    MultiwayJoinEmbeddings op = new MultiwayJoinEmbeddings(getLeftChild().execute(),
+      getLeftChild().getEmbeddingMetaData().getEntryCount(),
+      rightChildren.stream().map(PlanNode::execute).collect(Collectors.toList()),
+      rightChildren.stream()
+        .map(child -> child.getEmbeddingMetaData().getEntryCount())
+        .collect(Collectors.toList()),
+      getJoinColumnsLeft(), getJoinColumnsRight(), getExtendColumnsRight(),
+      getDistinctVertexColumnsLeft(), getDistinctEdgeColumnsLeft(), getDistinctEdgeColumnsRight());
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    EmbeddingMetaData leftInputMetaData = getLeftChild().getEmbeddingMetaData();
+    EmbeddingMetaData embeddingMetaData = new EmbeddingMetaData(leftInputMetaData);
+
+    // the new vertex is followed by the non-join entries of the right children
+    int entryCount = leftInputMetaData.getEntryCount();
+    embeddingMetaData.setEntryColumn(extendVariable, EmbeddingMetaData.EntryType.VERTEX,
+      entryCount++);
+    for (PlanNode rightChild : getRightChildren()) {
+      EmbeddingMetaData rightInputMetaData = rightChild.getEmbeddingMetaData();
+      for (String var : rightInputMetaData.getVariables()) {
+        if (!embeddingMetaData.containsEntryColumn(var)) {
+          embeddingMetaData.setEntryColumn(var, rightInputMetaData.getEntryType(var),
+            entryCount++);
+        }
+      }
+    }
+
+    // append all property mappings from the right children to the left side
+    int propertyCount = leftInputMetaData.getPropertyCount();
+    for (PlanNode rightChild : getRightChildren()) {
+      EmbeddingMetaData rightInputMetaData = rightChild.getEmbeddingMetaData();
+      for (String var : rightInputMetaData.getVariables()) {
+        for (String key : rightInputMetaData.getPropertyKeys(var)) {
+          embeddingMetaData.setPropertyColumn(var, key, propertyCount++);
+        }
+      }
+    }
+    return embeddingMetaData;
+  }
+
+  /**
+   * Computes the join column of the left embedding for each right child.
+   *
+   * @return join columns of the left embedding
+   */
+  private List<Integer> getJoinColumnsLeft() {
+    EmbeddingMetaData metaData = getLeftChild().getEmbeddingMetaData();
+    return getRightChildren().stream()
+      .map(child -> metaData.getEntryColumn(getJoinVariable(child)))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Computes the join column of each right child.
+   *
+   * @return join columns of the right embeddings
+   */
+  private List<Integer> getJoinColumnsRight() {
+    return getRightChildren().stream()
+      .map(child -> child.getEmbeddingMetaData().getEntryColumn(getJoinVariable(child)))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Computes the column of each right child that contains the new vertex.
+   *
+   * @return extend columns of the right embeddings
+   */
+  private List<Integer> getExtendColumnsRight() {
+    return getRightChildren().stream()
+      .map(child -> child.getEmbeddingMetaData().getEntryColumn(extendVariable))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the vertex variable of the specified right child which is contained in the left
+   * embedding.
+   *
+   * @param rightChild right child
+   * @return join variable
+   */
+  private String getJoinVariable(PlanNode rightChild) {
+    return rightChild.getEmbeddingMetaData().getVertexVariables().stream()
+      .filter(var -> !var.equals(extendVariable))
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException(
+        "Right child does not connect the left child with " + extendVariable));
+  }
+
+  /**
+   * According to the specified {@link MultiwayJoinEmbeddingsNode#vertexStrategy}, the method
+   * returns the columns of the left embedding that need to be distinct from the new vertex.
+   *
+   * @return distinct vertex columns of the left embedding
+   */
+  private List<Integer> getDistinctVertexColumnsLeft() {
+    EmbeddingMetaData metaData = getLeftChild().getEmbeddingMetaData();
+    return vertexStrategy == MatchStrategy.ISOMORPHISM ?
+      metaData.getVertexVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  /**
+   * According to the specified {@link MultiwayJoinEmbeddingsNode#edgeStrategy}, the method
+   * returns the columns that need to contain distinct entries in the left embedding.
+   *
+   * @return distinct edge columns of the left embedding
+   */
+  private List<Integer> getDistinctEdgeColumnsLeft() {
+    EmbeddingMetaData metaData = getLeftChild().getEmbeddingMetaData();
+    return edgeStrategy == MatchStrategy.ISOMORPHISM ?
+      metaData.getEdgeVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  /**
+   * According to the specified {@link MultiwayJoinEmbeddingsNode#edgeStrategy}, the method
+   * returns the columns that need to contain distinct entries in the right embeddings.
+   *
+   * @return distinct edge columns of the right embeddings
+   */
+  private List<Integer> getDistinctEdgeColumnsRight() {
+    EmbeddingMetaData metaData = getRightChildren().get(0).getEmbeddingMetaData();
+    return edgeStrategy == MatchStrategy.ISOMORPHISM ?
+      metaData.getEdgeVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  /**
+   * Creates the list of input nodes.
+   *
+   * @param leftChild left input node
+   * @param rightChildren right input nodes
+   * @return all input nodes, starting with the left one
+   */
+  private static List<PlanNode> toChildren(PlanNode leftChild, List<PlanNode> rightChildren) {
+    List<PlanNode> children = new ArrayList<>(rightChildren.size() + 1);
+    children.add(leftChild);
+    children.addAll(rightChildren);
+    return children;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MultiwayJoinEmbeddingsNode{" +
+      "extendVariable=%s, " +
+      "vertexMorphismType=%s, " +
+      "edgeMorphismType=%s}",
+      extendVariable, vertexStrategy, edgeStrategy);
+  }
+}
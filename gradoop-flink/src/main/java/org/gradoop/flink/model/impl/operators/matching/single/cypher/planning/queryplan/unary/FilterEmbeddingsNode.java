@@ -17,6 +17,10 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.q
 
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.filter.FilterEmbeddings;
@@ -24,6 +28,9 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Unary nodes that wraps a {@link FilterEmbeddings} operator.
  */
@@ -44,7 +51,7 @@ public class FilterEmbeddingsNode extends UnaryNode implements FilterNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> evaluate() {
     FilterEmbeddings op =
       new FilterEmbeddings(getChildNode().execute(), filterPredicate, getEmbeddingMetaData());
     op.setName(toString());
@@ -65,6 +72,42 @@ public class FilterEmbeddingsNode extends UnaryNode implements FilterNode {
     return new EmbeddingMetaData(getChildNode().getEmbeddingMetaData());
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The string representation of a literal does not contain its type, e.g. {@code 42} and
+   * {@code "42"} are represented equally. The types of all literals are appended to the
+   * signature.
+   */
+  @Override
+  public String getSignature() {
+    String signature = super.getSignature();
+    if (signature == null) {
+      return null;
+    }
+    List<String> literalTypes = new ArrayList<>();
+    for (CNFElement disjunction : filterPredicate.getPredicates()) {
+      for (ComparisonExpression comparison : disjunction.getPredicates()) {
+        addLiteralType(comparison.getLhs(), literalTypes);
+        addLiteralType(comparison.getRhs(), literalTypes);
+      }
+    }
+    return signature + literalTypes;
+  }
+
+  /**
+   * Adds the type of the value to the list, if the comparable is a literal.
+   *
+   * @param comparable left or right hand side of a comparison
+   * @param literalTypes literal types
+   */
+  private void addLiteralType(QueryComparable comparable, List<String> literalTypes) {
+    if (comparable instanceof LiteralComparable) {
+      Object value = ((LiteralComparable) comparable).getValue();
+      literalTypes.add(value == null ? "NULL" : value.getClass().getSimpleName());
+    }
+  }
+
   @Override
   public String toString() {
     return String.format("FilterEmbeddingsNode{filterPredicate=%s}", filterPredicate);
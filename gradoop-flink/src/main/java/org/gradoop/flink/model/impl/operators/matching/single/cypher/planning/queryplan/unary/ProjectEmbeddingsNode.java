@@ -60,7 +60,7 @@ public class ProjectEmbeddingsNode extends UnaryNode implements ProjectionNode {
   }
 
   @Override
-  public DataSet<Embedding> execute() {
+  protected DataSet<Embedding> evaluate() {
     ProjectEmbeddings op =  new ProjectEmbeddings(getChildNode().execute(), whiteListColumns);
     op.setName(toString());
     return op.evaluate();
@@ -118,7 +118,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     int offset = idData.length;
     for (GradoopId id : ids) {
       newIds[offset] = ID_ENTRY_FLAG;
-      System.arraycopy(id.toByteArray(), 0, newIds, offset + 1, GradoopId.ID_SIZE);
+      id.writeBytes(newIds, offset + 1);
       offset += ID_ENTRY_SIZE;
     }
 
@@ -199,7 +199,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     byte[] newIds = new byte[idData.length + 1 + GradoopId.ID_SIZE];
     System.arraycopy(idData, 0, newIds, 0, idData.length);
     newIds[idData.length] = isIdList ? ID_LIST_FLAG : ID_ENTRY_FLAG;
-    System.arraycopy(id.toByteArray(), 0, newIds, idData.length + 1, GradoopId.ID_SIZE);
+    id.writeBytes(newIds, idData.length + 1);
 
     idData = newIds;
   }
@@ -382,9 +382,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     List<GradoopId> idList = new ArrayList<>(listSize);
 
     for (int i = 0; i < listSize; i++) {
-      idList.add(GradoopId.fromByteArray(
-        ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE)
-      ));
+      idList.add(GradoopId.fromByteArray(idListData, offset));
       offset += GradoopId.ID_SIZE;
     }
 
@@ -494,9 +492,23 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @return Embedding with the projected property list
    */
   public Embedding project(List<Integer> propertyWhiteList) {
-    byte[] newPropertyData = new byte[0];
+    if (propertyWhiteList.isEmpty()) {
+      return new Embedding(idData, new byte[0], idListData);
+    }
+
+    List<byte[]> rawProperties = new ArrayList<>(propertyWhiteList.size());
+    int newPropertiesSize = 0;
     for (int index : propertyWhiteList) {
-      newPropertyData = ArrayUtils.addAll(newPropertyData, getRawProperty(index));
+      byte[] rawProperty = getRawProperty(index);
+      rawProperties.add(rawProperty);
+      newPropertiesSize += rawProperty.length;
+    }
+
+    byte[] newPropertyData = new byte[newPropertiesSize];
+    int offset = 0;
+    for (byte[] rawProperty : rawProperties) {
+      System.arraycopy(rawProperty, 0, newPropertyData, offset, rawProperty.length);
+      offset += rawProperty.length;
     }
 
     return new Embedding(idData, newPropertyData, idListData);
@@ -554,7 +566,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param offset offset the value will be written to
    */
   private void writeId(GradoopId value, byte[] target, int offset) {
-    System.arraycopy(value.toByteArray(), 0, target, offset, GradoopId.ID_SIZE);
+    value.writeBytes(target, offset);
   }
 
   /**
@@ -630,27 +642,15 @@ public class Embedding implements Value, CopyableValue<Embedding> {
 
     int sizeBuffer = in.readInt();
     byte[] ids = new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(ids) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
-    }
+    in.readFully(ids);
 
     sizeBuffer = in.readInt();
     byte[] newPropertyData =  new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(newPropertyData) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
-    }
+    in.readFully(newPropertyData);
 
     sizeBuffer = in.readInt();
     byte[] idLists = new byte[sizeBuffer];
-    if (sizeBuffer > 0) {
-      if (in.read(idLists) != sizeBuffer) {
-        throw new RuntimeException("Deserialisation of Embedding failed");
-      }
-    }
+    in.readFully(idLists);
 
     this.idData = ids;
     this.propertyData = newPropertyData;
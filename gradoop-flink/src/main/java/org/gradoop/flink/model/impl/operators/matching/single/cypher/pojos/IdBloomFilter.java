@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+
+import java.io.IOException;
+
+/**
+ * Bloom filter on {@link IdEmbedding} join keys. The filter answers whether a key might be
+ * contained in the set of added keys, i.e. there are no false negatives but false positives
+ * occur with the probability the filter was sized for.
+ *
+ * The probe positions are derived from {@link IdEmbedding#hashCode()} using double hashing.
+ * Filters of the same size can be merged, which allows building a filter per partition.
+ */
+@SuppressWarnings("SE_NO_SERIALVERSIONID")
+public class IdBloomFilter implements Value {
+  /**
+   * Maximum number of bits of a filter (16 MB)
+   */
+  public static final transient long MAX_BITS = 1L << 27;
+  /**
+   * Number of bits stored in a single word
+   */
+  private static final transient int WORD_SIZE = Long.SIZE;
+  /**
+   * Bit array
+   */
+  private long[] words;
+  /**
+   * Number of probe positions per key
+   */
+  private int numHashFunctions;
+
+  /**
+   * Creates an empty filter without bits, used for deserialization.
+   */
+  public IdBloomFilter() {
+    this.words = new long[0];
+  }
+
+  /**
+   * Creates a filter that is sized for the given number of keys and false positive rate. The
+   * filter uses at least one word and at most {@link #MAX_BITS} bits.
+   *
+   * @param expectedKeys expected number of distinct keys
+   * @param falsePositiveRate false positive rate at the expected number of keys
+   */
+  public IdBloomFilter(long expectedKeys, double falsePositiveRate) {
+    if (falsePositiveRate <= 0d || falsePositiveRate >= 1d) {
+      throw new IllegalArgumentException(
+        "False positive rate must be in (0,1), was " + falsePositiveRate);
+    }
+    long keys = Math.max(1L, expectedKeys);
+    double ln2 = Math.log(2);
+    long numBits = (long) Math.ceil(-keys * Math.log(falsePositiveRate) / (ln2 * ln2));
+    numBits = Math.min(MAX_BITS, Math.max(WORD_SIZE, numBits));
+    this.words = new long[(int) ((numBits + WORD_SIZE - 1) / WORD_SIZE)];
+    this.numHashFunctions = Math.max(1, (int) Math.round((double) getNumBits() / keys * ln2));
+  }
+
+  /**
+   * Adds the key to the filter.
+   *
+   * @param key join key
+   */
+  public void add(IdEmbedding key) {
+    long hash = mix(key.hashCode());
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    long numBits = getNumBits();
+    for (int i = 1; i <= numHashFunctions; i++) {
+      long bit = probe(hash1, hash2, i, numBits);
+      words[(int) (bit / WORD_SIZE)] |= 1L << (bit % WORD_SIZE);
+    }
+  }
+
+  /**
+   * Checks if the key might have been added to the filter.
+   *
+   * @param key join key
+   * @return false, if the key has definitely not been added
+   */
+  public boolean mightContain(IdEmbedding key) {
+    long hash = mix(key.hashCode());
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    long numBits = getNumBits();
+    for (int i = 1; i <= numHashFunctions; i++) {
+      long bit = probe(hash1, hash2, i, numBits);
+      if ((words[(int) (bit / WORD_SIZE)] & (1L << (bit % WORD_SIZE))) == 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds all keys of the other filter to this filter.
+   *
+   * @param other filter of the same size
+   */
+  public void merge(IdBloomFilter other) {
+    if (words.length != other.words.length || numHashFunctions != other.numHashFunctions) {
+      throw new IllegalArgumentException("Bloom filters of different size can not be merged");
+    }
+    for (int i = 0; i < words.length; i++) {
+      words[i] |= other.words[i];
+    }
+  }
+
+  /**
+   * Returns the size of the bit array.
+   *
+   * @return number of bits
+   */
+  public long getNumBits() {
+    return (long) words.length * WORD_SIZE;
+  }
+
+  /**
+   * Returns the number of probe positions per key.
+   *
+   * @return number of hash functions
+   */
+  public int getNumHashFunctions() {
+    return numHashFunctions;
+  }
+
+  /**
+   * Computes the i-th probe position.
+   *
+   * @param hash1 first hash
+   * @param hash2 second hash
+   * @param i probe index
+   * @param numBits number of bits
+   * @return bit index
+   */
+  private static long probe(int hash1, int hash2, int i, long numBits) {
+    int combined = hash1 + i * hash2;
+    // flip all bits if negative
+    return (combined < 0 ? ~combined : combined) % numBits;
+  }
+
+  /**
+   * Spreads the bits of the hash code over a long value (finalizer of MurmurHash3).
+   *
+   * @param hashCode hash code
+   * @return mixed hash
+   */
+  private static long mix(int hashCode) {
+    long hash = hashCode;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(numHashFunctions);
+    out.writeInt(words.length);
+    for (long word : words) {
+      out.writeLong(word);
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    numHashFunctions = in.readInt();
+    int length = in.readInt();
+    if (words.length != length) {
+      words = new long[length];
+    }
+    for (int i = 0; i < length; i++) {
+      words[i] = in.readLong();
+    }
+  }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.CopyableValue;
+import org.apache.flink.types.NormalizableKey;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A fixed-width embedding that consists solely of vertex and edge ids.
+ *
+ * In contrast to {@link Embedding}, there are no properties and id lists. Each id is packed into
+ * {@link #STRIDE} consecutive long values (bytes 0 to 7 and bytes 8 to 11 of the id), so the
+ * column of an id is resolved without any offset computation or entry flags.
+ *
+ * Ids are compared by their unsigned big-endian byte representation, which is also written as
+ * normalized key. Hence, Flink sorts and compares id embeddings on their raw bytes without
+ * deserializing them, which makes them suited as keys of joins on embedding columns.
+ */
+@SuppressWarnings("SE_NO_SERIALVERSIONID")
+public class IdEmbedding implements NormalizableKey<IdEmbedding>, CopyableValue<IdEmbedding> {
+  /**
+   * Number of long values used to store a single id
+   */
+  public static final transient int STRIDE = 2;
+  /**
+   * Mask to read the last four bytes of an id as unsigned value
+   */
+  private static final transient long TAIL_MASK = 0xffffffffL;
+  /**
+   * Shared instance representing no ids
+   */
+  private static final transient long[] EMPTY = new long[0];
+  /**
+   * Packed ids, each consisting of {@link #STRIDE} values
+   */
+  private long[] ids;
+
+  /**
+   * Creates an empty id embedding.
+   */
+  public IdEmbedding() {
+    this.ids = EMPTY;
+  }
+
+  /**
+   * Creates an id embedding containing the given ids.
+   *
+   * @param ids vertex and edge ids
+   */
+  public IdEmbedding(GradoopId... ids) {
+    this.ids = new long[ids.length * STRIDE];
+    for (int i = 0; i < ids.length; i++) {
+      pack(ids[i].toByteArray(), 0, i);
+    }
+  }
+
+  /**
+   * Creates an id embedding from the specified columns of the given embedding. The columns must
+   * reference single ids, i.e. no id lists.
+   *
+   * @param embedding embedding
+   * @param columns columns to extract the ids from
+   * @return id embedding containing the ids in the order of the given columns
+   */
+  public static IdEmbedding fromEmbedding(Embedding embedding, int[] columns) {
+    IdEmbedding idEmbedding = new IdEmbedding();
+    idEmbedding.ids = new long[columns.length * STRIDE];
+    byte[] idData = embedding.getIdData();
+    for (int i = 0; i < columns.length; i++) {
+      int offset = columns[i] * Embedding.ID_ENTRY_SIZE;
+      if (offset < 0 || offset + Embedding.ID_ENTRY_SIZE > idData.length) {
+        throw new IndexOutOfBoundsException("Column " + columns[i] + " does not exist");
+      }
+      if (idData[offset] == Embedding.ID_LIST_FLAG) {
+        throw new UnsupportedOperationException("Can't return ID for ID List");
+      }
+      idEmbedding.pack(idData, offset + 1, i);
+    }
+    return idEmbedding;
+  }
+
+  /**
+   * Creates an embedding containing all ids of this id embedding.
+   *
+   * @return embedding without properties and id lists
+   */
+  public Embedding toEmbedding() {
+    byte[] idData = new byte[size() * Embedding.ID_ENTRY_SIZE];
+    for (int i = 0; i < size(); i++) {
+      int offset = i * Embedding.ID_ENTRY_SIZE;
+      idData[offset] = Embedding.ID_ENTRY_FLAG;
+      unpack(i, idData, offset + 1);
+    }
+    return new Embedding(idData, new byte[0], new byte[0]);
+  }
+
+  /**
+   * Appends the given id to the embedding.
+   *
+   * @param id vertex or edge id
+   */
+  public void add(GradoopId id) {
+    ids = Arrays.copyOf(ids, ids.length + STRIDE);
+    pack(id.toByteArray(), 0, size() - 1);
+  }
+
+  /**
+   * Returns the id stored at the specified column.
+   *
+   * @param column column index
+   * @return id at the column
+   */
+  public GradoopId getId(int column) {
+    if (column < 0 || column >= size()) {
+      throw new IndexOutOfBoundsException("Column " + column + " does not exist");
+    }
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    unpack(column, bytes, 0);
+    return GradoopId.fromByteArray(bytes);
+  }
+
+  /**
+   * Returns all ids in column order.
+   *
+   * @return ids
+   */
+  public List<GradoopId> getIds() {
+    return IntStream.range(0, size()).mapToObj(this::getId).collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the number of ids stored in the embedding.
+   *
+   * @return number of ids
+   */
+  public int size() {
+    return ids.length / STRIDE;
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Packing
+  // ---------------------------------------------------------------------------------------------
+
+  /**
+   * Reads an id from its big-endian byte representation and stores it at the given column.
+   *
+   * @param bytes source array
+   * @param offset offset of the id in the source array
+   * @param column target column
+   */
+  private void pack(byte[] bytes, int offset, int column) {
+    long head = 0L;
+    for (int i = 0; i < Long.BYTES; i++) {
+      head = (head << 8) | (bytes[offset + i] & 0xff);
+    }
+    long tail = 0L;
+    for (int i = Long.BYTES; i < GradoopId.ID_SIZE; i++) {
+      tail = (tail << 8) | (bytes[offset + i] & 0xff);
+    }
+    ids[column * STRIDE] = head;
+    ids[column * STRIDE + 1] = tail;
+  }
+
+  /**
+   * Writes the big-endian byte representation of the id at the given column.
+   *
+   * @param column source column
+   * @param bytes target array
+   * @param offset offset in the target array
+   */
+  private void unpack(int column, byte[] bytes, int offset) {
+    long head = ids[column * STRIDE];
+    long tail = ids[column * STRIDE + 1];
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      bytes[offset + i] = (byte) head;
+      head >>>= 8;
+    }
+    for (int i = GradoopId.ID_SIZE - 1; i >= Long.BYTES; i--) {
+      bytes[offset + i] = (byte) tail;
+      tail >>>= 8;
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Comparison
+  // ---------------------------------------------------------------------------------------------
+
+  @Override
+  public int compareTo(IdEmbedding other) {
+    int length = Math.min(ids.length, other.ids.length);
+    for (int i = 0; i < length; i++) {
+      int result = Long.compareUnsigned(ids[i], other.ids[i]);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return Integer.compare(ids.length, other.ids.length);
+  }
+
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    // the number of ids is not known in advance
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    int limit = offset + len;
+    for (int i = 0; i < size() && offset < limit; i++) {
+      long head = ids[i * STRIDE];
+      int tail = (int) ids[i * STRIDE + 1];
+      if (limit - offset >= GradoopId.ID_SIZE) {
+        target.putLongBigEndian(offset, head);
+        target.putIntBigEndian(offset + Long.BYTES, tail);
+        offset += GradoopId.ID_SIZE;
+      } else {
+        for (int b = 0; b < Long.BYTES && offset < limit; b++) {
+          target.put(offset++, (byte) (head >>> (56 - b * 8)));
+        }
+        for (int b = 0; b < Integer.BYTES && offset < limit; b++) {
+          target.put(offset++, (byte) (tail >>> (24 - b * 8)));
+        }
+      }
+    }
+    // pad shorter keys, ties are resolved by compareTo
+    while (offset < limit) {
+      target.put(offset++, (byte) 0);
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------
+  //  Serialisation
+  // ---------------------------------------------------------------------------------------------
+
+  @Override
+  public int getBinaryLength() {
+    return -1;
+  }
+
+  @Override
+  public void copyTo(IdEmbedding target) {
+    target.ids = Arrays.copyOf(ids, ids.length);
+  }
+
+  @Override
+  public IdEmbedding copy() {
+    IdEmbedding copy = new IdEmbedding();
+    copyTo(copy);
+    return copy;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int size = source.readInt();
+    target.writeInt(size);
+    target.write(source, size * GradoopId.ID_SIZE);
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(size());
+    for (int i = 0; i < ids.length; i += STRIDE) {
+      out.writeLong(ids[i]);
+      out.writeInt((int) ids[i + 1]);
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    int size = in.readInt();
+    if (ids.length != size * STRIDE) {
+      ids = new long[size * STRIDE];
+    }
+    for (int i = 0; i < ids.length; i += STRIDE) {
+      ids[i] = in.readLong();
+      ids[i + 1] = in.readInt() & TAIL_MASK;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(ids, ((IdEmbedding) o).ids);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(ids);
+  }
+
+  @Override
+  public String toString() {
+    return getIds().toString();
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractNumericPropertyValuesByLabel;
+
+/**
+ * Computes equi-depth histograms over the numeric edge property values for label - property name
+ * pairs
+ */
+public class EdgePropertyHistogramsByLabel extends PropertyHistogramsByLabel<Edge> {
+
+  /**
+   * Creates a new operator using {@link #DEFAULT_MAX_BUCKETS}.
+   */
+  public EdgePropertyHistogramsByLabel() {
+    this(DEFAULT_MAX_BUCKETS);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxBuckets maximum number of buckets per histogram
+   */
+  public EdgePropertyHistogramsByLabel(int maxBuckets) {
+    super(maxBuckets);
+  }
+
+  @Override
+  protected DataSet<Tuple3<String, String, Double>> extractNumericValues(LogicalGraph graph) {
+    return graph.getEdges().flatMap(new ExtractNumericPropertyValuesByLabel<>());
+  }
+}
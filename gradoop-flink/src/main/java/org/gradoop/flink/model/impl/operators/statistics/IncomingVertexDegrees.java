@@ -21,6 +21,9 @@ import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.TargetId;
+import org.gradoop.flink.model.impl.functions.tuple.Tuple2ToWithCount;
+import org.gradoop.flink.model.impl.layouts.columnar.ColumnarLayout;
+import org.gradoop.flink.model.impl.operators.count.Count;
 import org.gradoop.flink.model.impl.operators.statistics.functions.SetOrCreateWithCount;
 import org.gradoop.flink.model.impl.tuples.WithCount;
 
@@ -32,8 +35,19 @@ public class IncomingVertexDegrees
 
   @Override
   public DataSet<WithCount<GradoopId>> execute(LogicalGraph graph) {
-    return new EdgeValueDistribution<>(new TargetId<>()).execute(graph)
-      .rightOuterJoin(graph.getVertices().map(new Id<>()))
+    DataSet<WithCount<GradoopId>> degrees;
+    DataSet<GradoopId> vertexIds;
+    if (graph.isColumnarLayout()) {
+      // only read the required id columns instead of assembling vertices and edges
+      ColumnarLayout layout = (ColumnarLayout) graph.getLayout();
+      degrees = Count.groupBy(layout.getEdgeTargetIds()).map(new Tuple2ToWithCount<>());
+      vertexIds = layout.getVertexIds();
+    } else {
+      degrees = new EdgeValueDistribution<>(new TargetId<>()).execute(graph);
+      vertexIds = graph.getVertices().map(new Id<>());
+    }
+    return degrees
+      .rightOuterJoin(vertexIds)
       .where(0).equalTo("*")
       .with(new SetOrCreateWithCount());
   }
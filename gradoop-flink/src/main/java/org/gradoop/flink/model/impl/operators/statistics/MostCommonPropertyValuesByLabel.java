@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+
+/**
+ * Base class for statistic operators computing the most common property values and their
+ * frequencies for label - property name pairs.
+ *
+ * The result contains a tuple (label, property name, frequency, value) for each of the most common
+ * values of a pair. Values are represented by their string representation.
+ *
+ * @param <T> element type
+ */
+public abstract class MostCommonPropertyValuesByLabel<T extends GraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple4<String, String, Long, String>>> {
+  /**
+   * Default number of values per label - property name pair
+   */
+  public static final int DEFAULT_MAX_VALUES = 10;
+  /**
+   * Maximum number of values per label - property name pair
+   */
+  private final int maxValues;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxValues maximum number of values per label - property name pair
+   */
+  protected MostCommonPropertyValuesByLabel(int maxValues) {
+    if (maxValues < 1) {
+      throw new IllegalArgumentException("Number of values must be positive");
+    }
+    this.maxValues = maxValues;
+  }
+
+  @Override
+  public DataSet<Tuple4<String, String, Long, String>> execute(LogicalGraph graph) {
+    return extractValueCounts(graph)
+      .groupBy(0, 1, 3)
+      .sum(2)
+      .groupBy(0, 1)
+      .sortGroup(2, Order.DESCENDING)
+      .first(maxValues);
+  }
+
+  /**
+   * Extracts (label, property name, 1, value) tuples from the given logical graph.
+   *
+   * @param graph input graph
+   * @return property value occurrences by label
+   */
+  protected abstract DataSet<Tuple4<String, String, Long, String>> extractValueCounts(
+    LogicalGraph graph);
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.operators.statistics.functions.AddValueCount;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildEquiDepthHistogram;
+
+/**
+ * Base class for statistic operators computing equi-depth histograms over the numeric property
+ * values of label - property name pairs.
+ *
+ * The result contains a tuple (label, property name, number of values, bucket bounds) for each
+ * pair with at least one numeric value.
+ *
+ * @param <T> element type
+ */
+public abstract class PropertyHistogramsByLabel<T extends GraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple4<String, String, Long, double[]>>> {
+  /**
+   * Default maximum number of buckets per histogram
+   */
+  public static final int DEFAULT_MAX_BUCKETS = 32;
+  /**
+   * Maximum number of buckets per histogram
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxBuckets maximum number of buckets per histogram
+   */
+  protected PropertyHistogramsByLabel(int maxBuckets) {
+    if (maxBuckets < 1) {
+      throw new IllegalArgumentException("Number of buckets must be positive");
+    }
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public DataSet<Tuple4<String, String, Long, double[]>> execute(LogicalGraph graph) {
+    DataSet<Tuple3<String, String, Double>> values = extractNumericValues(graph);
+
+    DataSet<Tuple3<String, String, Long>> counts = values
+      .map(new ToCount())
+      .groupBy(0, 1)
+      .sum(2);
+
+    return values
+      .join(counts)
+      .where(0, 1).equalTo(0, 1)
+      .with(new AddValueCount())
+      .groupBy(0, 1)
+      .sortGroup(2, Order.ASCENDING)
+      .reduceGroup(new BuildEquiDepthHistogram(maxBuckets));
+  }
+
+  /**
+   * Extracts (label, property name, numeric value) triples from the given logical graph.
+   *
+   * @param graph input graph
+   * @return numeric property values by label
+   */
+  protected abstract DataSet<Tuple3<String, String, Double>> extractNumericValues(
+    LogicalGraph graph);
+
+  /**
+   * (label, property name, value) -> (label, property name, 1)
+   */
+  private static class ToCount
+    implements MapFunction<Tuple3<String, String, Double>, Tuple3<String, String, Long>> {
+    /**
+     * Reduce object instantiations
+     */
+    private final Tuple3<String, String, Long> reuseTuple = new Tuple3<>(null, null, 1L);
+
+    @Override
+    public Tuple3<String, String, Long> map(Tuple3<String, String, Double> value) {
+      reuseTuple.f0 = value.f0;
+      reuseTuple.f1 = value.f1;
+      return reuseTuple;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractPropertyValueCountsByLabel;
+
+/**
+ * Computes the most common vertex property values for label - property name pairs
+ */
+public class VertexMostCommonPropertyValuesByLabel extends MostCommonPropertyValuesByLabel<Vertex> {
+
+  /**
+   * Creates a new operator using {@link #DEFAULT_MAX_VALUES}.
+   */
+  public VertexMostCommonPropertyValuesByLabel() {
+    this(DEFAULT_MAX_VALUES);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxValues maximum number of values per label - property name pair
+   */
+  public VertexMostCommonPropertyValuesByLabel(int maxValues) {
+    super(maxValues);
+  }
+
+  @Override
+  protected DataSet<Tuple4<String, String, Long, String>> extractValueCounts(LogicalGraph graph) {
+    return graph.getVertices().flatMap(new ExtractPropertyValueCountsByLabel<>());
+  }
+}
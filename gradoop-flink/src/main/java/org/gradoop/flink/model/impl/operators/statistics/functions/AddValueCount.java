@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+
+/**
+ * (label,property name,value),(label,property name,count) ->
+ * (label,property name,value,count)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1;f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f2->f3")
+public class AddValueCount implements JoinFunction<Tuple3<String, String, Double>,
+  Tuple3<String, String, Long>, Tuple4<String, String, Double, Long>> {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple4<String, String, Double, Long> reuseTuple = new Tuple4<>();
+
+  @Override
+  public Tuple4<String, String, Double, Long> join(Tuple3<String, String, Double> first,
+    Tuple3<String, String, Long> second) throws Exception {
+    reuseTuple.f0 = first.f0;
+    reuseTuple.f1 = first.f1;
+    reuseTuple.f2 = first.f2;
+    reuseTuple.f3 = second.f2;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+
+/**
+ * Builds the bounds of an equi-depth histogram from a group of ascending sorted values.
+ *
+ * (label, property name, value, count)* -> (label, property name, count, bounds)
+ *
+ * The number of values in the group must be provided with each value, so that the bounds can be
+ * determined in a single pass over the sorted group.
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1;f3->f2")
+public class BuildEquiDepthHistogram implements GroupReduceFunction<
+  Tuple4<String, String, Double, Long>, Tuple4<String, String, Long, double[]>> {
+
+  /**
+   * Maximum number of buckets per histogram
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new UDF
+   *
+   * @param maxBuckets maximum number of buckets per histogram
+   */
+  public BuildEquiDepthHistogram(int maxBuckets) {
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple4<String, String, Double, Long>> values,
+    Collector<Tuple4<String, String, Long, double[]>> out) throws Exception {
+
+    Tuple4<String, String, Long, double[]> histogram = null;
+    int buckets = 0;
+    int nextBound = 0;
+    long rank = 0L;
+
+    for (Tuple4<String, String, Double, Long> value : values) {
+      if (histogram == null) {
+        long count = value.f3;
+        buckets = (int) Math.max(1L, Math.min(maxBuckets, count - 1));
+        histogram = new Tuple4<>(value.f0, value.f1, count, new double[buckets + 1]);
+      }
+      // the bound j is the value at rank round(j * (count - 1) / buckets)
+      while (nextBound <= buckets &&
+        Math.round((double) nextBound * (histogram.f2 - 1) / buckets) == rank) {
+        histogram.f3[nextBound++] = value.f2;
+      }
+      rank++;
+    }
+
+    if (histogram != null) {
+      out.collect(histogram);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Property;
+
+/**
+ * Extracts triples of the form (label, property name, numeric value) from the given graph
+ * elements. Non-numeric property values are skipped.
+ *
+ * @param <T> graph element type
+ */
+@FunctionAnnotation.ForwardedFields("label->f0")
+public class ExtractNumericPropertyValuesByLabel<T extends GraphElement>
+  implements FlatMapFunction<T, Tuple3<String, String, Double>> {
+
+  /**
+   * Reuse tuple
+   */
+  private final Tuple3<String, String, Double> reuseTuple = new Tuple3<>();
+
+  @Override
+  public void flatMap(T value, Collector<Tuple3<String, String, Double>> out) throws Exception {
+    if (value.getProperties() != null) {
+      for (Property property : value.getProperties()) {
+        if (property.getValue().isNumber()) {
+          reuseTuple.f0 = value.getLabel();
+          reuseTuple.f1 = property.getKey();
+          reuseTuple.f2 = ((Number) property.getValue().getObject()).doubleValue();
+          out.collect(reuseTuple);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.writer;
+
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.java.operators.MapOperator;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.EdgePropertyHistogramsByLabel;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Computes {@link EdgePropertyHistogramsByLabel} for a given logical graph and write it in a CSV file.
+ */
+public class EdgePropertyHistogramsByLabelPreparer implements
+UnaryGraphToValueOperator<MapOperator<Tuple4<String, String, Long, double[]>,
+Tuple4<String, String, Long, String>>> {
+
+  /**
+   * Prepares the statistic for edge property histograms by label. The bucket bounds are joined
+   * to a single column.
+   * @param graph the logical graph for the calculation.
+   * @return tuples with the containing statistics.
+   */
+  @Override
+  public MapOperator<Tuple4<String, String, Long, double[]>, Tuple4<String, String, Long, String>>
+  execute(final LogicalGraph graph) {
+    return new EdgePropertyHistogramsByLabel()
+        .execute(graph)
+        .map(value -> Tuple4.of(value.f0, value.f1, value.f2, Arrays.stream(value.f3)
+          .mapToObj(Double::toString)
+          .collect(Collectors.joining(GraphStatisticsReader.TOKEN_SEPARATOR))))
+        .returns(new TypeHint<Tuple4<String, String, Long, String>>() { });
+  }
+}
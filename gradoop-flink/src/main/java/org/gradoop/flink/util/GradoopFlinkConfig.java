@@ -15,7 +15,9 @@
  */
 package org.gradoop.flink.util;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
@@ -129,6 +131,38 @@ public class GradoopFlinkConfig extends GradoopConfig<GraphHead, Vertex, Edge> {
     return graphCollectionFactory;
   }
 
+  /**
+   * Returns the type information of the graph heads created by the graph head factory.
+   *
+   * For the EPGM POJOs, the type information uses the serializers and comparators in
+   * {@link org.gradoop.common.model.impl.pojo.typeutils}.
+   *
+   * @return graph head type information
+   */
+  public TypeInformation<GraphHead> getGraphHeadTypeInfo() {
+    return TypeExtractor.createTypeInfo(getGraphHeadFactory().getType());
+  }
+
+  /**
+   * Returns the type information of the vertices created by the vertex factory.
+   *
+   * @return vertex type information
+   * @see #getGraphHeadTypeInfo()
+   */
+  public TypeInformation<Vertex> getVertexTypeInfo() {
+    return TypeExtractor.createTypeInfo(getVertexFactory().getType());
+  }
+
+  /**
+   * Returns the type information of the edges created by the edge factory.
+   *
+   * @return edge type information
+   * @see #getGraphHeadTypeInfo()
+   */
+  public TypeInformation<Edge> getEdgeTypeInfo() {
+    return TypeExtractor.createTypeInfo(getEdgeFactory().getType());
+  }
+
   /**
    * Sets the layout factory for building layouts that represent a
    * {@link org.gradoop.flink.model.api.epgm.LogicalGraph}.
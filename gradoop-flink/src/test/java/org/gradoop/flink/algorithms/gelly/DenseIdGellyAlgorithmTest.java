@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
+import org.apache.flink.types.NullValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithNullValue;
+import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * A test for {@link DenseIdGellyAlgorithm}, checking the id mapping of the Gelly graph.
+ */
+public class DenseIdGellyAlgorithmTest extends GradoopFlinkTestBase {
+
+  /**
+   * Transform a graph and check that vertex ids are consecutive and edges are remapped.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testTransformToGelly() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+    List<org.gradoop.common.model.impl.pojo.Edge> inputEdges = input.getEdges().collect();
+
+    IdentityAlgorithm algorithm = new IdentityAlgorithm();
+    algorithm.currentGraph = input;
+    DataSet<Tuple2<LongValue, Vertex>> indexedVertices = algorithm.indexVertices(input);
+    Graph<LongValue, NullValue, NullValue> gellyGraph =
+      algorithm.transformToGelly(input, indexedVertices);
+
+    Map<Long, GradoopId> denseToId = new HashMap<>();
+    for (Tuple2<LongValue, Vertex> indexed : indexedVertices.collect()) {
+      assertNull(denseToId.put(indexed.f0.getValue(), indexed.f1.getId()));
+    }
+    for (long i = 0; i < denseToId.size(); i++) {
+      assertTrue(denseToId.containsKey(i));
+    }
+    assertEquals(denseToId.size(), gellyGraph.getVertices().count());
+
+    Set<Tuple2<GradoopId, GradoopId>> expectedEdges = new HashSet<>();
+    for (org.gradoop.common.model.impl.pojo.Edge edge : inputEdges) {
+      expectedEdges.add(Tuple2.of(edge.getSourceId(), edge.getTargetId()));
+    }
+    List<Edge<LongValue, NullValue>> gellyEdges = gellyGraph.getEdges().collect();
+    assertEquals(inputEdges.size(), gellyEdges.size());
+    for (Edge<LongValue, NullValue> edge : gellyEdges) {
+      assertTrue(expectedEdges.contains(Tuple2.of(
+        denseToId.get(edge.getSource().getValue()),
+        denseToId.get(edge.getTarget().getValue()))));
+    }
+  }
+
+  /**
+   * Execute an algorithm that leaves all vertices unchanged.
+   *
+   * @throws Exception If the execution fails.
+   */
+  @Test
+  public void testJoinWithVertices() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+    LogicalGraph result = new IdentityAlgorithm().execute(input);
+    collectAndAssertTrue(result.equalsByElementData(input));
+  }
+
+  /**
+   * Joins the gelly vertices back without modification.
+   */
+  private static class IdentityAlgorithm extends DenseIdGellyAlgorithm<NullValue, NullValue> {
+
+    /**
+     * Constructor.
+     */
+    IdentityAlgorithm() {
+      super(new VertexToGellyVertexWithNullValue(), new EdgeToGellyEdgeWithNullValue());
+    }
+
+    @Override
+    protected LogicalGraph executeInGelly(Graph<LongValue, NullValue, NullValue> graph,
+      DataSet<Tuple2<LongValue, Vertex>> indexedVertices) {
+      return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(
+        joinWithVertices(graph.getVertices(), indexedVertices, 0,
+          (gellyVertex, vertex) -> vertex),
+        currentGraph.getEdges());
+    }
+
+    @Override
+    public String getName() {
+      return IdentityAlgorithm.class.getName();
+    }
+  }
+}
@@ -16,6 +16,7 @@
 package org.gradoop.flink.io.impl.statistics;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 
 import org.gradoop.flink.io.api.DataSink;
@@ -294,4 +295,41 @@ public class GraphStatisticsDataSinkTest extends GradoopFlinkTestBase {
     assertThat(statistics.getDistinctVertexProperties("title"), is(2L));
   }
 
+  @Test
+  public void testWritePropertyHistogramsByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    DataSink statisticDataSink = new GraphStatisticsDataSink(tmpPath);
+    statisticDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(tmpPath);
+
+    assertThat(statistics.getVertexPropertyHistogram("Person", "age").getCount(), is(6L));
+    assertArrayEquals(new double[] {20d, 30d, 30d, 35d, 35d, 40d},
+      statistics.getVertexPropertyHistogram("Person", "age").getBounds(), 0d);
+    assertThat(statistics.getEdgePropertyHistogram("knows", "since").getCount(), is(10L));
+  }
+
+  @Test
+  public void testWriteMostCommonValuesByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    DataSink statisticDataSink = new GraphStatisticsDataSink(tmpPath);
+    statisticDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(tmpPath);
+
+    assertThat(statistics.getVertexMostCommonValues("Person", "city").get("Dresden"), is(3L));
+    assertThat(statistics.getVertexMostCommonValues("Forum", "title").get("Graph Databases"),
+      is(1L));
+    assertThat(statistics.getEdgeMostCommonValues("knows", "since").get("2014"), is(4L));
+  }
 }
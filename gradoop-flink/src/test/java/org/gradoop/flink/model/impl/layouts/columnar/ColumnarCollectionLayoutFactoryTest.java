@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar;
+
+import org.gradoop.flink.model.api.layouts.GraphCollectionLayoutFactory;
+import org.gradoop.flink.model.impl.layouts.GraphCollectionLayoutFactoryTest;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+public class ColumnarCollectionLayoutFactoryTest extends GraphCollectionLayoutFactoryTest {
+  @Override
+  protected GraphCollectionLayoutFactory getFactory() {
+    ColumnarCollectionLayoutFactory graphCollectionLayoutFactory =
+      new ColumnarCollectionLayoutFactory(2);
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    config.setGraphCollectionLayoutFactory(graphCollectionLayoutFactory);
+    return graphCollectionLayoutFactory;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.layouts.columnar;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.BlockIds;
+import org.gradoop.flink.model.impl.layouts.columnar.functions.VerticesToBlocks;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.PropertyBlock;
+import org.gradoop.flink.model.impl.layouts.columnar.tuples.VertexBlock;
+import org.gradoop.flink.model.impl.layouts.gve.GVELayout;
+import org.gradoop.flink.model.impl.layouts.gve.GVELayoutTest;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarLayoutTest extends GVELayoutTest {
+
+  @BeforeClass
+  public static void setupProperties() {
+    v0.setProperty("name", "Alice");
+    v1.setProperty("name", "Bob");
+    v1.setProperty("age", 42);
+    e0.setProperty("since", 2014);
+  }
+
+  @Override
+  protected GVELayout from(Collection<GraphHead> graphHeads, Collection<Vertex> vertices,
+    Collection<Edge> edges) {
+    return fromCollections(graphHeads, vertices, edges);
+  }
+
+  private ColumnarLayout fromCollections(Collection<GraphHead> graphHeads,
+    Collection<Vertex> vertices, Collection<Edge> edges) {
+    // a block size of 2 splits the vertices into more than one block
+    ColumnarCollectionLayoutFactory factory = new ColumnarCollectionLayoutFactory(2);
+    factory.setGradoopFlinkConfig(GradoopFlinkConfig.createConfig(getExecutionEnvironment()));
+    return factory.create(
+      getExecutionEnvironment().fromCollection(graphHeads),
+      getExecutionEnvironment().fromCollection(vertices),
+      getExecutionEnvironment().fromCollection(edges));
+  }
+
+  @Override
+  public void isGVELayout() throws Exception {
+    assertFalse(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isGVELayout());
+  }
+
+  @Override
+  public void isColumnarLayout() throws Exception {
+    assertTrue(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isColumnarLayout());
+  }
+
+  @Test
+  public void getVertexIds() throws Exception {
+    ColumnarLayout layout = fromCollections(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+
+    assertEquals(Sets.newHashSet(v0.getId(), v1.getId(), v2.getId()),
+      new HashSet<>(layout.getVertexIds().collect()));
+    assertEquals(Sets.newHashSet(v1.getId()),
+      new HashSet<>(layout.getVertexIdsByLabel("B").collect()));
+  }
+
+  @Test
+  public void getEdgeIds() throws Exception {
+    ColumnarLayout layout = fromCollections(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+
+    assertEquals(Sets.newHashSet(e0.getId(), e1.getId()),
+      new HashSet<>(layout.getEdgeIds().collect()));
+    assertEquals(Sets.newHashSet(e1.getId()),
+      new HashSet<>(layout.getEdgeIdsByLabel("b").collect()));
+  }
+
+  @Test
+  public void getEdgeSourceAndTargetIds() throws Exception {
+    ColumnarLayout layout = fromCollections(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+
+    List<GradoopId> sourceIds = layout.getEdgeSourceIds().collect();
+    List<GradoopId> targetIds = layout.getEdgeTargetIds().collect();
+
+    sourceIds.sort(GradoopId::compareTo);
+    targetIds.sort(GradoopId::compareTo);
+
+    List<GradoopId> expectedSourceIds = asList(e0.getSourceId(), e1.getSourceId());
+    List<GradoopId> expectedTargetIds = asList(e0.getTargetId(), e1.getTargetId());
+    expectedSourceIds.sort(GradoopId::compareTo);
+    expectedTargetIds.sort(GradoopId::compareTo);
+
+    assertEquals(expectedSourceIds, sourceIds);
+    assertEquals(expectedTargetIds, targetIds);
+  }
+
+  @Test
+  public void getVertexPropertyColumn() throws Exception {
+    ColumnarLayout layout = fromCollections(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+
+    assertEquals(
+      Sets.newHashSet(
+        Tuple2.of(v0.getId(), PropertyValue.create("Alice")),
+        Tuple2.of(v1.getId(), PropertyValue.create("Bob"))),
+      new HashSet<>(layout.getVertexPropertyColumn("name").collect()));
+    assertEquals(
+      Sets.newHashSet(Tuple2.of(v1.getId(), PropertyValue.create(42))),
+      new HashSet<>(layout.getVertexPropertyColumn("age").collect()));
+    assertTrue(layout.getVertexPropertyColumn("unknown").collect().isEmpty());
+  }
+
+  @Test
+  public void getEdgePropertyColumn() throws Exception {
+    ColumnarLayout layout = fromCollections(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1));
+
+    assertEquals(
+      Sets.newHashSet(Tuple2.of(e0.getId(), PropertyValue.create(2014))),
+      new HashSet<>(layout.getEdgePropertyColumn("since").collect()));
+  }
+
+  @Test
+  public void verticesToBlocksWithReusedInput() throws Exception {
+    // the input iterator returns the same instance for each vertex
+    Vertex reused = new VertexFactory().createVertex();
+    List<GradoopId> ids = asList(GradoopId.get(), GradoopId.get(), GradoopId.get());
+    Iterable<Vertex> input = () -> ids.stream().map(id -> {
+      reused.setId(id);
+      reused.setLabel(id.toString());
+      reused.setProperty("id", id);
+      return reused;
+    }).iterator();
+
+    List<Tuple2<VertexBlock, PropertyBlock[]>> blocks = new ArrayList<>();
+    new VerticesToBlocks(2).mapPartition(input, new ListCollector<>(blocks));
+
+    List<GradoopId> blockIds = new ArrayList<>();
+    List<String> blockLabels = new ArrayList<>();
+    List<PropertyValue> blockValues = new ArrayList<>();
+    for (Tuple2<VertexBlock, PropertyBlock[]> block : blocks) {
+      new BlockIds<VertexBlock>().flatMap(block.f0, new ListCollector<>(blockIds));
+      for (int i = 0; i < block.f0.size(); i++) {
+        blockLabels.add(block.f0.getLabel(i));
+      }
+      blockValues.addAll(asList(block.f1[0].getValues()));
+    }
+    assertEquals(ids, blockIds);
+    assertEquals(ids.stream().map(GradoopId::toString).collect(Collectors.toList()), blockLabels);
+    assertEquals(ids.stream().map(PropertyValue::create).collect(Collectors.toList()),
+      blockValues);
+  }
+}
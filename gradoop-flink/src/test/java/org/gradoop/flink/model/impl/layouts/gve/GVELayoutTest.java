@@ -87,6 +87,11 @@ public class GVELayoutTest extends GradoopFlinkTestBase {
     assertFalse(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isIndexedGVELayout());
   }
 
+  @Test
+  public void isColumnarLayout() throws Exception {
+    assertFalse(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isColumnarLayout());
+  }
+
   @Test
   public void hasTransactionalLayout() throws Exception {
     assertFalse(from(asList(g0, g1), asList(v0, v1, v2), asList(e0, e1)).isTransactionalLayout());
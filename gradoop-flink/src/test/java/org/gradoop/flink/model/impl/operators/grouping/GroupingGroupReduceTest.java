@@ -15,10 +15,115 @@
  */
 package org.gradoop.flink.model.impl.operators.grouping;
 
+import com.google.common.collect.Lists;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MaxAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MinAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.SumAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
 public class GroupingGroupReduceTest extends GroupingTestBase {
 
   @Override
   public GroupingStrategy getStrategy() {
     return GroupingStrategy.GROUP_REDUCE;
   }
+
+  @Test
+  public void testHashedSuperVertexIds() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader
+      .getLogicalGraphByVariable("g0")
+      .combine(loader.getLogicalGraphByVariable("g1"))
+      .combine(loader.getLogicalGraphByVariable("g2"));
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(l:Person {city : \"Leipzig\", count : 2L, minAge : 20, maxAge : 30, sumAge : 50})" +
+      "(d:Person {city : \"Dresden\", count : 3L, minAge : 30, maxAge : 40, sumAge : 105})" +
+      "(b:Person {city : \"Berlin\",  count : 1L, minAge : 35, maxAge : 35, sumAge : 35})" +
+      "(d)-[:knows {count : 2L}]->(d)" +
+      "(d)-[:knows {count : 3L}]->(l)" +
+      "(l)-[:knows {count : 2L}]->(l)" +
+      "(l)-[:knows {count : 1L}]->(d)" +
+      "(b)-[:knows {count : 2L}]->(d)" +
+      "]");
+
+    LogicalGraph output = new GroupingBuilder()
+      .useVertexLabel(true)
+      .useEdgeLabel(true)
+      .addVertexGroupingKey("city")
+      .addVertexAggregator(new CountAggregator("count"))
+      .addVertexAggregator(new MinAggregator("age", "minAge"))
+      .addVertexAggregator(new MaxAggregator("age", "maxAge"))
+      .addVertexAggregator(new SumAggregator("age", "sumAge"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .setStrategy(getStrategy())
+      .useHashedSuperVertexIds(true)
+      .build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test
+  public void testHashedSuperVertexIdsCrossVertexLabelSpecific() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(getLabelSpecificInput());
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(v00:Forum {count : 1L,topic : \"rdf\"})" +
+      "(v01:Forum {count : 1L,topic : \"graph\"})" +
+      "(v02:User  {count : 3L,gender : \"male\", max : 30})" +
+      "(v03:User  {count : 1L,gender : \"female\", max : 20})" +
+      "(v04:UserAge  {count : 3L,age : 20, sum : 60})" +
+      "(v05:UserAge  {count : 1L,age : 30, sum : 30})" +
+      "(v02)-->(v00)" +
+      "(v02)-->(v01)" +
+      "(v02)-->(v02)" +
+      "(v02)-->(v03)" +
+      "(v02)-->(v04)" +
+      "(v02)-->(v05)" +
+      "(v03)-->(v01)" +
+      "(v03)-->(v02)" +
+      "(v03)-->(v05)" +
+      "(v04)-->(v00)" +
+      "(v04)-->(v01)" +
+      "(v04)-->(v02)" +
+      "(v04)-->(v03)" +
+      "(v04)-->(v04)" +
+      "(v04)-->(v05)" +
+      "(v05)-->(v01)" +
+      "]");
+
+    LogicalGraph output = new GroupingBuilder()
+      .useVertexLabel(true)
+      .addVertexGroupingKey("topic")
+      .addVertexLabelGroup("User", Lists.newArrayList("gender"),
+        Lists.newArrayList(new CountAggregator("count"), new MaxAggregator("age", "max")))
+      .addVertexLabelGroup("User", "UserAge", Lists.newArrayList("age"),
+        Lists.newArrayList(new CountAggregator("count"), new SumAggregator("age", "sum")))
+      .addVertexAggregator(new CountAggregator("count"))
+      .setStrategy(getStrategy())
+      .useHashedSuperVertexIds(true)
+      .build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testHashedSuperVertexIdsWithUnsupportedStrategy() {
+    new GroupingBuilder()
+      .useVertexLabel(true)
+      .setStrategy(GroupingStrategy.GROUP_COMBINE)
+      .useHashedSuperVertexIds(true)
+      .build();
+  }
 }
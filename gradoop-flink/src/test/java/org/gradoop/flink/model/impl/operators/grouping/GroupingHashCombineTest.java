@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MaxAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MinAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class GroupingHashCombineTest extends GroupingTestBase {
+
+  @Override
+  public GroupingStrategy getStrategy() {
+    return GroupingStrategy.HASH_COMBINE;
+  }
+
+  @Test
+  public void testFlushingHashTable() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader
+      .getLogicalGraphByVariable("g0")
+      .combine(loader.getLogicalGraphByVariable("g1"))
+      .combine(loader.getLogicalGraphByVariable("g2"));
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(leipzig {city : \"Leipzig\", count : 2L, minAge : 20, maxAge : 30})" +
+      "(dresden {city : \"Dresden\", count : 3L, minAge : 30, maxAge : 40})" +
+      "(berlin  {city : \"Berlin\",  count : 1L, minAge : 35, maxAge : 35})" +
+      "(dresden)-[{count : 2L}]->(dresden)" +
+      "(dresden)-[{count : 3L}]->(leipzig)" +
+      "(leipzig)-[{count : 2L}]->(leipzig)" +
+      "(leipzig)-[{count : 1L}]->(dresden)" +
+      "(berlin)-[{count : 2L}]->(dresden)" +
+      "]");
+
+    // a table size of one flushes the partial aggregates on every group change
+    LogicalGraph output = new GroupingBuilder()
+      .addVertexGroupingKey("city")
+      .addVertexAggregator(new CountAggregator("count"))
+      .addVertexAggregator(new MinAggregator("age", "minAge"))
+      .addVertexAggregator(new MaxAggregator("age", "maxAge"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .setStrategy(getStrategy())
+      .setMaxHashTableSize(1)
+      .build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+}
@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.grouping;
 
 import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.pojo.LabelDictionary;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
@@ -612,6 +613,40 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
   }
 
+  @Test
+  public void testVertexAndEdgeLabelWithLabelDictionary() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraph();
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(p:Person  {count : 6L})" +
+      "(t:Tag     {count : 3L})" +
+      "(f:Forum   {count : 2L})" +
+      "(f)-[:hasModerator {count :  2L}]->(p)" +
+      "(p)-[:hasInterest  {count :  4L}]->(t)" +
+      "(f)-[:hasMember    {count :  4L}]->(p)" +
+      "(f)-[:hasTag       {count :  4L}]->(t)" +
+      "(p)-[:knows        {count : 10L}]->(p)" +
+      "]");
+
+    LabelDictionary labelDictionary = LabelDictionary.fromLabels("Person", "Tag", "Forum",
+      "hasModerator", "hasInterest", "hasMember", "hasTag", "knows", "unused");
+
+    LogicalGraph output = new GroupingBuilder()
+      .useVertexLabel(true)
+      .useEdgeLabel(true)
+      .setLabelDictionary(labelDictionary)
+      .setStrategy(getStrategy())
+      .addVertexAggregator(new CountAggregator("count"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
   @Test
   public void testVertexAndEdgeLabelAndSingleVertexProperty() throws Exception {
     FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
@@ -1803,7 +1838,7 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
   }
 
-  private String getLabelSpecificInput() {
+  protected String getLabelSpecificInput() {
     return "input[" +
       "(v0:Forum {theme : \"db\",topic : \"rdf\"})" +
       "(v1:Forum {theme : \"db\",topic : \"graph\"})" +
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class EquiDepthHistogramTest {
+
+  private static final double DELTA = 1e-9;
+
+  @Test
+  public void testFractionLessThan() {
+    EquiDepthHistogram histogram = new EquiDepthHistogram(8L, new double[] {0d, 10d, 20d, 40d});
+
+    assertEquals(0d, histogram.getFractionLessThan(-1d), DELTA);
+    assertEquals(0d, histogram.getFractionLessThan(0d), DELTA);
+    assertEquals(1d / 6, histogram.getFractionLessThan(5d), DELTA);
+    assertEquals(1d / 3, histogram.getFractionLessThan(10d), DELTA);
+    assertEquals(5d / 6, histogram.getFractionLessThan(30d), DELTA);
+    assertEquals(1d, histogram.getFractionLessThan(40d), DELTA);
+    assertEquals(1d, histogram.getFractionLessThan(41d), DELTA);
+  }
+
+  @Test
+  public void testFractionGreaterThan() {
+    EquiDepthHistogram histogram = new EquiDepthHistogram(8L, new double[] {0d, 10d, 20d, 40d});
+
+    assertEquals(1d, histogram.getFractionGreaterThan(-1d), DELTA);
+    assertEquals(1d, histogram.getFractionGreaterThan(0d), DELTA);
+    assertEquals(5d / 6, histogram.getFractionGreaterThan(5d), DELTA);
+    assertEquals(1d / 6, histogram.getFractionGreaterThan(30d), DELTA);
+    assertEquals(0d, histogram.getFractionGreaterThan(40d), DELTA);
+  }
+
+  @Test
+  public void testDuplicateBounds() {
+    EquiDepthHistogram histogram = new EquiDepthHistogram(3L, new double[] {5d, 5d, 5d, 7d});
+
+    assertEquals(0d, histogram.getFractionLessThan(5d), DELTA);
+    assertEquals(5d / 6, histogram.getFractionLessThan(6d), DELTA);
+    assertEquals(1d / 6, histogram.getFractionGreaterThan(6d), DELTA);
+    assertEquals(1d / 3, histogram.getFractionGreaterThan(5d), DELTA);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBounds() {
+    new EquiDepthHistogram(1L, new double[] {5d});
+  }
+}
@@ -18,7 +18,10 @@ package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 import org.junit.Test;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public abstract class GraphStatisticsTest {
   /**
@@ -199,4 +202,47 @@ public abstract class GraphStatisticsTest {
       is(0L));
   }
 
+  @Test
+  public void testVertexPropertyHistograms() throws Exception {
+    EquiDepthHistogram histogram = TEST_STATISTICS.getVertexPropertyHistogram("Person", "age");
+    assertThat(histogram.getCount(), is(6L));
+    assertThat(histogram.getBucketCount(), is(5));
+    assertArrayEquals(new double[] {20d, 30d, 30d, 35d, 35d, 40d}, histogram.getBounds(), 0d);
+    // nonexistent property and label
+    assertNull(TEST_STATISTICS.getVertexPropertyHistogram("Person", "name"));
+    assertNull(TEST_STATISTICS.getVertexPropertyHistogram("foo", "age"));
+  }
+
+  @Test
+  public void testEdgePropertyHistograms() throws Exception {
+    EquiDepthHistogram histogram = TEST_STATISTICS.getEdgePropertyHistogram("knows", "since");
+    assertThat(histogram.getCount(), is(10L));
+    assertThat(histogram.getBucketCount(), is(9));
+    assertThat(TEST_STATISTICS.getEdgePropertyHistogram("hasModerator", "since").getCount(),
+      is(1L));
+    // nonexistent label
+    assertNull(TEST_STATISTICS.getEdgePropertyHistogram("foo", "since"));
+  }
+
+  @Test
+  public void testVertexMostCommonValues() throws Exception {
+    assertThat(TEST_STATISTICS.getVertexMostCommonValues("Person", "city").get("Dresden"),
+      is(3L));
+    assertThat(TEST_STATISTICS.getVertexMostCommonValues("Person", "city").get("Leipzig"),
+      is(2L));
+    assertThat(TEST_STATISTICS.getVertexMostCommonValues("Person", "age").get("30"), is(2L));
+    // value containing the token separator
+    assertThat(TEST_STATISTICS.getVertexMostCommonValues("Forum", "title").size(), is(2));
+    // nonexistent property and label
+    assertTrue(TEST_STATISTICS.getVertexMostCommonValues("Person", "foo").isEmpty());
+    assertTrue(TEST_STATISTICS.getVertexMostCommonValues("foo", "city").isEmpty());
+  }
+
+  @Test
+  public void testEdgeMostCommonValues() throws Exception {
+    assertThat(TEST_STATISTICS.getEdgeMostCommonValues("knows", "since").get("2014"), is(4L));
+    assertThat(TEST_STATISTICS.getEdgeMostCommonValues("knows", "since").size(), is(3));
+    // nonexistent label
+    assertTrue(TEST_STATISTICS.getEdgeMostCommonValues("foo", "since").isEmpty());
+  }
 }
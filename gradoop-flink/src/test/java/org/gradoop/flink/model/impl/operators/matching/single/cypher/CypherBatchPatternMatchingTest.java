@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import com.google.common.collect.Lists;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CypherBatchPatternMatchingTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testResultsOfSingleQueries() throws Exception {
+    LogicalGraph socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(
+      CypherBatchPatternMatchingTest.class.getResource("/data/json/sna/statistics").getFile());
+    List<String> queries = Lists.newArrayList(
+      "MATCH (a:Person)-[e:knows]->(b:Person)",
+      "MATCH (a:Person)-[e:knows]->(b:Person)-[f:hasInterest]->(t:Tag)",
+      "MATCH (a:Person)-[e:knows]->(b:Person) WHERE a.age > b.age",
+      "MATCH (x:Person)-[e:hasMember]->(y:Forum)",
+      "MATCH (a:Tag)");
+
+    for (PlannerStrategy plannerStrategy : PlannerStrategy.values()) {
+      CypherBatchPatternMatching batch = new CypherBatchPatternMatching(queries, true,
+        MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, statistics, plannerStrategy,
+        new EmbeddingCache());
+      List<GraphCollection> results = batch.execute(socialNetwork);
+
+      assertEquals(queries.size(), results.size());
+      assertEquals(queries.size(), batch.getQueryPlans().size());
+      assertTrue(batch.getSharedNodeCount() > 0);
+
+      for (int i = 0; i < queries.size(); i++) {
+        GraphCollection expected = socialNetwork.callForCollection(
+          new CypherPatternMatching(queries.get(i), true, MatchStrategy.ISOMORPHISM,
+            MatchStrategy.ISOMORPHISM, statistics));
+        collectAndAssertTrue(results.get(i).equalsByGraphElementData(expected));
+      }
+    }
+  }
+
+  @Test
+  public void testSharedSubPlans() throws Exception {
+    LogicalGraph socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    String query = "MATCH (a:Person)-[e:knows]->(b:Person)-[f:hasInterest]->(t:Tag) " +
+      "WHERE a.age > b.age";
+
+    CypherBatchPatternMatching batch = new CypherBatchPatternMatching(
+      Lists.newArrayList(query, query), false, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1));
+    List<GraphCollection> results = batch.execute(socialNetwork);
+
+    // the second plan is completely shared
+    assertEquals(batch.getQueryPlans().get(1).getNodes().size(), batch.getSharedNodeCount());
+    assertTrue(batch.getQueryPlans().get(0).getRoot().getSignature() != null);
+    collectAndAssertTrue(results.get(0).equalsByGraphElementIds(results.get(1)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyBatch() {
+    new CypherBatchPatternMatching(new ArrayList<>(), false, MatchStrategy.HOMOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1));
+  }
+}
@@ -16,11 +16,18 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+
 import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.*;
@@ -380,4 +387,26 @@ public class EmbeddingTest {
     outEmbedding = writeAndReadValue(Embedding.class, inEmbedding);
     assertEquals(inEmbedding, outEmbedding);
   }
+
+  @Test
+  public void testReadWithShortReads() throws Exception {
+    Embedding inEmbedding = new Embedding();
+    inEmbedding.add(GradoopId.get(), PropertyValue.create(42), PropertyValue.create("Foobar"));
+    inEmbedding.add(GradoopId.get(), GradoopId.get(), GradoopId.get());
+
+    ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+    inEmbedding.write(new DataOutputViewStreamWrapper(outStream));
+
+    // input returning at most 5 bytes per read, like a buffer ending within a record
+    FilterInputStream inStream =
+      new FilterInputStream(new ByteArrayInputStream(outStream.toByteArray())) {
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          return super.read(b, off, Math.min(len, 5));
+        }
+      };
+    Embedding outEmbedding = new Embedding();
+    outEmbedding.read(new DataInputViewStreamWrapper(inStream));
+    assertEquals(inEmbedding, outEmbedding);
+  }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdEmbedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IdBloomFilterTest {
+
+  @Test
+  public void testNoFalseNegatives() {
+    IdBloomFilter bloomFilter = new IdBloomFilter(1000, 0.01);
+    List<IdEmbedding> keys = createKeys(1000);
+    keys.forEach(bloomFilter::add);
+
+    keys.forEach(key -> assertTrue(bloomFilter.mightContain(key)));
+  }
+
+  @Test
+  public void testFalsePositiveRate() {
+    IdBloomFilter bloomFilter = new IdBloomFilter(1000, 0.01);
+    createKeys(1000).forEach(bloomFilter::add);
+
+    long falsePositives = createKeys(10000).stream().filter(bloomFilter::mightContain).count();
+
+    // expected are about 100 false positives
+    assertTrue("False positives: " + falsePositives, falsePositives < 300);
+  }
+
+  @Test
+  public void testEmptyFilter() {
+    IdBloomFilter bloomFilter = new IdBloomFilter(0, 0.01);
+
+    assertEquals(64, bloomFilter.getNumBits());
+    assertFalse(bloomFilter.mightContain(new IdEmbedding(GradoopId.get())));
+  }
+
+  @Test
+  public void testMultipleColumns() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    IdBloomFilter bloomFilter = new IdBloomFilter(10, 0.0001);
+    bloomFilter.add(new IdEmbedding(a, b));
+
+    assertTrue(bloomFilter.mightContain(new IdEmbedding(a, b)));
+    assertFalse(bloomFilter.mightContain(new IdEmbedding(b, a)));
+  }
+
+  @Test
+  public void testMerge() {
+    List<IdEmbedding> keys = createKeys(200);
+    IdBloomFilter first = new IdBloomFilter(200, 0.01);
+    IdBloomFilter second = new IdBloomFilter(200, 0.01);
+    keys.subList(0, 100).forEach(first::add);
+    keys.subList(100, 200).forEach(second::add);
+
+    first.merge(second);
+
+    keys.forEach(key -> assertTrue(first.mightContain(key)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentSize() {
+    new IdBloomFilter(100, 0.01).merge(new IdBloomFilter(1000, 0.01));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidFalsePositiveRate() {
+    new IdBloomFilter(100, 1.0);
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    List<IdEmbedding> keys = createKeys(100);
+    IdBloomFilter bloomFilter = new IdBloomFilter(100, 0.01);
+    keys.forEach(bloomFilter::add);
+
+    IdBloomFilter copy = writeAndReadValue(IdBloomFilter.class, bloomFilter);
+
+    assertEquals(bloomFilter.getNumBits(), copy.getNumBits());
+    assertEquals(bloomFilter.getNumHashFunctions(), copy.getNumHashFunctions());
+    keys.forEach(key -> assertTrue(copy.mightContain(key)));
+  }
+
+  private static List<IdEmbedding> createKeys(int count) {
+    List<IdEmbedding> keys = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      keys.add(new IdEmbedding(GradoopId.get()));
+    }
+    return keys;
+  }
+}
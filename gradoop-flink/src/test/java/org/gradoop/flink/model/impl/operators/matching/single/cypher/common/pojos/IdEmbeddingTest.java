@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.IdEmbedding;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
+import static org.junit.Assert.*;
+
+public class IdEmbeddingTest {
+
+  @Test
+  public void testAddAndGetId() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+
+    IdEmbedding idEmbedding = new IdEmbedding();
+    idEmbedding.add(v0);
+    idEmbedding.add(v1);
+
+    assertEquals(2, idEmbedding.size());
+    assertEquals(v0, idEmbedding.getId(0));
+    assertEquals(v1, idEmbedding.getId(1));
+    assertEquals(Lists.newArrayList(v0, v1), idEmbedding.getIds());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetIdOutOfBounds() {
+    new IdEmbedding(GradoopId.get()).getId(1);
+  }
+
+  @Test
+  public void testFromEmbedding() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    Embedding embedding = EmbeddingTestUtils.createEmbedding(v0, e0, v1);
+
+    IdEmbedding idEmbedding = IdEmbedding.fromEmbedding(embedding, new int[] {2, 0});
+
+    assertEquals(new IdEmbedding(v1, v0), idEmbedding);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testFromEmbeddingWithIdList() {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get());
+    embedding.add(new GradoopId[] {GradoopId.get(), GradoopId.get()});
+
+    IdEmbedding.fromEmbedding(embedding, new int[] {1});
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testFromEmbeddingWithMissingColumn() {
+    IdEmbedding.fromEmbedding(EmbeddingTestUtils.createEmbedding(GradoopId.get()), new int[] {1});
+  }
+
+  @Test
+  public void testToEmbedding() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+
+    Embedding embedding = new IdEmbedding(v0, v1).toEmbedding();
+
+    assertEquals(EmbeddingTestUtils.createEmbedding(v0, v1), embedding);
+  }
+
+  @Test
+  public void testCompareTo() {
+    GradoopId min = GradoopId.fromString("000000000000000000000000");
+    GradoopId max = GradoopId.fromString("ffffffffffffffffffffffff");
+
+    IdEmbedding first = new IdEmbedding(min, max);
+    IdEmbedding second = new IdEmbedding(max, min);
+    IdEmbedding prefix = new IdEmbedding(min);
+
+    assertTrue(first.compareTo(second) < 0);
+    assertTrue(second.compareTo(first) > 0);
+    assertTrue(prefix.compareTo(first) < 0);
+    assertEquals(0, first.compareTo(new IdEmbedding(min, max)));
+  }
+
+  @Test
+  public void testCompareToIsConsistentWithNormalizedKey() {
+    int length = 2 * GradoopId.ID_SIZE;
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(2 * length);
+    byte[] firstKey = new byte[length];
+    byte[] secondKey = new byte[length];
+
+    for (int i = 0; i < 100; i++) {
+      IdEmbedding first = new IdEmbedding(GradoopId.get(), GradoopId.get());
+      IdEmbedding second = new IdEmbedding(GradoopId.get(), GradoopId.get());
+
+      first.copyNormalizedKey(segment, 0, length);
+      second.copyNormalizedKey(segment, length, length);
+      segment.get(0, firstKey);
+      segment.get(length, secondKey);
+
+      assertEquals(Integer.signum(first.compareTo(second)),
+        Integer.signum(compareBytes(firstKey, secondKey)));
+    }
+  }
+
+  @Test
+  public void testCopyNormalizedKey() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    IdEmbedding idEmbedding = new IdEmbedding(v0, v1);
+    byte[] expected = new byte[3 * GradoopId.ID_SIZE];
+    v0.writeBytes(expected, 0);
+    v1.writeBytes(expected, GradoopId.ID_SIZE);
+
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(expected.length);
+    byte[] bytes = new byte[expected.length];
+
+    idEmbedding.copyNormalizedKey(segment, 0, expected.length);
+    segment.get(0, bytes);
+    assertArrayEquals(expected, bytes);
+
+    idEmbedding.copyNormalizedKey(segment, 0, 17);
+    segment.get(0, bytes, 0, 17);
+    assertArrayEquals(Arrays.copyOf(expected, 17), Arrays.copyOf(bytes, 17));
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    IdEmbedding idEmbedding = new IdEmbedding(GradoopId.get(), GradoopId.get());
+
+    assertEquals(idEmbedding, writeAndReadValue(IdEmbedding.class, idEmbedding));
+    assertEquals(new IdEmbedding(), writeAndReadValue(IdEmbedding.class, new IdEmbedding()));
+  }
+
+  @Test
+  public void testCopy() {
+    GradoopId v0 = GradoopId.get();
+    IdEmbedding idEmbedding = new IdEmbedding(v0);
+    IdEmbedding copy = idEmbedding.copy();
+    idEmbedding.add(GradoopId.get());
+
+    assertEquals(new IdEmbedding(v0), copy);
+    assertNotEquals(idEmbedding, copy);
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+
+    assertEquals(new IdEmbedding(v0, v1), new IdEmbedding(v0, v1));
+    assertEquals(new IdEmbedding(v0, v1).hashCode(), new IdEmbedding(v0, v1).hashCode());
+    assertNotEquals(new IdEmbedding(v0, v1), new IdEmbedding(v1, v0));
+  }
+
+  private static int compareBytes(byte[] first, byte[] second) {
+    for (int i = 0; i < first.length; i++) {
+      int result = Integer.compare(first[i] & 0xff, second[i] & 0xff);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+}
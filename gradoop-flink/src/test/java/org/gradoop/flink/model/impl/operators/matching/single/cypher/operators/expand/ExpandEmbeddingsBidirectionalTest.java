@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExpandEmbeddingsBidirectionalTest extends ExpandEmbeddingsTest {
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+  private final GradoopId d = GradoopId.get();
+
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+  private final GradoopId e5 = GradoopId.get();
+  private final GradoopId e6 = GradoopId.get();
+
+  @Override
+  protected ExpandEmbeddings getOperator(
+    DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn) {
+
+    return new ExpandEmbeddingsBidirectional(input, candidateEdges, expandColumn, lowerBound,
+      upperBound, direction, distinctVertexColumns, distinctEdgeColumns, closingColumn);
+  }
+
+  @Test
+  public void testMeetInTheMiddle() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, c),
+      createEmbedding(c, e2, d),
+      createEmbedding(d, e3, a),
+      createEmbedding(c, e4, a),
+      createEmbedding(b, e5, b)
+    );
+
+    DataSet<Embedding> result = getOperator(input, candidateEdges, 2, 1, 4,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), 0).evaluate();
+
+    assertEquals(5, result.count());
+    assertEmbeddingExists(result, a, e0, b, e1, c, e4, a);
+    assertEmbeddingExists(result, a, e0, b, e1, c, e2, d, e3, a);
+    assertEmbeddingExists(result, a, e0, b, e5, b, e1, c, e4, a);
+    assertEmbeddingExists(result, a, e0, b, e5, b, e5, b, e1, c, e4, a);
+    assertEmbeddingExists(result, a, e0, b, e5, b, e1, c, e2, d, e3, a);
+  }
+
+  @Test
+  public void testMeetInTheMiddleWithIsomorphism() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, c),
+      createEmbedding(c, e2, d),
+      createEmbedding(d, e3, a),
+      createEmbedding(c, e4, a),
+      createEmbedding(b, e5, b),
+      createEmbedding(d, e6, c)
+    );
+
+    DataSet<Embedding> result = getOperator(input, candidateEdges, 2, 1, 4,
+      ExpandDirection.OUT, Lists.newArrayList(0, 2), Lists.newArrayList(1), 0).evaluate();
+
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, a, e0, b, e1, c, e4, a);
+    assertEmbeddingExists(result, a, e0, b, e1, c, e2, d, e3, a);
+  }
+
+  @Test
+  public void testSameResultAsForLoop() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(b, e1, c),
+      createEmbedding(c, e2, d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(b, e1, c),
+      createEmbedding(c, e2, d),
+      createEmbedding(d, e3, a),
+      createEmbedding(c, e4, a),
+      createEmbedding(b, e5, b)
+    );
+
+    for (int lowerBound = 0; lowerBound <= 2; lowerBound++) {
+      for (int upperBound = Math.max(lowerBound, 1); upperBound <= 5; upperBound++) {
+        for (boolean isomorphism : new boolean[] {false, true}) {
+          List<Integer> vertexColumns = isomorphism ?
+            Lists.newArrayList(0, 2) : new ArrayList<>();
+          List<Integer> edgeColumns = isomorphism ? Lists.newArrayList(1) : new ArrayList<>();
+
+          DataSet<Embedding> expected = new ExpandEmbeddingsForLoop(input, candidateEdges, 2,
+            lowerBound, upperBound, ExpandDirection.IN, vertexColumns, edgeColumns, 0).evaluate();
+          DataSet<Embedding> result = getOperator(input, candidateEdges, 2,
+            lowerBound, upperBound, ExpandDirection.IN, vertexColumns, edgeColumns, 0).evaluate();
+
+          assertEquals(toIdLists(expected), toIdLists(result));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testReachabilityDeduplicatesFrontier() throws Exception {
+    DataSet<Embedding> input = createEmbeddings(getExecutionEnvironment(), 2, a);
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(a, e1, c),
+      createEmbedding(b, e2, d),
+      createEmbedding(c, e3, d),
+      createEmbedding(d, e4, a)
+    );
+
+    ExpandEmbeddingsBidirectional op = getReachabilityOperator(input, candidateEdges, 0, 3, -1);
+    List<Embedding> result = op.evaluate().collect();
+
+    // one result per input embedding and reachable vertex, independent of the number of paths
+    assertEquals(8, result.size());
+    assertEquals(2, result.stream().filter(embedding -> embedding.getId(2).equals(d)).count());
+    assertEquals(2, result.stream().filter(embedding -> embedding.getId(2).equals(a)).count());
+    assertTrue(result.stream().allMatch(embedding -> embedding.getIdList(1).isEmpty()));
+
+    List<Tuple3<String, Integer, Long>> frontierSizes = op.getFrontierSizes().collect();
+    assertEquals(3, frontierSizes.size());
+    assertTrue(frontierSizes.contains(Tuple3.of(ExpandEmbeddingsBidirectional.FORWARD, 1, 2L)));
+    assertTrue(frontierSizes.contains(Tuple3.of(ExpandEmbeddingsBidirectional.FORWARD, 2, 1L)));
+    assertTrue(frontierSizes.contains(Tuple3.of(ExpandEmbeddingsBidirectional.FORWARD, 3, 1L)));
+  }
+
+  @Test
+  public void testReachabilityWithClosingColumn() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b),
+      createEmbedding(b, e2, d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, d),
+      createEmbedding(d, e4, a),
+      createEmbedding(d, e3, b)
+    );
+
+    List<Embedding> result =
+      getReachabilityOperator(input, candidateEdges, 0, 3, 0).evaluate().collect();
+
+    assertEquals(2, result.size());
+    assertEmbeddingExists(result, embedding -> embedding.getId(0).equals(a) &&
+      embedding.getId(4).equals(a) && embedding.getIdList(3).isEmpty());
+    assertEmbeddingExists(result, embedding -> embedding.getId(0).equals(b) &&
+      embedding.getId(4).equals(b) && embedding.getIdList(3).isEmpty());
+  }
+
+  @Test
+  public void testFrontierSizes() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, b)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, c),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, a)
+    );
+
+    ExpandEmbeddingsBidirectional op = (ExpandEmbeddingsBidirectional) getOperator(input,
+      candidateEdges, 2, 2, 3, ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), 0);
+    assertEquals(2, op.evaluate().count());
+
+    List<Tuple3<String, Integer, Long>> frontierSizes = op.getFrontierSizes().collect();
+    assertEquals(3, frontierSizes.size());
+    assertTrue(frontierSizes.contains(Tuple3.of(ExpandEmbeddingsBidirectional.FORWARD, 1, 2L)));
+    assertTrue(frontierSizes.contains(Tuple3.of(ExpandEmbeddingsBidirectional.FORWARD, 2, 2L)));
+    assertTrue(frontierSizes.contains(Tuple3.of(ExpandEmbeddingsBidirectional.BACKWARD, 1, 1L)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnboundedExpansion() {
+    new ExpandEmbeddingsBidirectional(getExecutionEnvironment().fromElements(createEmbedding(a)),
+      getExecutionEnvironment().fromElements(createEmbedding(a, e0, b)), 0, 1, Integer.MAX_VALUE,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReachabilityWithIsomorphism() {
+    new ExpandEmbeddingsBidirectional(getExecutionEnvironment().fromElements(createEmbedding(a)),
+      getExecutionEnvironment().fromElements(createEmbedding(a, e0, b)), 0, 1, 2,
+      ExpandDirection.OUT, Lists.newArrayList(0), new ArrayList<>(), -1).setKeepPaths(false);
+  }
+
+  private ExpandEmbeddingsBidirectional getReachabilityOperator(DataSet<Embedding> input,
+    DataSet<Embedding> candidateEdges, int expandColumn, int upperBound, int closingColumn) {
+    ExpandEmbeddingsBidirectional op = new ExpandEmbeddingsBidirectional(input, candidateEdges,
+      expandColumn, 1, upperBound, ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(),
+      closingColumn);
+    op.setKeepPaths(false);
+    return op;
+  }
+
+  private static HashMultiset<List<GradoopId>> toIdLists(DataSet<Embedding> embeddings)
+    throws Exception {
+    return HashMultiset.create(embeddings.collect().stream()
+      .map(embedding -> embeddingToIdList(embedding))
+      .collect(Collectors.toList()));
+  }
+}
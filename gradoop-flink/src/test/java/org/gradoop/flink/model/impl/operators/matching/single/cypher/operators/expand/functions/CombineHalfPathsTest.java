@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CombineHalfPathsTest {
+  private final GradoopId m = GradoopId.get();
+  private final GradoopId n = GradoopId.get();
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+
+  @Test
+  public void testCombine() throws Exception {
+    // (m,e0,n) -> e1,a,e2 -> b <- e3,c,e4 <- m
+    List<ExpandEmbedding> result = combine(
+      new ExpandEmbedding(createEmbedding(m, e0, n), e1, a, e2, b),
+      new ExpandEmbedding(createEmbedding(m), e4, c, e3, b),
+      new ArrayList<>(), new ArrayList<>());
+
+    assertEquals(1, result.size());
+    assertEquals(createEmbedding(m, e0, n), result.get(0).getBase());
+    assertArrayEquals(new GradoopId[] {e1, a, e2, b, e3, c, e4}, result.get(0).getPath());
+    assertEquals(m, result.get(0).getEnd());
+  }
+
+  @Test
+  public void testHomomorphismWithDuplicates() throws Exception {
+    List<ExpandEmbedding> result = combine(
+      new ExpandEmbedding(createEmbedding(m, e0, n), e1, a, e2, b),
+      new ExpandEmbedding(createEmbedding(m), e1, a, e2, b),
+      new ArrayList<>(), new ArrayList<>());
+
+    assertEquals(1, result.size());
+  }
+
+  @Test
+  public void testVertexIsomorphismWithDuplicatePathVertex() throws Exception {
+    List<ExpandEmbedding> result = combine(
+      new ExpandEmbedding(createEmbedding(m, e0, n), e1, a, e2, b),
+      new ExpandEmbedding(createEmbedding(m), e4, a, e3, b),
+      Lists.newArrayList(0, 2), new ArrayList<>());
+
+    assertEquals(0, result.size());
+  }
+
+  @Test
+  public void testVertexIsomorphismWithDuplicateBaseVertex() throws Exception {
+    List<ExpandEmbedding> result = combine(
+      new ExpandEmbedding(createEmbedding(m, e0, n), e1, a, e2, b),
+      new ExpandEmbedding(createEmbedding(m), e4, n, e3, b),
+      Lists.newArrayList(0, 2), new ArrayList<>());
+
+    assertEquals(0, result.size());
+  }
+
+  @Test
+  public void testEdgeIsomorphismWithDuplicatePathEdge() throws Exception {
+    List<ExpandEmbedding> result = combine(
+      new ExpandEmbedding(createEmbedding(m, e0, n), e1, a, e2, b),
+      new ExpandEmbedding(createEmbedding(m), e4, c, e1, b),
+      new ArrayList<>(), Lists.newArrayList(1));
+
+    assertEquals(0, result.size());
+  }
+
+  @Test
+  public void testEdgeIsomorphismWithDuplicateBaseEdge() throws Exception {
+    List<ExpandEmbedding> result = combine(
+      new ExpandEmbedding(createEmbedding(m, e0, n), e1, a, e2, b),
+      new ExpandEmbedding(createEmbedding(m), e0, c, e3, b),
+      new ArrayList<>(), Lists.newArrayList(1));
+
+    assertEquals(0, result.size());
+  }
+
+  private List<ExpandEmbedding> combine(ExpandEmbedding forward, ExpandEmbedding backward,
+    List<Integer> distinctVertices, List<Integer> distinctEdges) throws Exception {
+    List<ExpandEmbedding> result = new ArrayList<>();
+    new CombineHalfPaths(distinctVertices, distinctEdges)
+      .join(forward, backward, new ListCollector<>(result));
+    return result;
+  }
+}
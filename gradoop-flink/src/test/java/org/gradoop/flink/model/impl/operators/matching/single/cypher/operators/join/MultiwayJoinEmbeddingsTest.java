@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEveryEmbedding;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+
+public class MultiwayJoinEmbeddingsTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+  private static GradoopId e4 = GradoopId.get();
+  private static GradoopId e5 = GradoopId.get();
+  private static GradoopId e6 = GradoopId.get();
+
+  @Test
+  public void testCloseTriangle() throws Exception {
+    // (v0)-[e0]->(v1), extended by (v1)-[x]->(c) and (c)-[y]->(v0)
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1));
+
+    DataSet<Embedding> first = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v1, e2, v3));
+
+    DataSet<Embedding> second = getExecutionEnvironment().fromElements(
+      createEmbedding(v2, e3, v0),
+      createEmbedding(v1, e4, v0));
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(left, 3,
+      Lists.newArrayList(first, second), Lists.newArrayList(3, 3),
+      Lists.newArrayList(2, 0), Lists.newArrayList(0, 2), Lists.newArrayList(2, 0));
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v2, e1, e3);
+  }
+
+  @Test
+  public void testCloseTriangleWithProperties() throws Exception {
+    Embedding l = new Embedding();
+    l.add(v0, PropertyValue.create("Alice"));
+    l.add(e0);
+    l.add(v1);
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(l);
+
+    Embedding r1 = new Embedding();
+    r1.add(v1);
+    r1.add(e1, PropertyValue.create(2014));
+    r1.add(v2);
+
+    Embedding r2 = new Embedding();
+    r2.add(v0);
+    r2.add(e3, PropertyValue.create(2015));
+    r2.add(v2);
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(left, 3,
+      Lists.newArrayList(
+        getExecutionEnvironment().fromElements(r1),
+        getExecutionEnvironment().fromElements(r2)),
+      Lists.newArrayList(3, 3),
+      Lists.newArrayList(2, 0), Lists.newArrayList(0, 0), Lists.newArrayList(2, 2));
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v2, e1, e3);
+    assertEveryEmbedding(result, embedding ->
+      assertEquals(Lists.newArrayList(
+        PropertyValue.create("Alice"),
+        PropertyValue.create(2014),
+        PropertyValue.create(2015)),
+        embedding.getProperties()));
+  }
+
+  @Test
+  public void testMinimumDegreeInputProposes() throws Exception {
+    // v0 has many neighbors in the first input, v1 only a single one in the second input
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1));
+
+    DataSet<Embedding> first = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e1, v2),
+      createEmbedding(v0, e2, v3),
+      createEmbedding(v0, e3, v1));
+
+    DataSet<Embedding> second = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e4, v3));
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(left, 3,
+      Lists.newArrayList(first, second), Lists.newArrayList(3, 3),
+      Lists.newArrayList(0, 2), Lists.newArrayList(0, 0), Lists.newArrayList(2, 2));
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v3, e2, e4);
+  }
+
+  @Test
+  public void testParallelEdges() throws Exception {
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1));
+
+    DataSet<Embedding> first = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v1, e2, v2));
+
+    DataSet<Embedding> second = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e3, v2));
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(left, 3,
+      Lists.newArrayList(first, second), Lists.newArrayList(3, 3),
+      Lists.newArrayList(2, 0), Lists.newArrayList(0, 0), Lists.newArrayList(2, 2));
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v2, e1, e3);
+    assertEmbeddingExists(result, v0, e0, v1, v2, e2, e3);
+  }
+
+  @Test
+  public void testVertexIsomorphism() throws Exception {
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1));
+
+    // both inputs lead back to v0
+    DataSet<Embedding> first = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v0),
+      createEmbedding(v1, e2, v2));
+
+    DataSet<Embedding> second = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e3, v0),
+      createEmbedding(v0, e4, v2));
+
+    List<DataSet<Embedding>> rights = Lists.newArrayList(first, second);
+
+    PhysicalOperator homomorphism = new MultiwayJoinEmbeddings(left, 3,
+      rights, Lists.newArrayList(3, 3),
+      Lists.newArrayList(2, 0), Lists.newArrayList(0, 0), Lists.newArrayList(2, 2));
+    assertEquals(2, homomorphism.evaluate().count());
+
+    PhysicalOperator isomorphism = new MultiwayJoinEmbeddings(left, 3,
+      rights, Lists.newArrayList(3, 3),
+      Lists.newArrayList(2, 0), Lists.newArrayList(0, 0), Lists.newArrayList(2, 2),
+      Lists.newArrayList(0, 2), Lists.newArrayList(), Lists.newArrayList());
+    DataSet<Embedding> result = isomorphism.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v2, e2, e4);
+  }
+
+  @Test
+  public void testEdgeIsomorphism() throws Exception {
+    // (v0)-[e0]->(v1) extended by (v1)-[x]->(c) and (v1)-[y]->(c)
+    DataSet<Embedding> left = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1));
+
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v1, e2, v2),
+      createEmbedding(v1, e5, v3),
+      createEmbedding(v1, e6, v0));
+
+    List<DataSet<Embedding>> rights = Lists.newArrayList(edges, edges);
+
+    PhysicalOperator homomorphism = new MultiwayJoinEmbeddings(left, 3,
+      rights, Lists.newArrayList(3, 3),
+      Lists.newArrayList(2, 2), Lists.newArrayList(0, 0), Lists.newArrayList(2, 2));
+    assertEquals(6, homomorphism.evaluate().count());
+
+    PhysicalOperator isomorphism = new MultiwayJoinEmbeddings(left, 3,
+      rights, Lists.newArrayList(3, 3),
+      Lists.newArrayList(2, 2), Lists.newArrayList(0, 0), Lists.newArrayList(2, 2),
+      Lists.newArrayList(), Lists.newArrayList(1), Lists.newArrayList(1));
+    DataSet<Embedding> result = isomorphism.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v2, e1, e2);
+    assertEmbeddingExists(result, v0, e0, v1, v2, e2, e1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidArguments() {
+    new MultiwayJoinEmbeddings(getExecutionEnvironment().fromElements(createEmbedding(v0)), 1,
+      Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList(),
+      Lists.newArrayList());
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SemiJoinEmbeddingsTest extends PhysicalOperatorTest {
+
+  @Test
+  public void testReduction() throws Exception {
+    List<Embedding> matching = new ArrayList<>();
+    List<Embedding> input = new ArrayList<>();
+    List<Embedding> filterInput = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      GradoopId id = GradoopId.get();
+      Embedding embedding = createEmbedding(GradoopId.get(), id);
+      input.add(embedding);
+      if (i % 10 == 0) {
+        matching.add(embedding);
+        filterInput.add(createEmbedding(id, GradoopId.get()));
+      }
+    }
+
+    List<Embedding> result = new SemiJoinEmbeddings(
+      getExecutionEnvironment().fromCollection(input),
+      getExecutionEnvironment().fromCollection(filterInput),
+      Collections.singletonList(1), Collections.singletonList(0), filterInput.size(), 0.000001)
+      .evaluate().collect();
+
+    assertEquals(matching.size(), result.size());
+    assertTrue(result.containsAll(matching));
+  }
+
+  @Test
+  public void testReductionOnMultipleColumns() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, b, c), createEmbedding(a, c, b), createEmbedding(b, a, c));
+    DataSet<Embedding> filterInput = getExecutionEnvironment().fromElements(
+      createEmbedding(c, a), createEmbedding(c, b));
+
+    List<Embedding> result = new SemiJoinEmbeddings(input, filterInput,
+      Lists.newArrayList(0, 2), Lists.newArrayList(1, 0), 2, 0.000001)
+      .evaluate().collect();
+
+    assertEquals(2, result.size());
+    assertTrue(result.contains(createEmbedding(a, b, c)));
+    assertTrue(result.contains(createEmbedding(b, a, c)));
+  }
+
+  @Test
+  public void testEmptyFilterInput() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment()
+      .fromElements(createEmbedding(GradoopId.get()));
+    DataSet<Embedding> filterInput = input.filter(embedding -> false);
+
+    assertEquals(0, new SemiJoinEmbeddings(input, filterInput,
+      Collections.singletonList(0), Collections.singletonList(0), 1).evaluate().count());
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import com.google.common.collect.Lists;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class EmbeddingCacheKeyTest {
+
+  private final Object graph = new Object();
+
+  private final List<String> noKeys = new ArrayList<>();
+
+  @Test
+  public void testVariableIndependence() {
+    EmbeddingCacheKey first = EmbeddingCacheKey.forVertices(graph, "Person", "a",
+      predicate("MATCH (a:Person) WHERE a.age > 20 AND a.name = \"Alice\"", "a"), noKeys);
+    EmbeddingCacheKey second = EmbeddingCacheKey.forVertices(graph, "Person", "b",
+      predicate("MATCH (b:Person) WHERE b.name = \"Alice\" AND b.age > 20", "b"), noKeys);
+
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  @Test
+  public void testDifferentPredicates() {
+    EmbeddingCacheKey first = EmbeddingCacheKey.forVertices(graph, "Person", "a",
+      predicate("MATCH (a:Person) WHERE a.age > 20", "a"), noKeys);
+
+    assertNotEquals(first, EmbeddingCacheKey.forVertices(graph, "Person", "a",
+      predicate("MATCH (a:Person) WHERE a.age > 21", "a"), noKeys));
+    assertNotEquals(first, EmbeddingCacheKey.forVertices(graph, "Person", "a",
+      predicate("MATCH (a:Person) WHERE a.age < 20", "a"), noKeys));
+    assertNotEquals(first, EmbeddingCacheKey.forVertices(graph, "Person", "a",
+      predicate("MATCH (a:Person) WHERE a.size > 20", "a"), noKeys));
+    assertNotEquals(first, EmbeddingCacheKey.forVertices(graph, "Person", "a",
+      predicate("MATCH (a:Person) WHERE a.age > 20.0", "a"), noKeys));
+  }
+
+  @Test
+  public void testDifferentElements() {
+    CNF predicate = predicate("MATCH (a:Person) WHERE a.age > 20", "a");
+    EmbeddingCacheKey key = EmbeddingCacheKey.forVertices(graph, "Person", "a", predicate, noKeys);
+
+    assertNotEquals(key,
+      EmbeddingCacheKey.forVertices(new Object(), "Person", "a", predicate, noKeys));
+    assertNotEquals(key, EmbeddingCacheKey.forVertices(graph, "Tag", "a", predicate, noKeys));
+    assertNotEquals(key,
+      EmbeddingCacheKey.forEdges(graph, "Person", "a", predicate, noKeys, false));
+    assertNotEquals(EmbeddingCacheKey.forEdges(graph, "knows", "a", predicate, noKeys, false),
+      EmbeddingCacheKey.forEdges(graph, "knows", "a", predicate, noKeys, true));
+  }
+
+  @Test
+  public void testProjectionKeys() {
+    CNF predicate = new CNF();
+
+    assertEquals(
+      EmbeddingCacheKey.forVertices(graph, "Person", "a", predicate, Lists.newArrayList("x", "y")),
+      EmbeddingCacheKey.forVertices(graph, "Person", "b", predicate, Lists.newArrayList("x", "y")));
+    assertNotEquals(
+      EmbeddingCacheKey.forVertices(graph, "Person", "a", predicate, Lists.newArrayList("x", "y")),
+      EmbeddingCacheKey.forVertices(graph, "Person", "a", predicate, Lists.newArrayList("y", "x")));
+  }
+
+  @Test
+  public void testPredicateWithOtherVariables() {
+    CNF predicate = new QueryHandler("MATCH (a)-->(b) WHERE a.age > b.age").getPredicates();
+
+    assertNull(EmbeddingCacheKey.forVertices(graph, "Person", "a", predicate, noKeys));
+  }
+
+  private static CNF predicate(String query, String variable) {
+    return new QueryHandler(query).getPredicates().getSubCNF(variable);
+  }
+}
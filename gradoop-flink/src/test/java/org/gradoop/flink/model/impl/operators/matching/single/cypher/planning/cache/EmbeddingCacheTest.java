@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EmbeddingCacheTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testHitAndMiss() {
+    EmbeddingCache cache = new EmbeddingCache();
+    DataSet<Embedding> embeddings = getExecutionEnvironment()
+      .fromElements(createEmbedding(GradoopId.get()));
+
+    assertSame(embeddings, cache.get(key("Person"), () -> embeddings));
+    assertSame(embeddings, cache.get(key("Person"), () -> {
+      throw new AssertionError("Cached embeddings are loaded again");
+    }));
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEviction() {
+    EmbeddingCache cache = new EmbeddingCache(2);
+    DataSet<Embedding> embeddings = getExecutionEnvironment()
+      .fromElements(createEmbedding(GradoopId.get()));
+
+    cache.get(key("A"), () -> embeddings);
+    cache.get(key("B"), () -> embeddings);
+    cache.get(key("A"), () -> embeddings);
+    cache.get(key("C"), () -> embeddings);
+
+    assertEquals(2, cache.size());
+    assertTrue(cache.contains(key("A")));
+    assertFalse(cache.contains(key("B")));
+    assertTrue(cache.contains(key("C")));
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity() {
+    new EmbeddingCache(0);
+  }
+
+  @Test
+  public void testSharedLeavesWithinQuery() throws Exception {
+    LogicalGraph socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    EmbeddingCache cache = new EmbeddingCache();
+
+    new GreedyPlanner(socialNetwork,
+      new QueryHandler("MATCH (a:Person)-[:knows]->(b:Person)"), new GraphStatistics(1, 1, 1, 1),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, cache)
+      .plan().getQueryPlan().execute();
+
+    // both vertex leaves are equal
+    assertEquals(2, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void testSharedLeavesAcrossQueries() throws Exception {
+    LogicalGraph socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    EmbeddingCache cache = new EmbeddingCache(16, temporaryFolder.getRoot().getPath());
+
+    GraphCollection first = socialNetwork.callForCollection(
+      cypher("MATCH (a:Person)-[e:knows]->(b:Person) WHERE a.age > 30", cache));
+    GraphCollection expected = socialNetwork.callForCollection(
+      cypher("MATCH (x:Person)-[e:knows]->(y:Person) WHERE x.age > 30", null));
+    GraphCollection second = socialNetwork.callForCollection(
+      cypher("MATCH (x:Person)-[e:knows]->(y:Person) WHERE x.age > 30", cache));
+
+    collectAndAssertTrue(first.equalsByGraphElementIds(expected));
+    collectAndAssertTrue(second.equalsByGraphElementIds(expected));
+    assertEquals(3, cache.getMissCount());
+    assertEquals(3, cache.getHitCount());
+  }
+
+  @Test
+  public void testSpill() throws Exception {
+    File spillDirectory = temporaryFolder.getRoot();
+    EmbeddingCache cache = new EmbeddingCache(1, spillDirectory.getPath());
+    List<Embedding> expected = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      expected.add(createEmbedding(GradoopId.get(), GradoopId.get()));
+    }
+    DataSet<Embedding> embeddings = getExecutionEnvironment().fromCollection(expected);
+
+    // nothing is executed while planning
+    assertSame(embeddings, cache.get(key("Person"), () -> embeddings));
+    assertEquals(0, spillDirectory.list().length);
+
+    // the spill file is written by the next program
+    List<Embedding> result = embeddings.collect();
+    assertEquals(expected.size(), result.size());
+    assertEquals(1, spillDirectory.list().length);
+
+    DataSet<Embedding> spilled = cache.get(key("Person"), () -> {
+      throw new AssertionError("Cached embeddings are loaded again");
+    });
+    assertNotSame(embeddings, spilled);
+
+    // evicts the first entry, its spill file is still read by the pending plan
+    DataSet<Embedding> other =
+      cache.get(key("Tag"), () -> getExecutionEnvironment().fromCollection(expected));
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(1, spillDirectory.list().length);
+
+    result = spilled.union(other).collect();
+    assertEquals(2 * expected.size(), result.size());
+    assertTrue(result.containsAll(expected));
+    assertEquals(2, spillDirectory.list().length);
+
+    // the evicted spill file is deleted once the plan has run
+    cache.get(key("Tag"), () -> {
+      throw new AssertionError("Cached embeddings are loaded again");
+    });
+    assertEquals(1, spillDirectory.list().length);
+
+    cache.clear();
+    assertEquals(0, spillDirectory.list().length);
+  }
+
+  private CypherPatternMatching cypher(String query, EmbeddingCache cache) {
+    return new CypherPatternMatching(query, null, true, MatchStrategy.ISOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1), PlannerStrategy.GREEDY, cache);
+  }
+
+  private static EmbeddingCacheKey key(String label) {
+    return EmbeddingCacheKey.forVertices(EmbeddingCacheTest.class, label, "a", new CNF(),
+      Collections.emptyList());
+  }
+}
@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
 
 public class FilterEstimatorTest extends EstimatorTestBase {
 
@@ -87,4 +88,64 @@ public class FilterEstimatorTest extends EstimatorTestBase {
     assertThat(elementEstimator.getCardinality(), is(10L));
     assertThat(elementEstimator.getSelectivity(), is(1d));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testVertexWithRangePredicate() throws Exception {
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.age > 30", 0.6);
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.age <= 30", 0.4);
+    assertVertexSelectivity("MATCH (n:Person) WHERE 30 < n.age", 0.6);
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.age < 10", 0d);
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.age >= 10", 1d);
+  }
+
+  @Test
+  public void testVertexWithEqualityPredicate() throws Exception {
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.city = \"Dresden\"", 0.5);
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.city <> \"Dresden\"", 0.5);
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.city = \"Munich\"", 0d);
+  }
+
+  @Test
+  public void testVertexWithConjunctionAndDisjunction() throws Exception {
+    assertVertexSelectivity(
+      "MATCH (n:Person) WHERE n.city = \"Dresden\" OR n.city = \"Berlin\"", 1d - 0.5 * 5 / 6);
+    assertVertexSelectivity(
+      "MATCH (n:Person) WHERE n.city = \"Dresden\" AND n.age > 30", 0.5 * 0.6);
+  }
+
+  @Test
+  public void testVertexWithoutStatistics() throws Exception {
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.foo = 23", 1d);
+    assertVertexSelectivity("MATCH (n:Person) WHERE n.city > 23", 1d);
+    assertVertexSelectivity("MATCH (n) WHERE n.age > 30", 1d);
+  }
+
+  @Test
+  public void testEdgeWithPredicates() throws Exception {
+    String query = "MATCH (n)-[e:knows]->(m) WHERE e.since = 2014 AND e.since < 2015";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(10L));
+    // since = 2014 -> 4 / 10, since < 2015 -> 7 / 9 buckets
+    assertEquals(0.4 * 7 / 9, elementEstimator.getSelectivity(), 1e-9);
+  }
+
+  private void assertVertexSelectivity(String query, double expectedSelectivity) {
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertEquals(expectedSelectivity, elementEstimator.getSelectivity(), 1e-9);
+  }
+}
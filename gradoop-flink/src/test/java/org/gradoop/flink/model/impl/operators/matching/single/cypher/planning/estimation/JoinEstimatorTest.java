@@ -25,6 +25,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.MultiwayJoinEmbeddingsNode;
 
 import org.junit.Test;
 
@@ -251,4 +252,49 @@ public class JoinEstimatorTest extends EstimatorTestBase {
 
     assertThat(estimator.getCardinality(), is(30L));
   }
+
+  @Test
+  public void testMultiwayJoin() throws Exception {
+    String query = "MATCH (a:Person)-[e1:knows]->(b:Person)-[e2:knows]->(c:Person)" +
+      "<-[e3:knows]-(a)";
+
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    LeafNode aNode = new FilterAndProjectVerticesNode(null, "a",
+      queryHandler.getPredicates().getSubCNF("a"), Sets.newHashSet());
+    LeafNode e1Node = new FilterAndProjectEdgesNode(null,
+      "a", "e1", "b",
+      queryHandler.getPredicates().getSubCNF("e1"), Sets.newHashSet(), false);
+    LeafNode e2Node = new FilterAndProjectEdgesNode(null,
+      "b", "e2", "c",
+      queryHandler.getPredicates().getSubCNF("e2"), Sets.newHashSet(), false);
+    LeafNode e3Node = new FilterAndProjectEdgesNode(null,
+      "a", "e3", "c",
+      queryHandler.getPredicates().getSubCNF("e3"), Sets.newHashSet(), false);
+
+    JoinEmbeddingsNode ae1Join = new JoinEmbeddingsNode(aNode, e1Node, Lists.newArrayList("a"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    // binary joins
+    JoinEmbeddingsNode e2Join = new JoinEmbeddingsNode(ae1Join, e2Node, Lists.newArrayList("b"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode e3Join = new JoinEmbeddingsNode(e2Join, e3Node,
+      Lists.newArrayList("a", "c"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    JoinEstimator binaryEstimator = new JoinEstimator(queryHandler, STATS);
+    binaryEstimator.visit(ae1Join);
+    binaryEstimator.visit(e2Join);
+    binaryEstimator.visit(e3Join);
+
+    // multiway join
+    MultiwayJoinEmbeddingsNode multiwayJoin = new MultiwayJoinEmbeddingsNode(ae1Join,
+      Lists.newArrayList(e2Node, e3Node), "c",
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    JoinEstimator multiwayEstimator = new JoinEstimator(queryHandler, STATS);
+    multiwayEstimator.visit(ae1Join);
+    multiwayEstimator.visit(multiwayJoin);
+
+    assertThat(multiwayEstimator.getCardinality(), is(binaryEstimator.getCardinality()));
+  }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import com.google.common.collect.Lists;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode.SemiJoinReduction;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BasePlannerTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testChooseSemiJoinReduction() {
+    assertEquals(SemiJoinReduction.LEFT, BasePlanner.chooseSemiJoinReduction(1000, 10, 5));
+    assertEquals(SemiJoinReduction.RIGHT, BasePlanner.chooseSemiJoinReduction(10, 1000, 5));
+    assertEquals(SemiJoinReduction.LEFT, BasePlanner.chooseSemiJoinReduction(1000, 10, 0));
+    // most embeddings of the larger input have a join partner
+    assertEquals(SemiJoinReduction.NONE, BasePlanner.chooseSemiJoinReduction(1000, 10, 900));
+    // the larger input is not reduced by more than the size of the smaller input
+    assertEquals(SemiJoinReduction.NONE, BasePlanner.chooseSemiJoinReduction(100, 90, 10));
+    assertEquals(SemiJoinReduction.NONE, BasePlanner.chooseSemiJoinReduction(0, 0, 0));
+  }
+
+  @Test
+  public void testSemiJoinReduction() throws Exception {
+    LogicalGraph socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(BasePlannerTest.class
+      .getResource("/data/json/sna/statistics").getFile());
+    List<String> queries = Lists.newArrayList(
+      "MATCH (a:Person)-[:knows]->(b:Person)-[:hasInterest]->(t:Tag)",
+      "MATCH (f:Forum)-[:hasMember]->(p:Person)-[:hasInterest]->(t:Tag)",
+      "MATCH (t:Tag)<-[:hasTag]-(f:Forum)-[:hasModerator]->(p:Person)-[:knows]->(q:Person)",
+      "MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person) WHERE a.age > c.age");
+
+    int reducedJoins = 0;
+    for (String query : queries) {
+      reducedJoins += countReducedJoins(
+        plan(socialNetwork, statistics, query, true).getRoot());
+      assertEquals(0, countReducedJoins(
+        plan(socialNetwork, statistics, query, false).getRoot()));
+
+      GraphCollection expected = socialNetwork.callForCollection(new CypherPatternMatching(
+        query, null, true, MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, statistics,
+        PlannerStrategy.GREEDY, null, false));
+      GraphCollection result = socialNetwork.callForCollection(new CypherPatternMatching(
+        query, null, true, MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM, statistics,
+        PlannerStrategy.GREEDY, null, true));
+      collectAndAssertTrue(result.equalsByGraphElementData(expected));
+    }
+    assertTrue(reducedJoins > 0);
+  }
+
+  private QueryPlan plan(LogicalGraph graph, GraphStatistics statistics, String query,
+    boolean semiJoinReduction) {
+    GreedyPlanner planner = new GreedyPlanner(graph, new QueryHandler(query), statistics,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM);
+    planner.setSemiJoinReduction(semiJoinReduction);
+    return planner.plan().getQueryPlan();
+  }
+
+  private int countReducedJoins(PlanNode node) {
+    return (int) new QueryPlan(node).getNodes().stream()
+      .filter(n -> n instanceof JoinEmbeddingsNode)
+      .filter(n -> ((JoinEmbeddingsNode) n).getSemiJoinReduction() != SemiJoinReduction.NONE)
+      .count();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamicprogramming;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.MultiwayJoinEmbeddingsNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DynamicProgrammingPlannerTest extends GradoopFlinkTestBase {
+
+  private LogicalGraph socialNetwork;
+
+  private GraphStatistics socialNetworkStatistics;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getLogicalGraph();
+    String path = DynamicProgrammingPlannerTest.class
+      .getResource("/data/json/sna/statistics").getFile();
+    socialNetworkStatistics = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testMatchVertex() throws Exception {
+    assertSameResult("MATCH (n:Person)");
+  }
+
+  @Test
+  public void testMatchTwoHops() throws Exception {
+    assertSameResult("MATCH (:Tag)<--()-->(:Person)");
+  }
+
+  @Test
+  public void testMatchCycle() throws Exception {
+    assertSameResult("MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)-[:knows]->(a)");
+  }
+
+  @Test
+  public void testMatchStar() throws Exception {
+    assertSameResult("MATCH (f:Forum)-[:hasMember]->(p:Person), (f)-[:hasTag]->(t:Tag), " +
+      "(p)-[:hasInterest]->(t)");
+  }
+
+  @Test
+  public void testMatchVariableLengthPath() throws Exception {
+    assertSameResult("MATCH (a:Person)-[:knows*1..3]->(b:Person)-[:hasInterest]->(t:Tag)");
+  }
+
+  @Test
+  public void testMatchWithPredicates() throws Exception {
+    assertSameResult("MATCH (a:Person)-[e:knows]->(b:Person) " +
+      "WHERE a.age > b.age AND e.since > 2013");
+  }
+
+  @Test
+  public void testMatchDisconnectedComponents() throws Exception {
+    assertSameResult("MATCH (a:Person)-[:knows]->(b:Person), (f:Forum)-[:hasTag]->(t:Tag)");
+  }
+
+  @Test
+  public void testMatchWithValueJoin() throws Exception {
+    assertSameResult("MATCH (a:Person), (b:Person) WHERE a.city = b.city");
+  }
+
+  @Test
+  public void testFallbackToGreedyPlanner() throws Exception {
+    String query = "MATCH (:Tag)<--()-->(:Person)";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    PlanTableEntry greedyEntry = new GreedyPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+    PlanTableEntry dpEntry = new DynamicProgrammingPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, 1).plan();
+
+    assertEquals(greedyEntry.toString(), dpEntry.toString());
+  }
+
+  @Test
+  public void testMultiwayJoinForCycle() throws Exception {
+    String query = "MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)<-[:knows]-(a)";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    PlanTableEntry greedyEntry = new GreedyPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+    PlanTableEntry dpEntry = new DynamicProgrammingPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertTrue(containsNode(greedyEntry.getQueryPlan().getRoot(),
+      MultiwayJoinEmbeddingsNode.class));
+    assertTrue(containsNode(dpEntry.getQueryPlan().getRoot(), MultiwayJoinEmbeddingsNode.class));
+    assertEquals(4, greedyEntry.getQueryPlan().execute().count());
+    assertEquals(4, dpEntry.getQueryPlan().execute().count());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMaxLeaves() {
+    new DynamicProgrammingPlanner(socialNetwork, new QueryHandler("MATCH (a)"),
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, 0);
+  }
+
+  /**
+   * Checks if the specified plan contains a node of the given type.
+   *
+   * @param node root of the plan
+   * @param type node type
+   * @return true, iff the plan contains a node of the given type
+   */
+  private boolean containsNode(PlanNode node, Class<? extends PlanNode> type) {
+    if (type.isInstance(node)) {
+      return true;
+    }
+    if (node instanceof UnaryNode) {
+      return containsNode(((UnaryNode) node).getChildNode(), type);
+    }
+    if (node instanceof BinaryNode) {
+      return containsNode(((BinaryNode) node).getLeftChild(), type) ||
+        containsNode(((BinaryNode) node).getRightChild(), type);
+    }
+    if (node instanceof NaryNode) {
+      return ((NaryNode) node).getChildren().stream().anyMatch(child -> containsNode(child, type));
+    }
+    return false;
+  }
+
+  /**
+   * Checks that the plans computed by the greedy and the dynamic programming planner lead to the
+   * same number of embeddings.
+   *
+   * @param query cypher query
+   * @throws Exception on failure
+   */
+  private void assertSameResult(String query) throws Exception {
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    PlanTableEntry greedyEntry = new GreedyPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+    PlanTableEntry dpEntry = new DynamicProgrammingPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertEquals(dpEntry.getQueryPlan().getRoot().getEmbeddingMetaData().getVariables().size(),
+      greedyEntry.getQueryPlan().getRoot().getEmbeddingMetaData().getVariables().size());
+    assertEquals(greedyEntry.getQueryPlan().execute().count(),
+      dpEntry.getQueryPlan().execute().count());
+  }
+}
@@ -16,6 +16,7 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
@@ -228,4 +229,48 @@ public class JoinEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertEmbedding(result.get(0), asList(b, d, f), asList(PropertyValue.create(23), PropertyValue.create(77)));
     assertEmbedding(result.get(1), asList(a, c, e), asList(PropertyValue.create(42), PropertyValue.create(84)));
   }
+
+  @Test
+  public void testExecuteWithSemiJoinReduction() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e = GradoopId.get();
+
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    leftInputMetaData.setPropertyColumn("v1", "age", 0);
+
+    DataSet<Embedding> leftEmbeddings = getExecutionEnvironment().fromElements(
+      createEmbedding(singletonList(Pair.of(a, singletonList(42)))),
+      createEmbedding(singletonList(Pair.of(b, singletonList(23)))));
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    rightInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+
+    DataSet<Embedding> rightEmbeddings = getExecutionEnvironment().fromElements(
+      createEmbedding(asList(Pair.of(a, emptyList()), Pair.of(c, emptyList()),
+        Pair.of(d, emptyList()))),
+      createEmbedding(asList(Pair.of(e, emptyList()), Pair.of(c, emptyList()),
+        Pair.of(d, emptyList()))));
+
+    MockPlanNode leftChild = new MockPlanNode(leftEmbeddings, leftInputMetaData);
+    MockPlanNode rightChild = new MockPlanNode(rightEmbeddings, rightInputMetaData);
+
+    for (JoinEmbeddingsNode.SemiJoinReduction reduction :
+      JoinEmbeddingsNode.SemiJoinReduction.values()) {
+      JoinEmbeddingsNode node = new JoinEmbeddingsNode(leftChild, rightChild,
+        singletonList("v1"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM,
+        JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES, reduction, 2);
+
+      List<Embedding> result = node.execute().collect();
+
+      assertThat(node.getSemiJoinReduction(), is(reduction));
+      assertThat(result.size(), is(1));
+      assertEmbedding(result.get(0), asList(a, c, d), singletonList(PropertyValue.create(42)));
+    }
+  }
 }
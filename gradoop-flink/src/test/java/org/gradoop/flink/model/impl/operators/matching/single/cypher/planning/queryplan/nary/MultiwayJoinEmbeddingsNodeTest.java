@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.gradoop.common.GradoopTestUtils.call;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbedding;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MultiwayJoinEmbeddingsNodeTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMetaDataInitialization() throws Exception {
+    MultiwayJoinEmbeddingsNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    EmbeddingMetaData outputMetaData = node.getEmbeddingMetaData();
+
+    assertThat(outputMetaData.getEntryCount(), is(6));
+    assertThat(outputMetaData.getEntryColumn("v1"), is(0));
+    assertThat(outputMetaData.getEntryColumn("e1"), is(1));
+    assertThat(outputMetaData.getEntryColumn("v2"), is(2));
+    assertThat(outputMetaData.getEntryColumn("v3"), is(3));
+    assertThat(outputMetaData.getEntryColumn("e2"), is(4));
+    assertThat(outputMetaData.getEntryColumn("e3"), is(5));
+    assertThat(outputMetaData.getEntryType("v3"), is(EntryType.VERTEX));
+    assertThat(outputMetaData.getEntryType("e3"), is(EntryType.EDGE));
+
+    assertThat(outputMetaData.getPropertyCount(), is(3));
+    assertThat(outputMetaData.getPropertyColumn("v1", "age"), is(0));
+    assertThat(outputMetaData.getPropertyColumn("e2", "since"), is(1));
+    assertThat(outputMetaData.getPropertyColumn("e3", "since"), is(2));
+  }
+
+  @SuppressWarnings("ArraysAsListWithZeroOrOneArgument")
+  @Test
+  public void testGetColumns() throws Exception {
+    MultiwayJoinEmbeddingsNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getJoinColumnsLeft"),
+      is(asList(2, 0)));
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getJoinColumnsRight"),
+      is(asList(0, 2)));
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getExtendColumnsRight"),
+      is(asList(2, 0)));
+  }
+
+  @SuppressWarnings("ArraysAsListWithZeroOrOneArgument")
+  @Test
+  public void testGetDistinctColumnsIsomorphism() throws Exception {
+    MultiwayJoinEmbeddingsNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getDistinctVertexColumnsLeft"),
+      is(asList(0, 2)));
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getDistinctEdgeColumnsLeft"),
+      is(asList(1)));
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getDistinctEdgeColumnsRight"),
+      is(asList(1)));
+  }
+
+  @Test
+  public void testGetDistinctColumnsHomomorphism() throws Exception {
+    MultiwayJoinEmbeddingsNode node = createTriangleNode(null, null, null,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM);
+
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getDistinctVertexColumnsLeft"),
+      is(emptyList()));
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getDistinctEdgeColumnsLeft"),
+      is(emptyList()));
+    assertThat(call(MultiwayJoinEmbeddingsNode.class, node, "getDistinctEdgeColumnsRight"),
+      is(emptyList()));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    GradoopId v1 = GradoopId.get();
+    GradoopId v2 = GradoopId.get();
+    GradoopId v3 = GradoopId.get();
+    GradoopId v4 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+    GradoopId e3 = GradoopId.get();
+    GradoopId e4 = GradoopId.get();
+    GradoopId e5 = GradoopId.get();
+
+    Embedding left = new Embedding();
+    left.add(v1, PropertyValue.create(42));
+    left.add(e1);
+    left.add(v2);
+
+    // (v2)-[e2]->(v3)
+    Embedding first1 = new Embedding();
+    first1.add(v2);
+    first1.add(e2, PropertyValue.create(2013));
+    first1.add(v3);
+    // (v2)-[e4]->(v4)
+    Embedding first2 = new Embedding();
+    first2.add(v2);
+    first2.add(e4, PropertyValue.create(2014));
+    first2.add(v4);
+
+    // (v3)-[e3]->(v1)
+    Embedding second1 = new Embedding();
+    second1.add(v3);
+    second1.add(e3, PropertyValue.create(2015));
+    second1.add(v1);
+    // (v4)-[e5]->(v2)
+    Embedding second2 = new Embedding();
+    second2.add(v4);
+    second2.add(e5, PropertyValue.create(2016));
+    second2.add(v2);
+
+    MultiwayJoinEmbeddingsNode node = createTriangleNode(
+      getExecutionEnvironment().fromElements(left),
+      getExecutionEnvironment().fromElements(first1, first2),
+      getExecutionEnvironment().fromElements(second1, second2),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = node.execute().collect();
+
+    assertThat(result.size(), is(1));
+    assertEmbedding(result.get(0), asList(v1, e1, v2, v3, e2, e3),
+      asList(PropertyValue.create(42), PropertyValue.create(2013), PropertyValue.create(2015)));
+  }
+
+  /**
+   * Creates a node that closes the triangle (v1)-[e1]->(v2)-[e2]->(v3)-[e3]->(v1).
+   *
+   * @param left left input embeddings
+   * @param first embeddings of e2
+   * @param second embeddings of e3
+   * @param vertexStrategy vertex morphism setting
+   * @param edgeStrategy edge morphism setting
+   * @return multiway join node
+   */
+  private MultiwayJoinEmbeddingsNode createTriangleNode(DataSet<Embedding> left,
+    DataSet<Embedding> first, DataSet<Embedding> second,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    leftInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    leftInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+    leftInputMetaData.setPropertyColumn("v1", "age", 0);
+
+    EmbeddingMetaData firstInputMetaData = new EmbeddingMetaData();
+    firstInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 0);
+    firstInputMetaData.setEntryColumn("e2", EntryType.EDGE, 1);
+    firstInputMetaData.setEntryColumn("v3", EntryType.VERTEX, 2);
+    firstInputMetaData.setPropertyColumn("e2", "since", 0);
+
+    EmbeddingMetaData secondInputMetaData = new EmbeddingMetaData();
+    secondInputMetaData.setEntryColumn("v3", EntryType.VERTEX, 0);
+    secondInputMetaData.setEntryColumn("e3", EntryType.EDGE, 1);
+    secondInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 2);
+    secondInputMetaData.setPropertyColumn("e3", "since", 0);
+
+    PlanNode leftChild = new MockPlanNode(left, leftInputMetaData);
+    PlanNode firstChild = new MockPlanNode(first, firstInputMetaData);
+    PlanNode secondChild = new MockPlanNode(second, secondInputMetaData);
+
+    return new MultiwayJoinEmbeddingsNode(leftChild, asList(firstChild, secondChild), "v3",
+      vertexStrategy, edgeStrategy);
+  }
+}
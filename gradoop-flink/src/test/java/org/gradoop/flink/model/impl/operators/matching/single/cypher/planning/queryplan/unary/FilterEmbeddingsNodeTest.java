@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.q
 import com.google.common.collect.Sets;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
@@ -25,13 +26,24 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.C
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.EmbeddingCacheKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -84,4 +96,43 @@ public class FilterEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertTrue(result.get(0).getProperty(0).equals(PropertyValue.create(42)));
     assertTrue(result.get(0).getProperty(1).equals(PropertyValue.create(23)));
   }
+
+  @Test
+  public void testSignature() {
+    String query = "MATCH (a) WHERE a.age = 42";
+
+    assertEquals(filterNode(query).getSignature(), filterNode(query).getSignature());
+    assertNotEquals(filterNode(query).getSignature(),
+      filterNode("MATCH (a) WHERE a.age = 23").getSignature());
+    assertNotEquals(filterNode(query).getSignature(),
+      filterNode("MATCH (a) WHERE a.age = \"42\"").getSignature());
+    assertNull(new FilterEmbeddingsNode(new MockPlanNode(null, new EmbeddingMetaData()),
+      new CNF()).getSignature());
+  }
+
+  @Test
+  public void testSharedEmbeddings() {
+    String query = "MATCH (a) WHERE a.age = 42";
+    PlanNode first = filterNode(query);
+    PlanNode second = filterNode(query);
+
+    assertNotSame(first.execute(), second.execute());
+
+    Map<String, DataSet<Embedding>> sharedEmbeddings = new HashMap<>();
+    first.setSharedEmbeddings(sharedEmbeddings);
+    second.setSharedEmbeddings(sharedEmbeddings);
+
+    assertSame(first.execute(), second.execute());
+    assertEquals(1, sharedEmbeddings.size());
+  }
+
+  private FilterEmbeddingsNode filterNode(String query) {
+    CNF predicate = new QueryHandler(query).getPredicates();
+    DataSet<Vertex> vertices = getExecutionEnvironment()
+      .fromElements(getConfig().getVertexFactory().createVertex());
+    PlanNode leaf = new FilterAndProjectVerticesNode(vertices, "a", new CNF(),
+      new HashSet<>(), null, EmbeddingCacheKey.forVertices(vertices, "", "a", new CNF(),
+      new ArrayList<>()));
+    return new FilterEmbeddingsNode(leaf, predicate);
+  }
 }
@@ -17,19 +17,26 @@ package org.gradoop.flink.model.impl.operators.statistics;
 
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple4;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.layouts.columnar.ColumnarCollectionLayoutFactory;
+import org.gradoop.flink.model.impl.layouts.columnar.ColumnarGraphLayoutFactory;
 import org.gradoop.flink.model.impl.tuples.WithCount;
+import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public class StatisticsTest extends GradoopFlinkTestBase {
 
@@ -118,6 +125,23 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(dist.get(6L), is(4));
   }
 
+  @Test
+  public void testVertexDegreesOnColumnarLayout() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    GradoopFlinkConfig config = GradoopFlinkConfig.createConfig(getExecutionEnvironment(),
+      new ColumnarGraphLayoutFactory(4), new ColumnarCollectionLayoutFactory(4));
+    LogicalGraph columnarDb = config.getLogicalGraphFactory()
+      .fromDataSets(db.getGraphHead(), db.getVertices(), db.getEdges());
+
+    assertTrue(columnarDb.isColumnarLayout());
+
+    List<WithCount<GradoopId>> expected = new VertexDegrees().execute(db).collect();
+    List<WithCount<GradoopId>> result = new VertexDegrees().execute(columnarDb).collect();
+
+    assertEquals(new HashSet<>(expected), new HashSet<>(result));
+  }
+
   @Test
   public void testOutgoingVertexDegrees() throws Exception {
     LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
@@ -408,4 +432,81 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("locIP"), is(1L));
     assertThat(cache.get("title"), is(2L));
   }
+
+  @Test
+  public void testVertexPropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    List<Tuple4<String, String, Long, double[]>> result =
+      new VertexPropertyHistogramsByLabel()
+        .execute(db)
+        .collect();
+
+    // only Person.age is numeric
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0).f0, is("Person"));
+    assertThat(result.get(0).f1, is("age"));
+    assertThat(result.get(0).f2, is(6L));
+    assertArrayEquals(new double[] {20d, 30d, 30d, 35d, 35d, 40d}, result.get(0).f3, 0d);
+
+    result = new VertexPropertyHistogramsByLabel(2)
+      .execute(db)
+      .collect();
+
+    assertArrayEquals(new double[] {20d, 35d, 40d}, result.get(0).f3, 0d);
+  }
+
+  @Test
+  public void testEdgePropertyHistogramsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    Map<String, Tuple4<String, String, Long, double[]>> cache = new HashMap<>();
+    new EdgePropertyHistogramsByLabel(3)
+      .execute(db)
+      .collect()
+      .forEach(e -> cache.put(e.f0, e));
+
+    assertThat(cache.size(), is(2));
+    assertThat(cache.get("knows").f2, is(10L));
+    assertArrayEquals(new double[] {2013d, 2014d, 2014d, 2015d}, cache.get("knows").f3, 0d);
+    assertThat(cache.get("hasModerator").f2, is(1L));
+    assertArrayEquals(new double[] {2013d, 2013d}, cache.get("hasModerator").f3, 0d);
+  }
+
+  @Test
+  public void testVertexMostCommonPropertyValuesByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    Map<Tuple2<String, String>, Long> cache = new HashMap<>();
+    new VertexMostCommonPropertyValuesByLabel(2)
+      .execute(db)
+      .collect()
+      .forEach(e -> cache.put(Tuple2.of(e.f1, e.f3), e.f2));
+
+    assertThat(cache.get(Tuple2.of("city", "Dresden")), is(3L));
+    assertThat(cache.get(Tuple2.of("city", "Leipzig")), is(2L));
+    assertThat(cache.containsKey(Tuple2.of("city", "Berlin")), is(false));
+    assertThat(cache.get(Tuple2.of("gender", "f")), is(3L));
+    assertThat(cache.get(Tuple2.of("gender", "m")), is(3L));
+    assertThat(cache.get(Tuple2.of("age", "30")), is(2L));
+    assertThat(cache.get(Tuple2.of("age", "35")), is(2L));
+  }
+
+  @Test
+  public void testEdgeMostCommonPropertyValuesByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+
+    List<Tuple4<String, String, Long, String>> result =
+      new EdgeMostCommonPropertyValuesByLabel(1)
+        .execute(db)
+        .collect();
+
+    Map<String, Tuple4<String, String, Long, String>> cache = new HashMap<>();
+    result.forEach(e -> cache.put(e.f0, e));
+
+    assertThat(result.size(), is(2));
+    assertThat(cache.get("knows").f3, is("2014"));
+    assertThat(cache.get("knows").f2, is(4L));
+    assertThat(cache.get("hasModerator").f3, is("2013"));
+  }
 }
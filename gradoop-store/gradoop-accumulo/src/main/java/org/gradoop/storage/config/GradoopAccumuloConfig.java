@@ -68,6 +68,22 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
    */
   public static final String GRADOOP_BATCH_SCANNER_THREADS = "gradoop.batch.scanner.threads";
 
+  /**
+   * gradoop number of salt buckets row ids are distributed over, default 0 (no salting)
+   */
+  public static final String GRADOOP_SALT_BUCKETS = "gradoop.salt.buckets";
+
+  /**
+   * gradoop flag to maintain label and property index tables, default false
+   */
+  public static final String GRADOOP_INDEX_ENABLED = "gradoop.index.enabled";
+
+  /**
+   * gradoop maximum number of index hits of a query, queries matching more elements scan the
+   * element table instead, default 10000
+   */
+  public static final String GRADOOP_INDEX_MAX_HITS = "gradoop.index.max.hits";
+
   /**
    * zookeeper hosts, default "localhost:2181"
    */
@@ -224,6 +240,33 @@ public class GradoopAccumuloConfig implements GradoopStoreConfig {
     return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.GRAPH;
   }
 
+  /**
+   * Get edge index table name
+   *
+   * @return edge index table name
+   */
+  public String getEdgeIndexTable() {
+    return getEdgeTable() + AccumuloTables.INDEX_SUFFIX;
+  }
+
+  /**
+   * Get vertex index table name
+   *
+   * @return vertex index table name
+   */
+  public String getVertexIndexTable() {
+    return getVertexTable() + AccumuloTables.INDEX_SUFFIX;
+  }
+
+  /**
+   * Get graph head index table name
+   *
+   * @return graph head index table name
+   */
+  public String getGraphHeadIndexTable() {
+    return getGraphHeadTable() + AccumuloTables.INDEX_SUFFIX;
+  }
+
   @Override
   public String toString() {
     return accumuloProperties.toString();
@@ -58,6 +58,8 @@ import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopEdgeIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopGraphHeadIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopVertexIterator;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.utils.AccumuloIndexes;
+import org.gradoop.storage.utils.AccumuloRowKeys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,6 +68,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -114,11 +117,41 @@ public class AccumuloEPGMStore implements
    */
   private final BatchWriter edgeWriter;
 
+  /**
+   * batch writer for epgm graph head index table, null if indexes are disabled
+   */
+  private final BatchWriter graphIndexWriter;
+
+  /**
+   * batch writer for epgm vertex index table, null if indexes are disabled
+   */
+  private final BatchWriter vertexIndexWriter;
+
+  /**
+   * batch writer for epgm edge index table, null if indexes are disabled
+   */
+  private final BatchWriter edgeIndexWriter;
+
   /**
    * auto flush flag, default false
    */
   private volatile boolean autoFlush;
 
+  /**
+   * salt bucket count of the element table row ids, 0 if not salted
+   */
+  private final int saltBuckets;
+
+  /**
+   * secondary index flag, label and property index tables are maintained if true
+   */
+  private final boolean indexEnabled;
+
+  /**
+   * maximum number of index hits of a query, larger results are scanned
+   */
+  private final int indexMaxHits;
+
   /**
    * Creates an AccumuloEPGMStore based on the given parameters.
    * Tables with given prefix will be auto-create if not exists
@@ -133,12 +166,25 @@ public class AccumuloEPGMStore implements
   public AccumuloEPGMStore(@Nonnull GradoopAccumuloConfig config)
     throws AccumuloSecurityException, AccumuloException {
     this.config = config;
+    this.saltBuckets =
+      config.get(GradoopAccumuloConfig.GRADOOP_SALT_BUCKETS, AccumuloDefault.SALT_BUCKETS);
+    AccumuloRowKeys.checkSaltBuckets(saltBuckets);
+    this.indexEnabled =
+      config.get(GradoopAccumuloConfig.GRADOOP_INDEX_ENABLED, AccumuloDefault.INDEX_ENABLED);
+    this.indexMaxHits =
+      config.get(GradoopAccumuloConfig.GRADOOP_INDEX_MAX_HITS, AccumuloDefault.INDEX_MAX_HITS);
     this.conn = createConnector();
     createTablesIfNotExists();
     try {
       graphWriter = conn.createBatchWriter(getGraphHeadName(), new BatchWriterConfig());
       vertexWriter = conn.createBatchWriter(getVertexTableName(), new BatchWriterConfig());
       edgeWriter = conn.createBatchWriter(getEdgeTableName(), new BatchWriterConfig());
+      graphIndexWriter = !indexEnabled ? null :
+        conn.createBatchWriter(config.getGraphHeadIndexTable(), new BatchWriterConfig());
+      vertexIndexWriter = !indexEnabled ? null :
+        conn.createBatchWriter(config.getVertexIndexTable(), new BatchWriterConfig());
+      edgeIndexWriter = !indexEnabled ? null :
+        conn.createBatchWriter(config.getEdgeIndexTable(), new BatchWriterConfig());
     } catch (TableNotFoundException e) {
       throw new IllegalStateException(e); //should not be here
     }
@@ -187,17 +233,17 @@ public class AccumuloEPGMStore implements
 
   @Override
   public void writeGraphHead(@Nonnull EPGMGraphHead record) {
-    writeRecord(record, graphWriter, config.getGraphHandler());
+    writeRecord(record, graphWriter, graphIndexWriter, config.getGraphHandler());
   }
 
   @Override
   public void writeVertex(@Nonnull EPGMVertex record) {
-    writeRecord(record, vertexWriter, config.getVertexHandler());
+    writeRecord(record, vertexWriter, vertexIndexWriter, config.getVertexHandler());
   }
 
   @Override
   public void writeEdge(@Nonnull EPGMEdge record) {
-    writeRecord(record, edgeWriter, config.getEdgeHandler());
+    writeRecord(record, edgeWriter, edgeIndexWriter, config.getEdgeHandler());
   }
 
   @Override
@@ -211,6 +257,11 @@ public class AccumuloEPGMStore implements
       graphWriter.flush();
       vertexWriter.flush();
       edgeWriter.flush();
+      if (indexEnabled) {
+        graphIndexWriter.flush();
+        vertexIndexWriter.flush();
+        edgeIndexWriter.flush();
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -222,6 +273,11 @@ public class AccumuloEPGMStore implements
       graphWriter.close();
       vertexWriter.close();
       edgeWriter.close();
+      if (indexEnabled) {
+        graphIndexWriter.close();
+        vertexIndexWriter.close();
+        edgeIndexWriter.close();
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -269,9 +325,8 @@ public class AccumuloEPGMStore implements
     @Nullable ElementQuery<AccumuloElementFilter<GraphHead>> query,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
+    List<Range> ranges = getScanRanges(config.getGraphHeadIndexTable(), query);
+    if (ranges != null && ranges.isEmpty()) {
       return new EmptyClosableIterator<>();
     }
 
@@ -282,7 +337,8 @@ public class AccumuloEPGMStore implements
     BatchScanner scanner = createBatchScanner(
       getGraphHeadName(),
       GradoopGraphHeadIterator.class,
-      query);
+      query,
+      ranges);
     Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
     if (!iterator.hasNext()) {
       return new EmptyClosableIterator<>();
@@ -300,9 +356,8 @@ public class AccumuloEPGMStore implements
     @Nullable ElementQuery<AccumuloElementFilter<Vertex>> query,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
+    List<Range> ranges = getScanRanges(config.getVertexIndexTable(), query);
+    if (ranges != null && ranges.isEmpty()) {
       return new EmptyClosableIterator<>();
     }
 
@@ -313,7 +368,8 @@ public class AccumuloEPGMStore implements
     BatchScanner scanner = createBatchScanner(
       getVertexTableName(),
       GradoopVertexIterator.class,
-      query);
+      query,
+      ranges);
     Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
     if (!iterator.hasNext()) {
       return new EmptyClosableIterator<>();
@@ -331,9 +387,8 @@ public class AccumuloEPGMStore implements
     @Nullable ElementQuery<AccumuloElementFilter<Edge>> query,
     int cacheSize
   ) throws IOException {
-    if (query != null &&
-      query.getQueryRanges() != null &&
-      query.getQueryRanges().isEmpty()) {
+    List<Range> ranges = getScanRanges(config.getEdgeIndexTable(), query);
+    if (ranges != null && ranges.isEmpty()) {
       return new EmptyClosableIterator<>();
     }
 
@@ -344,7 +399,8 @@ public class AccumuloEPGMStore implements
     BatchScanner scanner = createBatchScanner(
       getEdgeTableName(),
       GradoopEdgeIterator.class,
-      query);
+      query,
+      ranges);
     Iterator<Map.Entry<Key, Value>> iterator = scanner.iterator();
     if (!iterator.hasNext()) {
       return new EmptyClosableIterator<>();
@@ -359,23 +415,32 @@ public class AccumuloEPGMStore implements
   /**
    * Write an EPGM Element instance into table
    *
-   * @param record  gradoop EPGM element
-   * @param writer  accumulo batch writer
-   * @param handler accumulo row handler
-   * @param <T>     element type
+   * @param record      gradoop EPGM element
+   * @param writer      accumulo batch writer
+   * @param indexWriter accumulo batch writer of the index table, null if indexes are disabled
+   * @param handler     accumulo row handler
+   * @param <T>         element type
    */
   private <T extends EPGMElement> void writeRecord(
     @Nonnull T record,
     @Nonnull BatchWriter writer,
+    @Nullable BatchWriter indexWriter,
     @Nonnull AccumuloRowHandler handler
   ) {
-    Mutation mutation = new Mutation(record.getId().toString());
+    String rowKey = AccumuloRowKeys.getRowKey(record.getId(), saltBuckets);
+    Mutation mutation = new Mutation(rowKey);
     //noinspection unchecked
     mutation = handler.writeRow(mutation, record);
     try {
       writer.addMutation(mutation);
+      if (indexWriter != null) {
+        indexWriter.addMutations(AccumuloIndexes.getMutations(record, rowKey));
+      }
       if (autoFlush) {
         writer.flush();
+        if (indexWriter != null) {
+          indexWriter.flush();
+        }
       }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
@@ -388,6 +453,7 @@ public class AccumuloEPGMStore implements
    * @param table  table name
    * @param iterator iterator class
    * @param predicate accumulo predicate
+   * @param ranges row ranges to scan, null to scan the whole table
    * @param <T> epgm element type
    * @return batch scanner instance
    * @throws IOException if create fail
@@ -395,12 +461,14 @@ public class AccumuloEPGMStore implements
   private <T extends EPGMElement> BatchScanner createBatchScanner(
     String table,
     Class<? extends SortedKeyValueIterator<Key, Value>> iterator,
-    @Nullable ElementQuery<AccumuloElementFilter<T>> predicate
+    @Nullable ElementQuery<AccumuloElementFilter<T>> predicate,
+    @Nullable List<Range> ranges
   ) throws IOException {
     Map<String, String> options = new HashMap<>();
     if (predicate != null && predicate.getFilterPredicate() != null) {
       options.put(AccumuloTables.KEY_PREDICATE, predicate.getFilterPredicate().encode());
     }
+    options.put(AccumuloTables.KEY_SALT_BUCKETS, String.valueOf(saltBuckets));
     BatchScanner scanner;
     try {
       scanner = conn.createBatchScanner(table,
@@ -416,16 +484,7 @@ public class AccumuloEPGMStore implements
         /*iterator class*/iterator,
         /*args*/options));
 
-      if (predicate == null ||
-        predicate.getQueryRanges() == null) {
-        scanner.setRanges(Lists.newArrayList(new Range()));
-      } else {
-        scanner.setRanges(Range.mergeOverlapping(predicate.getQueryRanges()
-          .stream()
-          .map(GradoopId::toString)
-          .map(Range::exact)
-          .collect(Collectors.toList())));
-      }
+      scanner.setRanges(ranges == null ? Lists.newArrayList(new Range()) : ranges);
       return scanner;
 
     } catch (TableNotFoundException e) {
@@ -433,6 +492,52 @@ public class AccumuloEPGMStore implements
     }
   }
 
+  /**
+   * Resolve the row ranges an element query has to scan. Id queries are mapped to their row
+   * ids, label and property equality predicates are resolved by seeking the index table if
+   * indexes are enabled and the predicate matches at most
+   * {@link GradoopAccumuloConfig#GRADOOP_INDEX_MAX_HITS} elements.
+   *
+   * @param indexTable index table name of the queried element table
+   * @param predicate accumulo predicate
+   * @param <T> epgm element type
+   * @return row ranges, may be empty if nothing matches, null to scan the whole table
+   * @throws IOException if the index lookup fail
+   */
+  @Nullable
+  private <T extends EPGMElement> List<Range> getScanRanges(
+    String indexTable,
+    @Nullable ElementQuery<AccumuloElementFilter<T>> predicate
+  ) throws IOException {
+    if (predicate == null) {
+      return null;
+    }
+    if (predicate.getQueryRanges() != null) {
+      List<Range> ranges = predicate.getQueryRanges()
+        .stream()
+        .map(id -> AccumuloRowKeys.getRowKey(id, saltBuckets))
+        .map(Range::exact)
+        .collect(Collectors.toList());
+      return ranges.isEmpty() ? ranges : Range.mergeOverlapping(ranges);
+    }
+    List<Range> indexRanges = !indexEnabled || predicate.getFilterPredicate() == null ? null :
+      predicate.getFilterPredicate().getIndexRanges();
+    if (indexRanges == null) {
+      return null;
+    }
+    try {
+      return AccumuloIndexes.lookup(conn, indexTable,
+        config.get(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS,
+          AccumuloDefault.AUTHORIZATION),
+        config.get(GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
+          AccumuloDefault.BATCH_SCANNER_THREADS),
+        indexMaxHits,
+        indexRanges);
+    } catch (TableNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Create tables (and their namespaces, if defined by table prefix) if not exists
    *
@@ -455,15 +560,26 @@ public class AccumuloEPGMStore implements
         //ignore if it is exists, maybe create by another process or thread
       }
     }
-    for (String table : new String[] {
-      getVertexTableName(), getEdgeTableName(), getGraphHeadName()
-    }) {
+    List<String> tables = Lists.newArrayList(
+      getVertexTableName(), getEdgeTableName(), getGraphHeadName());
+    if (indexEnabled) {
+      tables.add(config.getVertexIndexTable());
+      tables.add(config.getEdgeIndexTable());
+      tables.add(config.getGraphHeadIndexTable());
+    }
+    for (String table : tables) {
       try {
         if (!conn.tableOperations().exists(table)) {
           conn.tableOperations().create(table);
+          if (saltBuckets > 0 && !table.endsWith(AccumuloTables.INDEX_SUFFIX)) {
+            //pre-split element table into one tablet per salt bucket, index rows are not salted
+            conn.tableOperations().addSplits(table, AccumuloRowKeys.getSplits(saltBuckets));
+          }
         }
       } catch (TableExistsException ignore) {
         //ignore if it is exists, maybe create by another process or thread
+      } catch (TableNotFoundException e) {
+        throw new IllegalStateException(e); //should not be here
       }
     }
   }
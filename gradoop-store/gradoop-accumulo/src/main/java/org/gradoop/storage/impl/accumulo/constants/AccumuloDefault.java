@@ -62,4 +62,19 @@ public class AccumuloDefault {
    */
   public static final int BATCH_SCANNER_THREADS = 10;
 
+  /**
+   * gradoop salt buckets count, row ids are not salted
+   */
+  public static final int SALT_BUCKETS = 0;
+
+  /**
+   * gradoop secondary index flag, indexes are not maintained
+   */
+  public static final boolean INDEX_ENABLED = false;
+
+  /**
+   * gradoop maximum index hits, larger results fall back to a table scan
+   */
+  public static final int INDEX_MAX_HITS = 10000;
+
 }
@@ -35,11 +35,21 @@ public class AccumuloTables {
    */
   public static final String GRAPH = "graph";
 
+  /**
+   * gradoop secondary index table name suffix, appended to the element table name
+   */
+  public static final String INDEX_SUFFIX = "_index";
+
   /**
    * gradoop predicate options key
    */
   public static final String KEY_PREDICATE = "__filter__";
 
+  /**
+   * gradoop salt buckets options key
+   */
+  public static final String KEY_SALT_BUCKETS = "__salt__";
+
   /**
    * cf or cq constants key
    */
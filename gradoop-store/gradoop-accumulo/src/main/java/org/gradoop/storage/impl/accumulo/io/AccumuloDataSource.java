@@ -26,7 +26,9 @@ import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.common.io.FilterableDataSource;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.storage.impl.accumulo.AccumuloEPGMStore;
+import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
 import org.gradoop.storage.impl.accumulo.io.inputformats.EdgeInputFormat;
 import org.gradoop.storage.impl.accumulo.io.inputformats.GraphHeadInputFormat;
 import org.gradoop.storage.impl.accumulo.io.inputformats.VertexInputFormat;
@@ -121,7 +123,8 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
   public AccumuloDataSource applyGraphPredicate(
     @Nonnull ElementQuery<AccumuloElementFilter<GraphHead>> query
   ) {
-    AccumuloQueryHolder<GraphHead> newGraphQuery = AccumuloQueryHolder.create(query);
+    AccumuloQueryHolder<GraphHead> newGraphQuery =
+      AccumuloQueryHolder.create(query, getSaltBuckets());
     return new AccumuloDataSource(
       getStore(),
       getFlinkConfig(),
@@ -136,7 +139,8 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
   public AccumuloDataSource applyVertexPredicate(
     @Nonnull ElementQuery<AccumuloElementFilter<Vertex>> query
   ) {
-    AccumuloQueryHolder<Vertex> newVertexQuery = AccumuloQueryHolder.create(query);
+    AccumuloQueryHolder<Vertex> newVertexQuery =
+      AccumuloQueryHolder.create(query, getSaltBuckets());
     return new AccumuloDataSource(
       getStore(),
       getFlinkConfig(),
@@ -151,7 +155,8 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
   public AccumuloDataSource applyEdgePredicate(
     @Nonnull ElementQuery<AccumuloElementFilter<Edge>> query
   ) {
-    AccumuloQueryHolder<Edge> newEdgeQuery = AccumuloQueryHolder.create(query);
+    AccumuloQueryHolder<Edge> newEdgeQuery =
+      AccumuloQueryHolder.create(query, getSaltBuckets());
     return new AccumuloDataSource(
       getStore(),
       getFlinkConfig(),
@@ -168,4 +173,14 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
       this.edgeQuery != null;
   }
 
+  /**
+   * Get salt bucket count of the store tables
+   *
+   * @return salt bucket count, 0 if row ids are not salted
+   */
+  private int getSaltBuckets() {
+    return getStore().getConfig()
+      .get(GradoopAccumuloConfig.GRADOOP_SALT_BUCKETS, AccumuloDefault.SALT_BUCKETS);
+  }
+
 }
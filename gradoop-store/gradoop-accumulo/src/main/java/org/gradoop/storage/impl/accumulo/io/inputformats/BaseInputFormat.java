@@ -15,7 +15,6 @@
  */
 package org.gradoop.storage.impl.accumulo.io.inputformats;
 
-import com.google.common.collect.Lists;
 import org.apache.accumulo.core.client.AccumuloException;
 import org.apache.accumulo.core.client.AccumuloSecurityException;
 import org.apache.accumulo.core.client.BatchScanner;
@@ -40,8 +39,10 @@ import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.predicate.query.AccumuloQueryHolder;
+import org.gradoop.storage.utils.AccumuloIndexes;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -133,53 +134,80 @@ public abstract class BaseInputFormat<T extends Element> extends GenericInputFor
    */
   protected abstract T mapRow(Map.Entry<Key, Value> row) throws IOException;
 
+  /**
+   * {@inheritDoc}
+   *
+   * The row ranges to scan are resolved once for all splits. Label and property equality
+   * predicates are resolved by seeking the index table, if indexes are enabled and the
+   * predicate matches at most {@link GradoopAccumuloConfig#GRADOOP_INDEX_MAX_HITS} elements.
+   */
+  @Override
+  public GenericInputSplit[] createInputSplits(int numSplits) throws IOException {
+    int totalSplits = super.createInputSplits(numSplits).length;
+    try {
+      String tableName = getScannedTableName();
+      Authorizations auth = getAuthorizations();
+      boolean indexEnabled = (boolean) properties
+        .getOrDefault(GradoopAccumuloConfig.GRADOOP_INDEX_ENABLED, AccumuloDefault.INDEX_ENABLED);
+      int indexMaxHits = (int) properties
+        .getOrDefault(GradoopAccumuloConfig.GRADOOP_INDEX_MAX_HITS, AccumuloDefault.INDEX_MAX_HITS);
+
+      List<Range> queryRanges = predicate == null ? null : predicate.getQueryRanges();
+      if (queryRanges == null && indexEnabled &&
+        predicate != null && predicate.getIndexRanges() != null) {
+        //resolve candidate rows by seeking the index table instead of scanning all tablets
+        queryRanges = AccumuloIndexes.lookup(createConnector(),
+          tableName + AccumuloTables.INDEX_SUFFIX, auth, getBatchScannerThreads(), indexMaxHits,
+          predicate.getIndexRanges());
+      }
+
+      List<Range> ranges = queryRanges != null && queryRanges.isEmpty() ?
+        new ArrayList<>() :
+        doSplits(totalSplits, tableName, auth, queryRanges);
+
+      //a table may consist of more tablets than splits, assign them round robin
+      GenericInputSplit[] splits = new GenericInputSplit[totalSplits];
+      for (int split = 0; split < totalSplits; split++) {
+        List<Range> splitRanges = new ArrayList<>();
+        for (int i = split; i < ranges.size(); i += totalSplits) {
+          splitRanges.add(ranges.get(i));
+        }
+        splits[split] = new RangesInputSplit(split, totalSplits, splitRanges);
+      }
+      return splits;
+    } catch (AccumuloException | AccumuloSecurityException | TableNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
   @Override
   public void open(GenericInputSplit split) throws IOException {
     super.open(split);
     try {
-      String user = (String) properties
-        .getOrDefault(GradoopAccumuloConfig.ACCUMULO_USER, AccumuloDefault.USER);
-      String password = (String) properties
-        .getOrDefault(GradoopAccumuloConfig.ACCUMULO_PASSWD, AccumuloDefault.PASSWORD);
-      String instance = (String) properties
-        .getOrDefault(GradoopAccumuloConfig.ACCUMULO_INSTANCE, AccumuloDefault.INSTANCE);
-      String zkHosts = (String) properties
-        .getOrDefault(GradoopAccumuloConfig.ZOOKEEPER_HOSTS, AccumuloDefault.INSTANCE);
-      String tableName = getTableName((String) properties
-        .getOrDefault(GradoopAccumuloConfig.ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX));
-      Authorizations auth = (Authorizations) properties
-        .getOrDefault(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS,
-          AccumuloDefault.AUTHORIZATION);
-      int batchSize = (int) properties
-        .getOrDefault(GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
-          AccumuloDefault.BATCH_SCANNER_THREADS);
       int iteratorPriority = (int) properties
         .getOrDefault(GradoopAccumuloConfig.GRADOOP_ITERATOR_PRIORITY,
           AccumuloDefault.ITERATOR_PRIORITY);
-
-      Connector conn = new ZooKeeperInstance(instance, zkHosts)
-        .getConnector(user, new PasswordToken(password));
-
-      List<Range> ranges = doSplits(
-        split.getTotalNumberOfSplits(),
-        tableName,
-        user,
-        password,
-        instance,
-        zkHosts,
-        auth);
+      int saltBuckets = (int) properties
+        .getOrDefault(GradoopAccumuloConfig.GRADOOP_SALT_BUCKETS, AccumuloDefault.SALT_BUCKETS);
 
       Map<String, String> options = new HashMap<>();
       if (predicate != null && predicate.getReduceFilter() != null) {
         options.put(AccumuloTables.KEY_PREDICATE, predicate.getReduceFilter().encode());
       }
-      if (split.getSplitNumber() + 1 > ranges.size()) {
+      options.put(AccumuloTables.KEY_SALT_BUCKETS, String.valueOf(saltBuckets));
+
+      if (!(split instanceof RangesInputSplit)) {
+        throw new IOException("Split was not created by this input format: " + split);
+      }
+      List<Range> splitRanges = ((RangesInputSplit) split).getRanges();
+      if (splitRanges.isEmpty()) {
         scanner = null;
         iterator = new ArrayList<Map.Entry<Key, Value>>().iterator();
       } else {
-        scanner = conn.createBatchScanner(tableName, auth, batchSize);
+        scanner = createConnector()
+          .createBatchScanner(getScannedTableName(), getAuthorizations(), getBatchScannerThreads());
         attachIterator(scanner, iteratorPriority, options);
-        scanner.setRanges(Lists.newArrayList(ranges.get(split.getSplitNumber())));
+        scanner.setRanges(splitRanges);
         iterator = scanner.iterator();
       }
 
@@ -207,38 +235,116 @@ public abstract class BaseInputFormat<T extends Element> extends GenericInputFor
     }
   }
 
+  /**
+   * Create a connector to the configured accumulo instance
+   *
+   * @return accumulo connector
+   * @throws AccumuloException if the connection fails
+   * @throws AccumuloSecurityException if the user is not authenticated
+   */
+  @Nonnull
+  private Connector createConnector() throws AccumuloException, AccumuloSecurityException {
+    return new ZooKeeperInstance(getInstance(), getZkHosts())
+      .getConnector(getUser(), new PasswordToken(getPassword()));
+  }
+
+  /**
+   * Get the name of the scanned table
+   *
+   * @return table name
+   */
+  private String getScannedTableName() {
+    return getTableName((String) properties
+      .getOrDefault(GradoopAccumuloConfig.ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX));
+  }
+
+  /**
+   * Get the accumulo user
+   *
+   * @return user name
+   */
+  private String getUser() {
+    return (String) properties
+      .getOrDefault(GradoopAccumuloConfig.ACCUMULO_USER, AccumuloDefault.USER);
+  }
+
+  /**
+   * Get the password of the accumulo user
+   *
+   * @return password
+   */
+  private String getPassword() {
+    return (String) properties
+      .getOrDefault(GradoopAccumuloConfig.ACCUMULO_PASSWD, AccumuloDefault.PASSWORD);
+  }
+
+  /**
+   * Get the accumulo instance name
+   *
+   * @return instance name
+   */
+  private String getInstance() {
+    return (String) properties
+      .getOrDefault(GradoopAccumuloConfig.ACCUMULO_INSTANCE, AccumuloDefault.INSTANCE);
+  }
+
+  /**
+   * Get the zookeeper hosts of the accumulo instance
+   *
+   * @return zookeeper hosts
+   */
+  private String getZkHosts() {
+    return (String) properties
+      .getOrDefault(GradoopAccumuloConfig.ZOOKEEPER_HOSTS, AccumuloDefault.INSTANCE);
+  }
+
+  /**
+   * Get the accumulo access authorization
+   *
+   * @return authorization
+   */
+  private Authorizations getAuthorizations() {
+    return (Authorizations) properties
+      .getOrDefault(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS, AccumuloDefault.AUTHORIZATION);
+  }
+
+  /**
+   * Get the number of batch scanner threads
+   *
+   * @return batch scanner threads
+   */
+  private int getBatchScannerThreads() {
+    return (int) properties
+      .getOrDefault(GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
+        AccumuloDefault.BATCH_SCANNER_THREADS);
+  }
+
   /**
    * Split table into ranges according to {@link AccumuloRowInputFormat#getSplits} suggest
    *
    * @param maxSplit max split size
    * @param tableName split table name
-   * @param user accumulo user
-   * @param password accumulo password
-   * @param instance accumulo instance name
-   * @param zkHosts zookeeper hosts
    * @param auth accumulo access authorization
+   * @param queryRanges row ranges to split, null to split the whole table
    * @return split range collections
    */
   @Nonnull
   private List<Range> doSplits(
     int maxSplit,
     @Nonnull String tableName,
-    @Nonnull String user,
-    @Nonnull String password,
-    @Nonnull String instance,
-    @Nonnull String zkHosts,
-    @Nonnull Authorizations auth
+    @Nonnull Authorizations auth,
+    @Nullable List<Range> queryRanges
   ) throws IOException, AccumuloSecurityException {
     AccumuloRowInputFormat format = new AccumuloRowInputFormat();
     JobConf conf = new JobConf();
     AccumuloRowInputFormat.setInputTableName(conf, tableName);
-    AccumuloRowInputFormat.setConnectorInfo(conf, user, new PasswordToken(password));
+    AccumuloRowInputFormat.setConnectorInfo(conf, getUser(), new PasswordToken(getPassword()));
     AccumuloRowInputFormat.setZooKeeperInstance(conf, ClientConfiguration.create()
-      .withInstance(instance)
-      .withZkHosts(zkHosts));
+      .withInstance(getInstance())
+      .withZkHosts(getZkHosts()));
     AccumuloRowInputFormat.setScanAuthorizations(conf, auth);
-    if (predicate != null && predicate.getQueryRanges() != null) {
-      AccumuloRowInputFormat.setRanges(conf, predicate.getQueryRanges());
+    if (queryRanges != null) {
+      AccumuloRowInputFormat.setRanges(conf, queryRanges);
     }
     InputSplit[] splits = format.getSplits(conf, maxSplit);
     return Stream.of(splits)
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.io.inputformats;
+
+import org.apache.accumulo.core.data.Range;
+import org.apache.flink.core.io.GenericInputSplit;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Input split holding the row ranges one parallel instance of a {@link BaseInputFormat} scans.
+ * Ranges are resolved once when the splits are created, since {@link Range} is not
+ * serializable they are kept in their writable encoding.
+ */
+class RangesInputSplit extends GenericInputSplit {
+
+  /**
+   * serialize id
+   */
+  private static final int serialVersionUID = 0x1;
+
+  /**
+   * encoded row ranges
+   */
+  private final byte[] encodedRanges;
+
+  /**
+   * Create a new input split
+   *
+   * @param partitionNumber number of this split
+   * @param totalNumberOfPartitions total number of splits
+   * @param ranges row ranges to scan
+   * @throws IOException if the ranges could not be encoded
+   */
+  RangesInputSplit(
+    int partitionNumber,
+    int totalNumberOfPartitions,
+    @Nonnull List<Range> ranges
+  ) throws IOException {
+    super(partitionNumber, totalNumberOfPartitions);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(ranges.size());
+      for (Range range : ranges) {
+        range.write(out);
+      }
+    }
+    this.encodedRanges = bytes.toByteArray();
+  }
+
+  /**
+   * Get the row ranges of this split
+   *
+   * @return row ranges, may be empty
+   * @throws IOException if the ranges could not be decoded
+   */
+  @Nonnull
+  List<Range> getRanges() throws IOException {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encodedRanges))) {
+      int size = in.readInt();
+      List<Range> ranges = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        Range range = new Range();
+        range.readFields(in);
+        ranges.add(range);
+      }
+      return ranges;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof RangesInputSplit && super.equals(o) &&
+      Arrays.equals(encodedRanges, ((RangesInputSplit) o).encodedRanges);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + Arrays.hashCode(encodedRanges);
+  }
+
+}
@@ -68,6 +68,11 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
    */
   private AccumuloElementFilter<E> filter;
 
+  /**
+   * Salt bucket count of the table row ids
+   */
+  private int saltBuckets;
+
   /**
    * Deserialize from key-value pair
    *
@@ -107,6 +112,15 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
     return filter;
   }
 
+  /**
+   * Get salt bucket count of the table row ids
+   *
+   * @return salt bucket count, 0 if row ids are not salted
+   */
+  protected int getSaltBuckets() {
+    return saltBuckets;
+  }
+
   @Override
   public void init(
     final SortedKeyValueIterator<Key, Value> source,
@@ -121,6 +135,10 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
     } else {
       this.filter = (AccumuloElementFilter<E>) t -> true;
     }
+    //read salt bucket count
+    if (options != null && options.containsKey(AccumuloTables.KEY_SALT_BUCKETS)) {
+      this.saltBuckets = Integer.parseInt(options.get(AccumuloTables.KEY_SALT_BUCKETS));
+    }
   }
 
   @Override
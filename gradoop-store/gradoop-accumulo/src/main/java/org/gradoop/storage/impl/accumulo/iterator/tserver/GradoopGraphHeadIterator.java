@@ -20,11 +20,11 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.util.Pair;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
+import org.gradoop.storage.utils.AccumuloRowKeys;
 import org.gradoop.storage.utils.KryoUtils;
 
 import javax.annotation.Nonnull;
@@ -48,7 +48,7 @@ public class GradoopGraphHeadIterator extends BaseElementIterator<EPGMGraphHead>
   public EPGMGraphHead fromRow(@Nonnull Map.Entry<Key, Value> pair) throws IOException {
     //map from serialize content
     GraphHead content = KryoUtils.loads(pair.getValue().get(), GraphHead.class);
-    content.setId(GradoopId.fromString(pair.getKey().getRow().toString()));
+    content.setId(AccumuloRowKeys.getId(pair.getKey().getRow().toString()));
     //read from content
     return content;
   }
@@ -57,7 +57,7 @@ public class GradoopGraphHeadIterator extends BaseElementIterator<EPGMGraphHead>
   @Override
   public Pair<Key, Value> toRow(@Nonnull EPGMGraphHead record) throws IOException {
     //write to content
-    return new Pair<>(new Key(record.getId().toString()),
+    return new Pair<>(new Key(AccumuloRowKeys.getRowKey(record.getId(), getSaltBuckets())),
       new Value(KryoUtils.dumps(factory.initGraphHead(
         record.getId(),
         record.getLabel(),
@@ -80,12 +80,13 @@ public class GradoopGraphHeadIterator extends BaseElementIterator<EPGMGraphHead>
     }
 
     GraphHead row = new GraphHead();
-    row.setId(GradoopId.fromString(source.getTopKey().getRow().toString()));
+    String rowKey = source.getTopKey().getRow().toString();
+    row.setId(AccumuloRowKeys.getId(rowKey));
     while (source.hasTop()) {
       Key key = source.getTopKey();
       Value value = source.getTopValue();
 
-      if (!Objects.equals(row.getId().toString(), key.getRow().toString())) {
+      if (!Objects.equals(rowKey, key.getRow().toString())) {
         break;
       }
 
@@ -26,6 +26,7 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
+import org.gradoop.storage.utils.AccumuloRowKeys;
 import org.gradoop.storage.utils.KryoUtils;
 
 import javax.annotation.Nonnull;
@@ -49,7 +50,7 @@ public class GradoopVertexIterator extends BaseElementIterator<EPGMVertex> {
   public Vertex fromRow(@Nonnull Map.Entry<Key, Value> pair) throws IOException {
     //map from serialize content
     Vertex content = KryoUtils.loads(pair.getValue().get(), Vertex.class);
-    content.setId(GradoopId.fromString(pair.getKey().getRow().toString()));
+    content.setId(AccumuloRowKeys.getId(pair.getKey().getRow().toString()));
     //read from content
     return content;
   }
@@ -58,7 +59,7 @@ public class GradoopVertexIterator extends BaseElementIterator<EPGMVertex> {
   @Override
   public Pair<Key, Value> toRow(@Nonnull EPGMVertex record) throws IOException {
     //write to content
-    return new Pair<>(new Key(record.getId().toString()),
+    return new Pair<>(new Key(AccumuloRowKeys.getRowKey(record.getId(), getSaltBuckets())),
       new Value(KryoUtils.dumps(factory.initVertex(
         record.getId(),
         record.getLabel(),
@@ -82,13 +83,14 @@ public class GradoopVertexIterator extends BaseElementIterator<EPGMVertex> {
     }
 
     Vertex row = new Vertex();
-    row.setId(GradoopId.fromString(source.getTopKey().getRow().toString()));
+    String rowKey = source.getTopKey().getRow().toString();
+    row.setId(AccumuloRowKeys.getId(rowKey));
     row.setGraphIds(new GradoopIdSet());
     while (source.hasTop()) {
       Key key = source.getTopKey();
       Value value = source.getTopValue();
 
-      if (!Objects.equals(row.getId().toString(), key.getRow().toString())) {
+      if (!Objects.equals(rowKey, key.getRow().toString())) {
         break;
       }
 
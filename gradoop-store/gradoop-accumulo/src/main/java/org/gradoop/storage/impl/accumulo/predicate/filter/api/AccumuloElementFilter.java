@@ -15,6 +15,7 @@
  */
 package org.gradoop.storage.impl.accumulo.predicate.filter.api;
 
+import org.apache.accumulo.core.data.Range;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopEdgeIterator;
@@ -25,6 +26,7 @@ import org.gradoop.storage.impl.accumulo.predicate.filter.calculate.Not;
 import org.gradoop.storage.impl.accumulo.predicate.filter.calculate.Or;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -33,6 +35,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Base64;
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -84,6 +87,17 @@ public interface AccumuloElementFilter<T extends EPGMElement>
     }
   }
 
+  /**
+   * ranges over the secondary index table covering every element this filter may accept,
+   * this action will be execute by client
+   *
+   * @return index ranges, or null if the filter can not be answered by the index
+   */
+  @Nullable
+  default List<Range> getIndexRanges() {
+    return null;
+  }
+
   /**
    * disjunctive operator
    *
@@ -15,8 +15,11 @@
  */
 package org.gradoop.storage.impl.accumulo.predicate.filter.calculate;
 
+import org.apache.accumulo.core.data.Range;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.impl.accumulo.predicate.filter.impl.AccumuloLabelIn;
+import org.gradoop.storage.impl.accumulo.predicate.filter.impl.AccumuloPropEquals;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -72,6 +75,39 @@ public final class And<T extends EPGMElement> implements AccumuloElementFilter<T
     return true;
   }
 
+  /**
+   * Every operand restricts the result, so the index ranges of a single operand suffice.
+   * A property equality is preferred and narrowed by a label operand if there is one, labels
+   * alone are used last since they are usually the least selective.
+   *
+   * @return index ranges, or null if no operand can be answered by the index
+   */
+  @Override
+  public List<Range> getIndexRanges() {
+    AccumuloPropEquals<T> propEquals = null;
+    AccumuloLabelIn<T> labelIn = null;
+    for (AccumuloElementFilter<T> predicate : predicates) {
+      if (propEquals == null && predicate instanceof AccumuloPropEquals) {
+        propEquals = (AccumuloPropEquals<T>) predicate;
+      } else if (labelIn == null && predicate instanceof AccumuloLabelIn) {
+        labelIn = (AccumuloLabelIn<T>) predicate;
+      }
+    }
+    if (propEquals != null) {
+      return labelIn == null ? propEquals.getIndexRanges() : propEquals.getIndexRanges(labelIn);
+    }
+    List<Range> labelRanges = null;
+    for (AccumuloElementFilter<T> predicate : predicates) {
+      List<Range> ranges = predicate.getIndexRanges();
+      if (ranges != null && !(predicate instanceof AccumuloLabelIn)) {
+        return ranges;
+      } else if (labelRanges == null) {
+        labelRanges = ranges;
+      }
+    }
+    return labelRanges;
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" AND ");
@@ -15,6 +15,7 @@
  */
 package org.gradoop.storage.impl.accumulo.predicate.filter.calculate;
 
+import org.apache.accumulo.core.data.Range;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 
@@ -72,6 +73,24 @@ public final class Or<T extends EPGMElement> implements AccumuloElementFilter<T>
     return false;
   }
 
+  /**
+   * Every operand may contribute to the result, so all of them must be answered by the index.
+   *
+   * @return index ranges, or null if any operand can not be answered by the index
+   */
+  @Override
+  public List<Range> getIndexRanges() {
+    List<Range> ranges = new ArrayList<>();
+    for (AccumuloElementFilter<T> predicate : predicates) {
+      List<Range> predicateRanges = predicate.getIndexRanges();
+      if (predicateRanges == null) {
+        return null;
+      }
+      ranges.addAll(predicateRanges);
+    }
+    return ranges;
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" OR ");
@@ -15,9 +15,14 @@
  */
 package org.gradoop.storage.impl.accumulo.predicate.filter.impl;
 
+import org.apache.accumulo.core.data.Range;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.storage.common.predicate.filter.impl.LabelIn;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.utils.AccumuloIndexes;
+
+import java.util.List;
+import java.util.Set;
 
 /**
  * Accumulo label equality predicate implement
@@ -42,4 +47,14 @@ public class AccumuloLabelIn<T extends EPGMElement>
     return t.getLabel() != null && getLabels().contains(t.getLabel());
   }
 
+  @Override
+  public List<Range> getIndexRanges() {
+    return AccumuloIndexes.getLabelRanges(getLabels());
+  }
+
+  @Override
+  public Set<String> getLabels() {
+    return super.getLabels();
+  }
+
 }
@@ -15,11 +15,14 @@
  */
 package org.gradoop.storage.impl.accumulo.predicate.filter.impl;
 
+import org.apache.accumulo.core.data.Range;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.storage.common.predicate.filter.impl.PropEquals;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.utils.AccumuloIndexes;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 
 /**
  * Accumulo property equality implement
@@ -49,4 +52,19 @@ public class AccumuloPropEquals<T extends EPGMElement>
       t.getPropertyValue(getKey()).equals(getValue());
   }
 
+  @Override
+  public List<Range> getIndexRanges() {
+    return AccumuloIndexes.getPropertyRanges(getKey(), getValue(), null);
+  }
+
+  /**
+   * Index ranges of elements matching both this filter and a label filter
+   *
+   * @param labelIn label filter in conjunction with this filter
+   * @return index ranges
+   */
+  public List<Range> getIndexRanges(@Nonnull AccumuloLabelIn<T> labelIn) {
+    return AccumuloIndexes.getPropertyRanges(getKey(), getValue(), labelIn.getLabels());
+  }
+
 }
@@ -17,10 +17,11 @@ package org.gradoop.storage.impl.accumulo.predicate.query;
 
 import org.apache.accumulo.core.data.Range;
 import org.gradoop.common.model.api.entities.EPGMElement;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.utils.AccumuloRowKeys;
 import org.gradoop.storage.utils.KryoUtils;
 
 import javax.annotation.Nonnull;
@@ -43,6 +44,11 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
    */
   private final byte[] queryRanges;
 
+  /**
+   * query ranges in secondary index table, should be serializable
+   */
+  private final byte[] indexRanges;
+
   /**
    * reduce filter for epgm element
    */
@@ -63,6 +69,10 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
     RangeWrapper wrapper = new RangeWrapper();
     wrapper.ranges = logicalRanges;
     this.queryRanges = wrapper.encrypt();
+    RangeWrapper indexWrapper = new RangeWrapper();
+    indexWrapper.ranges = logicalRanges == null && reduceFilter != null ?
+      reduceFilter.getIndexRanges() : null;
+    this.indexRanges = indexWrapper.encrypt();
     this.reduceFilter = reduceFilter;
   }
 
@@ -75,11 +85,26 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
    */
   public static <T extends EPGMElement> AccumuloQueryHolder<T> create(
     @Nonnull ElementQuery<AccumuloElementFilter<T>> query
+  ) {
+    return create(query, AccumuloDefault.SALT_BUCKETS);
+  }
+
+  /**
+   * create a predicate within a certain id ranges of a table with salted row ids
+   *
+   * @param query       element query
+   * @param saltBuckets salt bucket count of the table row ids, 0 if not salted
+   * @param <T>         epgm element type
+   * @return accumulo predicate
+   */
+  public static <T extends EPGMElement> AccumuloQueryHolder<T> create(
+    @Nonnull ElementQuery<AccumuloElementFilter<T>> query,
+    int saltBuckets
   ) {
     List<Range> ranges = Range.mergeOverlapping(Optional.ofNullable(query.getQueryRanges())
       .orElse(GradoopIdSet.fromExisting())
       .stream()
-      .map(GradoopId::toString)
+      .map(id -> AccumuloRowKeys.getRowKey(id, saltBuckets))
       .map(Range::exact)
       .collect(Collectors.toList()));
     return new AccumuloQueryHolder<>(
@@ -115,6 +140,16 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
     return queryRanges == null ? null : RangeWrapper.decrypt(queryRanges).ranges;
   }
 
+  /**
+   * get secondary index ranges by anti-encrypt wrapper, only available if no id ranges
+   * are queried and the reduce filter can be answered by the index
+   *
+   * @return index seek range, or null if the index is not applicable
+   */
+  public List<Range> getIndexRanges() {
+    return RangeWrapper.decrypt(indexRanges).ranges;
+  }
+
   /**
    * Get reduce filter
    *
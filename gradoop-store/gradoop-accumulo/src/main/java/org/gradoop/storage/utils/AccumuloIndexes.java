@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.utils;
+
+import org.apache.accumulo.core.client.BatchScanner;
+import org.apache.accumulo.core.client.Connector;
+import org.apache.accumulo.core.client.TableNotFoundException;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.security.Authorizations;
+import org.apache.hadoop.io.Text;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulo secondary index utils. Each element table may be accompanied by an index table
+ * with the following row layout, the column qualifier always holds the element row id:
+ *
+ * <pre>
+ *   l\0{label}                          -&gt; cf: empty, cq: {element row id}
+ *   p\0{property key}\0{property value} -&gt; cf: {label}, cq: {element row id}
+ * </pre>
+ *
+ * Selective label and property equality predicates are answered by seeking the index table
+ * instead of scanning the element table. A lookup is abandoned once it yields more candidates
+ * than a configured maximum, since point seeks for a large share of the table are slower than
+ * scanning it. Index entries are never removed, so an index lookup may yield stale candidates,
+ * the element predicate is always evaluated on the element table afterwards.
+ */
+public final class AccumuloIndexes {
+
+  /**
+   * row prefix of label index entries
+   */
+  private static final byte LABEL_PREFIX = 'l';
+
+  /**
+   * row prefix of property index entries
+   */
+  private static final byte PROPERTY_PREFIX = 'p';
+
+  /**
+   * separator between row components
+   */
+  private static final byte SEPARATOR = 0;
+
+  /**
+   * Private constructor
+   */
+  private AccumuloIndexes() {
+  }
+
+  /**
+   * Create the index row of a label
+   *
+   * @param label element label
+   * @return index row
+   */
+  @Nonnull
+  public static Text getLabelRow(@Nonnull String label) {
+    Text row = new Text(new byte[] {LABEL_PREFIX, SEPARATOR});
+    append(row, label.getBytes(StandardCharsets.UTF_8));
+    return row;
+  }
+
+  /**
+   * Create the index row of a property key value pair
+   *
+   * @param key property key
+   * @param value property value
+   * @return index row
+   */
+  @Nonnull
+  public static Text getPropertyRow(
+    @Nonnull String key,
+    @Nonnull PropertyValue value
+  ) {
+    Text row = new Text(new byte[] {PROPERTY_PREFIX, SEPARATOR});
+    append(row, key.getBytes(StandardCharsets.UTF_8));
+    append(row, new byte[] {SEPARATOR});
+    append(row, value.getRawBytes());
+    return row;
+  }
+
+  /**
+   * Create the index mutations of an element
+   *
+   * @param record element to index
+   * @param rowKey row id of the element in its element table
+   * @return index mutations, one per label and property
+   */
+  @Nonnull
+  public static List<Mutation> getMutations(
+    @Nonnull EPGMElement record,
+    @Nonnull String rowKey
+  ) {
+    List<Mutation> mutations = new ArrayList<>();
+    String label = record.getLabel() == null ? AccumuloTables.KEY.NONE : record.getLabel();
+    if (record.getLabel() != null) {
+      Mutation mutation = new Mutation(getLabelRow(label));
+      mutation.put(AccumuloTables.KEY.NONE, rowKey, new Value());
+      mutations.add(mutation);
+    }
+    if (record.getProperties() != null) {
+      for (Property property : record.getProperties()) {
+        Mutation mutation = new Mutation(getPropertyRow(property.getKey(), property.getValue()));
+        mutation.put(label, rowKey, new Value());
+        mutations.add(mutation);
+      }
+    }
+    return mutations;
+  }
+
+  /**
+   * Create the index ranges of elements with one of the given labels
+   *
+   * @param labels element labels
+   * @return index ranges
+   */
+  @Nonnull
+  public static List<Range> getLabelRanges(@Nonnull Collection<String> labels) {
+    List<Range> ranges = new ArrayList<>();
+    for (String label : labels) {
+      ranges.add(Range.exact(getLabelRow(label)));
+    }
+    return ranges;
+  }
+
+  /**
+   * Create the index ranges of elements with a property value, optionally restricted to
+   * elements with one of the given labels
+   *
+   * @param key property key
+   * @param value property value
+   * @param labels element labels, null if not restricted
+   * @return index ranges
+   */
+  @Nonnull
+  public static List<Range> getPropertyRanges(
+    @Nonnull String key,
+    @Nonnull PropertyValue value,
+    @Nullable Collection<String> labels
+  ) {
+    Text row = getPropertyRow(key, value);
+    List<Range> ranges = new ArrayList<>();
+    if (labels == null) {
+      ranges.add(Range.exact(row));
+    } else {
+      for (String label : labels) {
+        ranges.add(Range.exact(row, new Text(label)));
+      }
+    }
+    return ranges;
+  }
+
+  /**
+   * Seek the index table and collect the element table ranges of all indexed candidates
+   *
+   * @param conn accumulo connector
+   * @param indexTable index table name
+   * @param auth accumulo access authorization
+   * @param threads batch scanner threads
+   * @param maxHits maximum number of index hits
+   * @param indexRanges ranges over the index table
+   * @return exact ranges of candidate rows in the element table, may be empty, null if there
+   *         are more than {@code maxHits} candidates and the element table should be scanned
+   * @throws TableNotFoundException if the index table does not exist
+   */
+  @Nullable
+  public static List<Range> lookup(
+    @Nonnull Connector conn,
+    @Nonnull String indexTable,
+    @Nonnull Authorizations auth,
+    int threads,
+    int maxHits,
+    @Nonnull List<Range> indexRanges
+  ) throws TableNotFoundException {
+    List<Range> ranges = new ArrayList<>();
+    if (indexRanges.isEmpty()) {
+      return ranges;
+    }
+    BatchScanner scanner = conn.createBatchScanner(indexTable, auth, threads);
+    try {
+      scanner.setRanges(indexRanges);
+      for (Map.Entry<Key, Value> entry : scanner) {
+        if (ranges.size() == maxHits) {
+          return null;
+        }
+        ranges.add(Range.exact(entry.getKey().getColumnQualifier()));
+      }
+    } finally {
+      scanner.close();
+    }
+    return ranges.isEmpty() ? ranges : Range.mergeOverlapping(ranges);
+  }
+
+  /**
+   * Append bytes to a text
+   *
+   * @param text text to append to
+   * @param bytes bytes to append
+   */
+  private static void append(Text text, byte[] bytes) {
+    text.append(bytes, 0, bytes.length);
+  }
+
+}
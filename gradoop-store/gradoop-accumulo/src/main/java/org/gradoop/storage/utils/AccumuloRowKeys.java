@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.utils;
+
+import org.apache.hadoop.io.Text;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import javax.annotation.Nonnull;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Accumulo row id utils. If salting is enabled, each row id is prefixed by a two digit hex
+ * bucket derived from the element id, so that sequentially created ids are spread over all
+ * tablets instead of hitting the last one.
+ */
+public final class AccumuloRowKeys {
+
+  /**
+   * max salt bucket count, the bucket is encoded as two hex digits
+   */
+  public static final int MAX_SALT_BUCKETS = 256;
+
+  /**
+   * length of a string encoded gradoop id
+   */
+  private static final int ID_LENGTH = GradoopId.ID_SIZE * 2;
+
+  /**
+   * Private constructor
+   */
+  private AccumuloRowKeys() {
+  }
+
+  /**
+   * Create the row id of an element
+   *
+   * @param id element id
+   * @param saltBuckets salt bucket count, 0 if salting is disabled
+   * @return row id
+   */
+  @Nonnull
+  public static String getRowKey(
+    @Nonnull GradoopId id,
+    int saltBuckets
+  ) {
+    String idString = id.toString();
+    if (saltBuckets <= 0) {
+      return idString;
+    }
+    int bucket = (idString.hashCode() & Integer.MAX_VALUE) % saltBuckets;
+    return String.format("%02x%s", bucket, idString);
+  }
+
+  /**
+   * Read the element id from a (salted or plain) row id
+   *
+   * @param rowKey row id
+   * @return element id
+   */
+  @Nonnull
+  public static GradoopId getId(@Nonnull String rowKey) {
+    return GradoopId.fromString(rowKey.length() == ID_LENGTH ? rowKey :
+      rowKey.substring(rowKey.length() - ID_LENGTH));
+  }
+
+  /**
+   * Create the split points for pre-splitting a table into one tablet per salt bucket
+   *
+   * @param saltBuckets salt bucket count, 0 if salting is disabled
+   * @return split points, empty if salting is disabled
+   */
+  @Nonnull
+  public static SortedSet<Text> getSplits(int saltBuckets) {
+    checkSaltBuckets(saltBuckets);
+    SortedSet<Text> splits = new TreeSet<>();
+    for (int bucket = 1; bucket < saltBuckets; bucket++) {
+      splits.add(new Text(String.format("%02x", bucket)));
+    }
+    return splits;
+  }
+
+  /**
+   * Check the salt bucket count is valid
+   *
+   * @param saltBuckets salt bucket count
+   */
+  public static void checkSaltBuckets(int saltBuckets) {
+    if (saltBuckets < 0 || saltBuckets > MAX_SALT_BUCKETS) {
+      throw new IllegalArgumentException(String.format(
+        "salt buckets must be in [0, %d], but was %d", MAX_SALT_BUCKETS, saltBuckets));
+    }
+  }
+
+}
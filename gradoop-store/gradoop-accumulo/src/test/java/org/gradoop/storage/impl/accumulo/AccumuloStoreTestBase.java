@@ -41,7 +41,20 @@ public class AccumuloStoreTestBase extends GradoopFlinkTestBase {
     String namespace,
     SocialTestContext context
   ) throws Throwable {
-    GradoopAccumuloConfig config = AccumuloTestSuite.getAcConfig(namespace);
+    doTest(AccumuloTestSuite.getAcConfig(namespace), context);
+  }
+
+  /**
+   * Load social network graph and write it into accumulo graph with given configuration
+   *
+   * @param config store configuration
+   * @param context loader context
+   * @throws Throwable if error
+   */
+  protected void doTest(
+    GradoopAccumuloConfig config,
+    SocialTestContext context
+  ) throws Throwable {
     AccumuloEPGMStore graphStore = new AccumuloEPGMStore(config);
 
     //read vertices by label
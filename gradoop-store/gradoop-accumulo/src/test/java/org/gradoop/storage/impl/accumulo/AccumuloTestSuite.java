@@ -26,6 +26,7 @@ import org.gradoop.storage.impl.accumulo.io.source.IOGraphPredicateTest;
 import org.gradoop.storage.impl.accumulo.io.source.IOVertexPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreBasicPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreIdsPredicateTest;
+import org.gradoop.storage.impl.accumulo.predicate.StoreIndexPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreLabelPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StorePropPredicateTest;
 import org.junit.AfterClass;
@@ -57,6 +58,7 @@ import static org.gradoop.storage.config.GradoopAccumuloConfig.ZOOKEEPER_HOSTS;
   StoreIdsPredicateTest.class,
   StoreLabelPredicateTest.class,
   StorePropPredicateTest.class,
+  StoreIndexPredicateTest.class,
   //sink and source
   IOBasicTest.class,
   IOEdgePredicateTest.class,
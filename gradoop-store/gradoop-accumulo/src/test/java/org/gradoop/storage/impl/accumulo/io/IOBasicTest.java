@@ -16,15 +16,21 @@
 package org.gradoop.storage.impl.accumulo.io;
 
 import com.google.common.collect.Lists;
+import org.apache.accumulo.core.client.Connector;
 import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
 import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.api.entities.EPGMIdentifiable;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.util.AsciiGraphLoader;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.storage.impl.accumulo.AccumuloEPGMStore;
 import org.gradoop.storage.impl.accumulo.AccumuloTestSuite;
 import org.junit.FixMethodOrder;
@@ -33,9 +39,13 @@ import org.junit.runners.MethodSorters;
 
 import java.io.InputStream;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElements;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertEquals;
 
 /**
  * accumulo data read write test
@@ -45,6 +55,7 @@ public class IOBasicTest extends GradoopFlinkTestBase {
 
   private static final String TEST_01 = "io_basic_01";
   private static final String TEST_02 = "io_basic_02";
+  private static final String TEST_03 = "io_basic_03";
 
   @Test
   public void test01_read() throws Exception {
@@ -125,4 +136,66 @@ public class IOBasicTest extends GradoopFlinkTestBase {
     accumuloStore.close();
   }
 
+  /**
+   * Reads the social graph from salted tables, which are pre-split into more tablets than
+   * the job parallelism
+   */
+  @Test
+  public void test03_readSalted() throws Exception {
+    int saltBuckets = 16;
+    GradoopAccumuloConfig config = AccumuloTestSuite.getAcConfig(TEST_03)
+      .set(GradoopAccumuloConfig.GRADOOP_SALT_BUCKETS, saltBuckets);
+    AccumuloEPGMStore accumuloStore = new AccumuloEPGMStore(config);
+
+    Connector conn = accumuloStore.createConnector();
+    assertEquals(saltBuckets - 1,
+      conn.tableOperations().listSplits(accumuloStore.getVertexTableName()).size());
+    assertEquals(saltBuckets - 1,
+      conn.tableOperations().listSplits(accumuloStore.getEdgeTableName()).size());
+
+    AsciiGraphLoader<GraphHead, Vertex, Edge> loader = GradoopTestUtils.getSocialNetworkLoader();
+    for (GraphHead g : loader.getGraphHeads()) {
+      accumuloStore.writeGraphHead(g);
+    }
+    for (Vertex v : loader.getVertices()) {
+      accumuloStore.writeVertex(v);
+    }
+    for (Edge e : loader.getEdges()) {
+      accumuloStore.writeEdge(e);
+    }
+    accumuloStore.flush();
+
+    for (Vertex v : loader.getVertices()) {
+      validateEPGMElements(v, accumuloStore.readVertex(v.getId()));
+    }
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    GraphCollection collection = new AccumuloDataSource(accumuloStore, flinkConfig)
+      .getGraphCollection();
+
+    validateEPGMElementCollections(loader.getGraphHeads(),
+      collection.getGraphHeads().collect());
+    validateEPGMGraphElementCollections(loader.getVertices(),
+      collection.getVertices().collect());
+    validateEPGMGraphElementCollections(loader.getEdges(),
+      collection.getEdges().collect());
+
+    List<Vertex> inputVertices = Lists.newArrayList(loader.getVertices()).subList(0, 3);
+    GradoopIdSet ids = GradoopIdSet.fromExisting(inputVertices.stream()
+      .map(EPGMIdentifiable::getId)
+      .collect(Collectors.toList()));
+    List<Vertex> queryResult = new AccumuloDataSource(accumuloStore, flinkConfig)
+      .applyVertexPredicate(
+        Query.elements()
+          .fromSets(ids)
+          .noFilter())
+      .getGraphCollection()
+      .getVertices()
+      .collect();
+
+    validateEPGMElementCollections(inputVertices, queryResult);
+
+    accumuloStore.close();
+  }
+
 }
@@ -0,0 +1,301 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.predicate;
+
+import com.google.common.collect.Iterables;
+import org.apache.accumulo.core.client.BatchWriter;
+import org.apache.accumulo.core.client.BatchWriterConfig;
+import org.apache.accumulo.core.client.Connector;
+import org.apache.accumulo.core.client.Scanner;
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopAccumuloConfig;
+import org.gradoop.storage.impl.accumulo.AccumuloStoreTestBase;
+import org.gradoop.storage.impl.accumulo.AccumuloTestSuite;
+import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
+import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
+import org.gradoop.storage.impl.accumulo.io.AccumuloDataSource;
+import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.utils.AccumuloFilters;
+import org.gradoop.storage.utils.AccumuloIndexes;
+import org.gradoop.storage.utils.AccumuloRowKeys;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * accumulo secondary index predicate test
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StoreIndexPredicateTest extends AccumuloStoreTestBase {
+
+  private static final String TEST01 = "index_predicate_01";
+  private static final String TEST02 = "index_predicate_02";
+  private static final String TEST03 = "index_predicate_03";
+  private static final String TEST04 = "index_predicate_04";
+  private static final String TEST05 = "index_predicate_05";
+  private static final String TEST06 = "index_predicate_06";
+
+  /**
+   * Translate predicates into index ranges
+   */
+  @Test
+  public void test01_indexRanges() {
+    AccumuloElementFilter<Vertex> labelIn = AccumuloFilters.labelIn("Person", "Tag");
+    AccumuloElementFilter<Vertex> propEquals = AccumuloFilters.propEquals("city", "Leipzig");
+
+    assertEquals(2, Objects.requireNonNull(labelIn.getIndexRanges()).size());
+    assertEquals(
+      Collections.singletonList(
+        Range.exact(AccumuloIndexes.getPropertyRow("city", PropertyValue.create("Leipzig")))),
+      propEquals.getIndexRanges());
+    //property equality is narrowed by the label of a conjunction
+    assertEquals(
+      AccumuloIndexes.getPropertyRanges("city", PropertyValue.create("Leipzig"),
+        Collections.singletonList("Person")),
+      AccumuloFilters.<Vertex>labelIn("Person").and(propEquals).getIndexRanges());
+    //labels are the fallback of a conjunction
+    assertEquals(labelIn.getIndexRanges(),
+      labelIn.and(AccumuloFilters.propReg("name", Pattern.compile("A.*"))).getIndexRanges());
+    //disjunction requires all operands to be indexed
+    assertEquals(3, Objects.requireNonNull(labelIn.or(propEquals).getIndexRanges()).size());
+    assertNull(labelIn.or(AccumuloFilters.propLargerThan("age", 30, true)).getIndexRanges());
+    assertNull(labelIn.negate().getIndexRanges());
+  }
+
+  /**
+   * Find vertices by label and property equality through the index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test02_vertexIndexQuery() throws Throwable {
+    doTest(getIndexConfig(TEST02), (loader, store, config) -> {
+      Connector conn = store.createConnector();
+      assertTrue(conn.tableOperations().exists(store.getConfig().getVertexIndexTable()));
+      try (Scanner scanner = conn.createScanner(store.getConfig().getVertexIndexTable(),
+        AccumuloDefault.AUTHORIZATION)) {
+        scanner.setRange(Range.exact(AccumuloIndexes.getLabelRow("Person")));
+        assertEquals(loader.getVertices().stream()
+            .filter(it -> Objects.equals(it.getLabel(), "Person"))
+            .count(),
+          Iterables.size(scanner));
+      }
+
+      List<Vertex> personOrTag = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person") ||
+          Objects.equals(it.getLabel(), "Tag"))
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(personOrTag, store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Person", "Tag")))
+        .readRemainsAndClose());
+
+      List<Vertex> leipzigPersons = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.hasProperty("city") &&
+          Objects.equals(it.getPropertyValue("city").getString(), "Leipzig"))
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(leipzigPersons, store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<Vertex>labelIn("Person")
+              .and(AccumuloFilters.propEquals("city", "Leipzig"))))
+        .readRemainsAndClose());
+
+      //no index entry, no scan
+      assertEquals(0, store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Unknown")))
+        .readRemainsAndClose()
+        .size());
+    });
+  }
+
+  /**
+   * Find edges and graph heads by label disjunction through the index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test03_edgeAndGraphIndexQuery() throws Throwable {
+    doTest(getIndexConfig(TEST03), (loader, store, config) -> {
+      List<Edge> inputEdges = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "hasInterest") ||
+          Objects.equals(it.getLabel(), "hasMember"))
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(inputEdges, store
+        .getEdgeSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<Edge>labelIn("hasInterest")
+              .or(AccumuloFilters.labelIn("hasMember"))))
+        .readRemainsAndClose());
+
+      List<GraphHead> inputGraphs = loader.getGraphHeads().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Community"))
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(inputGraphs, store
+        .getGraphSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Community")))
+        .readRemainsAndClose());
+    });
+  }
+
+  /**
+   * Index entries pointing to elements which do not match any more must not be returned
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test04_staleIndexEntry() throws Throwable {
+    doTest(getIndexConfig(TEST04), (loader, store, config) -> {
+      //index a tag as person, as left behind by a relabeled element
+      Vertex tag = loader.getVertexByVariable("databases");
+      BatchWriter writer = store.createConnector()
+        .createBatchWriter(store.getConfig().getVertexIndexTable(), new BatchWriterConfig());
+      Mutation stale = new Mutation(AccumuloIndexes.getLabelRow("Person"));
+      stale.put(AccumuloTables.KEY.NONE, AccumuloRowKeys.getRowKey(tag.getId(),
+        AccumuloDefault.SALT_BUCKETS), new Value());
+      writer.addMutation(stale);
+      writer.close();
+
+      List<Vertex> persons = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(persons, store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Person")))
+        .readRemainsAndClose());
+    });
+  }
+
+  /**
+   * Read vertices from data source through the index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test05_sourceIndexQuery() throws Throwable {
+    doTest(getIndexConfig(TEST05), (loader, store, config) -> {
+      List<Vertex> dresdenPersons = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.hasProperty("city") &&
+          Objects.equals(it.getPropertyValue("city").getString(), "Dresden"))
+        .collect(Collectors.toList());
+
+      List<Vertex> queryResult = new AccumuloDataSource(store, config)
+        .applyVertexPredicate(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<Vertex>labelIn("Person")
+              .and(AccumuloFilters.propEquals("city", "Dresden"))))
+        .getGraphCollection()
+        .getVertices()
+        .collect();
+      validateEPGMElementCollections(dresdenPersons, queryResult);
+
+      List<Vertex> emptyResult = new AccumuloDataSource(store, config)
+        .applyVertexPredicate(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.propEquals("city", "Paris")))
+        .getGraphCollection()
+        .getVertices()
+        .collect();
+      assertEquals(0, emptyResult.size());
+    });
+  }
+
+  /**
+   * Queries matching more elements than the maximum index hits fall back to a table scan
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test06_indexMaxHits() throws Throwable {
+    GradoopAccumuloConfig indexConfig = getIndexConfig(TEST06)
+      .set(GradoopAccumuloConfig.GRADOOP_INDEX_MAX_HITS, 2);
+    doTest(indexConfig, (loader, store, config) -> {
+      Connector conn = store.createConnector();
+      String indexTable = store.getConfig().getVertexIndexTable();
+      assertNull(AccumuloIndexes.lookup(conn, indexTable, AccumuloDefault.AUTHORIZATION,
+        AccumuloDefault.BATCH_SCANNER_THREADS, 2,
+        AccumuloIndexes.getLabelRanges(Collections.singletonList("Person"))));
+      assertEquals(2, Objects.requireNonNull(AccumuloIndexes.lookup(conn, indexTable,
+        AccumuloDefault.AUTHORIZATION, AccumuloDefault.BATCH_SCANNER_THREADS, 2,
+        AccumuloIndexes.getLabelRanges(Collections.singletonList("Forum")))).size());
+
+      List<Vertex> persons = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .collect(Collectors.toList());
+      validateEPGMElementCollections(persons, store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Person")))
+        .readRemainsAndClose());
+
+      List<Vertex> queryResult = new AccumuloDataSource(store, config)
+        .applyVertexPredicate(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Person")))
+        .getGraphCollection()
+        .getVertices()
+        .collect();
+      validateEPGMElementCollections(persons, queryResult);
+    });
+  }
+
+  /**
+   * Get store configuration with secondary indexes enabled
+   *
+   * @param namespace store namespace
+   * @return store configuration
+   */
+  private GradoopAccumuloConfig getIndexConfig(String namespace) {
+    return AccumuloTestSuite.getAcConfig(namespace)
+      .set(GradoopAccumuloConfig.GRADOOP_INDEX_ENABLED, true);
+  }
+
+}
@@ -72,6 +72,16 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
    */
   private final EdgeHandler edgeHandler;
 
+  /**
+   * Size of the client side write buffer of the store in bytes.
+   */
+  private long writeBufferSize = HBaseConstants.DEFAULT_WRITE_BUFFER_SIZE;
+
+  /**
+   * True, if written elements are collected in the client side write buffer.
+   */
+  private boolean writeBufferEnabled;
+
   /**
    * Creates a new Configuration.
    *
@@ -126,6 +136,8 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
       graphTableName,
       vertexTableName,
       edgeTableName);
+    this.writeBufferSize = config.getWriteBufferSize();
+    this.writeBufferEnabled = config.isWriteBufferEnabled();
   }
 
   /**
@@ -221,4 +233,99 @@ public class GradoopHBaseConfig implements GradoopStoreConfig {
   public EdgeHandler getEdgeHandler() {
     return edgeHandler;
   }
+
+  /**
+   * Returns true, if the store collects written elements in a client side write buffer.
+   *
+   * @return true, if writes are buffered
+   */
+  public boolean isWriteBufferEnabled() {
+    return writeBufferEnabled;
+  }
+
+  /**
+   * Enables or disables the client side write buffer of the store. If enabled, written elements
+   * are sent to the region servers in batches and are not visible to reads until the buffer is
+   * full or the store is flushed or closed. If disabled (default), each element is sent directly.
+   *
+   * @param writeBufferEnabled true to buffer written elements
+   * @return this configuration
+   */
+  public GradoopHBaseConfig setWriteBufferEnabled(boolean writeBufferEnabled) {
+    this.writeBufferEnabled = writeBufferEnabled;
+    return this;
+  }
+
+  /**
+   * Get the size of the client side write buffer used by the store for each table.
+   *
+   * @return write buffer size in bytes or {@link HBaseConstants#DEFAULT_WRITE_BUFFER_SIZE}
+   */
+  public long getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  /**
+   * Set the size of the client side write buffer used by the store for each table. Written
+   * elements are sent to the region servers in batches as soon as the buffer is full. Only
+   * applies if the write buffer is enabled by {@link #setWriteBufferEnabled(boolean)}.
+   *
+   * @param writeBufferSize write buffer size in bytes
+   * @return this configuration
+   */
+  public GradoopHBaseConfig setWriteBufferSize(long writeBufferSize) {
+    checkArgument(writeBufferSize > 0, "Write buffer size must be positive");
+    this.writeBufferSize = writeBufferSize;
+    return this;
+  }
+
+  /**
+   * Get the number of salt buckets the row keys of all element tables are distributed over.
+   *
+   * @return number of salt buckets, 0 if row keys are not salted
+   */
+  public int getSaltBuckets() {
+    return vertexHandler.getSaltBuckets();
+  }
+
+  /**
+   * Set the number of salt buckets the row keys of all element tables are distributed over.
+   * Tables are pre-split into one region per bucket on creation, so that writes of
+   * sequentially created ids and parallel scans are spread over all region servers. The value
+   * has to be the same for every store accessing existing tables.
+   *
+   * @param saltBuckets number of salt buckets in [0, 256], 0 disables salting
+   * @return this configuration
+   */
+  public GradoopHBaseConfig setSaltBuckets(int saltBuckets) {
+    checkArgument(saltBuckets >= 0 && saltBuckets <= HBaseConstants.MAX_SALT_BUCKETS,
+      "Number of salt buckets must be in [0, " + HBaseConstants.MAX_SALT_BUCKETS + "]");
+    graphHeadHandler.setSaltBuckets(saltBuckets);
+    vertexHandler.setSaltBuckets(saltBuckets);
+    edgeHandler.setSaltBuckets(saltBuckets);
+    return this;
+  }
+
+  /**
+   * Returns true, if the adjacency of each vertex is stored in the vertex table.
+   *
+   * @return true, if the adjacency column family is maintained
+   */
+  public boolean isAdjacencyEnabled() {
+    return vertexHandler.isAdjacencyEnabled();
+  }
+
+  /**
+   * Enables or disables the adjacency column family of the vertex table. If enabled, each
+   * written edge is also added to the rows of its source and target vertex, which allows
+   * reading the k-hop neighborhood of a vertex by multi-gets instead of edge table scans.
+   * Edges written while the adjacency was disabled are not contained in it.
+   *
+   * @param adjacencyEnabled true to maintain the adjacency column family
+   * @return this configuration
+   */
+  public GradoopHBaseConfig setAdjacencyEnabled(boolean adjacencyEnabled) {
+    vertexHandler.setAdjacencyEnabled(adjacencyEnabled);
+    return this;
+  }
 }
@@ -16,7 +16,9 @@
 package org.gradoop.storage.impl.hbase;
 
 import com.google.common.base.Preconditions;
-import org.apache.hadoop.hbase.client.Admin;
+import com.google.common.collect.Iterables;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
@@ -28,16 +30,20 @@ import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.storage.common.api.EPGMConfigProvider;
 import org.gradoop.storage.common.api.EPGMGraphInput;
+import org.gradoop.storage.common.api.EPGMGraphNeighborhoodOutput;
 import org.gradoop.storage.common.api.EPGMGraphPredictableOutput;
 import org.gradoop.storage.common.iterator.ClosableIterator;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.config.GradoopHBaseConfig;
 import org.gradoop.storage.impl.hbase.api.EdgeHandler;
+import org.gradoop.storage.impl.hbase.api.ElementHandler;
 import org.gradoop.storage.impl.hbase.api.GraphHeadHandler;
 import org.gradoop.storage.impl.hbase.api.VertexHandler;
 import org.gradoop.storage.impl.hbase.predicate.filter.HBaseFilterUtils;
@@ -49,16 +55,30 @@ import org.gradoop.storage.impl.hbase.iterator.HBaseVertexIterator;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Default HBase graph store that handles reading and writing vertices and
  * graphs from and to HBase.
  *
+ * Elements are written through a {@link BufferedMutator} for each table. By default, each
+ * element is sent to the region servers directly and can be read once the write method returns.
+ * If the write buffer is enabled by {@link GradoopHBaseConfig#setWriteBufferEnabled(boolean)},
+ * elements are collected on the client and sent in batches. Buffered elements are written on
+ * {@link #flush()}, on {@link #close()} or if the buffer is full, and are not returned by reads
+ * before that.
+ *
  * @see EPGMGraphPredictableOutput
  */
 public class HBaseEPGMStore implements
   EPGMConfigProvider<GradoopHBaseConfig>,
   EPGMGraphInput,
+  EPGMGraphNeighborhoodOutput,
   EPGMGraphPredictableOutput<
     HBaseElementFilter<GraphHead>,
     HBaseElementFilter<Vertex>,
@@ -81,9 +101,17 @@ public class HBaseEPGMStore implements
    */
   private final Table edgeTable;
   /**
-   * HBase admin instance
+   * Buffered writer for the graph table.
+   */
+  private final BufferedMutator graphHeadMutator;
+  /**
+   * Buffered writer for the vertex table.
    */
-  private final Admin admin;
+  private final BufferedMutator vertexMutator;
+  /**
+   * Buffered writer for the edge table.
+   */
+  private final BufferedMutator edgeMutator;
   /**
    * Auto flush flag, default false
    */
@@ -96,21 +124,27 @@ public class HBaseEPGMStore implements
    * @param graphHeadTable HBase table to store graph data
    * @param vertexTable HBase table to store vertex data
    * @param edgeTable HBase table to store edge data
+   * @param graphHeadMutator buffered writer for the graph table
+   * @param vertexMutator buffered writer for the vertex table
+   * @param edgeMutator buffered writer for the edge table
    * @param config Gradoop Configuration
-   * @param admin HBase admin instance
    */
   public HBaseEPGMStore(
     final Table graphHeadTable,
     final Table vertexTable,
     final Table edgeTable,
-    final GradoopHBaseConfig config,
-    final Admin admin
+    final BufferedMutator graphHeadMutator,
+    final BufferedMutator vertexMutator,
+    final BufferedMutator edgeMutator,
+    final GradoopHBaseConfig config
   ) {
     this.graphHeadTable = Preconditions.checkNotNull(graphHeadTable);
     this.vertexTable = Preconditions.checkNotNull(vertexTable);
     this.edgeTable = Preconditions.checkNotNull(edgeTable);
+    this.graphHeadMutator = Preconditions.checkNotNull(graphHeadMutator);
+    this.vertexMutator = Preconditions.checkNotNull(vertexMutator);
+    this.edgeMutator = Preconditions.checkNotNull(edgeMutator);
     this.config = Preconditions.checkNotNull(config);
-    this.admin = Preconditions.checkNotNull(admin);
   }
 
   /**
@@ -155,11 +189,9 @@ public class HBaseEPGMStore implements
     Put put = new Put(graphHeadHandler.getRowKey(graphHead.getId()));
     // write graph to Put
     put = graphHeadHandler.writeGraphHead(put, graphHead);
-    // write to table
-    graphHeadTable.put(put);
-    if (autoFlush) {
-      admin.flush(graphHeadTable.getName());
-    }
+    // write to buffer
+    graphHeadMutator.mutate(put);
+    flushUnlessBuffered(graphHeadMutator);
   }
 
   /**
@@ -172,11 +204,9 @@ public class HBaseEPGMStore implements
     Put put = new Put(vertexHandler.getRowKey(vertexData.getId()));
     // write vertex data to Put
     put = vertexHandler.writeVertex(put, vertexData);
-    // write to table
-    vertexTable.put(put);
-    if (autoFlush) {
-      admin.flush(vertexTable.getName());
-    }
+    // write to buffer
+    vertexMutator.mutate(put);
+    flushUnlessBuffered(vertexMutator);
   }
 
   /**
@@ -184,15 +214,23 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void writeEdge(@Nonnull final EPGMEdge edgeData) throws IOException {
-    // write to table
     EdgeHandler edgeHandler = config.getEdgeHandler();
     // edge id
     Put put = new Put(edgeHandler.getRowKey(edgeData.getId()));
     // write edge data to Put
     put = edgeHandler.writeEdge(put, edgeData);
-    edgeTable.put(put);
-    if (autoFlush) {
-      admin.flush(edgeTable.getName());
+    // write to buffer
+    edgeMutator.mutate(put);
+    flushUnlessBuffered(edgeMutator);
+    // maintain adjacency of source and target vertex
+    VertexHandler vertexHandler = config.getVertexHandler();
+    if (vertexHandler.isAdjacencyEnabled()) {
+      vertexMutator.mutate(Arrays.asList(
+        vertexHandler.writeOutgoingEdge(
+          new Put(vertexHandler.getRowKey(edgeData.getSourceId())), edgeData),
+        vertexHandler.writeIncomingEdge(
+          new Put(vertexHandler.getRowKey(edgeData.getTargetId())), edgeData)));
+      flushUnlessBuffered(vertexMutator);
     }
   }
 
@@ -203,7 +241,7 @@ public class HBaseEPGMStore implements
   public GraphHead readGraph(@Nonnull final GradoopId graphId) throws IOException {
     GraphHead graphData = null;
     GraphHeadHandler graphHeadHandler = config.getGraphHeadHandler();
-    Result res = graphHeadTable.get(new Get(graphId.toByteArray()));
+    Result res = graphHeadTable.get(new Get(graphHeadHandler.getRowKey(graphId)));
     if (!res.isEmpty()) {
       graphData = graphHeadHandler.readGraphHead(res);
     }
@@ -218,7 +256,13 @@ public class HBaseEPGMStore implements
     Vertex vertexData = null;
     VertexHandler vertexHandler = config.getVertexHandler();
     byte[] rowKey = vertexHandler.getRowKey(vertexId);
-    Result res = vertexTable.get(new Get(rowKey));
+    Get get = new Get(rowKey);
+    if (vertexHandler.isAdjacencyEnabled()) {
+      for (byte[] family : vertexHandler.getVertexDataFamilies()) {
+        get.addFamily(family);
+      }
+    }
+    Result res = vertexTable.get(get);
     if (!res.isEmpty()) {
       vertexData = vertexHandler.readVertex(res);
     }
@@ -254,7 +298,7 @@ public class HBaseEPGMStore implements
     scan.setMaxVersions(1);
 
     if (query != null) {
-      attachFilter(query, scan);
+      attachFilter(query, scan, config.getGraphHeadHandler());
     }
 
     return new HBaseGraphIterator(graphHeadTable.getScanner(scan), config.getGraphHeadHandler());
@@ -273,8 +317,14 @@ public class HBaseEPGMStore implements
     scan.setCaching(cacheSize);
     scan.setMaxVersions(1);
 
+    if (config.getVertexHandler().isAdjacencyEnabled()) {
+      for (byte[] family : config.getVertexHandler().getVertexDataFamilies()) {
+        scan.addFamily(family);
+      }
+    }
+
     if (query != null) {
-      attachFilter(query, scan);
+      attachFilter(query, scan, config.getVertexHandler());
     }
 
     return new HBaseVertexIterator(vertexTable.getScanner(scan), config.getVertexHandler());
@@ -294,7 +344,7 @@ public class HBaseEPGMStore implements
     scan.setMaxVersions(1);
 
     if (query != null) {
-      attachFilter(query, scan);
+      attachFilter(query, scan, config.getEdgeHandler());
     }
 
     return new HBaseEdgeIterator(edgeTable.getScanner(scan), config.getEdgeHandler());
@@ -310,12 +360,16 @@ public class HBaseEPGMStore implements
 
   /**
    * {@inheritDoc}
+   *
+   * Sends all buffered elements to the region servers. Buffered elements are not visible to reads
+   * before. In contrast to a flush of the region servers' memstores, this only blocks until the
+   * elements are persisted in the write ahead log.
    */
   @Override
   public void flush() throws IOException {
-    admin.flush(vertexTable.getName());
-    admin.flush(edgeTable.getName());
-    admin.flush(graphHeadTable.getName());
+    vertexMutator.flush();
+    edgeMutator.flush();
+    graphHeadMutator.flush();
   }
 
   /**
@@ -323,26 +377,144 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void close() throws IOException {
+    vertexMutator.close();
+    edgeMutator.close();
+    graphHeadMutator.close();
     vertexTable.close();
     edgeTable.close();
     graphHeadTable.close();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The neighborhood is traversed hop by hop using batched multi-gets on the adjacency column
+   * family of the vertex table, which has to be enabled by
+   * {@link GradoopHBaseConfig#setAdjacencyEnabled(boolean)}. Otherwise, an
+   * {@link IllegalStateException} is thrown.
+   */
+  @Nonnull
+  @Override
+  public Tuple2<List<Vertex>, List<Edge>> getNeighborhood(
+    @Nonnull GradoopIdSet vertexIds,
+    int hops,
+    @Nonnull Neighborhood.EdgeDirection direction
+  ) throws IOException {
+    Tuple2<Set<GradoopId>, Set<GradoopId>> neighborhood = traverse(vertexIds, hops, direction);
+
+    VertexHandler vertexHandler = config.getVertexHandler();
+    List<Vertex> vertices = new ArrayList<>(neighborhood.f0.size());
+    for (Result res : readRows(vertexTable, vertexHandler, neighborhood.f0,
+      vertexHandler.getVertexDataFamilies())) {
+      vertices.add(vertexHandler.readVertex(res));
+    }
+
+    EdgeHandler edgeHandler = config.getEdgeHandler();
+    List<Edge> edges = new ArrayList<>(neighborhood.f1.size());
+    for (Result res : readRows(edgeTable, edgeHandler, neighborhood.f1)) {
+      edges.add(edgeHandler.readEdge(res));
+    }
+    return Tuple2.of(vertices, edges);
+  }
+
+  /**
+   * Traverses the neighborhood of the given vertices breadth first. Each hop reads the
+   * adjacency of all vertices reached by the previous hop with batched multi-gets.
+   *
+   * @param vertexIds ids of the start vertices
+   * @param hops      maximum number of edges to traverse
+   * @param direction direction of the edges to traverse
+   * @return ids of the vertices reached and ids of the edges traversed
+   * @throws IOException if reading the adjacency fails
+   */
+  private Tuple2<Set<GradoopId>, Set<GradoopId>> traverse(
+    GradoopIdSet vertexIds,
+    int hops,
+    Neighborhood.EdgeDirection direction
+  ) throws IOException {
+    Preconditions.checkArgument(hops >= 0, "Number of hops must not be negative");
+    VertexHandler vertexHandler = config.getVertexHandler();
+    if (!vertexHandler.isAdjacencyEnabled()) {
+      throw new IllegalStateException(
+        "Neighborhood reads require the adjacency column family to be enabled");
+    }
+
+    Set<GradoopId> visitedVertexIds = new HashSet<>(vertexIds);
+    Set<GradoopId> edgeIds = new HashSet<>();
+    List<GradoopId> frontier = new ArrayList<>(vertexIds);
+
+    for (int hop = 0; hop < hops && !frontier.isEmpty(); hop++) {
+      List<GradoopId> nextFrontier = new ArrayList<>();
+      for (Result res : readRows(vertexTable, vertexHandler, frontier,
+        vertexHandler.getAdjacencyFamily())) {
+        GradoopId vertexId = vertexHandler.getId(res.getRow());
+        for (Edge edge : vertexHandler.readAdjacentEdges(res, direction)) {
+          edgeIds.add(edge.getId());
+          GradoopId neighborId = vertexId.equals(edge.getSourceId()) ?
+            edge.getTargetId() : edge.getSourceId();
+          if (visitedVertexIds.add(neighborId)) {
+            nextFrontier.add(neighborId);
+          }
+        }
+      }
+      frontier = nextFrontier;
+    }
+    return Tuple2.of(visitedVertexIds, edgeIds);
+  }
+
+  /**
+   * Reads the rows of the given element ids from the given table using multi-gets of at most
+   * {@link #DEFAULT_CACHE_SIZE} rows. Missing rows are skipped.
+   *
+   * @param table    table to read from
+   * @param handler  element handler of the table
+   * @param ids      element ids
+   * @param families column families to read, all families if empty
+   * @return rows of the existing elements
+   * @throws IOException if reading the rows fails
+   */
+  private List<Result> readRows(
+    Table table,
+    ElementHandler handler,
+    Collection<GradoopId> ids,
+    byte[]... families
+  ) throws IOException {
+    List<Result> results = new ArrayList<>(ids.size());
+    for (List<GradoopId> batch : Iterables.partition(ids, DEFAULT_CACHE_SIZE)) {
+      List<Get> gets = new ArrayList<>(batch.size());
+      for (GradoopId id : batch) {
+        Get get = new Get(handler.getRowKey(id));
+        for (byte[] family : families) {
+          get.addFamily(family);
+        }
+        gets.add(get);
+      }
+      for (Result res : table.get(gets)) {
+        if (!res.isEmpty()) {
+          results.add(res);
+        }
+      }
+    }
+    return results;
+  }
+
   /**
    * Attach a HBase filter represented by the given query to the given scan instance.
    *
    * @param query the query that represents a filter
    * @param scan the HBase scan instance on which the filter will be applied
+   * @param handler the element handler of the scanned table
    * @param <T> the type of the EPGM element
    */
   private <T extends EPGMElement> void attachFilter(
     @Nonnull ElementQuery<HBaseElementFilter<T>> query,
-    @Nonnull Scan scan
+    @Nonnull Scan scan,
+    @Nonnull ElementHandler handler
   ) {
     FilterList conjunctFilters = new FilterList(FilterList.Operator.MUST_PASS_ALL);
 
     if (query.getQueryRanges() != null && !query.getQueryRanges().isEmpty()) {
-      conjunctFilters.addFilter(HBaseFilterUtils.getIdFilter(query.getQueryRanges()));
+      conjunctFilters.addFilter(HBaseFilterUtils.getIdFilter(query.getQueryRanges(), handler));
     }
 
     if (query.getFilterPredicate() != null) {
@@ -355,4 +527,16 @@ public class HBaseEPGMStore implements
     }
   }
 
+  /**
+   * Sends the written elements to the region servers, unless writes are buffered and auto flush
+   * is disabled.
+   *
+   * @param mutator writer of the element table
+   * @throws IOException if the elements could not be written
+   */
+  private void flushUnlessBuffered(BufferedMutator mutator) throws IOException {
+    if (autoFlush || !config.isWriteBufferEnabled()) {
+      mutator.flush();
+    }
+  }
 }
@@ -40,7 +40,7 @@ public interface ElementHandler extends Serializable {
    *                   null}).
    * @return persistent entity identifier
    */
-  byte[] getRowKey(final GradoopId entityData) throws IOException;
+  byte[] getRowKey(final GradoopId entityData);
 
   /**
    * Creates an identifier from a given row key.
@@ -48,7 +48,24 @@ public interface ElementHandler extends Serializable {
    * @param rowKey row key from the graph store (must not be {@code null})
    * @return entity identifier
    */
-  GradoopId getId(final byte[] rowKey) throws IOException;
+  GradoopId getId(final byte[] rowKey);
+
+  /**
+   * Returns the number of salt buckets row keys are distributed over.
+   *
+   * @return number of salt buckets, 0 if row keys are not salted
+   */
+  int getSaltBuckets();
+
+  /**
+   * Sets the number of salt buckets. If greater than 0, each row key is prefixed by a bucket
+   * byte derived from the element id, so that sequentially created ids are spread over all
+   * regions instead of hitting a single one. Tables created afterwards are pre-split into one
+   * region per bucket.
+   *
+   * @param saltBuckets number of salt buckets in [0, 256], 0 disables salting
+   */
+  void setSaltBuckets(int saltBuckets);
 
   /**
    * Adds the labels to the given {@link Put} and returns it.
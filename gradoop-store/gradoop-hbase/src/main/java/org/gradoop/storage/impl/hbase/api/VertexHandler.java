@@ -17,11 +17,16 @@ package org.gradoop.storage.impl.hbase.api;
 
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 
+import java.util.List;
+
 /**
  * Responsible for reading and writing vertex data from and to HBase.
  */
@@ -44,6 +49,65 @@ public interface VertexHandler extends GraphElementHandler {
    */
   Vertex readVertex(final Result res);
 
+  /**
+   * Returns true, if the adjacency of each vertex is stored in the vertex table.
+   *
+   * @return true, if the adjacency column family is maintained
+   */
+  boolean isAdjacencyEnabled();
+
+  /**
+   * Enables or disables the adjacency column family. If enabled, each vertex row holds the
+   * id, label and neighbor id of all its incoming and outgoing edges, which allows reading the
+   * neighborhood of a vertex without scanning the edge table.
+   *
+   * @param adjacencyEnabled true to maintain the adjacency column family
+   */
+  void setAdjacencyEnabled(boolean adjacencyEnabled);
+
+  /**
+   * Returns the column families holding the vertex data, i.e. all families of the vertex table
+   * except the adjacency family.
+   *
+   * @return vertex data column families
+   */
+  byte[][] getVertexDataFamilies();
+
+  /**
+   * Returns the column family holding the adjacency of a vertex.
+   *
+   * @return adjacency column family
+   */
+  byte[] getAdjacencyFamily();
+
+  /**
+   * Adds the given edge as outgoing edge to the {@link Put} of its source vertex.
+   *
+   * @param put      {@link Put} of the source vertex
+   * @param edgeData edge data to be written
+   * @return put with outgoing edge
+   */
+  Put writeOutgoingEdge(final Put put, final EPGMEdge edgeData);
+
+  /**
+   * Adds the given edge as incoming edge to the {@link Put} of its target vertex.
+   *
+   * @param put      {@link Put} of the target vertex
+   * @param edgeData edge data to be written
+   * @return put with incoming edge
+   */
+  Put writeIncomingEdge(final Put put, final EPGMEdge edgeData);
+
+  /**
+   * Reads the adjacent edges of a vertex from the given {@link Result}. The returned edges
+   * contain id, label, source and target id, but no properties and graph ids.
+   *
+   * @param res       HBase row containing the adjacency column family
+   * @param direction direction of the edges to read
+   * @return adjacent edges
+   */
+  List<Edge> readAdjacentEdges(final Result res, final Neighborhood.EdgeDirection direction);
+
   /**
    * Applies the given ElementQuery to the handler.
    *
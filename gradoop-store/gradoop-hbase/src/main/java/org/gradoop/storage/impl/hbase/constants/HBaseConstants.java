@@ -31,6 +31,21 @@ public final class HBaseConstants {
    * Default HBase table name for edges.
    */
   public static final String DEFAULT_TABLE_EDGES = "edges";
+  /**
+   * Value of the write buffer size indicating that the size configured for the HBase
+   * client ({@code hbase.client.write.buffer}) is used.
+   */
+  public static final long DEFAULT_WRITE_BUFFER_SIZE = -1L;
+
+  /**
+   * Default number of salt buckets, row keys are not salted.
+   */
+  public static final int DEFAULT_SALT_BUCKETS = 0;
+
+  /**
+   * Maximum number of salt buckets, the bucket is stored in a single row key byte.
+   */
+  public static final int MAX_SALT_BUCKETS = 256;
 
   /**
    * Column family name for label.
@@ -60,4 +75,16 @@ public final class HBaseConstants {
    * Column identifier for target vertex identifier.
    */
   public static final String COL_TARGET = "t";
+  /**
+   * Column family name for the adjacency of a vertex.
+   */
+  public static final String CF_ADJACENCY = "adj";
+  /**
+   * Column identifier prefix for outgoing edges.
+   */
+  public static final String COL_ADJACENCY_OUT = "o";
+  /**
+   * Column identifier prefix for incoming edges.
+   */
+  public static final String COL_ADJACENCY_IN = "i";
 }
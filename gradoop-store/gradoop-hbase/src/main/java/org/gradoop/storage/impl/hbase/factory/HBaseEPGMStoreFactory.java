@@ -16,9 +16,12 @@
 package org.gradoop.storage.impl.hbase.factory;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HColumnDescriptor;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.Table;
@@ -80,6 +83,28 @@ public class HBaseEPGMStoreFactory {
   public static HBaseEPGMStore createOrOpenEPGMStore(
     final Configuration config,
     final GradoopHBaseConfig gradoopHBaseConfig
+  ) {
+    return createOrOpenEPGMStore(
+      config, gradoopHBaseConfig, (BufferedMutator.ExceptionListener) null);
+  }
+
+  /**
+   * Creates a graph store or opens an existing one based on the given
+   * parameters. If something goes wrong, {@code null} is returned.
+   *
+   * Elements that could not be written are reported asynchronously to the given listener. If no
+   * listener is given, the failure is thrown by the next write or flush of the store.
+   *
+   * @param config              Hadoop cluster configuration
+   * @param gradoopHBaseConfig  Gradoop HBase configuration
+   * @param exceptionListener   listener for failed writes (may be {@code null})
+   *
+   * @return EPGM store instance or {@code null in the case of errors}
+   */
+  public static HBaseEPGMStore createOrOpenEPGMStore(
+    final Configuration config,
+    final GradoopHBaseConfig gradoopHBaseConfig,
+    final BufferedMutator.ExceptionListener exceptionListener
   ) {
     try {
       Connection connection = ConnectionFactory.createConnection(config);
@@ -102,8 +127,13 @@ public class HBaseEPGMStoreFactory {
         graphDataTable,
         vertexDataTable,
         edgeDataTable,
-        gradoopHBaseConfig,
-        connection.getAdmin()
+        connection.getBufferedMutator(createMutatorParams(
+          gradoopHBaseConfig, gradoopHBaseConfig.getGraphTableName(), exceptionListener)),
+        connection.getBufferedMutator(createMutatorParams(
+          gradoopHBaseConfig, gradoopHBaseConfig.getVertexTableName(), exceptionListener)),
+        connection.getBufferedMutator(createMutatorParams(
+          gradoopHBaseConfig, gradoopHBaseConfig.getEdgeTableName(), exceptionListener)),
+        gradoopHBaseConfig
       );
     } catch (IOException e) {
       e.printStackTrace();
@@ -164,6 +194,29 @@ public class HBaseEPGMStoreFactory {
     }
   }
 
+  /**
+   * Creates the parameters of a buffered writer for the given table.
+   *
+   * @param gradoopHBaseConfig  Gradoop HBase configuration
+   * @param tableName           name of the table to write to
+   * @param exceptionListener   listener for failed writes (may be {@code null})
+   * @return buffered writer parameters
+   */
+  private static BufferedMutatorParams createMutatorParams(
+    final GradoopHBaseConfig gradoopHBaseConfig,
+    final TableName tableName,
+    final BufferedMutator.ExceptionListener exceptionListener
+  ) {
+    BufferedMutatorParams params = new BufferedMutatorParams(tableName);
+    if (gradoopHBaseConfig.getWriteBufferSize() != HBaseConstants.DEFAULT_WRITE_BUFFER_SIZE) {
+      params.writeBufferSize(gradoopHBaseConfig.getWriteBufferSize());
+    }
+    if (exceptionListener != null) {
+      params.listener(exceptionListener);
+    }
+    return params;
+  }
+
   /**
    * Creates the tables used by the graph store.
    *
@@ -188,6 +241,10 @@ public class HBaseEPGMStoreFactory {
 
     if (!admin.tableExists(vertexTableName)) {
       vertexHandler.createTable(admin, new HTableDescriptor(vertexTableName));
+    } else if (vertexHandler.isAdjacencyEnabled() && !admin.getTableDescriptor(vertexTableName)
+      .hasFamily(vertexHandler.getAdjacencyFamily())) {
+      // add adjacency to a vertex table created without it
+      admin.addColumn(vertexTableName, new HColumnDescriptor(vertexHandler.getAdjacencyFamily()));
     }
     if (!admin.tableExists(edgeTableName)) {
       edgeHandler.createTable(admin, new HTableDescriptor(edgeTableName));
@@ -89,7 +89,7 @@ public class HBaseEdgeHandler extends HBaseGraphElementHandler implements EdgeHa
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_TYPE));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_VALUE));
-    admin.createTable(tableDescriptor);
+    createSaltedTable(admin, tableDescriptor);
   }
 
   /**
@@ -15,6 +15,8 @@
  */
 package org.gradoop.storage.impl.hbase.handler;
 
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -27,6 +29,7 @@ import org.gradoop.storage.impl.hbase.api.ElementHandler;
 import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -39,40 +42,105 @@ public abstract class HBaseElementHandler implements ElementHandler {
    */
   static final byte[] CF_META_BYTES = Bytes.toBytes(HBaseConstants.CF_META);
 
-  /**
-   * Byte representation of the label column identifier.
-   */
-  private static final byte[] COL_LABEL_BYTES = Bytes.toBytes(HBaseConstants.COL_LABEL);
-
   /**
    * Byte representation of the property type column family.
    */
-  private static final byte[] CF_PROPERTY_TYPE_BYTES =
+  static final byte[] CF_PROPERTY_TYPE_BYTES =
     Bytes.toBytes(HBaseConstants.CF_PROPERTY_TYPE);
 
   /**
    * Byte representation of the property value column family.
    */
-  private static final byte[] CF_PROPERTY_VALUE_BYTES =
+  static final byte[] CF_PROPERTY_VALUE_BYTES =
     Bytes.toBytes(HBaseConstants.CF_PROPERTY_VALUE);
 
+  /**
+   * Byte representation of the label column identifier.
+   */
+  private static final byte[] COL_LABEL_BYTES = Bytes.toBytes(HBaseConstants.COL_LABEL);
+
+  /**
+   * Number of salt buckets the row keys are distributed over, 0 if row keys are not salted.
+   */
+  private int saltBuckets = HBaseConstants.DEFAULT_SALT_BUCKETS;
+
   /**
    * {@inheritDoc}
    */
   @Override
-  public byte[] getRowKey(final GradoopId elementId) throws IOException {
-    return elementId.toByteArray();
+  public byte[] getRowKey(final GradoopId elementId) {
+    byte[] idBytes = elementId.toByteArray();
+    if (saltBuckets == 0) {
+      return idBytes;
+    }
+    byte[] rowKey = new byte[GradoopId.ID_SIZE + 1];
+    rowKey[0] = getSaltBucket(idBytes);
+    System.arraycopy(idBytes, 0, rowKey, 1, GradoopId.ID_SIZE);
+    return rowKey;
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public GradoopId getId(final byte[] rowKey) throws IOException {
+  public GradoopId getId(final byte[] rowKey) {
     if (rowKey == null) {
       throw new IllegalArgumentException("rowKey must not be null");
     }
-    return GradoopId.fromByteArray(rowKey);
+    // salted row keys are prefixed by a single bucket byte
+    return rowKey.length == GradoopId.ID_SIZE + 1 ?
+      GradoopId.fromByteArray(Arrays.copyOfRange(rowKey, 1, rowKey.length)) :
+      GradoopId.fromByteArray(rowKey);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getSaltBuckets() {
+    return saltBuckets;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setSaltBuckets(int saltBuckets) {
+    if (saltBuckets < 0 || saltBuckets > HBaseConstants.MAX_SALT_BUCKETS) {
+      throw new IllegalArgumentException("Number of salt buckets must be in [0, " +
+        HBaseConstants.MAX_SALT_BUCKETS + "]: " + saltBuckets);
+    }
+    this.saltBuckets = saltBuckets;
+  }
+
+  /**
+   * Returns the keys the table is pre-split at, one region per salt bucket.
+   *
+   * @return split keys or an empty array if row keys are not salted
+   */
+  byte[][] getSplitKeys() {
+    byte[][] splitKeys = new byte[Math.max(saltBuckets - 1, 0)][];
+    for (int i = 0; i < splitKeys.length; i++) {
+      splitKeys[i] = new byte[] {(byte) (i + 1)};
+    }
+    return splitKeys;
+  }
+
+  /**
+   * Creates the table described by the given descriptor. If row keys are salted, the table is
+   * pre-split into one region per salt bucket.
+   *
+   * @param admin           HBase admin
+   * @param tableDescriptor description of the table
+   * @throws IOException on failure
+   */
+  void createSaltedTable(Admin admin, HTableDescriptor tableDescriptor) throws IOException {
+    byte[][] splitKeys = getSplitKeys();
+    if (splitKeys.length == 0) {
+      admin.createTable(tableDescriptor);
+    } else {
+      admin.createTable(tableDescriptor, splitKeys);
+    }
   }
 
   /**
@@ -147,6 +215,16 @@ public abstract class HBaseElementHandler implements ElementHandler {
    * @return gradoop id
    */
   GradoopId readId(Result res) {
-    return GradoopId.fromByteArray(res.getRow());
+    return getId(res.getRow());
+  }
+
+  /**
+   * Computes the salt bucket of the given id bytes.
+   *
+   * @param idBytes byte representation of a gradoop id
+   * @return salt bucket in [0, saltBuckets)
+   */
+  private byte getSaltBucket(byte[] idBytes) {
+    return (byte) ((Arrays.hashCode(idBytes) & Integer.MAX_VALUE) % saltBuckets);
   }
 }
@@ -78,7 +78,7 @@ public class HBaseGraphHeadHandler extends HBaseElementHandler implements GraphH
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_TYPE));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_VALUE));
-    admin.createTable(tableDescriptor);
+    createSaltedTable(admin, tableDescriptor);
   }
 
   /**
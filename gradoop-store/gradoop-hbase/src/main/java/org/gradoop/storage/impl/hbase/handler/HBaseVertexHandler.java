@@ -20,15 +20,26 @@ import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
 import org.gradoop.storage.impl.hbase.api.VertexHandler;
 import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Used to read/write EPGM vertex data from/to a HBase table.
@@ -42,6 +53,18 @@ import java.io.IOException;
  * |         |----------|---------|----|----|
  * |         | "Person" |  [0,2]  | v1 | v2 |
  * |---------|----------|---------|----|----|
+ * <p>
+ * If the adjacency is enabled, the column family {@code adj} additionally holds one column per
+ * outgoing ({@code o}) and incoming ({@code i}) edge. The column identifier is the direction
+ * followed by the edge id, the value is the neighbor id followed by the edge label:
+ * <p>
+ * |---------|---------------------------------------|
+ * | row-key | adj                                   |
+ * |---------|-------------------|-------------------|
+ * | "0"     | o + "3"           | i + "4"           |
+ * |         |-------------------|-------------------|
+ * |         | "1" + "knows"     | "2" + "likes"     |
+ * |---------|-------------------|-------------------|
  */
 public class HBaseVertexHandler extends HBaseGraphElementHandler implements VertexHandler {
 
@@ -50,16 +73,43 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
    */
   private static final long serialVersionUID = 42L;
 
+  /**
+   * Byte representation of the adjacency column family.
+   */
+  private static final byte[] CF_ADJACENCY_BYTES = Bytes.toBytes(HBaseConstants.CF_ADJACENCY);
+
+  /**
+   * Column identifier prefix of outgoing edges.
+   */
+  private static final byte COL_ADJACENCY_OUT_BYTE =
+    Bytes.toBytes(HBaseConstants.COL_ADJACENCY_OUT)[0];
+
+  /**
+   * Column identifier prefix of incoming edges.
+   */
+  private static final byte COL_ADJACENCY_IN_BYTE =
+    Bytes.toBytes(HBaseConstants.COL_ADJACENCY_IN)[0];
+
   /**
    * Creates vertex data objects from the rows.
    */
   private final EPGMVertexFactory<Vertex> vertexFactory;
 
+  /**
+   * Creates the adjacent edges read from the adjacency column family.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
   /**
    * An optional query to define predicates for the graph store.
    */
   private ElementQuery<HBaseElementFilter<Vertex>> vertexQuery;
 
+  /**
+   * True, if the adjacency column family is maintained.
+   */
+  private boolean adjacencyEnabled;
+
   /**
    * Creates a vertex handler.
    *
@@ -67,6 +117,7 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
    */
   public HBaseVertexHandler(EPGMVertexFactory<Vertex> vertexFactory) {
     this.vertexFactory = vertexFactory;
+    this.edgeFactory = new EdgeFactory();
   }
 
   /**
@@ -78,7 +129,10 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_META));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_TYPE));
     tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_PROPERTY_VALUE));
-    admin.createTable(tableDescriptor);
+    if (adjacencyEnabled) {
+      tableDescriptor.addFamily(new HColumnDescriptor(HBaseConstants.CF_ADJACENCY));
+    }
+    createSaltedTable(admin, tableDescriptor);
   }
 
   /**
@@ -101,6 +155,84 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
       readGraphIds(res));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isAdjacencyEnabled() {
+    return adjacencyEnabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setAdjacencyEnabled(boolean adjacencyEnabled) {
+    this.adjacencyEnabled = adjacencyEnabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[][] getVertexDataFamilies() {
+    return new byte[][] {CF_META_BYTES, CF_PROPERTY_TYPE_BYTES, CF_PROPERTY_VALUE_BYTES};
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] getAdjacencyFamily() {
+    return CF_ADJACENCY_BYTES.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Put writeOutgoingEdge(Put put, EPGMEdge edgeData) {
+    return writeAdjacentEdge(put, COL_ADJACENCY_OUT_BYTE, edgeData, edgeData.getTargetId());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Put writeIncomingEdge(Put put, EPGMEdge edgeData) {
+    return writeAdjacentEdge(put, COL_ADJACENCY_IN_BYTE, edgeData, edgeData.getSourceId());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Edge> readAdjacentEdges(Result res, Neighborhood.EdgeDirection direction) {
+    GradoopId vertexId = readId(res);
+    List<Edge> edges = new ArrayList<>();
+    Map<byte[], byte[]> adjacency = res.getFamilyMap(CF_ADJACENCY_BYTES);
+    if (adjacency == null) {
+      return edges;
+    }
+    for (Map.Entry<byte[], byte[]> column : adjacency.entrySet()) {
+      byte[] qualifier = column.getKey();
+      byte[] value = column.getValue();
+      boolean outgoing = qualifier[0] == COL_ADJACENCY_OUT_BYTE;
+      if ((outgoing && direction == Neighborhood.EdgeDirection.IN) ||
+        (!outgoing && direction == Neighborhood.EdgeDirection.OUT)) {
+        continue;
+      }
+      GradoopId edgeId = GradoopId.fromByteArray(Arrays.copyOfRange(qualifier, 1,
+        GradoopId.ID_SIZE + 1));
+      GradoopId neighborId = GradoopId.fromByteArray(Arrays.copyOf(value, GradoopId.ID_SIZE));
+      String label = Bytes.toString(value, GradoopId.ID_SIZE, value.length - GradoopId.ID_SIZE);
+      edges.add(outgoing ?
+        edgeFactory.initEdge(edgeId, label, vertexId, neighborId) :
+        edgeFactory.initEdge(edgeId, label, neighborId, vertexId));
+    }
+    return edges;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -117,4 +249,22 @@ public class HBaseVertexHandler extends HBaseGraphElementHandler implements Vert
   public ElementQuery<HBaseElementFilter<Vertex>> getQuery() {
     return this.vertexQuery;
   }
+
+  /**
+   * Adds an adjacency column for the given edge to the given {@link Put}.
+   *
+   * @param put        {@link Put} of the adjacent vertex
+   * @param direction  direction prefix of the column identifier
+   * @param edgeData   adjacent edge
+   * @param neighborId id of the vertex at the other end of the edge
+   * @return put with adjacent edge
+   */
+  private Put writeAdjacentEdge(Put put, byte direction, EPGMEdge edgeData,
+    GradoopId neighborId) {
+    byte[] qualifier = new byte[GradoopId.ID_SIZE + 1];
+    qualifier[0] = direction;
+    System.arraycopy(edgeData.getId().toByteArray(), 0, qualifier, 1, GradoopId.ID_SIZE);
+    byte[] label = edgeData.getLabel() == null ? new byte[0] : Bytes.toBytes(edgeData.getLabel());
+    return put.addColumn(CF_ADJACENCY_BYTES, qualifier, Bytes.add(neighborId.toByteArray(), label));
+  }
 }
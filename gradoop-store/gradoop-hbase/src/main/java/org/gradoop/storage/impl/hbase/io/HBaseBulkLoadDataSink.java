@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.storage.impl.hbase.api.VertexHandler;
+import org.gradoop.storage.impl.hbase.io.functions.BuildAdjacencyMutations;
+import org.gradoop.storage.impl.hbase.io.functions.BuildEdgeMutation;
+import org.gradoop.storage.impl.hbase.io.functions.BuildGraphHeadMutation;
+import org.gradoop.storage.impl.hbase.io.functions.BuildKeyValues;
+import org.gradoop.storage.impl.hbase.io.functions.BuildVertexMutation;
+import org.gradoop.storage.impl.hbase.io.functions.MergeKeyValues;
+import org.gradoop.storage.impl.hbase.io.outputformats.HFileOutputFormat;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Converts runtime representation of EPGM elements into persistent representations, writes them
+ * into HFiles and bulk loads these files into the HBase tables.
+ *
+ * In contrast to {@link HBaseDataSink}, the elements are not sent to the region servers. They
+ * are range partitioned and sorted by row key within Flink, written into HFiles below the given
+ * staging directory and moved into the tables after the job finished. This bypasses the write
+ * ahead log and the memstores of the region servers, which makes the sink suitable for (re)loading
+ * large graphs. The staging directory must be accessible by the region servers.
+ */
+public class HBaseBulkLoadDataSink extends HBaseBase implements DataSink {
+
+  /**
+   * Directory to stage the HFiles in.
+   */
+  private final String stagingPath;
+
+  /**
+   * Creates a new HBase bulk load data sink.
+   *
+   * @param epgmStore store implementation
+   * @param flinkConfig gradoop flink execute config
+   * @param stagingPath directory to stage the HFiles in
+   */
+  public HBaseBulkLoadDataSink(
+    @Nonnull HBaseEPGMStore epgmStore,
+    @Nonnull GradoopFlinkConfig flinkConfig,
+    @Nonnull String stagingPath
+  ) {
+    super(epgmStore, flinkConfig);
+    this.stagingPath = stagingPath;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(LogicalGraph logicalGraph) {
+    write(logicalGraph, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(GraphCollection graphCollection) {
+    write(graphCollection, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) {
+    write(getFlinkConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(GraphCollection graphCollection, boolean overWrite) {
+    if (overWrite) {
+      throw new NotImplementedException("Overwriting graphs is not implemented in this sink.");
+    }
+
+    // all cells of a bulk load share the same timestamp
+    long timestamp = System.currentTimeMillis();
+
+    writeHFiles(graphCollection.getGraphHeads()
+        .map(new BuildGraphHeadMutation(getHBaseConfig().getGraphHeadHandler())),
+      getHBaseConfig().getGraphTableName(), timestamp, false);
+
+    VertexHandler vertexHandler = getHBaseConfig().getVertexHandler();
+    DataSet<Tuple2<GradoopId, Mutation>> vertexMutations = graphCollection.getVertices()
+      .map(new BuildVertexMutation(vertexHandler));
+
+    // add edges to the adjacency of their source and target vertices
+    if (vertexHandler.isAdjacencyEnabled()) {
+      vertexMutations = vertexMutations
+        .union(graphCollection.getEdges().flatMap(new BuildAdjacencyMutations(vertexHandler)));
+    }
+
+    writeHFiles(vertexMutations, getHBaseConfig().getVertexTableName(), timestamp,
+      vertexHandler.isAdjacencyEnabled());
+
+    writeHFiles(graphCollection.getEdges()
+        .map(new BuildEdgeMutation(getHBaseConfig().getEdgeHandler())),
+      getHBaseConfig().getEdgeTableName(), timestamp, false);
+  }
+
+  /**
+   * Range partitions and sorts the given mutations by row key, writes them into HFiles and bulk
+   * loads these into the given table.
+   *
+   * @param mutations mutations of the elements to write
+   * @param tableName table to load the HFiles into
+   * @param timestamp timestamp of the written cells
+   * @param mergeRows true, if multiple mutations may share the same row
+   */
+  private void writeHFiles(
+    DataSet<Tuple2<GradoopId, Mutation>> mutations,
+    TableName tableName,
+    long timestamp,
+    boolean mergeRows
+  ) {
+    DataSet<Tuple2<String, byte[][]>> keyValues = mutations
+      .map(new BuildKeyValues(timestamp));
+
+    // the cells of a row have to be written in order
+    if (mergeRows) {
+      keyValues = keyValues
+        .groupBy(0)
+        .reduce(new MergeKeyValues());
+    }
+
+    keyValues
+      .partitionByRange(0)
+      .sortPartition(0, Order.ASCENDING)
+      .output(new HFileOutputFormat(tableName.getNameAsString(), new Path(stagingPath,
+        new Path(tableName.getNamespaceAsString(), tableName.getQualifierAsString())).toString()));
+  }
+}
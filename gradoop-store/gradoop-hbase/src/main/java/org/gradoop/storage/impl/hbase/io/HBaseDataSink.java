@@ -16,14 +16,20 @@
 package org.gradoop.storage.impl.hbase.io;
 
 import org.apache.commons.lang.NotImplementedException;
+import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
 import org.apache.hadoop.mapreduce.Job;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.impl.hbase.HBaseEPGMStore;
+import org.gradoop.storage.impl.hbase.api.VertexHandler;
+import org.gradoop.storage.impl.hbase.io.functions.BuildAdjacencyMutations;
 import org.gradoop.storage.impl.hbase.io.functions.BuildEdgeMutation;
 import org.gradoop.storage.impl.hbase.io.functions.BuildGraphHeadMutation;
 import org.gradoop.storage.impl.hbase.io.functions.BuildVertexMutation;
@@ -127,9 +133,17 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
     job.getConfiguration()
       .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName().getNameAsString());
 
-    collection.getVertices()
-      .map(new BuildVertexMutation(getHBaseConfig().getVertexHandler()))
-      .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
+    VertexHandler vertexHandler = getHBaseConfig().getVertexHandler();
+    DataSet<Tuple2<GradoopId, Mutation>> mutations = collection.getVertices()
+      .map(new BuildVertexMutation(vertexHandler));
+
+    // add edges to the adjacency of their source and target vertices
+    if (vertexHandler.isAdjacencyEnabled()) {
+      mutations = mutations
+        .union(collection.getEdges().flatMap(new BuildAdjacencyMutations(vertexHandler)));
+    }
+
+    mutations.output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
   }
 
   /**
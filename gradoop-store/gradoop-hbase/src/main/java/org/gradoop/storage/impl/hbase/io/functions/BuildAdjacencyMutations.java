@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.storage.impl.hbase.api.VertexHandler;
+
+/**
+ * Creates the HBase {@link Mutation}s adding an edge to the adjacency of its source and target
+ * vertex using the vertex data handler.
+ *
+ * edge => (sourceId, outgoing edge mutation), (targetId, incoming edge mutation)
+ */
+public class BuildAdjacencyMutations
+  implements FlatMapFunction<Edge, Tuple2<GradoopId, Mutation>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Vertex data handler to create Mutations.
+   */
+  private final VertexHandler vertexHandler;
+
+  /**
+   * Creates a new flat map function.
+   *
+   * @param vertexHandler vertex data handler
+   */
+  public BuildAdjacencyMutations(VertexHandler vertexHandler) {
+    this.vertexHandler = vertexHandler;
+  }
+
+  @Override
+  public void flatMap(Edge edge, Collector<Tuple2<GradoopId, Mutation>> out) {
+    out.collect(Tuple2.of(edge.getSourceId(), vertexHandler.writeOutgoingEdge(
+      new Put(vertexHandler.getRowKey(edge.getSourceId())), edge)));
+    out.collect(Tuple2.of(edge.getTargetId(), vertexHandler.writeIncomingEdge(
+      new Put(vertexHandler.getRowKey(edge.getTargetId())), edge)));
+  }
+}
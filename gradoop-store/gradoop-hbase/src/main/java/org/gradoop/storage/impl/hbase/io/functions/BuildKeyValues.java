@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a HBase {@link Mutation} into the sorted {@link KeyValue}s of its row. The row key is
+ * encoded as hex string, whose natural order equals the byte order of the row keys in HBase.
+ *
+ * (id, mutation) => (hexRowKey, [keyValue, ...])
+ */
+public class BuildKeyValues
+  implements MapFunction<Tuple2<GradoopId, Mutation>, Tuple2<String, byte[][]>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Comparator defining the order of cells in a HFile.
+   */
+  private static final CellComparator COMPARATOR = new CellComparator();
+
+  /**
+   * Timestamp of all cells which have no timestamp assigned.
+   */
+  private final long timestamp;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<String, byte[][]> reuseTuple;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param timestamp timestamp of all cells which have no timestamp assigned
+   */
+  public BuildKeyValues(long timestamp) {
+    this.timestamp = timestamp;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<String, byte[][]> map(Tuple2<GradoopId, Mutation> mutation) throws Exception {
+    List<Cell> keyValues = new ArrayList<>();
+    for (List<Cell> cells : mutation.f1.getFamilyCellMap().values()) {
+      for (Cell cell : cells) {
+        KeyValue keyValue = KeyValueUtil.copyToNewKeyValue(cell);
+        keyValue.updateLatestStamp(Bytes.toBytes(timestamp));
+        keyValues.add(keyValue);
+      }
+    }
+    keyValues.sort(COMPARATOR);
+
+    byte[][] serialized = new byte[keyValues.size()][];
+    for (int i = 0; i < serialized.length; i++) {
+      serialized[i] = KeyValueUtil.copyToNewByteArray(keyValues.get(i));
+    }
+
+    reuseTuple.f0 = Bytes.toHex(mutation.f1.getRow());
+    reuseTuple.f1 = serialized;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges the sorted {@link KeyValue}s of two records of the same row into the sorted
+ * {@link KeyValue}s of a single record.
+ *
+ * (hexRowKey, [keyValue, ...]), (hexRowKey, [keyValue, ...]) => (hexRowKey, [keyValue, ...])
+ */
+public class MergeKeyValues implements ReduceFunction<Tuple2<String, byte[][]>> {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Comparator defining the order of cells in a HFile.
+   */
+  private static final CellComparator COMPARATOR = new CellComparator();
+
+  @Override
+  public Tuple2<String, byte[][]> reduce(Tuple2<String, byte[][]> first,
+    Tuple2<String, byte[][]> second) {
+    List<Cell> keyValues = new ArrayList<>(first.f1.length + second.f1.length);
+    for (byte[] keyValue : first.f1) {
+      keyValues.add(new KeyValue(keyValue));
+    }
+    for (byte[] keyValue : second.f1) {
+      keyValues.add(new KeyValue(keyValue));
+    }
+    keyValues.sort(COMPARATOR);
+
+    byte[][] merged = new byte[keyValues.size()][];
+    for (int i = 0; i < merged.length; i++) {
+      merged[i] = KeyValueUtil.copyToNewByteArray(keyValues.get(i));
+    }
+    first.f1 = merged;
+    return first;
+  }
+}
@@ -59,8 +59,14 @@ public class VertexTableInputFormat extends BaseTableInputFormat<Vertex> {
     Scan scan = new Scan();
     scan.setCaching(EPGMGraphOutput.DEFAULT_CACHE_SIZE);
 
+    if (vertexHandler.isAdjacencyEnabled()) {
+      for (byte[] family : vertexHandler.getVertexDataFamilies()) {
+        scan.addFamily(family);
+      }
+    }
+
     if (vertexHandler.getQuery() != null) {
-      attachFilter(vertexHandler.getQuery(), scan);
+      attachFilter(vertexHandler.getQuery(), scan, vertexHandler);
     }
 
     return scan;
@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.io.outputformats;
+
+import org.apache.flink.api.common.io.FinalizeOnMaster;
+import org.apache.flink.api.common.io.InitializeOnMaster;
+import org.apache.flink.api.common.io.RichOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.io.hfile.CacheConfig;
+import org.apache.hadoop.hbase.io.hfile.HFileContextBuilder;
+import org.apache.hadoop.hbase.mapreduce.LoadIncrementalHFiles;
+import org.apache.hadoop.hbase.regionserver.StoreFile;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes sorted rows of a HBase table into HFiles and bulk loads them into the table after all
+ * tasks are finished. The rows are expected as produced by
+ * {@link org.gradoop.storage.impl.hbase.io.functions.BuildKeyValues} and must be sorted by row
+ * key within each partition.
+ *
+ * Each task writes one HFile per column family and region, i.e. a new file is started as soon
+ * as the row key crosses a region boundary. The files are stored in
+ * {@code <outputPath>/<column family>/} and moved into the table by the bulk load, which
+ * bypasses the write ahead log and the memstores of the region servers.
+ */
+public class HFileOutputFormat extends RichOutputFormat<Tuple2<String, byte[][]>>
+  implements InitializeOnMaster, FinalizeOnMaster {
+
+  /**
+   * Serial version uid.
+   */
+  private static final long serialVersionUID = 42L;
+
+  /**
+   * Name of the table to load the HFiles into.
+   */
+  private final String tableName;
+
+  /**
+   * Directory to write the HFiles to.
+   */
+  private final String outputPath;
+
+  /**
+   * HBase configuration of the current task.
+   */
+  private transient org.apache.hadoop.conf.Configuration hbaseConfig;
+
+  /**
+   * File system of the output path.
+   */
+  private transient FileSystem fileSystem;
+
+  /**
+   * Start keys of the regions of the table, encoded as hex strings.
+   */
+  private transient String[] regionStartKeys;
+
+  /**
+   * Index of the region of the rows written to the current files.
+   */
+  private transient int currentRegion;
+
+  /**
+   * Open HFile writers of the current region by column family.
+   */
+  private transient Map<String, StoreFile.Writer> writers;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param tableName name of the table to load the HFiles into
+   * @param outputPath directory to write the HFiles to, which must be accessible by the
+   *                   region servers
+   */
+  public HFileOutputFormat(String tableName, String outputPath) {
+    this.tableName = tableName;
+    this.outputPath = outputPath;
+  }
+
+  @Override
+  public void configure(Configuration parameters) {
+  }
+
+  /**
+   * Removes HFiles of previous runs from the output path.
+   *
+   * @param parallelism parallelism of the output format
+   * @throws IOException if the output path can not be deleted
+   */
+  @Override
+  public void initializeGlobal(int parallelism) throws IOException {
+    Path path = new Path(outputPath);
+    path.getFileSystem(HBaseConfiguration.create()).delete(path, true);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    hbaseConfig = HBaseConfiguration.create();
+    fileSystem = new Path(outputPath).getFileSystem(hbaseConfig);
+    writers = new HashMap<>();
+    currentRegion = -1;
+
+    try (Connection connection = ConnectionFactory.createConnection(hbaseConfig);
+      RegionLocator regionLocator = connection.getRegionLocator(TableName.valueOf(tableName))) {
+      regionStartKeys = Arrays.stream(regionLocator.getStartKeys())
+        .map(Bytes::toHex)
+        .toArray(String[]::new);
+    }
+    Arrays.sort(regionStartKeys);
+  }
+
+  @Override
+  public void writeRecord(Tuple2<String, byte[][]> row) throws IOException {
+    int region = getRegion(regionStartKeys, row.f0);
+    if (region != currentRegion) {
+      closeWriters();
+      currentRegion = region;
+    }
+
+    for (byte[] serialized : row.f1) {
+      KeyValue keyValue = new KeyValue(serialized);
+      String family = Bytes.toString(CellUtil.cloneFamily(keyValue));
+      StoreFile.Writer writer = writers.get(family);
+      if (writer == null) {
+        writer = createWriter(family);
+        writers.put(family, writer);
+      }
+      writer.append(keyValue);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writers != null) {
+      closeWriters();
+    }
+  }
+
+  /**
+   * Loads all HFiles written by the tasks into the table and removes the output path.
+   *
+   * @param parallelism parallelism of the output format
+   * @throws IOException if the bulk load fails
+   */
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    org.apache.hadoop.conf.Configuration config = HBaseConfiguration.create();
+    Path path = new Path(outputPath);
+    FileSystem fs = path.getFileSystem(config);
+    if (!fs.exists(path)) {
+      return;
+    }
+
+    LoadIncrementalHFiles loader;
+    try {
+      loader = new LoadIncrementalHFiles(config);
+    } catch (Exception e) {
+      throw new IOException("Could not create bulk loader", e);
+    }
+
+    TableName table = TableName.valueOf(tableName);
+    try (Connection connection = ConnectionFactory.createConnection(config);
+      Admin admin = connection.getAdmin();
+      Table hTable = connection.getTable(table);
+      RegionLocator regionLocator = connection.getRegionLocator(table)) {
+      loader.doBulkLoad(path, admin, hTable, regionLocator);
+    }
+    fs.delete(path, true);
+  }
+
+  /**
+   * Returns the index of the region containing the given row key.
+   *
+   * @param regionStartKeys sorted region start keys, encoded as hex strings
+   * @param rowKey row key, encoded as hex string
+   * @return region index
+   */
+  static int getRegion(String[] regionStartKeys, String rowKey) {
+    int index = Arrays.binarySearch(regionStartKeys, rowKey);
+    // the first region starts with the empty key, thus the insertion point is never 0
+    return index >= 0 ? index : -index - 2;
+  }
+
+  /**
+   * Creates a HFile writer for the given column family.
+   *
+   * @param family column family
+   * @return HFile writer
+   * @throws IOException if the file can not be created
+   */
+  private StoreFile.Writer createWriter(String family) throws IOException {
+    // the builder sorts by the default cell order of HBase, as used by BuildKeyValues
+    return new StoreFile.WriterBuilder(hbaseConfig, new CacheConfig(hbaseConfig), fileSystem)
+      .withOutputDir(new Path(outputPath, family))
+      .withFileContext(new HFileContextBuilder()
+        .withBlockSize(HConstants.DEFAULT_BLOCKSIZE)
+        .build())
+      .build();
+  }
+
+  /**
+   * Closes the HFile writers of the current region.
+   *
+   * @throws IOException if a file can not be closed
+   */
+  private void closeWriters() throws IOException {
+    for (StoreFile.Writer writer : writers.values()) {
+      writer.appendFileInfo(StoreFile.BULKLOAD_TIME_KEY, Bytes.toBytes(System.currentTimeMillis()));
+      writer.appendFileInfo(StoreFile.MAJOR_COMPACTION_KEY, Bytes.toBytes(true));
+      writer.appendTrackedTimestampsToMetadata();
+      writer.close();
+    }
+    writers.clear();
+  }
+}
@@ -25,6 +25,7 @@ import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.storage.impl.hbase.api.ElementHandler;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueUtils;
 
@@ -63,15 +64,16 @@ public class HBaseFilterUtils {
    * GradoopIds.
    *
    * @param elementIds a set of graph element GradoopIds to filter
+   * @param handler the element handler used to create the row keys of the ids
    * @return a HBase Filter object
    */
-  public static Filter getIdFilter(GradoopIdSet elementIds) {
+  public static Filter getIdFilter(GradoopIdSet elementIds, ElementHandler handler) {
     FilterList filterList = new FilterList(FilterList.Operator.MUST_PASS_ONE);
 
     for (GradoopId gradoopId : elementIds) {
       RowFilter rowFilter = new RowFilter(
         CompareFilter.CompareOp.EQUAL,
-        new BinaryComparator(gradoopId.toByteArray())
+        new BinaryComparator(handler.getRowKey(gradoopId))
       );
       filterList.addFilter(rowFilter);
     }
@@ -15,20 +15,32 @@
  */
 package org.gradoop.storage.impl.hbase;
 
+import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.HBaseConfiguration;
 import org.apache.hadoop.hbase.HBaseTestingUtility;
+import com.google.common.collect.Sets;
 import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.storage.config.GradoopHBaseConfig;
 import org.gradoop.storage.impl.hbase.factory.HBaseEPGMStoreFactory;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.regex.Pattern;
 
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+
 /**
  * Used for tests that need a HBase cluster to run.
  */
@@ -115,12 +127,26 @@ public class GradoopHBaseTestBase {
    * @return empty HBase graph store
    */
   public static HBaseEPGMStore createEmptyEPGMStore(String prefix) {
+    return createEmptyEPGMStore(prefix, GradoopHBaseConfig.getDefaultConfig());
+  }
+
+  /**
+   * Initializes and returns an empty graph store with a prefix at each table name.
+   *
+   * @param prefix the table prefix
+   * @param gradoopHBaseConfig the store configuration
+   * @return empty HBase graph store
+   */
+  public static HBaseEPGMStore createEmptyEPGMStore(
+    String prefix,
+    GradoopHBaseConfig gradoopHBaseConfig
+  ) {
     Configuration config = utility.getConfiguration();
 
     HBaseEPGMStoreFactory.deleteEPGMStore(config, prefix);
     return HBaseEPGMStoreFactory.createOrOpenEPGMStore(
       config,
-      GradoopHBaseConfig.getDefaultConfig(),
+      gradoopHBaseConfig,
       prefix
     );
   }
@@ -220,4 +246,64 @@ public class GradoopHBaseTestBase {
     epgmStore.flush();
   }
 
+  //----------------------------------------------------------------------------
+  // Validation
+  //----------------------------------------------------------------------------
+
+  /**
+   * Validates the neighborhood read from the store for each of the given vertices against the
+   * neighborhood computed from the given edges.
+   *
+   * @param epgmStore the store instance to read from
+   * @param vertices all vertices of the graph
+   * @param edges all edges of the graph
+   * @param hops maximum number of edges to traverse
+   * @param direction direction of the edges to traverse
+   * @throws IOException if reading from store fails
+   */
+  public static void validateNeighborhoods(
+    HBaseEPGMStore epgmStore,
+    Collection<Vertex> vertices,
+    Collection<Edge> edges,
+    int hops,
+    Neighborhood.EdgeDirection direction
+  ) throws IOException {
+    for (Vertex start : vertices) {
+      Set<GradoopId> reached = Sets.newHashSet(start.getId());
+      Set<Edge> traversed = new HashSet<>();
+      Set<GradoopId> frontier = Sets.newHashSet(start.getId());
+      for (int hop = 0; hop < hops; hop++) {
+        Set<GradoopId> nextFrontier = new HashSet<>();
+        for (Edge edge : edges) {
+          if (direction != Neighborhood.EdgeDirection.IN &&
+            frontier.contains(edge.getSourceId())) {
+            traversed.add(edge);
+            nextFrontier.add(edge.getTargetId());
+          }
+          if (direction != Neighborhood.EdgeDirection.OUT &&
+            frontier.contains(edge.getTargetId())) {
+            traversed.add(edge);
+            nextFrontier.add(edge.getSourceId());
+          }
+        }
+        nextFrontier.removeAll(reached);
+        reached.addAll(nextFrontier);
+        frontier = nextFrontier;
+      }
+
+      GradoopIdSet startIds = GradoopIdSet.fromExisting(start.getId());
+      List<Vertex> expectedVertices =
+        vertices.stream().filter(v -> reached.contains(v.getId())).collect(Collectors.toList());
+      Tuple2<List<Vertex>, List<Edge>> neighborhood =
+        epgmStore.getNeighborhood(startIds, hops, direction);
+      validateEPGMElementCollections(expectedVertices, neighborhood.f0);
+      validateEPGMElementCollections(traversed, neighborhood.f1);
+      validateEPGMGraphElementCollections(traversed, neighborhood.f1);
+      validateEPGMElementCollections(expectedVertices,
+        epgmStore.getNeighborhoodVertices(startIds, hops, direction));
+      validateEPGMElementCollections(traversed,
+        epgmStore.getNeighborhoodEdges(startIds, hops, direction));
+    }
+  }
+
 }
@@ -17,6 +17,7 @@ package org.gradoop.storage.impl.hbase;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
+import org.apache.hadoop.hbase.TableName;
 import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.api.entities.EPGMEdge;
@@ -33,7 +34,10 @@ import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopHBaseConfig;
+import org.gradoop.storage.impl.hbase.factory.HBaseEPGMStoreFactory;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.impl.hbase.predicate.filter.impl.HBaseLabelIn;
 import org.gradoop.storage.impl.hbase.predicate.filter.impl.HBaseLabelReg;
@@ -90,6 +94,7 @@ import static org.gradoop.common.GradoopTestUtils.validateEPGMElements;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
 import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElements;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -211,6 +216,178 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Writes graph, vertex and edge data without a write buffer and reads/validates it without
+   * flushing the store.
+   */
+  @Test
+  public void writeReadWithoutFlushTest() throws IOException {
+    HBaseEPGMStore graphStore = createEmptyEPGMStore();
+
+    AsciiGraphLoader<GraphHead, Vertex, Edge> loader = getMinimalFullFeaturedGraphLoader();
+
+    GraphHead graphHead = loader.getGraphHeads().iterator().next();
+    Vertex vertex = loader.getVertices().iterator().next();
+    Edge edge = loader.getEdges().iterator().next();
+
+    graphStore.writeGraphHead(graphHead);
+    graphStore.writeVertex(vertex);
+    graphStore.writeEdge(edge);
+
+    // validate
+    validateGraphHead(graphStore, graphHead);
+    validateVertex(graphStore, vertex);
+    validateEdge(graphStore, edge);
+
+    graphStore.close();
+  }
+
+  /**
+   * Writes graph, vertex and edge data to a store with a large write buffer. Checks that the
+   * data is not written before the buffer is flushed and reads/validates it afterwards.
+   */
+  @Test
+  public void writeBufferedFlushReadTest() throws IOException {
+    String prefix = "buffered.";
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(),
+      GradoopHBaseConfig.getDefaultConfig()
+        .setWriteBufferEnabled(true)
+        .setWriteBufferSize(64 * 1024 * 1024),
+      prefix);
+
+    AsciiGraphLoader<GraphHead, Vertex, Edge> loader = getMinimalFullFeaturedGraphLoader();
+
+    GraphHead graphHead = loader.getGraphHeads().iterator().next();
+    Vertex vertex = loader.getVertices().iterator().next();
+    Edge edge = loader.getEdges().iterator().next();
+
+    graphStore.writeGraphHead(graphHead);
+    graphStore.writeVertex(vertex);
+    graphStore.writeEdge(edge);
+
+    // elements are still buffered
+    assertNull(graphStore.readGraph(graphHead.getId()));
+    assertNull(graphStore.readVertex(vertex.getId()));
+    assertNull(graphStore.readEdge(edge.getId()));
+
+    // flush buffers
+    graphStore.flush();
+
+    validateGraphHead(graphStore, graphHead);
+    validateVertex(graphStore, vertex);
+    validateEdge(graphStore, edge);
+
+    // auto flush sends each element directly
+    graphStore.setAutoFlush(true);
+    Vertex otherVertex = new VertexFactory().createVertex("A", new GradoopIdSet());
+    graphStore.writeVertex(otherVertex);
+    validateVertex(graphStore, otherVertex);
+
+    graphStore.close();
+  }
+
+  /**
+   * Writes the social network to a store with salted row keys and checks that the tables are
+   * pre-split and all elements can be read by id, by id predicate and by full scan.
+   *
+   * @throws IOException if read to or write from store fails
+   */
+  @Test
+  public void saltedWriteReadTest() throws IOException {
+    String prefix = "salted.";
+    int saltBuckets = 4;
+    HBaseEPGMStoreFactory.deleteEPGMStore(utility.getConfiguration(), prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(
+      utility.getConfiguration(),
+      GradoopHBaseConfig.getDefaultConfig().setSaltBuckets(saltBuckets),
+      prefix);
+
+    assertEquals(saltBuckets, utility.getHBaseAdmin()
+      .getTableRegions(TableName.valueOf(graphStore.getVertexTableName())).size());
+    assertEquals(saltBuckets, utility.getHBaseAdmin()
+      .getTableRegions(TableName.valueOf(graphStore.getEdgeTableName())).size());
+
+    writeSocialGraphToStore(graphStore);
+
+    List<GraphHead> graphHeads = Lists.newArrayList(getSocialGraphHeads());
+    List<Vertex> vertices = Lists.newArrayList(getSocialVertices());
+    List<Edge> edges = Lists.newArrayList(getSocialEdges());
+
+    for (GraphHead graphHead : graphHeads) {
+      validateGraphHead(graphStore, graphHead);
+    }
+    for (Vertex vertex : vertices) {
+      validateVertex(graphStore, vertex);
+    }
+    for (Edge edge : edges) {
+      validateEdge(graphStore, edge);
+    }
+
+    validateEPGMElementCollections(graphHeads,
+      graphStore.getGraphSpace().readRemainsAndClose());
+    validateEPGMElementCollections(vertices,
+      graphStore.getVertexSpace().readRemainsAndClose());
+    validateEPGMElementCollections(edges,
+      graphStore.getEdgeSpace().readRemainsAndClose());
+
+    List<Vertex> subset = vertices.subList(1, 5);
+    GradoopIdSet ids = GradoopIdSet.fromExisting(subset.stream()
+      .map(EPGMIdentifiable::getId)
+      .collect(Collectors.toList()));
+    validateEPGMElementCollections(subset, graphStore.getVertexSpace(
+      Query.elements()
+        .fromSets(ids)
+        .noFilter())
+      .readRemainsAndClose());
+
+    graphStore.close();
+  }
+
+  /**
+   * Writes the social network to a store with adjacency column family and checks that the
+   * neighborhoods of all vertices can be read and the vertex data is not affected.
+   *
+   * @throws IOException if read to or write from store fails
+   */
+  @Test
+  public void adjacencyNeighborhoodTest() throws IOException {
+    HBaseEPGMStore graphStore = createEmptyEPGMStore("adjacency.",
+      GradoopHBaseConfig.getDefaultConfig().setAdjacencyEnabled(true));
+
+    writeSocialGraphToStore(graphStore);
+
+    List<Vertex> vertices = Lists.newArrayList(getSocialVertices());
+    List<Edge> edges = Lists.newArrayList(getSocialEdges());
+
+    for (Vertex vertex : vertices) {
+      validateVertex(graphStore, vertex);
+    }
+    validateEPGMElementCollections(vertices,
+      graphStore.getVertexSpace().readRemainsAndClose());
+    validateEPGMGraphElementCollections(vertices,
+      graphStore.getVertexSpace().readRemainsAndClose());
+
+    validateNeighborhoods(graphStore, vertices, edges, 0, Neighborhood.EdgeDirection.BOTH);
+    validateNeighborhoods(graphStore, vertices, edges, 1, Neighborhood.EdgeDirection.OUT);
+    validateNeighborhoods(graphStore, vertices, edges, 1, Neighborhood.EdgeDirection.IN);
+    validateNeighborhoods(graphStore, vertices, edges, 2, Neighborhood.EdgeDirection.BOTH);
+
+    graphStore.close();
+  }
+
+  /**
+   * Neighborhood reads are not supported without adjacency column family.
+   *
+   * @throws IOException if read to or write from store fails
+   */
+  @Test(expected = IllegalStateException.class)
+  public void neighborhoodWithoutAdjacencyTest() throws IOException {
+    socialNetworkStore.getNeighborhoodVertices(
+      GradoopIdSet.fromExisting(GradoopId.get()), 1, Neighborhood.EdgeDirection.BOTH);
+  }
+
   /**
    * Stores social network data, loads it again and checks for element data
    * equality.
@@ -26,10 +26,12 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopHBaseConfig;
 import org.gradoop.storage.impl.hbase.HBaseEPGMStore;
 import org.gradoop.storage.impl.hbase.predicate.filter.api.HBaseElementFilter;
 import org.gradoop.storage.impl.hbase.predicate.filter.impl.HBaseLabelIn;
@@ -41,7 +43,9 @@ import org.gradoop.storage.utils.HBaseFilters;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runners.MethodSorters;
 
 import java.io.IOException;
@@ -75,12 +79,13 @@ import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getSocialEdges
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getSocialGraphHeads;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.getSocialVertices;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.openEPGMStore;
+import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.validateNeighborhoods;
 import static org.gradoop.storage.impl.hbase.GradoopHBaseTestBase.writeSocialGraphToStore;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
- * Test class for {@link HBaseDataSource} and {@link HBaseDataSink}
+ * Test class for {@link HBaseDataSource}, {@link HBaseDataSink} and {@link HBaseBulkLoadDataSink}
  */
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
@@ -91,6 +96,12 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
   private final GradoopFlinkConfig config =
     GradoopFlinkConfig.createConfig(getExecutionEnvironment());
 
+  /**
+   * Temporary folder to stage files in
+   */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   /**
    * A store with social media data
    */
@@ -724,6 +735,139 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
     );
   }
 
+  /**
+   * Test writing a graph to {@link HBaseBulkLoadDataSink}
+   */
+  @Test
+  public void testWriteToBulkLoadSink() throws Exception {
+    // Create an empty store
+    HBaseEPGMStore epgmStore = createEmptyEPGMStore("testWriteToBulkLoadSink");
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(config);
+
+    InputStream inputStream = getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE);
+
+    loader.initDatabaseFromStream(inputStream);
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new HBaseBulkLoadDataSink(epgmStore, flinkConfig, temporaryFolder.getRoot().getPath())
+      .write(flinkConfig
+        .getGraphCollectionFactory()
+        .fromCollections(
+          loader.getGraphHeads(),
+          loader.getVertices(),
+          loader.getEdges()));
+
+    getExecutionEnvironment().execute();
+
+    // graph heads
+    validateEPGMElementCollections(
+      loader.getGraphHeads(),
+      epgmStore.getGraphSpace().readRemainsAndClose()
+    );
+    // vertices
+    validateEPGMElementCollections(
+      loader.getVertices(),
+      epgmStore.getVertexSpace().readRemainsAndClose()
+    );
+    validateEPGMGraphElementCollections(
+      loader.getVertices(),
+      epgmStore.getVertexSpace().readRemainsAndClose()
+    );
+    // edges
+    validateEPGMElementCollections(
+      loader.getEdges(),
+      epgmStore.getEdgeSpace().readRemainsAndClose()
+    );
+    validateEPGMGraphElementCollections(
+      loader.getEdges(),
+      epgmStore.getEdgeSpace().readRemainsAndClose()
+    );
+    epgmStore.close();
+  }
+
+  /**
+   * Test writing a graph to {@link HBaseDataSink} maintaining the adjacency of the vertices
+   */
+  @Test
+  public void testWriteToSinkWithAdjacency() throws Exception {
+    HBaseEPGMStore epgmStore = createEmptyEPGMStore("testWriteToSinkWithAdjacency",
+      GradoopHBaseConfig.getDefaultConfig().setAdjacencyEnabled(true));
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(config);
+    loader.initDatabaseFromStream(getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE));
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new HBaseDataSink(epgmStore, flinkConfig)
+      .write(flinkConfig
+        .getGraphCollectionFactory()
+        .fromCollections(
+          loader.getGraphHeads(),
+          loader.getVertices(),
+          loader.getEdges()));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMGraphElementCollections(
+      loader.getVertices(),
+      epgmStore.getVertexSpace().readRemainsAndClose()
+    );
+    validateNeighborhoods(epgmStore, loader.getVertices(), loader.getEdges(), 1,
+      Neighborhood.EdgeDirection.BOTH);
+    epgmStore.close();
+  }
+
+  /**
+   * Test writing a graph to {@link HBaseBulkLoadDataSink} maintaining the adjacency of the
+   * vertices
+   */
+  @Test
+  public void testWriteToBulkLoadSinkWithAdjacency() throws Exception {
+    HBaseEPGMStore epgmStore = createEmptyEPGMStore("testWriteToBulkLoadSinkWithAdjacency",
+      GradoopHBaseConfig.getDefaultConfig().setAdjacencyEnabled(true));
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(config);
+    loader.initDatabaseFromStream(getClass()
+      .getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE));
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    new HBaseBulkLoadDataSink(epgmStore, flinkConfig, temporaryFolder.getRoot().getPath())
+      .write(flinkConfig
+        .getGraphCollectionFactory()
+        .fromCollections(
+          loader.getGraphHeads(),
+          loader.getVertices(),
+          loader.getEdges()));
+
+    getExecutionEnvironment().execute();
+
+    validateEPGMGraphElementCollections(
+      loader.getVertices(),
+      epgmStore.getVertexSpace().readRemainsAndClose()
+    );
+    validateNeighborhoods(epgmStore, loader.getVertices(), loader.getEdges(), 1,
+      Neighborhood.EdgeDirection.BOTH);
+    epgmStore.close();
+  }
+
+  /**
+   * Test writing a graph to {@link HBaseBulkLoadDataSink} with overwrite flag, that results in an
+   * exception
+   */
+  @Test(expected = NotImplementedException.class)
+  public void testWriteToBulkLoadSinkWithOverWrite() throws Exception {
+    HBaseEPGMStore epgmStore = createEmptyEPGMStore("testWriteToBulkLoadSink");
+
+    GradoopFlinkConfig flinkConfig = GradoopFlinkConfig.createConfig(getExecutionEnvironment());
+    GraphCollection graphCollection = flinkConfig.getGraphCollectionFactory()
+      .createEmptyCollection();
+
+    new HBaseBulkLoadDataSink(epgmStore, flinkConfig, temporaryFolder.getRoot().getPath())
+      .write(graphCollection, true);
+  }
+
   /**
    * Test writing a graph to {@link HBaseDataSink} with overwrite flag, that results in an exception
    */
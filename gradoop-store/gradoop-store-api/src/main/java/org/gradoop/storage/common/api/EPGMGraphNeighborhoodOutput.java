@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.common.api;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.impl.operators.neighborhood.Neighborhood;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Definition of graph store output reading vertex neighborhoods.
+ * Only stores maintaining the adjacency of vertices implement this interface.
+ */
+public interface EPGMGraphNeighborhoodOutput extends EPGMGraphOutput {
+
+  /**
+   * Reads the k-hop neighborhood of the given vertices, i.e. all vertices that can be reached
+   * from one of the given vertices by traversing at most {@code hops} edges in the given
+   * direction and all edges traversed to reach them. The given vertices are part of their
+   * neighborhood.
+   *
+   * @param vertexIds ids of the start vertices
+   * @param hops      maximum number of edges to traverse
+   * @param direction direction of the edges to traverse
+   * @return vertices and edges of the neighborhood
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   */
+  @Nonnull
+  Tuple2<List<Vertex>, List<Edge>> getNeighborhood(
+    @Nonnull GradoopIdSet vertexIds,
+    int hops,
+    @Nonnull Neighborhood.EdgeDirection direction
+  ) throws IOException;
+
+  /**
+   * Reads the vertices of the k-hop neighborhood of the given vertices.
+   *
+   * @param vertexIds ids of the start vertices
+   * @param hops      maximum number of edges to traverse
+   * @param direction direction of the edges to traverse
+   * @return vertices of the neighborhood
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   * @see #getNeighborhood(GradoopIdSet, int, Neighborhood.EdgeDirection)
+   */
+  @Nonnull
+  default List<Vertex> getNeighborhoodVertices(
+    @Nonnull GradoopIdSet vertexIds,
+    int hops,
+    @Nonnull Neighborhood.EdgeDirection direction
+  ) throws IOException {
+    return getNeighborhood(vertexIds, hops, direction).f0;
+  }
+
+  /**
+   * Reads the edges of the k-hop neighborhood of the given vertices.
+   *
+   * @param vertexIds ids of the start vertices
+   * @param hops      maximum number of edges to traverse
+   * @param direction direction of the edges to traverse
+   * @return edges of the neighborhood
+   * @throws IOException if error occur on IO error (timeout, conn disconnected)
+   * @see #getNeighborhood(GradoopIdSet, int, Neighborhood.EdgeDirection)
+   */
+  @Nonnull
+  default List<Edge> getNeighborhoodEdges(
+    @Nonnull GradoopIdSet vertexIds,
+    int hops,
+    @Nonnull Neighborhood.EdgeDirection direction
+  ) throws IOException {
+    return getNeighborhood(vertexIds, hops, direction).f1;
+  }
+}